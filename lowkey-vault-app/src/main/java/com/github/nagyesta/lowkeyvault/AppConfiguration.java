@@ -1,6 +1,12 @@
 package com.github.nagyesta.lowkeyvault;
 
 import com.github.nagyesta.lowkeyvault.context.util.VaultUriUtil;
+import com.github.nagyesta.lowkeyvault.service.certificate.util.CertificateRegenerationPipeline;
+import com.github.nagyesta.lowkeyvault.service.key.util.CryptoExecutor;
+import com.github.nagyesta.lowkeyvault.service.key.util.KeyGenUtil;
+import com.github.nagyesta.lowkeyvault.service.key.util.KeyPairPool;
+import com.github.nagyesta.lowkeyvault.service.key.util.KeyPairSpec;
+import com.github.nagyesta.lowkeyvault.service.key.util.StripedSecureRandom;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultService;
 import com.github.nagyesta.lowkeyvault.service.vault.impl.VaultServiceImpl;
 import lombok.Setter;
@@ -16,6 +22,7 @@ import org.springframework.web.filter.CommonsRequestLoggingFilter;
 import java.io.IOException;
 import java.net.URI;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 @Setter
@@ -31,10 +38,24 @@ public class AppConfiguration {
     private int port;
     @Value("${LOWKEY_VAULT_ALIASES:}")
     private String aliases;
+    @Value("${LOWKEY_KEY_POOL_SPECS:}")
+    private String keyPairPoolSpecs;
+    @Value("${LOWKEY_KEY_POOL_WATERMARK:5}")
+    private int keyPairPoolWatermark;
+    @Value("${LOWKEY_SECURE_RANDOM_ALGORITHM:" + StripedSecureRandom.DEFAULT_ALGORITHM + "}")
+    private String secureRandomAlgorithm;
+    @Value("${LOWKEY_CRYPTO_THREADS:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int cryptoThreads;
+    @Value("${LOWKEY_CRYPTO_MAX_PENDING:256}")
+    private int cryptoMaxPending;
+    @Value("${LOWKEY_CRYPTO_ADMISSION_TIMEOUT_MILLIS:1000}")
+    private long cryptoAdmissionTimeoutMillis;
+    @Value("${LOWKEY_CERT_REGENERATION_THREADS:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int certificateRegenerationThreads;
 
     @Bean
     public VaultService vaultService() throws IOException {
-        final VaultService service = new VaultServiceImpl();
+        final VaultService service = new VaultServiceImpl(certificateRegenerationPipeline());
         if (!SKIP_AUTO_REGISTRATION.equals(autoRegisterVaults)) {
             autoRegisterVaults(service);
         }
@@ -81,6 +102,49 @@ public class AppConfiguration {
                 });
     }
 
+    @Bean
+    public StripedSecureRandom stripedSecureRandom() {
+        log.info("Using secure random algorithm: {}", secureRandomAlgorithm);
+        final StripedSecureRandom secureRandom = new StripedSecureRandom(secureRandomAlgorithm);
+        KeyGenUtil.useSecureRandom(secureRandom);
+        return secureRandom;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CryptoExecutor cryptoExecutor() {
+        log.info("Using {} threads for crypto operations (max pending: {}, admission timeout: {} ms)",
+                cryptoThreads, cryptoMaxPending, cryptoAdmissionTimeoutMillis);
+        return new CryptoExecutor(cryptoThreads, cryptoMaxPending, cryptoAdmissionTimeoutMillis);
+    }
+
+    @Bean(destroyMethod = "close")
+    public CertificateRegenerationPipeline certificateRegenerationPipeline() {
+        log.info("Using {} threads for certificate regeneration.", certificateRegenerationThreads);
+        return new CertificateRegenerationPipeline(certificateRegenerationThreads);
+    }
+
+    @Bean(destroyMethod = "close")
+    public KeyPairPool keyPairPool() {
+        final List<KeyPairSpec> specs = parseKeyPairSpecs();
+        if (!specs.isEmpty()) {
+            log.info("Pre-generating key pairs in the background for: {} (watermark: {})", specs, keyPairPoolWatermark);
+        }
+        final KeyPairPool pool = new KeyPairPool(specs, keyPairPoolWatermark);
+        KeyGenUtil.useKeyPairPool(pool);
+        return pool;
+    }
+
+    List<KeyPairSpec> parseKeyPairSpecs() {
+        return Optional.ofNullable(keyPairPoolSpecs)
+                .filter(StringUtils::hasText)
+                .map(StringUtils::commaDelimitedListToStringArray)
+                .stream()
+                .flatMap(Arrays::stream)
+                .filter(StringUtils::hasText)
+                .map(KeyPairSpec::parse)
+                .toList();
+    }
+
     @Bean
     @ConditionalOnExpression("${LOWKEY_DEBUG_REQUEST_LOG:false}")
     public CommonsRequestLoggingFilter requestLoggingFilter() {
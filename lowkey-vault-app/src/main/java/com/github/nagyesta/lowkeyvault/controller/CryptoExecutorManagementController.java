@@ -0,0 +1,45 @@
+package com.github.nagyesta.lowkeyvault.controller;
+
+import com.github.nagyesta.lowkeyvault.model.common.ErrorModel;
+import com.github.nagyesta.lowkeyvault.service.key.util.CryptoExecutor;
+import com.github.nagyesta.lowkeyvault.service.key.util.CryptoExecutorStatistics;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.springframework.util.MimeTypeUtils.APPLICATION_JSON_VALUE;
+
+@Slf4j
+@RestController
+@RequestMapping(value = "/management/crypto-executor", produces = APPLICATION_JSON_VALUE)
+public class CryptoExecutorManagementController extends ErrorHandlingAwareController {
+
+    private final CryptoExecutor cryptoExecutor;
+
+    @Autowired
+    public CryptoExecutorManagementController(@NonNull final CryptoExecutor cryptoExecutor) {
+        this.cryptoExecutor = cryptoExecutor;
+    }
+
+    @Operation(
+            summary = "Get the queue depth and admission statistics of the crypto executor",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Operation completed (result in response body)",
+                            content = @Content(mediaType = APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = CryptoExecutorStatistics.class))),
+                    @ApiResponse(responseCode = "500", description = "Internal error",
+                            content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorModel.class)))})
+    @GetMapping(value = {"", "/"}, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<CryptoExecutorStatistics> statistics() {
+        log.info("Received request to get crypto executor statistics.");
+        return ResponseEntity.ok(cryptoExecutor.statistics());
+    }
+}
@@ -4,6 +4,7 @@ import com.github.nagyesta.lowkeyvault.model.common.ErrorModel;
 import com.github.nagyesta.lowkeyvault.service.exception.AlreadyExistsException;
 import com.github.nagyesta.lowkeyvault.service.exception.CryptoException;
 import com.github.nagyesta.lowkeyvault.service.exception.NotFoundException;
+import com.github.nagyesta.lowkeyvault.service.exception.TooManyRequestsException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -13,7 +14,8 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 @Slf4j
 public class ErrorHandlingAwareController {
 
-    @ExceptionHandler({IllegalStateException.class, AlreadyExistsException.class, CryptoException.class, NotFoundException.class})
+    @ExceptionHandler({IllegalStateException.class, AlreadyExistsException.class, CryptoException.class, NotFoundException.class,
+            TooManyRequestsException.class})
     public ResponseEntity<ErrorModel> handleException(final Exception exception) {
         HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
         final Class<? extends Exception> exceptionClass = exception.getClass();
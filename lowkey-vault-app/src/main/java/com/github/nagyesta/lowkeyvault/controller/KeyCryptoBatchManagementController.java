@@ -0,0 +1,58 @@
+package com.github.nagyesta.lowkeyvault.controller;
+
+import com.github.nagyesta.lowkeyvault.management.KeyCryptoBatchExecutor;
+import com.github.nagyesta.lowkeyvault.model.common.ErrorModel;
+import com.github.nagyesta.lowkeyvault.model.management.KeyCryptoBatchRequest;
+import com.github.nagyesta.lowkeyvault.model.management.KeyCryptoBatchResultModel;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.springframework.util.MimeTypeUtils.APPLICATION_JSON_VALUE;
+
+@Slf4j
+@RestController
+@RequestMapping(value = "/management/key-crypto", produces = APPLICATION_JSON_VALUE)
+public class KeyCryptoBatchManagementController extends ErrorHandlingAwareController {
+
+    private final KeyCryptoBatchExecutor keyCryptoBatchExecutor;
+
+    @Autowired
+    public KeyCryptoBatchManagementController(@NonNull final KeyCryptoBatchExecutor keyCryptoBatchExecutor) {
+        this.keyCryptoBatchExecutor = keyCryptoBatchExecutor;
+    }
+
+    @Operation(
+            summary = "Perform a batch of encrypt, decrypt, wrap, unwrap, sign and verify operations",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Operation completed (results in the order of the operations)",
+                            content = @Content(mediaType = APPLICATION_JSON_VALUE,
+                                    array = @ArraySchema(schema = @Schema(implementation = KeyCryptoBatchResultModel.class)))),
+                    @ApiResponse(responseCode = "400", description = "Validation Failure",
+                            content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorModel.class))),
+                    @ApiResponse(responseCode = "500", description = "Internal error",
+                            content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorModel.class)))},
+            requestBody = @RequestBody(
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = KeyCryptoBatchRequest.class))))
+    @PostMapping(value = {"/batch", "/batch/"}, consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
+    public CompletableFuture<ResponseEntity<List<KeyCryptoBatchResultModel>>> batch(
+            @Valid @org.springframework.web.bind.annotation.RequestBody final KeyCryptoBatchRequest request) {
+        log.info("Received request to execute a batch of {} crypto operations.", request.getOperations().size());
+        return keyCryptoBatchExecutor.execute(request.getOperations())
+                .thenApply(ResponseEntity::ok);
+    }
+}
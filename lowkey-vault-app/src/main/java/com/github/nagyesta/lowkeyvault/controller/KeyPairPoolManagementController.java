@@ -0,0 +1,46 @@
+package com.github.nagyesta.lowkeyvault.controller;
+
+import com.github.nagyesta.lowkeyvault.model.common.ErrorModel;
+import com.github.nagyesta.lowkeyvault.service.key.util.KeyPairPool;
+import com.github.nagyesta.lowkeyvault.service.key.util.KeyPairPoolStatistics;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+import static org.springframework.util.MimeTypeUtils.APPLICATION_JSON_VALUE;
+
+@Slf4j
+@RestController
+@RequestMapping(value = "/management/key-pair-pool", produces = APPLICATION_JSON_VALUE)
+public class KeyPairPoolManagementController extends ErrorHandlingAwareController {
+
+    private final KeyPairPool keyPairPool;
+
+    @Autowired
+    public KeyPairPoolManagementController(@NonNull final KeyPairPool keyPairPool) {
+        this.keyPairPool = keyPairPool;
+    }
+
+    @Operation(
+            summary = "Get the hit and miss statistics of the pre-generated key pair pool",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Operation completed (result in response body)",
+                            content = @Content(mediaType = APPLICATION_JSON_VALUE)),
+                    @ApiResponse(responseCode = "500", description = "Internal error",
+                            content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorModel.class)))})
+    @GetMapping(value = {"", "/"}, produces = APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, KeyPairPoolStatistics>> statistics() {
+        log.info("Received request to get key pair pool statistics.");
+        return ResponseEntity.ok(keyPairPool.statistics());
+    }
+}
@@ -76,7 +76,7 @@ public abstract class BaseBackupRestoreController<K extends EntityId, V extends
         final ReadOnlyVersionedEntityMultiMap<K, V, E> entities = getVaultByUri(entityId.vault())
                 .getEntities();
         final List<BLI> list = entities.getVersions(entityId).stream()
-                .map(version -> getEntityByNameAndVersion(entityId.vault(), entityId.id(), version))
+                .map(version -> entities.getReadOnlyEntity(versionedEntityId(entityId.vault(), entityId.id(), version)))
                 .map(registry().backupConverter(apiVersion())::convert)
                 .toList();
         return wrapBackup(list);
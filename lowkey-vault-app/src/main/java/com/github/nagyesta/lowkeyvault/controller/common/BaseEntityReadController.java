@@ -1,6 +1,7 @@
 package com.github.nagyesta.lowkeyvault.controller.common;
 
 import com.github.nagyesta.lowkeyvault.controller.ErrorHandlingAwareController;
+import com.github.nagyesta.lowkeyvault.model.common.ApiConstants;
 import com.github.nagyesta.lowkeyvault.service.EntityId;
 import com.github.nagyesta.lowkeyvault.service.common.BaseVaultEntity;
 import com.github.nagyesta.lowkeyvault.service.common.BaseVaultFake;
@@ -8,6 +9,8 @@ import com.github.nagyesta.lowkeyvault.service.exception.NotFoundException;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultFake;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultService;
 import lombok.NonNull;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.net.URI;
 import java.util.Optional;
@@ -48,11 +51,27 @@ public abstract class BaseEntityReadController<K extends EntityId, V extends K,
     }
 
     protected S getVaultByUri(final URI baseUri) {
-        return Optional.of(vaultService.findByUri(baseUri))
+        return Optional.of(findVaultByUri(baseUri))
                 .map(toEntityVault)
                 .orElseThrow(() -> new NotFoundException("Vault not found by base URI: " + baseUri));
     }
 
+    /**
+     * Returns the vault resolved by the filter chain for the current request if it matches the URI, otherwise
+     * looks it up using the vault service.
+     *
+     * @param baseUri The base URI of the vault.
+     * @return The vault.
+     */
+    private VaultFake findVaultByUri(final URI baseUri) {
+        return Optional.ofNullable(RequestContextHolder.getRequestAttributes())
+                .map(attributes -> attributes.getAttribute(ApiConstants.REQUEST_VAULT, RequestAttributes.SCOPE_REQUEST))
+                .filter(VaultFake.class::isInstance)
+                .map(VaultFake.class::cast)
+                .filter(vaultFake -> vaultFake.matches(baseUri))
+                .orElseGet(() -> vaultService.findByUri(baseUri));
+    }
+
     protected abstract V versionedEntityId(URI baseUri, String name, String version);
 
     protected abstract K entityId(URI baseUri, String name);
@@ -130,7 +130,7 @@ public abstract class CommonCertificateController extends BaseCertificateControl
             @Valid @Pattern(regexp = NAME_PATTERN) final String certificateName,
             final URI baseUri,
             final int maxResults,
-            final int skipToken) {
+            final String skipToken) {
         log.info("Received request to {} list certificate versions: {} , (max results: {}, skip: {}) using API version: {}",
                 baseUri.toString(), certificateName, maxResults, skipToken, apiVersion());
 
@@ -138,7 +138,7 @@ public abstract class CommonCertificateController extends BaseCertificateControl
                 .builder()
                 .apiVersion(apiVersion())
                 .limit(maxResults)
-                .offset(skipToken)
+                .skipToken(SkipToken.parse(skipToken))
                 .base(URI.create(baseUri + "/certificates/" + certificateName + "/versions"))
                 .build()));
     }
@@ -146,7 +146,7 @@ public abstract class CommonCertificateController extends BaseCertificateControl
     public ResponseEntity<KeyVaultItemListModel<KeyVaultCertificateItemModel>> listCertificates(
             final URI baseUri,
             final int maxResults,
-            final int skipToken,
+            final String skipToken,
             final boolean includePending) {
         log.info("Received request to {} list certificates, (max results: {}, skip: {}, includePending: {}) using API version: {}",
                 baseUri.toString(), maxResults, skipToken, includePending, apiVersion());
@@ -155,7 +155,7 @@ public abstract class CommonCertificateController extends BaseCertificateControl
                 .builder()
                 .apiVersion(apiVersion())
                 .limit(maxResults)
-                .offset(skipToken)
+                .skipToken(SkipToken.parse(skipToken))
                 .base(URI.create(baseUri + "/certificates"))
                 .additionalParameters(Map.of(INCLUDE_PENDING_PARAM, String.valueOf(includePending)))
                 .build()));
@@ -164,7 +164,7 @@ public abstract class CommonCertificateController extends BaseCertificateControl
     public ResponseEntity<KeyVaultItemListModel<DeletedKeyVaultCertificateItemModel>> listDeletedCertificates(
             final URI baseUri,
             final int maxResults,
-            final int skipToken,
+            final String skipToken,
             final boolean includePending) {
         log.info("Received request to {} list deleted certificates, (max results: {}, skip: {}, includePending: {}) using API version: {}",
                 baseUri.toString(), maxResults, skipToken, includePending, apiVersion());
@@ -173,7 +173,7 @@ public abstract class CommonCertificateController extends BaseCertificateControl
                 .builder()
                 .apiVersion(apiVersion())
                 .limit(maxResults)
-                .offset(skipToken)
+                .skipToken(SkipToken.parse(skipToken))
                 .base(URI.create(baseUri + "/deletedcertificates"))
                 .additionalParameters(Map.of(INCLUDE_PENDING_PARAM, String.valueOf(includePending)))
                 .build()));
@@ -30,6 +30,11 @@ public abstract class CommonKeyController extends BaseKeyController {
         super(registry, vaultService);
     }
 
+    @Override
+    protected boolean isModelCacheable() {
+        return true;
+    }
+
     public ResponseEntity<KeyVaultKeyModel> create(
             @Valid @Pattern(regexp = NAME_PATTERN) final String keyName,
             final URI baseUri,
@@ -71,7 +76,7 @@ public abstract class CommonKeyController extends BaseKeyController {
             @Valid @Pattern(regexp = NAME_PATTERN) final String keyName,
             final URI baseUri,
             final int maxResults,
-            final int skipToken) {
+            final String skipToken) {
         log.info("Received request to {} list key versions: {} , (max results: {}, skip: {}) using API version: {}",
                 baseUri.toString(), keyName, maxResults, skipToken, apiVersion());
 
@@ -79,7 +84,7 @@ public abstract class CommonKeyController extends BaseKeyController {
                 .builder()
                 .apiVersion(apiVersion())
                 .limit(maxResults)
-                .offset(skipToken)
+                .skipToken(SkipToken.parse(skipToken))
                 .base(URI.create(baseUri + "/keys/" + keyName + "/versions"))
                 .build()));
     }
@@ -87,7 +92,7 @@ public abstract class CommonKeyController extends BaseKeyController {
     public ResponseEntity<KeyVaultItemListModel<KeyVaultKeyItemModel>> listKeys(
             final URI baseUri,
             final int maxResults,
-            final int skipToken) {
+            final String skipToken) {
         log.info("Received request to {} list keys, (max results: {}, skip: {}) using API version: {}",
                 baseUri.toString(), maxResults, skipToken, apiVersion());
 
@@ -95,7 +100,7 @@ public abstract class CommonKeyController extends BaseKeyController {
                 .builder()
                 .apiVersion(apiVersion())
                 .limit(maxResults)
-                .offset(skipToken)
+                .skipToken(SkipToken.parse(skipToken))
                 .base(URI.create(baseUri + "/keys"))
                 .build()));
     }
@@ -103,7 +108,7 @@ public abstract class CommonKeyController extends BaseKeyController {
     public ResponseEntity<KeyVaultItemListModel<DeletedKeyVaultKeyItemModel>> listDeletedKeys(
             final URI baseUri,
             final int maxResults,
-            final int skipToken) {
+            final String skipToken) {
         log.info("Received request to {} list deleted keys, (max results: {}, skip: {}) using API version: {}",
                 baseUri.toString(), maxResults, skipToken, apiVersion());
 
@@ -111,7 +116,7 @@ public abstract class CommonKeyController extends BaseKeyController {
                 .builder()
                 .apiVersion(apiVersion())
                 .limit(maxResults)
-                .offset(skipToken)
+                .skipToken(SkipToken.parse(skipToken))
                 .base(URI.create(baseUri + "/deletedkeys"))
                 .build()));
     }
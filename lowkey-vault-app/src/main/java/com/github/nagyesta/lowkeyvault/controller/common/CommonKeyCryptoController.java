@@ -7,7 +7,10 @@ import com.github.nagyesta.lowkeyvault.model.v7_2.key.KeyVerifyResult;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.request.KeyOperationsParameters;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.request.KeySignParameters;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.request.KeyVerifyParameters;
+import com.github.nagyesta.lowkeyvault.service.exception.CryptoException;
+import com.github.nagyesta.lowkeyvault.service.key.EncryptionParameters;
 import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyKeyVaultKeyEntity;
+import com.github.nagyesta.lowkeyvault.service.key.util.CryptoExecutor;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
@@ -15,16 +18,30 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 public abstract class CommonKeyCryptoController extends BaseKeyController {
 
-    protected CommonKeyCryptoController(@NonNull final KeyConverterRegistry registry, @NonNull final VaultService vaultService) {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private final CryptoExecutor cryptoExecutor;
+
+    protected CommonKeyCryptoController(@NonNull final KeyConverterRegistry registry,
+                                        @NonNull final VaultService vaultService,
+                                        @lombok.NonNull final CryptoExecutor cryptoExecutor) {
         super(registry, vaultService);
+        this.cryptoExecutor = cryptoExecutor;
     }
 
-    public ResponseEntity<KeyOperationsResult> encrypt(
+    public CompletableFuture<ResponseEntity<KeyOperationsResult>> encrypt(
             @Valid @Pattern(regexp = NAME_PATTERN) final String keyName,
             @Valid @Pattern(regexp = VERSION_NAME_PATTERN) final String keyVersion,
             final URI baseUri,
@@ -33,12 +50,13 @@ public abstract class CommonKeyCryptoController extends BaseKeyController {
                 baseUri.toString(), keyName, keyVersion, apiVersion());
 
         final ReadOnlyKeyVaultKeyEntity keyVaultKeyEntity = getEntityByNameAndVersion(baseUri, keyName, keyVersion);
-        final byte[] encrypted = keyVaultKeyEntity.encryptBytes(request.getValueAsBase64DecodedBytes(), request.getAlgorithm(),
-                request.getInitializationVector());
-        return ResponseEntity.ok(KeyOperationsResult.forBytes(keyVaultKeyEntity.getId(), encrypted, request, baseUri));
+        return cryptoExecutor.submit(() -> streamValue(keyVaultKeyEntity, request, baseUri,
+                        (clear, encrypted) -> keyVaultKeyEntity.encryptStream(clear, encrypted, request.getAlgorithm(),
+                                request.getInitializationVector(), request.getAdditionalAuthData())))
+                .thenApply(ResponseEntity::ok);
     }
 
-    public ResponseEntity<KeyOperationsResult> decrypt(
+    public CompletableFuture<ResponseEntity<KeyOperationsResult>> decrypt(
             @Valid @Pattern(regexp = NAME_PATTERN) final String keyName,
             @Valid @Pattern(regexp = VERSION_NAME_PATTERN) final String keyVersion,
             final URI baseUri,
@@ -47,12 +65,16 @@ public abstract class CommonKeyCryptoController extends BaseKeyController {
                 baseUri.toString(), keyName, keyVersion, apiVersion());
 
         final ReadOnlyKeyVaultKeyEntity keyVaultKeyEntity = getEntityByNameAndVersion(baseUri, keyName, keyVersion);
-        final byte[] decrypted = keyVaultKeyEntity.decryptToBytes(request.getValueAsBase64DecodedBytes(), request.getAlgorithm(),
-                request.getInitializationVector());
-        return ResponseEntity.ok(KeyOperationsResult.forBytes(keyVaultKeyEntity.getId(), decrypted, request, baseUri));
+        return cryptoExecutor.submit(() -> streamValue(keyVaultKeyEntity, request, baseUri,
+                        (encrypted, clear) -> {
+                            keyVaultKeyEntity.decryptStream(encrypted, clear, request.getAlgorithm(), request.getInitializationVector(),
+                                    request.getAdditionalAuthData(), request.getAuthenticationTag());
+                            return null;
+                        }))
+                .thenApply(ResponseEntity::ok);
     }
 
-    public ResponseEntity<KeySignResult> sign(
+    public CompletableFuture<ResponseEntity<KeySignResult>> sign(
             @Valid @Pattern(regexp = NAME_PATTERN) final String keyName,
             @Valid @Pattern(regexp = VERSION_NAME_PATTERN) final String keyVersion,
             final URI baseUri,
@@ -61,11 +83,11 @@ public abstract class CommonKeyCryptoController extends BaseKeyController {
                 baseUri.toString(), keyName, keyVersion, apiVersion());
 
         final ReadOnlyKeyVaultKeyEntity keyVaultKeyEntity = getEntityByNameAndVersion(baseUri, keyName, keyVersion);
-        final byte[] signature = keyVaultKeyEntity.signBytes(request.getValueAsBase64DecodedBytes(), request.getAlgorithm());
-        return ResponseEntity.ok(KeySignResult.forBytes(keyVaultKeyEntity.getId(), signature, baseUri));
+        return cryptoExecutor.submit(() -> keyVaultKeyEntity.signBytes(request.getValueAsBase64DecodedBytes(), request.getAlgorithm()))
+                .thenApply(signature -> ResponseEntity.ok(KeySignResult.forBytes(keyVaultKeyEntity.getId(), signature, baseUri)));
     }
 
-    public ResponseEntity<KeyVerifyResult> verify(
+    public CompletableFuture<ResponseEntity<KeyVerifyResult>> verify(
             @Valid @Pattern(regexp = NAME_PATTERN) final String keyName,
             @Valid @Pattern(regexp = VERSION_NAME_PATTERN) final String keyVersion,
             final URI baseUri,
@@ -74,9 +96,44 @@ public abstract class CommonKeyCryptoController extends BaseKeyController {
                 baseUri.toString(), keyName, keyVersion, apiVersion());
 
         final ReadOnlyKeyVaultKeyEntity keyVaultKeyEntity = getEntityByNameAndVersion(baseUri, keyName, keyVersion);
-        final boolean result = keyVaultKeyEntity.verifySignedBytes(request.getDigestAsBase64DecodedBytes(), request.getAlgorithm(),
-                request.getValueAsBase64DecodedBytes());
-        return ResponseEntity.ok(new KeyVerifyResult(result));
+        return cryptoExecutor.submit(() -> keyVaultKeyEntity.verifySignedBytes(
+                        request.getDigestAsBase64DecodedBytes(), request.getAlgorithm(), request.getValueAsBase64DecodedBytes()))
+                .thenApply(verified -> ResponseEntity.ok(new KeyVerifyResult(verified)));
+    }
+
+    /**
+     * Decodes the value of the request, passes it through the operation and encodes the output in chunks. This
+     * avoids a decoded copy of the input and a raw copy of the output, but it is not a constant memory operation:
+     * the encoded request value, the encoded output and the response value are held in memory (about three times
+     * the size of the payload) and GCM decryption is buffered by the provider until the tag is verified.
+     *
+     * @param entity    The key used by the operation.
+     * @param request   The request.
+     * @param baseUri   The base URI of the vault.
+     * @param operation The operation.
+     * @return The result.
+     */
+    private KeyOperationsResult streamValue(final ReadOnlyKeyVaultKeyEntity entity, final KeyOperationsParameters request,
+                                            final URI baseUri, final StreamingCryptoOperation operation) {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream(request.getValue().length());
+        final EncryptionParameters parameters;
+        try (InputStream input = request.getValueAsBase64DecodedStream();
+             OutputStream output = ENCODER.wrap(buffer)) {
+            parameters = operation.apply(input, output);
+        } catch (final IOException e) {
+            throw new CryptoException("Cannot process value.", e);
+        }
+        final KeyOperationsResult result = KeyOperationsResult
+                .forString(entity.getId(), buffer.toString(StandardCharsets.US_ASCII), request, baseUri);
+        Optional.ofNullable(parameters).ifPresent(p -> {
+            result.setInitializationVector(p.initializationVector());
+            result.setAuthenticationTag(p.authenticationTag());
+        });
+        return result;
     }
 
+    @FunctionalInterface
+    private interface StreamingCryptoOperation {
+        EncryptionParameters apply(InputStream input, OutputStream output);
+    }
 }
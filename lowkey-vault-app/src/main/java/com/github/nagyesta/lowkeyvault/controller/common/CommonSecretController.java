@@ -56,7 +56,7 @@ public abstract class CommonSecretController extends BaseSecretController {
             @Valid @Pattern(regexp = NAME_PATTERN) final String secretName,
             final URI baseUri,
             final int maxResults,
-            final int skipToken) {
+            final String skipToken) {
         log.info("Received request to {} list secret versions: {} , (max results: {}, skip: {}) using API version: {}",
                 baseUri.toString(), secretName, maxResults, skipToken, apiVersion());
 
@@ -64,7 +64,7 @@ public abstract class CommonSecretController extends BaseSecretController {
                 .builder()
                 .apiVersion(apiVersion())
                 .limit(maxResults)
-                .offset(skipToken)
+                .skipToken(SkipToken.parse(skipToken))
                 .base(URI.create(baseUri + ("/secrets/" + secretName + "/versions")))
                 .build()));
     }
@@ -72,7 +72,7 @@ public abstract class CommonSecretController extends BaseSecretController {
     public ResponseEntity<KeyVaultItemListModel<KeyVaultSecretItemModel>> listSecrets(
             final URI baseUri,
             final int maxResults,
-            final int skipToken) {
+            final String skipToken) {
         log.info("Received request to {} list secrets, (max results: {}, skip: {}) using API version: {}",
                 baseUri.toString(), maxResults, skipToken, apiVersion());
 
@@ -80,7 +80,7 @@ public abstract class CommonSecretController extends BaseSecretController {
                 .builder()
                 .apiVersion(apiVersion())
                 .limit(maxResults)
-                .offset(skipToken)
+                .skipToken(SkipToken.parse(skipToken))
                 .base(URI.create(baseUri + "/secrets"))
                 .build()));
     }
@@ -88,7 +88,7 @@ public abstract class CommonSecretController extends BaseSecretController {
     public ResponseEntity<KeyVaultItemListModel<DeletedKeyVaultSecretItemModel>> listDeletedSecrets(
             final URI baseUri,
             final int maxResults,
-            final int skipToken) {
+            final String skipToken) {
         log.info("Received request to {} list deleted secrets, (max results: {}, skip: {}) using API version: {}",
                 baseUri.toString(), maxResults, skipToken, apiVersion());
 
@@ -96,7 +96,7 @@ public abstract class CommonSecretController extends BaseSecretController {
                 .builder()
                 .apiVersion(apiVersion())
                 .limit(maxResults)
-                .offset(skipToken)
+                .skipToken(SkipToken.parse(skipToken))
                 .base(URI.create(baseUri + "/deletedsecrets"))
                 .build()));
     }
@@ -0,0 +1,79 @@
+package com.github.nagyesta.lowkeyvault.controller.common;
+
+import com.github.nagyesta.lowkeyvault.service.EntityId;
+import com.github.nagyesta.lowkeyvault.service.common.BaseVaultEntity;
+import lombok.NonNull;
+import org.springframework.util.Assert;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Bounded LRU cache of the models converted from entity versions. A cached model is only reused while the entity
+ * instance and the revision of its mutable state are the same as they were when the model was converted. The models
+ * of an entity are evicted when the resources of the entity are released (it is deleted or purged).
+ * <br/>
+ * The same model instance is returned for every request, therefore the models must never be modified after the
+ * conversion.
+ *
+ * @param <V> The versioned entity id type.
+ * @param <E> The entity type.
+ * @param <M> The model type.
+ */
+final class EntityModelCache<V extends EntityId, E extends BaseVaultEntity<V>, M> {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75F;
+    private final Map<CacheKey<V>, CachedModel<E, M>> models;
+
+    EntityModelCache(final int maxSize) {
+        Assert.isTrue(maxSize > 0, "Maximum size must be positive.");
+        this.models = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<CacheKey<V>, CachedModel<E, M>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    M get(@NonNull final E entity, @NonNull final URI baseUri, @NonNull final BiFunction<E, URI, M> converter) {
+        //the revision must be read before the conversion to never cache a model older than the revision
+        final long revision = entity.getRevision();
+        final CacheKey<V> key = new CacheKey<>(entity.getId(), baseUri);
+        final CachedModel<E, M> cached;
+        synchronized (models) {
+            cached = models.get(key);
+        }
+        final M model;
+        if (cached != null && cached.entity() == entity && cached.revision() == revision) {
+            model = cached.model();
+        } else {
+            model = converter.apply(entity, baseUri);
+            synchronized (models) {
+                models.put(key, new CachedModel<>(entity, revision, model));
+            }
+            entity.addReleaseListener(this, () -> evict(entity));
+        }
+        return model;
+    }
+
+    void evict(@NonNull final E entity) {
+        synchronized (models) {
+            models.values().removeIf(cached -> cached.entity() == entity);
+        }
+    }
+
+    int size() {
+        synchronized (models) {
+            return models.size();
+        }
+    }
+
+    private record CacheKey<V>(V entityId, URI baseUri) {
+    }
+
+    private record CachedModel<E, M>(E entity, long revision, M model) {
+    }
+}
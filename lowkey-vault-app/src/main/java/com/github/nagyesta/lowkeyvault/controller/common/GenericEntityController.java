@@ -11,6 +11,7 @@ import com.github.nagyesta.lowkeyvault.model.v7_2.key.BackupListContainer;
 import com.github.nagyesta.lowkeyvault.service.EntityId;
 import com.github.nagyesta.lowkeyvault.service.common.BaseVaultEntity;
 import com.github.nagyesta.lowkeyvault.service.common.BaseVaultFake;
+import com.github.nagyesta.lowkeyvault.service.common.ReadOnlyVersionedEntityMultiMap;
 import com.github.nagyesta.lowkeyvault.service.exception.NotFoundException;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultFake;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultService;
@@ -71,7 +72,9 @@ public abstract class GenericEntityController<K extends EntityId, V extends K, E
      * Parameter name for the offset when returning versions of an entity.
      */
     protected static final String SKIP_TOKEN_PARAM = "$skiptoken";
+    private static final int MAX_CACHED_MODELS = 1024;
     private final R registry;
+    private final EntityModelCache<V, E, M> modelCache = new EntityModelCache<>(MAX_CACHED_MODELS);
 
     protected R registry() {
         return registry;
@@ -99,7 +102,24 @@ public abstract class GenericEntityController<K extends EntityId, V extends K, E
         if (!includeDisabled && !entity.isEnabled()) {
             throw new NotFoundException("Operation get is not allowed on a disabled entity.");
         }
-        return registry.modelConverter(apiVersion()).convert(entity, baseUri);
+        final M model;
+        if (isModelCacheable()) {
+            model = modelCache.get(entity, baseUri, this::convertDetails);
+        } else {
+            model = convertDetails(entity, baseUri);
+        }
+        return model;
+    }
+
+    /**
+     * Determines whether the converted models can be reused while the entity is not updated. Only safe if the
+     * models are not modified after conversion and depend only on the state of the entity and the vault URI,
+     * because the same model instance is shared by every request reading the same entity version.
+     *
+     * @return true if the models can be cached.
+     */
+    protected boolean isModelCacheable() {
+        return false;
     }
 
     protected DM getDeletedModelById(final S entityVaultFake, final V entityId, final URI baseUri, final boolean includeDisabled) {
@@ -118,63 +138,41 @@ public abstract class GenericEntityController<K extends EntityId, V extends K, E
             final URI baseUri, final String name, final PaginationContext pagination) {
         final S entityVaultFake = getVaultByUri(baseUri);
         final K entityId = entityId(baseUri, name);
-        final List<String> allItems = entityVaultFake.getEntities().getVersions(entityId)
-                .stream()
-                .sorted()
-                .collect(Collectors.toList());
-        final List<I> items = filterList(pagination.getLimit(), pagination.getOffset(), allItems, v -> {
-            final E entity = getEntityByNameAndVersion(baseUri, name, v);
+        final SkipToken skipToken = pagination.getSkipToken();
+        final List<String> window;
+        if (skipToken.isCursor()) {
+            window = entityVaultFake.getEntities()
+                    .listVersionsAfter(entityId, skipToken.getLastItem().orElseThrow(), lookAheadLimit(pagination));
+        } else {
+            window = entityVaultFake.getEntities().getSortedVersions(entityId)
+                    .stream()
+                    .skip(skipToken.getOffset())
+                    .limit(lookAheadLimit(pagination))
+                    .collect(Collectors.toList());
+        }
+        final List<I> items = filterList(pagination.getLimit(), window, v -> {
+            final E entity = entityVaultFake.getEntities().getReadOnlyEntity(versionedEntityId(baseUri, name, v));
             return registry.versionedItemConverter(apiVersion()).convert(entity, baseUri);
         });
-        final URI nextUri = PaginationContext.builder()
-                .base(pagination.getBase())
-                .apiVersion(pagination.getApiVersion())
-                .currentItems(items.size())
-                .totalItems(allItems.size())
-                .limit(pagination.getLimit())
-                .offset(pagination.getOffset())
-                .additionalParameters(pagination.getAdditionalParameters())
-                .build()
-                .asNextUri();
-        return listModel(items, nextUri);
+        return listModel(items, pagination.asNextUri(nextSkipToken(pagination, window, Function.identity())));
     }
 
     @SuppressWarnings("SameParameterValue")
     protected KeyVaultItemListModel<I> getPageOfItems(final URI baseUri, final PaginationContext pagination) {
         final S entityVaultFake = getVaultByUri(baseUri);
-        final List<E> allItems = entityVaultFake.getEntities().listLatestEntities();
-        final List<I> items = filterList(pagination.getLimit(), pagination.getOffset(), allItems,
+        final List<E> window = listWindow(entityVaultFake.getEntities(), pagination);
+        final List<I> items = filterList(pagination.getLimit(), window,
                 source -> registry.itemConverter(apiVersion()).convert(source, baseUri));
-        final URI nextUri = PaginationContext.builder()
-                .base(pagination.getBase())
-                .apiVersion(pagination.getApiVersion())
-                .currentItems(items.size())
-                .totalItems(allItems.size())
-                .limit(pagination.getLimit())
-                .offset(pagination.getOffset())
-                .additionalParameters(pagination.getAdditionalParameters())
-                .build()
-                .asNextUri();
-        return listModel(items, nextUri);
+        return listModel(items, pagination.asNextUri(nextSkipToken(pagination, window, e -> e.getId().id())));
     }
 
     @SuppressWarnings("SameParameterValue")
     protected KeyVaultItemListModel<DI> getPageOfDeletedItems(final URI baseUri, final PaginationContext pagination) {
         final S entityVaultFake = getVaultByUri(baseUri);
-        final List<E> allItems = entityVaultFake.getDeletedEntities().listLatestEntities();
-        final List<DI> items = filterList(pagination.getLimit(), pagination.getOffset(), allItems,
+        final List<E> window = listWindow(entityVaultFake.getDeletedEntities(), pagination);
+        final List<DI> items = filterList(pagination.getLimit(), window,
                 source -> registry.itemConverter(apiVersion()).convertDeleted(source, baseUri));
-        final URI nextUri = PaginationContext.builder()
-                .base(pagination.getBase())
-                .apiVersion(apiVersion())
-                .currentItems(items.size())
-                .totalItems(allItems.size())
-                .limit(pagination.getLimit())
-                .offset(pagination.getOffset())
-                .additionalParameters(pagination.getAdditionalParameters())
-                .build()
-                .asNextUri();
-        return listModel(items, nextUri);
+        return listModel(items, pagination.asNextUri(nextSkipToken(pagination, window, e -> e.getId().id())));
     }
 
     protected M getLatestEntityModel(final URI baseUri, final String name) {
@@ -212,10 +210,40 @@ public abstract class GenericEntityController<K extends EntityId, V extends K, E
         return new KeyVaultItemListModel<>(items, nextUri);
     }
 
+    private List<E> listWindow(final ReadOnlyVersionedEntityMultiMap<K, V, E> entities, final PaginationContext pagination) {
+        final SkipToken skipToken = pagination.getSkipToken();
+        final List<E> window;
+        if (skipToken.isCursor()) {
+            window = entities.listLatestEntitiesAfter(skipToken.getLastItem().orElseThrow(), lookAheadLimit(pagination));
+        } else {
+            window = entities.listLatestEntities(skipToken.getOffset(), lookAheadLimit(pagination));
+        }
+        return window;
+    }
+
+    private int lookAheadLimit(final PaginationContext pagination) {
+        //fetch one more item than the page size to know whether there is a next page without counting all items
+        //the max() call avoids overflow when the maximum number of results is requested
+        return Math.max(pagination.getLimit(), pagination.getLimit() + 1);
+    }
+
+    private <T> SkipToken nextSkipToken(final PaginationContext pagination, final List<T> window, final Function<T, String> sortKey) {
+        final int limit = pagination.getLimit();
+        SkipToken next = null;
+        if (window.size() > limit) {
+            if (limit == 0) {
+                //an empty page cannot move the cursor forward
+                next = pagination.getSkipToken();
+            } else {
+                next = SkipToken.after(sortKey.apply(window.get(limit - 1)));
+            }
+        }
+        return next;
+    }
+
     private <FR, LI> List<LI> filterList(
-            final int limit, final int offset, final Collection<FR> allItems, final Function<FR, LI> mapper) {
+            final int limit, final Collection<FR> allItems, final Function<FR, LI> mapper) {
         return allItems.stream()
-                .skip(offset)
                 .limit(limit)
                 .map(mapper)
                 .collect(Collectors.toList());
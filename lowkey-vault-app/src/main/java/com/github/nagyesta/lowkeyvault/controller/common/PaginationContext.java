@@ -20,34 +20,25 @@ public class PaginationContext {
     private static final String EMPTY = "";
     @NonNull
     private final URI base;
-    private final int totalItems;
-    private final int currentItems;
     private final int limit;
-    private final int offset;
+    @NonNull
+    private final SkipToken skipToken;
     private Map<String, String> additionalParameters;
     @NonNull
     private final String apiVersion;
 
-    public URI asNextUri() {
+    public URI asNextUri(final SkipToken nextSkipToken) {
         URI nextUri = null;
-        if (hasMorePages()) {
+        if (nextSkipToken != null) {
             nextUri = URI.create(base
                     + QUESTION_MARK + API_VERSION_PREFIX + apiVersion
-                    + AND + GenericEntityController.SKIP_TOKEN_PARAM + EQUALS + skipValue()
+                    + AND + GenericEntityController.SKIP_TOKEN_PARAM + EQUALS + nextSkipToken.asString()
                     + AND + GenericEntityController.MAX_RESULTS_PARAM + EQUALS + limit
                     + additionalParametersAsQuery());
         }
         return nextUri;
     }
 
-    private boolean hasMorePages() {
-        return limit + offset < totalItems;
-    }
-
-    private int skipValue() {
-        return offset + currentItems;
-    }
-
     private String additionalParametersAsQuery() {
         return Optional.ofNullable(additionalParameters)
                 .map(m -> AND + m.entrySet().stream()
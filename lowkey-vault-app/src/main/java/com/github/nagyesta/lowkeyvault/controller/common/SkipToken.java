@@ -0,0 +1,87 @@
+package com.github.nagyesta.lowkeyvault.controller.common;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Represents the value of the $skiptoken parameter of list requests. New tokens are opaque cursors pointing after
+ * the last item (name or version) returned on the previous page, therefore finding the next page needs a seek only
+ * and items inserted concurrently cannot shift the results between pages. Plain numeric offsets are still accepted
+ * for backward compatibility.
+ */
+@EqualsAndHashCode
+@ToString
+public final class SkipToken {
+
+    /**
+     * Token representing the first page.
+     */
+    public static final SkipToken FIRST_PAGE = new SkipToken(0, null);
+    private static final Pattern OFFSET_PATTERN = Pattern.compile("^[0-9]+$");
+    private static final String CURSOR_PREFIX = "after:";
+    private final int offset;
+    private final String lastItem;
+
+    private SkipToken(final int offset, final String lastItem) {
+        this.offset = offset;
+        this.lastItem = lastItem;
+    }
+
+    public static SkipToken parse(final String value) {
+        if (!StringUtils.hasText(value)) {
+            return FIRST_PAGE;
+        }
+        if (OFFSET_PATTERN.matcher(value).matches()) {
+            return offset(Integer.parseInt(value));
+        }
+        final String decoded = decode(value);
+        Assert.isTrue(decoded.startsWith(CURSOR_PREFIX) && decoded.length() > CURSOR_PREFIX.length(),
+                "Invalid skip token: " + value);
+        return after(decoded.substring(CURSOR_PREFIX.length()));
+    }
+
+    public static SkipToken offset(final int offset) {
+        Assert.isTrue(offset >= 0, "Offset must not be negative.");
+        return new SkipToken(offset, null);
+    }
+
+    public static SkipToken after(@NonNull final String lastItem) {
+        Assert.isTrue(StringUtils.hasText(lastItem), "Last item must not be blank.");
+        return new SkipToken(0, lastItem);
+    }
+
+    public boolean isCursor() {
+        return lastItem != null;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public Optional<String> getLastItem() {
+        return Optional.ofNullable(lastItem);
+    }
+
+    public String asString() {
+        return getLastItem()
+                .map(item -> Base64.getUrlEncoder().withoutPadding()
+                        .encodeToString((CURSOR_PREFIX + item).getBytes(StandardCharsets.UTF_8)))
+                .orElse(String.valueOf(offset));
+    }
+
+    private static String decode(final String value) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid skip token: " + value, e);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.github.nagyesta.lowkeyvault.model.v7_2.key.KeyVerifyResult;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.request.KeyOperationsParameters;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.request.KeySignParameters;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.request.KeyVerifyParameters;
+import com.github.nagyesta.lowkeyvault.service.key.util.CryptoExecutor;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
@@ -21,6 +22,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
 
 import static com.github.nagyesta.lowkeyvault.model.common.ApiConstants.API_VERSION_7_2;
 import static com.github.nagyesta.lowkeyvault.model.common.ApiConstants.V_7_2;
@@ -33,8 +35,10 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 public class KeyCryptoController extends CommonKeyCryptoController {
 
     @Autowired
-    public KeyCryptoController(@NonNull final KeyConverterRegistry registry, @NonNull final VaultService vaultService) {
-        super(registry, vaultService);
+    public KeyCryptoController(@NonNull final KeyConverterRegistry registry,
+                               @NonNull final VaultService vaultService,
+                               @NonNull final CryptoExecutor cryptoExecutor) {
+        super(registry, vaultService, cryptoExecutor);
     }
 
     @Override
@@ -43,7 +47,7 @@ public class KeyCryptoController extends CommonKeyCryptoController {
             params = API_VERSION_7_2,
             consumes = APPLICATION_JSON_VALUE,
             produces = APPLICATION_JSON_VALUE)
-    public ResponseEntity<KeyOperationsResult> encrypt(
+    public CompletableFuture<ResponseEntity<KeyOperationsResult>> encrypt(
             @PathVariable @Valid @Pattern(regexp = NAME_PATTERN) final String keyName,
             @PathVariable @Valid @Pattern(regexp = VERSION_NAME_PATTERN) final String keyVersion,
             @RequestAttribute(name = ApiConstants.REQUEST_BASE_URI) final URI baseUri,
@@ -57,7 +61,7 @@ public class KeyCryptoController extends CommonKeyCryptoController {
             params = API_VERSION_7_2,
             consumes = APPLICATION_JSON_VALUE,
             produces = APPLICATION_JSON_VALUE)
-    public ResponseEntity<KeyOperationsResult> decrypt(
+    public CompletableFuture<ResponseEntity<KeyOperationsResult>> decrypt(
             @PathVariable @Valid @Pattern(regexp = NAME_PATTERN) final String keyName,
             @PathVariable @Valid @Pattern(regexp = VERSION_NAME_PATTERN) final String keyVersion,
             @RequestAttribute(name = ApiConstants.REQUEST_BASE_URI) final URI baseUri,
@@ -70,7 +74,7 @@ public class KeyCryptoController extends CommonKeyCryptoController {
             params = API_VERSION_7_2,
             consumes = APPLICATION_JSON_VALUE,
             produces = APPLICATION_JSON_VALUE)
-    public ResponseEntity<KeySignResult> sign(
+    public CompletableFuture<ResponseEntity<KeySignResult>> sign(
             @PathVariable @Valid @Pattern(regexp = NAME_PATTERN) final String keyName,
             @PathVariable @Valid @Pattern(regexp = VERSION_NAME_PATTERN) final String keyVersion,
             @RequestAttribute(name = ApiConstants.REQUEST_BASE_URI) final URI baseUri,
@@ -83,7 +87,7 @@ public class KeyCryptoController extends CommonKeyCryptoController {
             params = API_VERSION_7_2,
             consumes = APPLICATION_JSON_VALUE,
             produces = APPLICATION_JSON_VALUE)
-    public ResponseEntity<KeyVerifyResult> verify(
+    public CompletableFuture<ResponseEntity<KeyVerifyResult>> verify(
             @PathVariable @Valid @Pattern(regexp = NAME_PATTERN) final String keyName,
             @PathVariable @Valid @Pattern(regexp = VERSION_NAME_PATTERN) final String keyVersion,
             @RequestAttribute(name = ApiConstants.REQUEST_BASE_URI) final URI baseUri,
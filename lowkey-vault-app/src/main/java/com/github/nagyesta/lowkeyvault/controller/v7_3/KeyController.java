@@ -83,7 +83,7 @@ public class KeyController extends CommonKeyController {
             @PathVariable @Valid @Pattern(regexp = NAME_PATTERN) final String keyName,
             @RequestAttribute(name = ApiConstants.REQUEST_BASE_URI) final URI baseUri,
             @RequestParam(name = MAX_RESULTS_PARAM, required = false, defaultValue = DEFAULT_MAX) final int maxResults,
-            @RequestParam(name = SKIP_TOKEN_PARAM, required = false, defaultValue = SKIP_ZERO) final int skipToken) {
+            @RequestParam(name = SKIP_TOKEN_PARAM, required = false, defaultValue = SKIP_ZERO) final String skipToken) {
         return super.versions(keyName, baseUri, maxResults, skipToken);
     }
 
@@ -94,7 +94,7 @@ public class KeyController extends CommonKeyController {
     public ResponseEntity<KeyVaultItemListModel<KeyVaultKeyItemModel>> listKeys(
             @RequestAttribute(name = ApiConstants.REQUEST_BASE_URI) final URI baseUri,
             @RequestParam(name = MAX_RESULTS_PARAM, required = false, defaultValue = DEFAULT_MAX) final int maxResults,
-            @RequestParam(name = SKIP_TOKEN_PARAM, required = false, defaultValue = SKIP_ZERO) final int skipToken) {
+            @RequestParam(name = SKIP_TOKEN_PARAM, required = false, defaultValue = SKIP_ZERO) final String skipToken) {
         return super.listKeys(baseUri, maxResults, skipToken);
     }
 
@@ -105,7 +105,7 @@ public class KeyController extends CommonKeyController {
     public ResponseEntity<KeyVaultItemListModel<DeletedKeyVaultKeyItemModel>> listDeletedKeys(
             @RequestAttribute(name = ApiConstants.REQUEST_BASE_URI) final URI baseUri,
             @RequestParam(name = MAX_RESULTS_PARAM, required = false, defaultValue = DEFAULT_MAX) final int maxResults,
-            @RequestParam(name = SKIP_TOKEN_PARAM, required = false, defaultValue = SKIP_ZERO) final int skipToken) {
+            @RequestParam(name = SKIP_TOKEN_PARAM, required = false, defaultValue = SKIP_ZERO) final String skipToken) {
         return super.listDeletedKeys(baseUri, maxResults, skipToken);
     }
 
@@ -11,6 +11,7 @@ import com.github.nagyesta.lowkeyvault.model.v7_2.key.request.KeySignParameters;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.request.KeyVerifyParameters;
 import com.github.nagyesta.lowkeyvault.model.v7_3.key.RandomBytesRequest;
 import com.github.nagyesta.lowkeyvault.model.v7_3.key.RandomBytesResponse;
+import com.github.nagyesta.lowkeyvault.service.key.util.CryptoExecutor;
 import com.github.nagyesta.lowkeyvault.service.key.util.KeyGenUtil;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultService;
 import jakarta.validation.Valid;
@@ -24,6 +25,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
 
 import static com.github.nagyesta.lowkeyvault.model.common.ApiConstants.API_VERSION_7_5;
 import static com.github.nagyesta.lowkeyvault.model.common.ApiConstants.V_7_5;
@@ -36,8 +38,10 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 public class KeyCryptoController extends CommonKeyCryptoController {
 
     @Autowired
-    public KeyCryptoController(@NonNull final KeyConverterRegistry registry, @NonNull final VaultService vaultService) {
-        super(registry, vaultService);
+    public KeyCryptoController(@NonNull final KeyConverterRegistry registry,
+                               @NonNull final VaultService vaultService,
+                               @NonNull final CryptoExecutor cryptoExecutor) {
+        super(registry, vaultService, cryptoExecutor);
     }
 
     @Override
@@ -46,7 +50,7 @@ public class KeyCryptoController extends CommonKeyCryptoController {
             params = API_VERSION_7_5,
             consumes = APPLICATION_JSON_VALUE,
             produces = APPLICATION_JSON_VALUE)
-    public ResponseEntity<KeyOperationsResult> encrypt(
+    public CompletableFuture<ResponseEntity<KeyOperationsResult>> encrypt(
             @PathVariable @Valid @Pattern(regexp = NAME_PATTERN) final String keyName,
             @PathVariable @Valid @Pattern(regexp = VERSION_NAME_PATTERN) final String keyVersion,
             @RequestAttribute(name = ApiConstants.REQUEST_BASE_URI) final URI baseUri,
@@ -60,7 +64,7 @@ public class KeyCryptoController extends CommonKeyCryptoController {
             params = API_VERSION_7_5,
             consumes = APPLICATION_JSON_VALUE,
             produces = APPLICATION_JSON_VALUE)
-    public ResponseEntity<KeyOperationsResult> decrypt(
+    public CompletableFuture<ResponseEntity<KeyOperationsResult>> decrypt(
             @PathVariable @Valid @Pattern(regexp = NAME_PATTERN) final String keyName,
             @PathVariable @Valid @Pattern(regexp = VERSION_NAME_PATTERN) final String keyVersion,
             @RequestAttribute(name = ApiConstants.REQUEST_BASE_URI) final URI baseUri,
@@ -73,7 +77,7 @@ public class KeyCryptoController extends CommonKeyCryptoController {
             params = API_VERSION_7_5,
             consumes = APPLICATION_JSON_VALUE,
             produces = APPLICATION_JSON_VALUE)
-    public ResponseEntity<KeySignResult> sign(
+    public CompletableFuture<ResponseEntity<KeySignResult>> sign(
             @PathVariable @Valid @Pattern(regexp = NAME_PATTERN) final String keyName,
             @PathVariable @Valid @Pattern(regexp = VERSION_NAME_PATTERN) final String keyVersion,
             @RequestAttribute(name = ApiConstants.REQUEST_BASE_URI) final URI baseUri,
@@ -86,7 +90,7 @@ public class KeyCryptoController extends CommonKeyCryptoController {
             params = API_VERSION_7_5,
             consumes = APPLICATION_JSON_VALUE,
             produces = APPLICATION_JSON_VALUE)
-    public ResponseEntity<KeyVerifyResult> verify(
+    public CompletableFuture<ResponseEntity<KeyVerifyResult>> verify(
             @PathVariable @Valid @Pattern(regexp = NAME_PATTERN) final String keyName,
             @PathVariable @Valid @Pattern(regexp = VERSION_NAME_PATTERN) final String keyVersion,
             @RequestAttribute(name = ApiConstants.REQUEST_BASE_URI) final URI baseUri,
@@ -1,6 +1,8 @@
 package com.github.nagyesta.lowkeyvault.filter;
 
 import com.github.nagyesta.lowkeyvault.model.common.ApiConstants;
+import com.github.nagyesta.lowkeyvault.service.exception.NotFoundException;
+import com.github.nagyesta.lowkeyvault.service.vault.VaultService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,10 +31,13 @@ public class CommonAuthHeaderFilter extends OncePerRequestFilter {
     private static final String BEARER_FAKE_TOKEN = "Bearer resource=\"%s\", authorization_uri=\"%s\"";
     private final AntPathMatcher antPathMatcher = new AntPathMatcher();
     private final Set<String> skipUrisIfMatch = Set.of("/ping", "/management/**", "/api/**", "/metadata/**");
+    private final VaultService vaultService;
     private String authResource;
 
-    CommonAuthHeaderFilter(@Value("${LOWKEY_AUTH_RESOURCE:localhost}") final String authResource) {
+    CommonAuthHeaderFilter(@Value("${LOWKEY_AUTH_RESOURCE:localhost}") final String authResource,
+                           @lombok.NonNull final VaultService vaultService) {
         this.authResource = authResource;
+        this.vaultService = vaultService;
     }
 
     @Override
@@ -50,6 +55,7 @@ public class CommonAuthHeaderFilter extends OncePerRequestFilter {
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             return;
         }
+        resolveVault(request, baseUri);
         filterChain.doFilter(request, response);
     }
 
@@ -59,6 +65,15 @@ public class CommonAuthHeaderFilter extends OncePerRequestFilter {
                 .anyMatch(pattern -> antPathMatcher.matchStart(pattern, request.getRequestURI()));
     }
 
+    private void resolveVault(final HttpServletRequest request, final URI baseUri) {
+        try {
+            request.setAttribute(ApiConstants.REQUEST_VAULT, vaultService.findByUri(baseUri));
+        } catch (final NotFoundException e) {
+            //the controllers will report the missing vault if they need it
+            log.debug("No active vault found for request base URI: {}", baseUri);
+        }
+    }
+
     private String resolvePort(final int port) {
         if (port == DEFAULT_HTTPS_PORT) {
             return OMIT_DEFAULT;
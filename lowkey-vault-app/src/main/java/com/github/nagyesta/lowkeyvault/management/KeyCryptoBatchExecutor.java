@@ -0,0 +1,114 @@
+package com.github.nagyesta.lowkeyvault.management;
+
+import com.github.nagyesta.lowkeyvault.model.management.KeyCryptoBatchItemModel;
+import com.github.nagyesta.lowkeyvault.model.management.KeyCryptoBatchResultModel;
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.EncryptionAlgorithm;
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyOperation;
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.SignatureAlgorithm;
+import com.github.nagyesta.lowkeyvault.service.key.EncryptionParameters;
+import com.github.nagyesta.lowkeyvault.service.key.KeyVaultFake;
+import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyKeyVaultKeyEntity;
+import com.github.nagyesta.lowkeyvault.service.key.id.KeyEntityId;
+import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
+import com.github.nagyesta.lowkeyvault.service.key.util.CryptoExecutor;
+import com.github.nagyesta.lowkeyvault.service.vault.VaultService;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Executes batches of key crypto operations in parallel using the {@link CryptoExecutor}. The results are returned
+ * in the order of the operations and a failing operation does not prevent the rest of the batch from completing.
+ */
+@Slf4j
+@Component
+public class KeyCryptoBatchExecutor {
+
+    private static final Set<KeyOperation> SUPPORTED_OPERATIONS = Set.of(
+            KeyOperation.ENCRYPT, KeyOperation.DECRYPT, KeyOperation.WRAP_KEY, KeyOperation.UNWRAP_KEY,
+            KeyOperation.SIGN, KeyOperation.VERIFY);
+    private final VaultService vaultService;
+    private final CryptoExecutor cryptoExecutor;
+
+    @Autowired
+    public KeyCryptoBatchExecutor(@NonNull final VaultService vaultService,
+                                  @NonNull final CryptoExecutor cryptoExecutor) {
+        this.vaultService = vaultService;
+        this.cryptoExecutor = cryptoExecutor;
+    }
+
+    public CompletableFuture<List<KeyCryptoBatchResultModel>> execute(@NonNull final List<KeyCryptoBatchItemModel> operations) {
+        final List<Supplier<KeyCryptoBatchResultModel>> tasks = operations.stream()
+                .<Supplier<KeyCryptoBatchResultModel>>map(operation -> () -> executeLogged(operation))
+                .toList();
+        return cryptoExecutor.submitAll(tasks, KeyCryptoBatchResultModel::forException);
+    }
+
+    private KeyCryptoBatchResultModel executeLogged(final KeyCryptoBatchItemModel operation) {
+        try {
+            return executeOperation(operation);
+        } catch (final RuntimeException e) {
+            log.debug("Batch operation failed: {} using key: {}", operation.getOperation(), operation.getKeyName(), e);
+            throw e;
+        }
+    }
+
+    private KeyCryptoBatchResultModel executeOperation(final KeyCryptoBatchItemModel operation) {
+        final KeyOperation keyOperation = operation.getOperation();
+        Assert.isTrue(keyOperation != null && SUPPORTED_OPERATIONS.contains(keyOperation),
+                "Operation is not supported in batches: " + keyOperation);
+        final ReadOnlyKeyVaultKeyEntity key = findKey(operation);
+        final byte[] value = operation.getValueAsBase64DecodedBytes();
+        final KeyCryptoBatchResultModel result;
+        if (keyOperation == KeyOperation.ENCRYPT || keyOperation == KeyOperation.WRAP_KEY) {
+            //the stream based methods keep the authentication tag separate just like the REST API
+            final ByteArrayOutputStream encrypted = new ByteArrayOutputStream(value.length);
+            final EncryptionParameters parameters = key.encryptStream(new ByteArrayInputStream(value), encrypted,
+                    encryptionAlgorithm(operation), operation.getInitializationVector(), operation.getAdditionalAuthData());
+            result = KeyCryptoBatchResultModel.forEncryption(key.getId(), encrypted.toByteArray(), parameters, operation.getBaseUri());
+        } else if (keyOperation == KeyOperation.DECRYPT || keyOperation == KeyOperation.UNWRAP_KEY) {
+            final ByteArrayOutputStream decrypted = new ByteArrayOutputStream(value.length);
+            key.decryptStream(new ByteArrayInputStream(value), decrypted, encryptionAlgorithm(operation),
+                    operation.getInitializationVector(), operation.getAdditionalAuthData(), operation.getAuthenticationTag());
+            result = KeyCryptoBatchResultModel.forBytes(key.getId(), decrypted.toByteArray(), operation.getBaseUri());
+        } else if (keyOperation == KeyOperation.SIGN) {
+            final byte[] signature = key.signBytes(value, signatureAlgorithm(operation));
+            result = KeyCryptoBatchResultModel.forBytes(key.getId(), signature, operation.getBaseUri());
+        } else {
+            final boolean verified = key.verifySignedBytes(operation.getDigestAsBase64DecodedBytes(), signatureAlgorithm(operation), value);
+            result = KeyCryptoBatchResultModel.forVerification(key.getId(), verified, operation.getBaseUri());
+        }
+        return result;
+    }
+
+    private ReadOnlyKeyVaultKeyEntity findKey(final KeyCryptoBatchItemModel operation) {
+        final KeyVaultFake keyVaultFake = vaultService.findByUri(operation.getBaseUri()).keyVaultFake();
+        final VersionedKeyEntityId keyId = Optional.ofNullable(operation.getKeyVersion())
+                .map(version -> new VersionedKeyEntityId(operation.getBaseUri(), operation.getKeyName(), version))
+                .orElseGet(() -> keyVaultFake.getEntities()
+                        .getLatestVersionOfEntity(new KeyEntityId(operation.getBaseUri(), operation.getKeyName())));
+        return keyVaultFake.getEntities().getReadOnlyEntity(keyId);
+    }
+
+    private EncryptionAlgorithm encryptionAlgorithm(final KeyCryptoBatchItemModel operation) {
+        final EncryptionAlgorithm algorithm = EncryptionAlgorithm.forValue(operation.getAlgorithm());
+        Assert.notNull(algorithm, "Unknown encryption algorithm: " + operation.getAlgorithm());
+        return algorithm;
+    }
+
+    private SignatureAlgorithm signatureAlgorithm(final KeyCryptoBatchItemModel operation) {
+        final SignatureAlgorithm algorithm = SignatureAlgorithm.forValue(operation.getAlgorithm());
+        Assert.notNull(algorithm, "Unknown signature algorithm: " + operation.getAlgorithm());
+        return algorithm;
+    }
+}
@@ -4,6 +4,7 @@ import com.github.nagyesta.lowkeyvault.model.v7_2.BasePropertiesModel;
 import com.github.nagyesta.lowkeyvault.model.v7_2.common.BaseBackupListItem;
 import com.github.nagyesta.lowkeyvault.service.EntityId;
 import com.github.nagyesta.lowkeyvault.service.common.BaseVaultEntity;
+import com.github.nagyesta.lowkeyvault.service.common.EntityAttributes;
 import org.springframework.lang.NonNull;
 
 import java.util.Map;
@@ -22,14 +23,15 @@ public abstract class BackupConverter<K extends EntityId, V extends K, E extends
 
     private BLI mapCommonFields(final E source, final BLI item) {
         final V entityId = source.getId();
+        final EntityAttributes attributes = source.getAttributes();
         item.setVaultBaseUri(entityId.vault());
         item.setId(entityId.id());
         item.setVersion(entityId.version());
-        item.setAttributes(propertiesConverter().convert(source, entityId.vault()));
-        item.setTags(Map.copyOf(source.getTags()));
-        item.setManaged(source.isManaged());
+        item.setAttributes(propertiesConverter().convert(source, attributes, entityId.vault()));
+        item.setTags(Map.copyOf(attributes.tags()));
+        item.setManaged(attributes.managed());
         return item;
     }
 
-    protected abstract AliasAwareConverter<E, P> propertiesConverter();
+    protected abstract PropertiesModelConverter<E, P> propertiesConverter();
 }
@@ -17,7 +17,7 @@ public abstract class BaseEntityConverterRegistry<K extends EntityId, V extends
         implements EntityConverterRegistry<K, V, E, M, DM, PM, IM, DIM, BLI, BL, B> {
 
     private final Map<String, RecoveryAwareConverter<E, M, DM>> modelConverters = new HashMap<>();
-    private final Map<String, AliasAwareConverter<E, PM>> propertiesConverters = new HashMap<>();
+    private final Map<String, PropertiesModelConverter<E, PM>> propertiesConverters = new HashMap<>();
     private final Map<String, RecoveryAwareConverter<E, IM, DIM>> itemConverters = new HashMap<>();
     private final Map<String, RecoveryAwareConverter<E, IM, DIM>> versionedItemConverters = new HashMap<>();
     private final Map<String, BackupConverter<K, V, E, PM, BLI>> backupConverters = new HashMap<>();
@@ -33,12 +33,12 @@ public abstract class BaseEntityConverterRegistry<K extends EntityId, V extends
     }
 
     @Override
-    public AliasAwareConverter<E, PM> propertiesConverter(final String apiVersion) {
+    public PropertiesModelConverter<E, PM> propertiesConverter(final String apiVersion) {
         return getNonNullConverterForApiVersion(propertiesConverters, apiVersion);
     }
 
     @Override
-    public void registerPropertiesConverter(final AliasAwareConverter<E, PM> converter) {
+    public void registerPropertiesConverter(final PropertiesModelConverter<E, PM> converter) {
         converter.supportedVersions().forEach(v -> propertiesConverters.put(v, converter));
     }
 
@@ -2,21 +2,23 @@ package com.github.nagyesta.lowkeyvault.mapper.common;
 
 import com.github.nagyesta.lowkeyvault.model.common.DeletedModel;
 import com.github.nagyesta.lowkeyvault.service.EntityId;
-import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyDeletedEntity;
+import com.github.nagyesta.lowkeyvault.service.common.BaseVaultEntity;
+import com.github.nagyesta.lowkeyvault.service.common.EntityAttributes;
 import org.springframework.util.Assert;
 
 import java.net.URI;
 import java.util.function.Supplier;
 
 /**
- * Base converter supporting both active and deleted entities.
+ * Base converter supporting both active and deleted entities. The attributes of the entity are read once per
+ * conversion, every mapped attribute is taken from the same snapshot.
  *
  * @param <V>  The entityId type.
  * @param <S>  The source type.
  * @param <T>  The active target type.
  * @param <DT> The deleted target type.
  */
-public abstract class BaseRecoveryAwareConverter<V extends EntityId, S extends ReadOnlyDeletedEntity<V>, T, DT extends T>
+public abstract class BaseRecoveryAwareConverter<V extends EntityId, S extends BaseVaultEntity<V>, T, DT extends T>
         implements RecoveryAwareConverter<S, T, DT> {
 
     private final Supplier<T> modelSupplier;
@@ -28,25 +30,26 @@ public abstract class BaseRecoveryAwareConverter<V extends EntityId, S extends R
         Assert.isInstanceOf(DeletedModel.class, deletedModelSupplier.get());
     }
 
-    protected void mapDeletedFields(final S source, final DeletedModel model, final URI vaultUri) {
+    protected void mapDeletedFields(final S source, final EntityAttributes attributes, final DeletedModel model, final URI vaultUri) {
         model.setRecoveryId(source.getId().asRecoveryUri(vaultUri).toString());
-        model.setDeletedDate(source.getDeletedDate().orElseThrow());
-        model.setScheduledPurgeDate(source.getScheduledPurgeDate().orElseThrow());
+        model.setDeletedDate(attributes.deletedDate().orElseThrow());
+        model.setScheduledPurgeDate(attributes.scheduledPurgeDate().orElseThrow());
     }
 
     @Override
     @org.springframework.lang.NonNull
     public T convert(@org.springframework.lang.NonNull final S source, @org.springframework.lang.NonNull final URI vaultUri) {
-        return mapActiveFields(source, modelSupplier.get(), vaultUri);
+        return mapActiveFields(source, source.getAttributes(), modelSupplier.get(), vaultUri);
     }
 
     @Override
     @org.springframework.lang.NonNull
     public DT convertDeleted(@org.springframework.lang.NonNull final S source, @org.springframework.lang.NonNull final URI vaultUri) {
+        final EntityAttributes attributes = source.getAttributes();
         final DT model = deletedModelSupplier.get();
-        mapDeletedFields(source, (DeletedModel) model, vaultUri);
-        return mapActiveFields(source, model, vaultUri);
+        mapDeletedFields(source, attributes, (DeletedModel) model, vaultUri);
+        return mapActiveFields(source, attributes, model, vaultUri);
     }
 
-    protected abstract <M extends T> M mapActiveFields(S source, M model, URI vaultUri);
+    protected abstract <M extends T> M mapActiveFields(S source, EntityAttributes attributes, M model, URI vaultUri);
 }
@@ -22,9 +22,9 @@ public interface EntityConverterRegistry<K extends EntityId, V extends K,
 
     void registerModelConverter(RecoveryAwareConverter<E, M, DM> converter);
 
-    AliasAwareConverter<E, PM> propertiesConverter(String apiVersion);
+    PropertiesModelConverter<E, PM> propertiesConverter(String apiVersion);
 
-    void registerPropertiesConverter(AliasAwareConverter<E, PM> converter);
+    void registerPropertiesConverter(PropertiesModelConverter<E, PM> converter);
 
     RecoveryAwareConverter<E, IM, DIM> itemConverter(String apiVersion);
 
@@ -0,0 +1,29 @@
+package com.github.nagyesta.lowkeyvault.mapper.common;
+
+import com.github.nagyesta.lowkeyvault.model.v7_2.BasePropertiesModel;
+import com.github.nagyesta.lowkeyvault.service.common.BaseVaultEntity;
+import com.github.nagyesta.lowkeyvault.service.common.EntityAttributes;
+import org.springframework.lang.NonNull;
+
+import java.net.URI;
+
+/**
+ * A converter mapping the properties of an entity from a snapshot of its attributes. Callers mapping other
+ * attributes of the same entity (e.g. the tags) must read the snapshot once and pass it to
+ * {@link #convert(BaseVaultEntity, EntityAttributes, URI)} to avoid mixing the states of concurrent updates.
+ *
+ * @param <S> the source type
+ * @param <T> the target type
+ */
+public interface PropertiesModelConverter<S extends BaseVaultEntity<?>, T extends BasePropertiesModel>
+        extends AliasAwareConverter<S, T> {
+
+    @Override
+    @NonNull
+    default T convert(@NonNull final S source, @NonNull final URI vaultUri) {
+        return convert(source, source.getAttributes(), vaultUri);
+    }
+
+    @NonNull
+    T convert(@NonNull S source, @NonNull EntityAttributes attributes, @NonNull URI vaultUri);
+}
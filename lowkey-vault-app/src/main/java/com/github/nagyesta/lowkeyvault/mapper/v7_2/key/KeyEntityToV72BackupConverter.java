@@ -1,8 +1,8 @@
 package com.github.nagyesta.lowkeyvault.mapper.v7_2.key;
 
 import com.github.nagyesta.lowkeyvault.context.ApiVersionAware;
-import com.github.nagyesta.lowkeyvault.mapper.common.AliasAwareConverter;
 import com.github.nagyesta.lowkeyvault.mapper.common.BackupConverter;
+import com.github.nagyesta.lowkeyvault.mapper.common.PropertiesModelConverter;
 import com.github.nagyesta.lowkeyvault.mapper.common.registry.KeyConverterRegistry;
 import com.github.nagyesta.lowkeyvault.model.common.backup.KeyBackupListItem;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.KeyPropertiesModel;
@@ -43,7 +43,7 @@ public class KeyEntityToV72BackupConverter
     }
 
     @Override
-    protected AliasAwareConverter<ReadOnlyKeyVaultKeyEntity, KeyPropertiesModel> propertiesConverter() {
+    protected PropertiesModelConverter<ReadOnlyKeyVaultKeyEntity, KeyPropertiesModel> propertiesConverter() {
         return registry.propertiesConverter(supportedVersions().last());
     }
 
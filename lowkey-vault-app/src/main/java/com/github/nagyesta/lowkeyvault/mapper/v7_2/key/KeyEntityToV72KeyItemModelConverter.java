@@ -5,6 +5,7 @@ import com.github.nagyesta.lowkeyvault.mapper.common.BaseRecoveryAwareConverter;
 import com.github.nagyesta.lowkeyvault.mapper.common.registry.KeyConverterRegistry;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.DeletedKeyVaultKeyItemModel;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.KeyVaultKeyItemModel;
+import com.github.nagyesta.lowkeyvault.service.common.EntityAttributes;
 import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyKeyVaultKeyEntity;
 import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
 import lombok.NonNull;
@@ -37,11 +38,11 @@ public class KeyEntityToV72KeyItemModelConverter
 
     @Override
     protected <M extends KeyVaultKeyItemModel> M mapActiveFields(
-            final ReadOnlyKeyVaultKeyEntity source, final M model, final URI vaultUri) {
+            final ReadOnlyKeyVaultKeyEntity source, final EntityAttributes attributes, final M model, final URI vaultUri) {
         model.setKeyId(convertKeyId(source, vaultUri));
-        model.setAttributes(registry.propertiesConverter(supportedVersions().last()).convert(source, vaultUri));
-        model.setTags(source.getTags());
-        if (source.isManaged()) {
+        model.setAttributes(registry.propertiesConverter(supportedVersions().last()).convert(source, attributes, vaultUri));
+        model.setTags(attributes.tags());
+        if (attributes.managed()) {
             model.setManaged(true);
         }
         return model;
@@ -6,6 +6,7 @@ import com.github.nagyesta.lowkeyvault.mapper.common.registry.KeyConverterRegist
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.DeletedKeyVaultKeyModel;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.JsonWebKeyModel;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.KeyVaultKeyModel;
+import com.github.nagyesta.lowkeyvault.service.common.EntityAttributes;
 import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyAesKeyVaultKeyEntity;
 import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyEcKeyVaultKeyEntity;
 import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyKeyVaultKeyEntity;
@@ -35,11 +36,12 @@ public class KeyEntityToV72ModelConverter
     }
 
     @Override
-    protected <M extends KeyVaultKeyModel> M mapActiveFields(final ReadOnlyKeyVaultKeyEntity source, final M model, final URI vaultUri) {
+    protected <M extends KeyVaultKeyModel> M mapActiveFields(
+            final ReadOnlyKeyVaultKeyEntity source, final EntityAttributes attributes, final M model, final URI vaultUri) {
         model.setKey(mapJsonWebKey(source, vaultUri));
-        model.setAttributes(registry.propertiesConverter(supportedVersions().last()).convert(source, vaultUri));
-        model.setTags(source.getTags());
-        model.setManaged(source.isManaged());
+        model.setAttributes(registry.propertiesConverter(supportedVersions().last()).convert(source, attributes, vaultUri));
+        model.setTags(attributes.tags());
+        model.setManaged(attributes.managed());
         return model;
     }
 
@@ -5,6 +5,7 @@ import com.github.nagyesta.lowkeyvault.mapper.common.AliasAwareConverter;
 import com.github.nagyesta.lowkeyvault.mapper.common.BasePropertiesModelConverter;
 import com.github.nagyesta.lowkeyvault.mapper.common.registry.KeyConverterRegistry;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.KeyPropertiesModel;
+import com.github.nagyesta.lowkeyvault.service.common.EntityAttributes;
 import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyKeyVaultKeyEntity;
 import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,9 +33,10 @@ public class KeyEntityToV72PropertiesModelConverter
     @Override
     @NonNull
     public KeyPropertiesModel convert(
-            @org.springframework.lang.NonNull final ReadOnlyKeyVaultKeyEntity source,
-            @org.springframework.lang.NonNull final URI vaultUri) {
-        return mapCommonFields(source, new KeyPropertiesModel());
+            @NonNull final ReadOnlyKeyVaultKeyEntity source,
+            @NonNull final EntityAttributes attributes,
+            @NonNull final URI vaultUri) {
+        return mapCommonFields(source, attributes, new KeyPropertiesModel());
     }
 
     @Override
@@ -1,8 +1,8 @@
 package com.github.nagyesta.lowkeyvault.mapper.v7_2.secret;
 
 import com.github.nagyesta.lowkeyvault.context.ApiVersionAware;
-import com.github.nagyesta.lowkeyvault.mapper.common.AliasAwareConverter;
 import com.github.nagyesta.lowkeyvault.mapper.common.BackupConverter;
+import com.github.nagyesta.lowkeyvault.mapper.common.PropertiesModelConverter;
 import com.github.nagyesta.lowkeyvault.mapper.common.registry.SecretConverterRegistry;
 import com.github.nagyesta.lowkeyvault.model.common.backup.SecretBackupListItem;
 import com.github.nagyesta.lowkeyvault.model.v7_2.secret.SecretPropertiesModel;
@@ -38,7 +38,7 @@ public class SecretEntityToV72BackupConverter extends BackupConverter<
     }
 
     @Override
-    protected AliasAwareConverter<ReadOnlyKeyVaultSecretEntity, SecretPropertiesModel> propertiesConverter() {
+    protected PropertiesModelConverter<ReadOnlyKeyVaultSecretEntity, SecretPropertiesModel> propertiesConverter() {
         return registry.propertiesConverter(supportedVersions().last());
     }
 
@@ -5,6 +5,7 @@ import com.github.nagyesta.lowkeyvault.mapper.common.BaseRecoveryAwareConverter;
 import com.github.nagyesta.lowkeyvault.mapper.common.registry.SecretConverterRegistry;
 import com.github.nagyesta.lowkeyvault.model.v7_2.secret.DeletedKeyVaultSecretModel;
 import com.github.nagyesta.lowkeyvault.model.v7_2.secret.KeyVaultSecretModel;
+import com.github.nagyesta.lowkeyvault.service.common.EntityAttributes;
 import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
 import com.github.nagyesta.lowkeyvault.service.secret.ReadOnlyKeyVaultSecretEntity;
 import com.github.nagyesta.lowkeyvault.service.secret.id.VersionedSecretEntityId;
@@ -32,14 +33,14 @@ public class SecretEntityToV72ModelConverter
 
     @Override
     protected <M extends KeyVaultSecretModel> M mapActiveFields(
-            final ReadOnlyKeyVaultSecretEntity source, final M model, final URI vaultUri) {
+            final ReadOnlyKeyVaultSecretEntity source, final EntityAttributes attributes, final M model, final URI vaultUri) {
         model.setId(source.getId().asUri(vaultUri).toString());
         model.setContentType(source.getContentType());
         model.setValue(source.getValue());
-        model.setAttributes(registry.propertiesConverter(supportedVersions().last()).convert(source, vaultUri));
-        model.setTags(source.getTags());
-        model.setManaged(source.isManaged());
-        if (source.isManaged()) {
+        model.setAttributes(registry.propertiesConverter(supportedVersions().last()).convert(source, attributes, vaultUri));
+        model.setTags(attributes.tags());
+        model.setManaged(attributes.managed());
+        if (attributes.managed()) {
             final VersionedSecretEntityId id = source.getId();
             model.setKid(new VersionedKeyEntityId(id.vault(), id.id(), id.version()).asUri(vaultUri).toString());
         }
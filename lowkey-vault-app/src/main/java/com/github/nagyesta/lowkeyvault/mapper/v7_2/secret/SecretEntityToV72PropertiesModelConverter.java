@@ -5,6 +5,7 @@ import com.github.nagyesta.lowkeyvault.mapper.common.AliasAwareConverter;
 import com.github.nagyesta.lowkeyvault.mapper.common.BasePropertiesModelConverter;
 import com.github.nagyesta.lowkeyvault.mapper.common.registry.SecretConverterRegistry;
 import com.github.nagyesta.lowkeyvault.model.v7_2.secret.SecretPropertiesModel;
+import com.github.nagyesta.lowkeyvault.service.common.EntityAttributes;
 import com.github.nagyesta.lowkeyvault.service.secret.ReadOnlyKeyVaultSecretEntity;
 import com.github.nagyesta.lowkeyvault.service.secret.id.VersionedSecretEntityId;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,8 +32,11 @@ public class SecretEntityToV72PropertiesModelConverter
 
     @Override
     @NonNull
-    public SecretPropertiesModel convert(@NonNull final ReadOnlyKeyVaultSecretEntity source, @NonNull final URI vaultUri) {
-        return mapCommonFields(source, new SecretPropertiesModel());
+    public SecretPropertiesModel convert(
+            @NonNull final ReadOnlyKeyVaultSecretEntity source,
+            @NonNull final EntityAttributes attributes,
+            @NonNull final URI vaultUri) {
+        return mapCommonFields(source, attributes, new SecretPropertiesModel());
     }
 
     @Override
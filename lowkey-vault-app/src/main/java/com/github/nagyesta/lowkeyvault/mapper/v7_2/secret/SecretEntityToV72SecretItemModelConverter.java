@@ -5,6 +5,7 @@ import com.github.nagyesta.lowkeyvault.mapper.common.BaseRecoveryAwareConverter;
 import com.github.nagyesta.lowkeyvault.mapper.common.registry.SecretConverterRegistry;
 import com.github.nagyesta.lowkeyvault.model.v7_2.secret.DeletedKeyVaultSecretItemModel;
 import com.github.nagyesta.lowkeyvault.model.v7_2.secret.KeyVaultSecretItemModel;
+import com.github.nagyesta.lowkeyvault.service.common.EntityAttributes;
 import com.github.nagyesta.lowkeyvault.service.secret.ReadOnlyKeyVaultSecretEntity;
 import com.github.nagyesta.lowkeyvault.service.secret.id.VersionedSecretEntityId;
 import lombok.NonNull;
@@ -36,11 +37,11 @@ public class SecretEntityToV72SecretItemModelConverter
 
     @Override
     protected <M extends KeyVaultSecretItemModel> M mapActiveFields(
-            final ReadOnlyKeyVaultSecretEntity source, final M model, final URI vaultUri) {
+            final ReadOnlyKeyVaultSecretEntity source, final EntityAttributes attributes, final M model, final URI vaultUri) {
         model.setId(convertSecretId(source, vaultUri));
-        model.setAttributes(registry.propertiesConverter(supportedVersions().last()).convert(source, vaultUri));
-        model.setTags(source.getTags());
-        if (source.isManaged()) {
+        model.setAttributes(registry.propertiesConverter(supportedVersions().last()).convert(source, attributes, vaultUri));
+        model.setTags(attributes.tags());
+        if (attributes.managed()) {
             model.setManaged(true);
         }
         return model;
@@ -1,8 +1,8 @@
 package com.github.nagyesta.lowkeyvault.mapper.v7_3.certificate;
 
 import com.github.nagyesta.lowkeyvault.context.ApiVersionAware;
-import com.github.nagyesta.lowkeyvault.mapper.common.AliasAwareConverter;
 import com.github.nagyesta.lowkeyvault.mapper.common.BackupConverter;
+import com.github.nagyesta.lowkeyvault.mapper.common.PropertiesModelConverter;
 import com.github.nagyesta.lowkeyvault.mapper.common.registry.CertificateConverterRegistry;
 import com.github.nagyesta.lowkeyvault.model.common.backup.CertificateBackupListItem;
 import com.github.nagyesta.lowkeyvault.model.v7_3.certificate.CertificateLifetimeActionModel;
@@ -64,9 +64,6 @@ public class CertificateEntityToV73BackupConverter
         final List<CertificateLifetimeActionModel> lifetimeActionModels = fetchLifetimeActionModels(source, vaultFake);
         listItem.getPolicy().setLifetimeActions(lifetimeActionModels);
         listItem.getIssuancePolicy().setLifetimeActions(lifetimeActionModels);
-        listItem.setAttributes(registry.propertiesConverter(supportedVersions().last()).convert(source, vaultUri));
-        listItem.setTags(source.getTags());
-        listItem.setManaged(false);
         return listItem;
     }
 
@@ -77,7 +74,7 @@ public class CertificateEntityToV73BackupConverter
     }
 
     @Override
-    protected AliasAwareConverter<ReadOnlyKeyVaultCertificateEntity, CertificatePropertiesModel> propertiesConverter() {
+    protected PropertiesModelConverter<ReadOnlyKeyVaultCertificateEntity, CertificatePropertiesModel> propertiesConverter() {
         return registry.propertiesConverter(supportedVersions().last());
     }
 
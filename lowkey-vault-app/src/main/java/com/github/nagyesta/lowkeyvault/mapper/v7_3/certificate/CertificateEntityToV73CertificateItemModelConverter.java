@@ -7,6 +7,7 @@ import com.github.nagyesta.lowkeyvault.model.v7_3.certificate.DeletedKeyVaultCer
 import com.github.nagyesta.lowkeyvault.model.v7_3.certificate.KeyVaultCertificateItemModel;
 import com.github.nagyesta.lowkeyvault.service.certificate.ReadOnlyKeyVaultCertificateEntity;
 import com.github.nagyesta.lowkeyvault.service.certificate.id.VersionedCertificateEntityId;
+import com.github.nagyesta.lowkeyvault.service.common.EntityAttributes;
 import lombok.NonNull;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -37,11 +38,11 @@ public class CertificateEntityToV73CertificateItemModelConverter
 
     @Override
     protected <M extends KeyVaultCertificateItemModel> M mapActiveFields(
-            final ReadOnlyKeyVaultCertificateEntity source, final M model, final URI vaultUri) {
+            final ReadOnlyKeyVaultCertificateEntity source, final EntityAttributes attributes, final M model, final URI vaultUri) {
         model.setCertificateId(convertCertificateId(source, vaultUri));
         model.setThumbprint(source.getThumbprint());
-        model.setAttributes(registry.propertiesConverter(supportedVersions().last()).convert(source, vaultUri));
-        model.setTags(source.getTags());
+        model.setAttributes(registry.propertiesConverter(supportedVersions().last()).convert(source, attributes, vaultUri));
+        model.setTags(attributes.tags());
         return model;
     }
 
@@ -7,6 +7,7 @@ import com.github.nagyesta.lowkeyvault.model.v7_3.certificate.DeletedKeyVaultCer
 import com.github.nagyesta.lowkeyvault.model.v7_3.certificate.KeyVaultCertificateModel;
 import com.github.nagyesta.lowkeyvault.service.certificate.ReadOnlyKeyVaultCertificateEntity;
 import com.github.nagyesta.lowkeyvault.service.certificate.id.VersionedCertificateEntityId;
+import com.github.nagyesta.lowkeyvault.service.common.EntityAttributes;
 import lombok.NonNull;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -32,15 +33,15 @@ public class CertificateEntityToV73ModelConverter
 
     @Override
     protected <M extends KeyVaultCertificateModel> M mapActiveFields(
-            final ReadOnlyKeyVaultCertificateEntity source, final M model, final URI vaultUri) {
+            final ReadOnlyKeyVaultCertificateEntity source, final EntityAttributes attributes, final M model, final URI vaultUri) {
         model.setId(source.getId().asUri(vaultUri).toString());
         model.setKid(source.getKid().asUri(vaultUri).toString());
         model.setSid(source.getSid().asUri(vaultUri).toString());
         model.setPolicy(registry.policyConverters(supportedVersions().last()).convert(source, vaultUri));
         model.setCertificate(source.getEncodedCertificate());
         model.setThumbprint(source.getThumbprint());
-        model.setAttributes(registry.propertiesConverter(supportedVersions().last()).convert(source, vaultUri));
-        model.setTags(source.getTags());
+        model.setAttributes(registry.propertiesConverter(supportedVersions().last()).convert(source, attributes, vaultUri));
+        model.setTags(attributes.tags());
         return model;
     }
 
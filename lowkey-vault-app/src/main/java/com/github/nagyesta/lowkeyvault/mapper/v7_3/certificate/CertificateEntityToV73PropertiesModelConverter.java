@@ -7,6 +7,7 @@ import com.github.nagyesta.lowkeyvault.mapper.common.registry.CertificateConvert
 import com.github.nagyesta.lowkeyvault.model.v7_3.certificate.CertificatePropertiesModel;
 import com.github.nagyesta.lowkeyvault.service.certificate.ReadOnlyKeyVaultCertificateEntity;
 import com.github.nagyesta.lowkeyvault.service.certificate.id.VersionedCertificateEntityId;
+import com.github.nagyesta.lowkeyvault.service.common.EntityAttributes;
 import org.springframework.lang.NonNull;
 
 import java.net.URI;
@@ -30,9 +31,10 @@ public class CertificateEntityToV73PropertiesModelConverter
     @Override
     @NonNull
     public CertificatePropertiesModel convert(
-            @org.springframework.lang.NonNull final ReadOnlyKeyVaultCertificateEntity source,
-            @org.springframework.lang.NonNull final URI vaultUri) {
-        return mapCommonFields(source, new CertificatePropertiesModel());
+            @NonNull final ReadOnlyKeyVaultCertificateEntity source,
+            @NonNull final EntityAttributes attributes,
+            @NonNull final URI vaultUri) {
+        return mapCommonFields(source, attributes, new CertificatePropertiesModel());
     }
 
     @Override
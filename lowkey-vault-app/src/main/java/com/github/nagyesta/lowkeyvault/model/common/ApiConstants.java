@@ -6,6 +6,10 @@ public final class ApiConstants {
      * Parameter for getting the request base URI.
      */
     public static final String REQUEST_BASE_URI = "requestBaseUri";
+    /**
+     * Parameter for getting the vault resolved once per request based on the request base URI.
+     */
+    public static final String REQUEST_VAULT = "requestVault";
     /**
      * The version of the v7.2 API.
      */
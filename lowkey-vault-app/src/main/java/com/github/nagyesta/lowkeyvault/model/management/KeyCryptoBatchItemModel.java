@@ -0,0 +1,85 @@
+package com.github.nagyesta.lowkeyvault.model.management;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.github.nagyesta.lowkeyvault.model.json.util.Base64Deserializer;
+import com.github.nagyesta.lowkeyvault.model.json.util.Base64Serializer;
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyOperation;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.net.URI;
+import java.util.Base64;
+import java.util.Optional;
+
+import static com.github.nagyesta.lowkeyvault.openapi.Examples.BASE_URI;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class KeyCryptoBatchItemModel {
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    @Schema(example = BASE_URI, description = "The base URI of the vault containing the key.")
+    @NotNull
+    @JsonProperty("baseUri")
+    private URI baseUri;
+    @Schema(description = "The name of the key.")
+    @NotBlank
+    @JsonProperty("keyName")
+    private String keyName;
+    @Schema(nullable = true, description = "The version of the key. The latest version is used when null.")
+    @JsonProperty("keyVersion")
+    private String keyVersion;
+    @Schema(description = "The operation to perform (encrypt, decrypt, wrapKey, unwrapKey, sign or verify).")
+    @NotNull
+    @JsonProperty("op")
+    private KeyOperation operation;
+    @Schema(description = "The encryption or signature algorithm depending on the operation.")
+    @NotBlank
+    @JsonProperty("alg")
+    private String algorithm;
+    @Schema(description = "Base64 URL encoded input of the operation (the signature in case of verify).")
+    @NotBlank
+    @JsonProperty("value")
+    private String value;
+    @Schema(nullable = true, description = "Base64 URL encoded digest (used only by verify).")
+    @JsonProperty("digest")
+    private String digest;
+    @Schema(nullable = true, description = "Base64 URL encoded initialization vector (used only by symmetric algorithms).")
+    @JsonProperty("iv")
+    @JsonSerialize(using = Base64Serializer.class)
+    @JsonDeserialize(using = Base64Deserializer.class)
+    private byte[] initializationVector;
+    @Schema(nullable = true, description = "Base64 URL encoded additional authenticated data (used only by authenticated algorithms).")
+    @JsonProperty("aad")
+    @JsonSerialize(using = Base64Serializer.class)
+    @JsonDeserialize(using = Base64Deserializer.class)
+    private byte[] additionalAuthData;
+    @Schema(nullable = true, description = "Base64 URL encoded authentication tag (used only by decryption with authenticated algorithms).")
+    @JsonProperty("tag")
+    @JsonSerialize(using = Base64Serializer.class)
+    @JsonDeserialize(using = Base64Deserializer.class)
+    private byte[] authenticationTag;
+
+    @JsonIgnore
+    public byte[] getValueAsBase64DecodedBytes() {
+        return decodeOptionalStringAsBase64Bytes(value);
+    }
+
+    @JsonIgnore
+    public byte[] getDigestAsBase64DecodedBytes() {
+        return decodeOptionalStringAsBase64Bytes(digest);
+    }
+
+    private byte[] decodeOptionalStringAsBase64Bytes(final String encoded) {
+        return Optional.ofNullable(encoded)
+                .map(DECODER::decode)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.nagyesta.lowkeyvault.model.management;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class KeyCryptoBatchRequest {
+
+    /**
+     * The maximum number of operations accepted in a single batch.
+     */
+    public static final int MAX_OPERATIONS = 10000;
+
+    @Valid
+    @NotNull
+    @Size(min = 1, max = MAX_OPERATIONS)
+    @JsonProperty("operations")
+    private List<KeyCryptoBatchItemModel> operations;
+}
@@ -0,0 +1,81 @@
+package com.github.nagyesta.lowkeyvault.model.management;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.github.nagyesta.lowkeyvault.model.json.util.Base64Deserializer;
+import com.github.nagyesta.lowkeyvault.model.json.util.Base64Serializer;
+import com.github.nagyesta.lowkeyvault.model.common.ErrorMessage;
+import com.github.nagyesta.lowkeyvault.model.common.ErrorModel;
+import com.github.nagyesta.lowkeyvault.service.key.EncryptionParameters;
+import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.net.URI;
+import java.util.Base64;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class KeyCryptoBatchResultModel {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    @Schema(nullable = true, description = "The full identifier of the key version used by the operation.")
+    @JsonProperty("kid")
+    private URI id;
+    @Schema(nullable = true, description = "Base64 URL encoded result of encrypt, decrypt, wrapKey, unwrapKey and sign operations.")
+    @JsonProperty("value")
+    private String value;
+    @Schema(nullable = true, description = "Base64 URL encoded initialization vector used by encrypt and wrapKey operations.")
+    @JsonProperty("iv")
+    @JsonSerialize(using = Base64Serializer.class)
+    @JsonDeserialize(using = Base64Deserializer.class)
+    private byte[] initializationVector;
+    @Schema(nullable = true, description = "Base64 URL encoded authentication tag of encryptions using authenticated algorithms.")
+    @JsonProperty("tag")
+    @JsonSerialize(using = Base64Serializer.class)
+    @JsonDeserialize(using = Base64Deserializer.class)
+    private byte[] authenticationTag;
+    @Schema(nullable = true, description = "The result of verify operations.")
+    @JsonProperty("verified")
+    private Boolean verified;
+    @Schema(nullable = true, description = "The error preventing the operation from completing.")
+    @JsonProperty("error")
+    private ErrorMessage error;
+
+    public static KeyCryptoBatchResultModel forBytes(@org.springframework.lang.NonNull final VersionedKeyEntityId keyEntityId,
+                                                     @org.springframework.lang.NonNull final byte[] value,
+                                                     @org.springframework.lang.NonNull final URI vaultUri) {
+        final KeyCryptoBatchResultModel result = new KeyCryptoBatchResultModel();
+        result.setId(keyEntityId.asUri(vaultUri));
+        result.setValue(ENCODER.encodeToString(value));
+        return result;
+    }
+
+    public static KeyCryptoBatchResultModel forEncryption(@org.springframework.lang.NonNull final VersionedKeyEntityId keyEntityId,
+                                                          @org.springframework.lang.NonNull final byte[] value,
+                                                          @org.springframework.lang.NonNull final EncryptionParameters parameters,
+                                                          @org.springframework.lang.NonNull final URI vaultUri) {
+        final KeyCryptoBatchResultModel result = forBytes(keyEntityId, value, vaultUri);
+        result.setInitializationVector(parameters.initializationVector());
+        result.setAuthenticationTag(parameters.authenticationTag());
+        return result;
+    }
+
+    public static KeyCryptoBatchResultModel forVerification(@org.springframework.lang.NonNull final VersionedKeyEntityId keyEntityId,
+                                                            final boolean verified,
+                                                            @org.springframework.lang.NonNull final URI vaultUri) {
+        final KeyCryptoBatchResultModel result = new KeyCryptoBatchResultModel();
+        result.setId(keyEntityId.asUri(vaultUri));
+        result.setVerified(verified);
+        return result;
+    }
+
+    public static KeyCryptoBatchResultModel forException(@org.springframework.lang.NonNull final Exception exception) {
+        final KeyCryptoBatchResultModel result = new KeyCryptoBatchResultModel();
+        result.setError(ErrorModel.fromException(exception).error());
+        return result;
+    }
+}
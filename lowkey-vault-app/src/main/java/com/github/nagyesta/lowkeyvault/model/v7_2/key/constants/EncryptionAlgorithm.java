@@ -5,6 +5,10 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonValue;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @SuppressWarnings("checkstyle:JavadocVariable")
 public enum EncryptionAlgorithm {
@@ -15,29 +19,44 @@ public enum EncryptionAlgorithm {
     A192CBCPAD("A192CBCPAD", "AES/CBC/PKCS5Padding", KeyType.OCT_HSM, 192, 192),
     A256CBC("A256CBC", "AES/CBC/ZeroBytePadding", KeyType.OCT_HSM, 256, 256),
     A256CBCPAD("A256CBCPAD", "AES/CBC/PKCS5Padding", KeyType.OCT_HSM, 256, 256),
+    A128GCM("A128GCM", "AES/GCM/NoPadding", KeyType.OCT_HSM, 128, 128, true),
+    A192GCM("A192GCM", "AES/GCM/NoPadding", KeyType.OCT_HSM, 192, 192, true),
+    A256GCM("A256GCM", "AES/GCM/NoPadding", KeyType.OCT_HSM, 256, 256, true),
     RSA_OAEP("RSA-OAEP", "RSA/None/OAEPWithSHA1AndMGF1Padding", KeyType.RSA, 2048, 4096),
     RSA_OAEP_256("RSA-OAEP-256", "RSA/None/OAEPWithSHA256AndMGF1Padding", KeyType.RSA, 2048, 4096),
     RSA1_5("RSA1_5", "RSA/None/PKCS1Padding", KeyType.RSA, 2048, 4096);
 
+    private static final Map<String, EncryptionAlgorithm> VALUES = Arrays.stream(values())
+            .collect(Collectors.collectingAndThen(
+                    Collectors.toMap(EncryptionAlgorithm::getValue, Function.identity()), Collections::unmodifiableMap));
     private final String value;
     private final String alg;
     private final KeyType compatibleType;
     private final int minKeySize;
     private final int maxKeySize;
+    private final boolean authenticated;
 
     EncryptionAlgorithm(final String value,
                         final String alg, final KeyType compatibleType,
                         final int minKeySize, final int maxKeySize) {
+        this(value, alg, compatibleType, minKeySize, maxKeySize, false);
+    }
+
+    EncryptionAlgorithm(final String value,
+                        final String alg, final KeyType compatibleType,
+                        final int minKeySize, final int maxKeySize,
+                        final boolean authenticated) {
         this.value = value;
         this.alg = alg;
         this.compatibleType = compatibleType;
         this.minKeySize = minKeySize;
         this.maxKeySize = maxKeySize;
+        this.authenticated = authenticated;
     }
 
     @JsonCreator
     public static EncryptionAlgorithm forValue(final String name) {
-        return Arrays.stream(values()).filter(algorithm -> algorithm.getValue().equals(name)).findFirst().orElse(null);
+        return VALUES.get(name);
     }
 
     @JsonValue
@@ -64,4 +83,9 @@ public enum EncryptionAlgorithm {
     public int getMaxKeySize() {
         return maxKeySize;
     }
+
+    @JsonIgnore
+    public boolean isAuthenticated() {
+        return authenticated;
+    }
 }
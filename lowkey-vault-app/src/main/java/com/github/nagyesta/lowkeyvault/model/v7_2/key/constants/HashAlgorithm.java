@@ -9,10 +9,8 @@ import org.bouncycastle.asn1.x509.DigestInfo;
 import org.springframework.util.Assert;
 
 import java.io.IOException;
-import java.lang.reflect.Array;
 import java.security.spec.MGF1ParameterSpec;
 import java.security.spec.PSSParameterSpec;
-import java.util.Optional;
 
 @SuppressWarnings({"checkstyle:JavadocVariable", "LombokGetterMayBeUsed"})
 public enum HashAlgorithm {
@@ -46,10 +44,8 @@ public enum HashAlgorithm {
     }
 
     public void verifyDigestLength(final byte[] digest) {
-        final int length = Optional.ofNullable(digest)
-                .map(Array::getLength)
-                .orElseThrow(() -> new IllegalArgumentException("Digest is null."));
-        Assert.isTrue(digestLength == length,
-                "This algorithm does not support digest length: " + length + ". Expected: " + digestLength);
+        Assert.notNull(digest, "Digest is null.");
+        Assert.isTrue(digestLength == digest.length,
+                () -> "This algorithm does not support digest length: " + digest.length + ". Expected: " + digestLength);
     }
 }
@@ -9,34 +9,20 @@ import java.io.IOException;
 import java.security.GeneralSecurityException;
 import java.security.Signature;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @SuppressWarnings("checkstyle:JavadocVariable")
 public enum SignatureAlgorithm {
 
-    ES256("ES256", "NONEwithECDSA", KeyType.EC, HashAlgorithm.SHA256) {
-        @Override
-        public boolean isCompatibleWithCurve(final KeyCurveName keyCurveName) {
-            return KeyCurveName.P_256 == keyCurveName;
-        }
-    },
-    ES256K("ES256K", "NONEwithECDSA", KeyType.EC, HashAlgorithm.SHA256) {
-        @Override
-        public boolean isCompatibleWithCurve(final KeyCurveName keyCurveName) {
-            return KeyCurveName.P_256K == keyCurveName;
-        }
-    },
-    ES384("ES384", "NONEwithECDSA", KeyType.EC, HashAlgorithm.SHA384) {
-        @Override
-        public boolean isCompatibleWithCurve(final KeyCurveName keyCurveName) {
-            return KeyCurveName.P_384 == keyCurveName;
-        }
-    },
-    ES512("ES512", "NONEwithECDSA", KeyType.EC, HashAlgorithm.SHA512) {
-        @Override
-        public boolean isCompatibleWithCurve(final KeyCurveName keyCurveName) {
-            return KeyCurveName.P_521 == keyCurveName;
-        }
-    },
+    ES256("ES256", "NONEwithECDSA", KeyType.EC, HashAlgorithm.SHA256, KeyCurveName.P_256),
+    ES256K("ES256K", "NONEwithECDSA", KeyType.EC, HashAlgorithm.SHA256, KeyCurveName.P_256K),
+    ES384("ES384", "NONEwithECDSA", KeyType.EC, HashAlgorithm.SHA384, KeyCurveName.P_384),
+    ES512("ES512", "NONEwithECDSA", KeyType.EC, HashAlgorithm.SHA512, KeyCurveName.P_521),
     PS256("PS256", "NONEwithRSAandMGF1", KeyType.RSA, HashAlgorithm.SHA256) {
         @Override
         public Signature getSignatureInstance() throws GeneralSecurityException {
@@ -80,24 +66,32 @@ public enum SignatureAlgorithm {
         }
     };
 
+    private static final Map<String, SignatureAlgorithm> VALUES = Arrays.stream(values())
+            .collect(Collectors.collectingAndThen(
+                    Collectors.toMap(SignatureAlgorithm::getValue, Function.identity()), Collections::unmodifiableMap));
     private final String value;
     private final String alg;
     private final KeyType compatibleType;
     private final HashAlgorithm hashAlgorithm;
+    private final Set<KeyCurveName> compatibleCurves;
 
     SignatureAlgorithm(final String value,
                        final String alg,
                        final KeyType compatibleType,
-                       final HashAlgorithm hashAlgorithm) {
+                       final HashAlgorithm hashAlgorithm,
+                       final KeyCurveName... compatibleCurves) {
         this.value = value;
         this.alg = alg;
         this.compatibleType = compatibleType;
         this.hashAlgorithm = hashAlgorithm;
+        final EnumSet<KeyCurveName> curves = EnumSet.noneOf(KeyCurveName.class);
+        Collections.addAll(curves, compatibleCurves);
+        this.compatibleCurves = Collections.unmodifiableSet(curves);
     }
 
     @JsonCreator
     public static SignatureAlgorithm forValue(final String name) {
-        return Arrays.stream(values()).filter(algorithm -> algorithm.getValue().equals(name)).findFirst().orElse(null);
+        return VALUES.get(name);
     }
 
     @JsonValue
@@ -117,7 +111,7 @@ public enum SignatureAlgorithm {
 
     @JsonIgnore
     public boolean isCompatibleWithCurve(final KeyCurveName keyCurveName) {
-        return false;
+        return compatibleCurves.contains(keyCurveName);
     }
 
     @JsonIgnore
@@ -11,7 +11,9 @@ import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.EncryptionAlgori
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
+import org.springframework.util.Assert;
 
+import java.io.InputStream;
 import java.util.Base64;
 import java.util.Optional;
 
@@ -20,6 +22,7 @@ import java.util.Optional;
 public class KeyOperationsParameters {
 
     private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final int NON_ASCII = 0x80;
 
     @JsonProperty("aad")
     @JsonSerialize(using = Base64Serializer.class)
@@ -45,10 +48,40 @@ public class KeyOperationsParameters {
     @JsonProperty("value")
     private String value;
 
+    /**
+     * Returns a stream decoding the value on the fly, without creating a decoded copy of the whole value.
+     *
+     * @return The stream of the decoded bytes.
+     */
+    @JsonIgnore
+    public InputStream getValueAsBase64DecodedStream() {
+        Assert.notNull(value, "Value must not be null.");
+        return DECODER.wrap(new CharSequenceInputStream(value));
+    }
+
     @JsonIgnore
     public byte[] getValueAsBase64DecodedBytes() {
         return Optional.ofNullable(value)
                 .map(DECODER::decode)
                 .orElse(null);
     }
+
+    private static final class CharSequenceInputStream extends InputStream {
+        private final CharSequence source;
+        private int position;
+
+        private CharSequenceInputStream(final CharSequence source) {
+            this.source = source;
+        }
+
+        @Override
+        public int read() {
+            int result = -1;
+            if (position < source.length()) {
+                //non-ASCII characters are mapped to an invalid byte to let the decoder reject them
+                result = Math.min(source.charAt(position++), NON_ASCII);
+            }
+            return result;
+        }
+    }
 }
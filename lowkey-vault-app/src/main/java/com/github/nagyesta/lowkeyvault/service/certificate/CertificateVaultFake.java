@@ -5,9 +5,12 @@ import com.github.nagyesta.lowkeyvault.service.certificate.id.CertificateEntityI
 import com.github.nagyesta.lowkeyvault.service.certificate.id.VersionedCertificateEntityId;
 import com.github.nagyesta.lowkeyvault.service.certificate.impl.CertificateCreationInput;
 import com.github.nagyesta.lowkeyvault.service.certificate.impl.CertificateImportInput;
+import com.github.nagyesta.lowkeyvault.service.certificate.impl.CertificateSigningCache;
 import com.github.nagyesta.lowkeyvault.service.common.BaseVaultFake;
 import lombok.NonNull;
 
+import java.util.List;
+
 public interface CertificateVaultFake
         extends BaseVaultFake<CertificateEntityId, VersionedCertificateEntityId, ReadOnlyKeyVaultCertificateEntity> {
     VersionedCertificateEntityId createCertificateVersion(@NonNull String name, @NonNull CertificateCreationInput input);
@@ -21,4 +24,36 @@ public interface CertificateVaultFake
     void setLifetimeActionPolicy(@NonNull LifetimeActionPolicy lifetimeActionPolicy);
 
     void regenerateCertificates();
+
+    /**
+     * Shifts the time of the certificates and their lifetime action policies. When the renewals are not requested, the
+     * caller must run the tasks returned by {@link #certificateRenewalTasks()} to perform the renewals which became due.
+     *
+     * @param offsetSeconds     The number of seconds to shift with.
+     * @param renewCertificates True if the due renewals should be performed on the calling thread.
+     */
+    void timeShift(int offsetSeconds, boolean renewCertificates);
+
+    /**
+     * Returns the cache of the reusable certificate signing objects of this vault.
+     *
+     * @return The cache.
+     */
+    CertificateSigningCache signingCache();
+
+    /**
+     * Creates one regeneration task for each certificate name (including the deleted certificates). The tasks regenerate
+     * the versions of their name in order while holding the lock of the name, therefore they can run in parallel.
+     *
+     * @return The tasks.
+     */
+    List<Runnable> certificateRegenerationTasks();
+
+    /**
+     * Creates one renewal task for each certificate name with an auto-renew lifetime action. The tasks generate the
+     * key pairs of the missed renewals before taking the lock of the name, therefore they can run in parallel.
+     *
+     * @return The tasks.
+     */
+    List<Runnable> certificateRenewalTasks();
 }
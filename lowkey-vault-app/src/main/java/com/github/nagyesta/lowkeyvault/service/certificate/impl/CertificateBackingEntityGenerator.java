@@ -2,10 +2,12 @@ package com.github.nagyesta.lowkeyvault.service.certificate.impl;
 
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyOperation;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.request.JsonWebKeyImportRequest;
+import com.github.nagyesta.lowkeyvault.service.common.impl.MemoizingSupplier;
 import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyAsymmetricKeyVaultKeyEntity;
 import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
 import com.github.nagyesta.lowkeyvault.service.key.impl.KeyCreateDetailedInput;
 import com.github.nagyesta.lowkeyvault.service.key.impl.KeyImportInput;
+import com.github.nagyesta.lowkeyvault.service.key.impl.KeyVaultKeyEntity;
 import com.github.nagyesta.lowkeyvault.service.secret.id.VersionedSecretEntityId;
 import com.github.nagyesta.lowkeyvault.service.secret.impl.KeyVaultSecretEntity;
 import com.github.nagyesta.lowkeyvault.service.secret.impl.SecretCreateInput;
@@ -25,10 +27,16 @@ public class CertificateBackingEntityGenerator {
         this.vaultFake = vaultFake;
     }
 
-    public VersionedKeyEntityId generateKeyPair(final ReadOnlyCertificatePolicy input) {
+    /**
+     * Generates the key pair of a new certificate without publishing it.
+     *
+     * @param input The policy of the certificate.
+     * @return The key version which can be published using {@link #publishKeyPair(KeyVaultKeyEntity)}.
+     */
+    public KeyVaultKeyEntity<?, ?> prepareKeyPair(final ReadOnlyCertificatePolicy input) {
         final OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
         final OffsetDateTime expiry = now.plusMonths(input.getValidityMonths());
-        return vaultFake.keyVaultFake().createKeyVersion(input.getName(), KeyCreateDetailedInput.builder()
+        return vaultFake.keyVaultFake().prepareKeyVersion(input.getName(), KeyCreateDetailedInput.builder()
                 .key(input.toKeyCreationInput())
                 .keyOperations(List.of(KeyOperation.SIGN, KeyOperation.VERIFY))
                 .notBefore(now)
@@ -38,16 +46,16 @@ public class CertificateBackingEntityGenerator {
                 .build());
     }
 
-    public VersionedKeyEntityId importKeyPair(
+    public KeyVaultKeyEntity<?, ?> prepareImportedKeyPair(
             final ReadOnlyCertificatePolicy input, final JsonWebKeyImportRequest keyImportRequest) {
-        return importKeyPair(new VersionedKeyEntityId(vaultFake.baseUri(), input.getName()), input, keyImportRequest, true);
+        return prepareImportedKeyPair(new VersionedKeyEntityId(vaultFake.baseUri(), input.getName()), input, keyImportRequest, true);
     }
 
-    public VersionedKeyEntityId importKeyPair(
+    public KeyVaultKeyEntity<?, ?> prepareImportedKeyPair(
             final VersionedKeyEntityId kid, final ReadOnlyCertificatePolicy input,
             final JsonWebKeyImportRequest keyImportRequest, final boolean enabled) {
         Assert.isTrue(kid.id().equals(input.getName()), "The key id must match the policy name.");
-        return vaultFake.keyVaultFake().importKeyVersion(kid, KeyImportInput.builder()
+        return vaultFake.keyVaultFake().prepareImportedKeyVersion(kid, KeyImportInput.builder()
                 .key(keyImportRequest)
                 .createdOn(input.getValidityStart())
                 .updatedOn(input.getValidityStart())
@@ -58,16 +66,55 @@ public class CertificateBackingEntityGenerator {
                 .build());
     }
 
+    public VersionedKeyEntityId publishKeyPair(final KeyVaultKeyEntity<?, ?> key) {
+        return vaultFake.keyVaultFake().publishKeyVersion(key);
+    }
+
     public VersionedSecretEntityId generateSecret(final ReadOnlyCertificatePolicy input,
                                                   final Certificate certificate,
                                                   final VersionedKeyEntityId kid,
                                                   final VersionedSecretEntityId sid) {
-        final KeyPair key = vaultFake.keyVaultFake().getEntities().getEntity(kid, ReadOnlyAsymmetricKeyVaultKeyEntity.class).getKey();
-        final String value = input.getContentType().asBase64CertificatePackage(certificate, key);
+        return generateSecret(input, certificatePackage(input, certificate, kid), sid);
+    }
+
+    /**
+     * Creates a supplier packaging the certificate and the key when the package is first needed.
+     *
+     * @param input       The policy defining the content type of the package.
+     * @param certificate The certificate.
+     * @param kid         The id of the key.
+     * @return The memoizing supplier of the Base64 encoded package.
+     */
+    public MemoizingSupplier<String> certificatePackage(final ReadOnlyCertificatePolicy input,
+                                                        final Certificate certificate,
+                                                        final VersionedKeyEntityId kid) {
+        return certificatePackage(input, certificate,
+                vaultFake.keyVaultFake().getEntities().getEntity(kid, ReadOnlyAsymmetricKeyVaultKeyEntity.class));
+    }
+
+    /**
+     * Creates a supplier packaging the certificate and the key when the package is first needed.
+     *
+     * @param input       The policy defining the content type of the package.
+     * @param certificate The certificate.
+     * @param keyEntity   The key version (might not be published yet).
+     * @return The memoizing supplier of the Base64 encoded package.
+     */
+    public MemoizingSupplier<String> certificatePackage(final ReadOnlyCertificatePolicy input,
+                                                        final Certificate certificate,
+                                                        final ReadOnlyAsymmetricKeyVaultKeyEntity keyEntity) {
+        final KeyPair key = keyEntity.getKey();
+        final CertContentType contentType = input.getContentType();
+        return new MemoizingSupplier<>(() -> contentType.asBase64CertificatePackage(certificate, key));
+    }
+
+    public VersionedSecretEntityId generateSecret(final ReadOnlyCertificatePolicy input,
+                                                  final MemoizingSupplier<String> certificatePackage,
+                                                  final VersionedSecretEntityId sid) {
         final OffsetDateTime start = input.getValidityStart();
         final OffsetDateTime expiry = start.plusMonths(input.getValidityMonths());
         return vaultFake.secretVaultFake().createSecretVersion(sid, SecretCreateInput.builder()
-                .value(value)
+                .lazyValue(certificatePackage)
                 .contentType(input.getContentType().getMimeType())
                 .createdOn(start)
                 .updatedOn(start)
@@ -1,61 +1,69 @@
 package com.github.nagyesta.lowkeyvault.service.certificate.impl;
 
-import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyType;
+import com.github.nagyesta.lowkeyvault.service.common.impl.MemoizingSupplier;
 import com.github.nagyesta.lowkeyvault.service.exception.CryptoException;
 import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyAsymmetricKeyVaultKeyEntity;
 import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
 import com.github.nagyesta.lowkeyvault.service.key.util.KeyGenUtil;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultFake;
 import lombok.NonNull;
-import org.bouncycastle.asn1.ASN1Encodable;
 import org.bouncycastle.asn1.ASN1ObjectIdentifier;
-import org.bouncycastle.asn1.DERSequence;
 import org.bouncycastle.asn1.pkcs.PKCSObjectIdentifiers;
-import org.bouncycastle.asn1.x500.RDN;
 import org.bouncycastle.asn1.x500.X500Name;
-import org.bouncycastle.asn1.x500.X500NameBuilder;
-import org.bouncycastle.asn1.x500.style.BCStyle;
-import org.bouncycastle.asn1.x500.style.IETFUtils;
-import org.bouncycastle.asn1.x509.*;
+import org.bouncycastle.asn1.x509.Extension;
+import org.bouncycastle.asn1.x509.ExtensionsGenerator;
 import org.bouncycastle.cert.CertIOException;
 import org.bouncycastle.cert.X509CertificateHolder;
 import org.bouncycastle.cert.X509v3CertificateBuilder;
 import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
 import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
-import org.bouncycastle.operator.ContentSigner;
 import org.bouncycastle.operator.OperatorCreationException;
-import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
 import org.bouncycastle.pkcs.PKCS10CertificationRequest;
 import org.bouncycastle.pkcs.PKCS10CertificationRequestBuilder;
 import org.bouncycastle.pkcs.jcajce.JcaPKCS10CertificationRequestBuilder;
 
-import java.io.IOException;
 import java.math.BigInteger;
 import java.security.KeyPair;
-import java.security.SecureRandom;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 public class CertificateGenerator {
     private static final int NUMBER_OF_BITS_SERIAL = 160;
+    private static final JcaX509CertificateConverter CERTIFICATE_CONVERTER = new JcaX509CertificateConverter()
+            .setProvider(KeyGenUtil.BOUNCY_CASTLE_PROVIDER);
     private final VaultFake vault;
     private final VersionedKeyEntityId kid;
-    private final SecureRandom secureRandom = new SecureRandom();
+    private final Supplier<ReadOnlyAsymmetricKeyVaultKeyEntity> keyResolver;
 
     public CertificateGenerator(@NonNull final VaultFake vault, @NonNull final VersionedKeyEntityId kid) {
+        this(vault, kid, () -> vault.keyVaultFake().getEntities().getEntity(kid, ReadOnlyAsymmetricKeyVaultKeyEntity.class));
+    }
+
+    /**
+     * Creates a generator using a key version which might not be published yet.
+     *
+     * @param vault The vault.
+     * @param key   The key version.
+     */
+    public CertificateGenerator(@NonNull final VaultFake vault, @NonNull final ReadOnlyAsymmetricKeyVaultKeyEntity key) {
+        this(vault, key.getId(), () -> key);
+    }
+
+    private CertificateGenerator(final VaultFake vault, final VersionedKeyEntityId kid,
+                                 final Supplier<ReadOnlyAsymmetricKeyVaultKeyEntity> keyResolver) {
         this.vault = vault;
         this.kid = kid;
+        this.keyResolver = keyResolver;
     }
 
     public X509Certificate generateCertificate(
             @NonNull final ReadOnlyCertificatePolicy input) throws CryptoException {
         try {
-            final ReadOnlyAsymmetricKeyVaultKeyEntity readOnlyKeyVaultKey = vault.keyVaultFake().getEntities()
-                    .getEntity(kid, ReadOnlyAsymmetricKeyVaultKeyEntity.class);
-            return generateCertificate(input, readOnlyKeyVaultKey.getKey());
+            final ReadOnlyAsymmetricKeyVaultKeyEntity readOnlyKeyVaultKey = keyResolver.get();
+            return generateCertificate(input, readOnlyKeyVaultKey);
         } catch (final Exception e) {
             throw new CryptoException("Failed to generate certificate.", e);
         }
@@ -64,15 +72,36 @@ public class CertificateGenerator {
     public PKCS10CertificationRequest generateCertificateSigningRequest(
             @NonNull final String name,
             @NonNull final X509Certificate certificate) throws CryptoException {
+        return lazyCertificateSigningRequest(name, certificate).get();
+    }
+
+    /**
+     * Resolves the key of the certificate immediately, but defers the generation of the CSR until it is first needed.
+     *
+     * @param name        The name of the certificate.
+     * @param certificate The certificate.
+     * @return The memoizing supplier of the CSR.
+     * @throws CryptoException When the key cannot be found.
+     */
+    public MemoizingSupplier<PKCS10CertificationRequest> lazyCertificateSigningRequest(
+            @NonNull final String name,
+            @NonNull final X509Certificate certificate) throws CryptoException {
         try {
-            final ReadOnlyAsymmetricKeyVaultKeyEntity readOnlyKeyVaultKey = vault.keyVaultFake().getEntities()
-                    .getEntity(kid, ReadOnlyAsymmetricKeyVaultKeyEntity.class);
-            final X500Name subject = generateSubject(certificate.getSubjectX500Principal().getName());
-            final KeyPair keyPair = readOnlyKeyVaultKey.getKey();
+            final ReadOnlyAsymmetricKeyVaultKeyEntity readOnlyKeyVaultKey = keyResolver.get();
             final CertificateAlgorithm algorithm = CertificateAlgorithm.forKeyType(readOnlyKeyVaultKey.getKeyType());
-            final ContentSigner signer = new JcaContentSignerBuilder(algorithm.getAlgorithm())
-                    .setProvider(KeyGenUtil.BOUNCY_CASTLE_PROVIDER)
-                    .build(keyPair.getPrivate());
+            return new MemoizingSupplier<>(() -> generateCertificateSigningRequest(name, certificate, readOnlyKeyVaultKey, algorithm));
+        } catch (final Exception e) {
+            throw new CryptoException("Failed to generate CSR for certificate with name: " + name, e);
+        }
+    }
+
+    private PKCS10CertificationRequest generateCertificateSigningRequest(
+            final String name, final X509Certificate certificate,
+            final ReadOnlyAsymmetricKeyVaultKeyEntity key, final CertificateAlgorithm algorithm) throws CryptoException {
+        try {
+            final CertificateSigningCache cache = signingCache(key);
+            final KeyPair keyPair = key.getKey();
+            final X500Name subject = cache.subject(certificate.getSubjectX500Principal().getName());
             final PKCS10CertificationRequestBuilder builder = new JcaPKCS10CertificationRequestBuilder(subject, keyPair.getPublic());
 
             Stream.<ASN1ObjectIdentifier>builder()
@@ -84,120 +113,48 @@ public class CertificateGenerator {
                     .add(Extension.basicConstraints)
                     .build().forEach(e -> addAttributeBasedOnCertificate(builder, certificate, e));
 
-            return builder.build(signer);
+            return cache.sign(kid, algorithm, keyPair, builder::build);
         } catch (final Exception e) {
             throw new CryptoException("Failed to generate CSR for certificate with name: " + name, e);
         }
     }
 
-    private X509Certificate generateCertificate(final ReadOnlyCertificatePolicy input, final KeyPair keyPair)
-            throws IOException, OperatorCreationException, CertificateException {
-
-        final X509v3CertificateBuilder builder = createCertificateBuilder(input, keyPair);
-
-        addExtensionOptionally(builder, Extension.subjectAlternativeName, false, generateSubjectAlternativeNames(input));
-        addExtensionQuietly(builder, Extension.keyUsage, true, generateKeyUsage(input).getEncoded());
-        addExtensionOptionally(builder, Extension.extendedKeyUsage, false, convertUsageExtensions(input));
+    private X509Certificate generateCertificate(final ReadOnlyCertificatePolicy input, final ReadOnlyAsymmetricKeyVaultKeyEntity key)
+            throws OperatorCreationException, CertificateException {
+        final CertificateSigningCache cache = signingCache(key);
+        final KeyPair keyPair = key.getKey();
+        final CertificateTemplate template = cache.template(input);
+        final X509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(template.subject(), generateSerial(),
+                input.certNotBefore(), input.certExpiry(), template.subject(), keyPair.getPublic());
+        template.extensions().forEach(extension -> addExtensionQuietly(builder, extension));
 
-        final X509CertificateHolder holder = buildCertificate(builder, input.getKeyType(), keyPair);
-
-        final JcaX509CertificateConverter converter = new JcaX509CertificateConverter();
-        converter.setProvider(KeyGenUtil.BOUNCY_CASTLE_PROVIDER);
-        return converter.getCertificate(holder);
-    }
-
-    @org.springframework.lang.NonNull
-    private KeyUsage generateKeyUsage(final ReadOnlyCertificatePolicy input) {
-        return Objects.requireNonNullElse(input.getKeyUsage(), Collections.<KeyUsageEnum>emptyList())
-                .stream().collect(KeyUsageEnum.toKeyUsage());
+        final CertificateAlgorithm algorithm = CertificateAlgorithm.forKeyType(input.getKeyType());
+        final X509CertificateHolder holder = cache.sign(kid, algorithm, keyPair, builder::build);
+        return CERTIFICATE_CONVERTER.getCertificate(holder);
     }
 
-    private ExtendedKeyUsage convertUsageExtensions(final ReadOnlyCertificatePolicy input) {
-        ExtendedKeyUsage result = null;
-        if (input.getExtendedKeyUsage() != null && !input.getExtendedKeyUsage().isEmpty()) {
-            result = new ExtendedKeyUsage(input.getExtendedKeyUsage()
-                    .stream()
-                    .map(ASN1ObjectIdentifier::new)
-                    .map(KeyPurposeId::getInstance)
-                    .toList()
-                    .toArray(new KeyPurposeId[]{}));
-        }
-        return result;
-    }
-
-    private X509v3CertificateBuilder createCertificateBuilder(
-            final ReadOnlyCertificatePolicy input, final KeyPair keyPair) throws IOException {
-        final X500Name subject = generateSubject(input.getSubject());
-        final X509v3CertificateBuilder certificate = new JcaX509v3CertificateBuilder(
-                subject, generateSerial(), input.certNotBefore(), input.certExpiry(), subject, keyPair.getPublic());
-
-        addExtensionOptionally(certificate, Extension.basicConstraints, true, new BasicConstraints(true));
-        return certificate;
+    /**
+     * Returns the signing cache of the vault and makes sure that the cached signers of the key version are dropped
+     * when the key version is deleted or purged.
+     *
+     * @param key The key version used for signing.
+     * @return The cache.
+     */
+    private CertificateSigningCache signingCache(final ReadOnlyAsymmetricKeyVaultKeyEntity key) {
+        final CertificateSigningCache cache = vault.certificateVaultFake().signingCache();
+        key.addReleaseListener(cache, () -> cache.invalidate(kid));
+        return cache;
     }
 
     private BigInteger generateSerial() {
-        return new BigInteger(NUMBER_OF_BITS_SERIAL, secureRandom);
-    }
-
-    private X509CertificateHolder buildCertificate(
-            final X509v3CertificateBuilder certificate, final KeyType keyType, final KeyPair keyPair)
-            throws OperatorCreationException {
-        final ContentSigner signer = new JcaContentSignerBuilder(CertificateAlgorithm.forKeyType(keyType).getAlgorithm())
-                .setProvider(KeyGenUtil.BOUNCY_CASTLE_PROVIDER)
-                .build(keyPair.getPrivate());
-        return certificate.build(signer);
-    }
-
-    private X500Name generateSubject(final String nameAsString) {
-        final RDN[] rdns = IETFUtils.rDNsFromString(nameAsString, BCStyle.INSTANCE);
-        final X500NameBuilder x500NameBuilder = new X500NameBuilder(BCStyle.INSTANCE);
-        Arrays.stream(rdns).map(RDN::getTypesAndValues).forEach(x500NameBuilder::addMultiValuedRDN);
-        return x500NameBuilder.build();
-    }
-
-    private GeneralNames generateSubjectAlternativeNames(final ReadOnlyCertificatePolicy input) {
-        final GeneralName[] names = generateSubjectAlternativeNamesArray(input);
-        GeneralNames result = null;
-        if (names.length > 0) {
-            result = GeneralNames.getInstance(new DERSequence(names));
-        }
-        return result;
-    }
-
-    private GeneralName[] generateSubjectAlternativeNamesArray(final ReadOnlyCertificatePolicy input) {
-        final List<GeneralName> emails = Objects.requireNonNullElse(input.getEmails(), Collections.<String>emptyList()).stream()
-                .map(email -> new GeneralName(GeneralName.rfc822Name, email))
-                .collect(Collectors.toList());
-        final List<GeneralName> dnsNames = Objects.requireNonNullElse(input.getDnsNames(), Collections.<String>emptyList()).stream()
-                .map(dns -> new GeneralName(GeneralName.dNSName, dns))
-                .collect(Collectors.toList());
-        final List<GeneralName> ips = Objects.requireNonNullElse(input.getUpns(), Collections.<String>emptyList()).stream()
-                .map(ip -> new GeneralName(GeneralName.iPAddress, ip))
-                .collect(Collectors.toList());
-        final List<GeneralName> subjectAlternativeNames = Stream.of(emails, dnsNames, ips)
-                .flatMap(List::stream)
-                .toList();
-        return subjectAlternativeNames.toArray(new GeneralName[]{});
-    }
-
-    private void addExtensionOptionally(final X509v3CertificateBuilder builder,
-                                        final ASN1ObjectIdentifier name,
-                                        final boolean isCritical,
-                                        final ASN1Encodable value) throws IOException {
-            if (value == null) {
-                return;
-            }
-            addExtensionQuietly(builder, name, isCritical, value.toASN1Primitive().getEncoded());
+        return new BigInteger(NUMBER_OF_BITS_SERIAL, KeyGenUtil.secureRandom());
     }
 
-    private void addExtensionQuietly(final X509v3CertificateBuilder builder,
-                                     final ASN1ObjectIdentifier name,
-                                     final boolean isCritical,
-                                     final byte[] value) {
+    private void addExtensionQuietly(final X509v3CertificateBuilder builder, final Extension extension) {
         try {
-            builder.addExtension(name, isCritical, value);
+            builder.addExtension(extension);
         } catch (final CertIOException e) {
-            throw new CryptoException("Failed to add extension: " + name, e);
+            throw new CryptoException("Failed to add extension: " + extension.getExtnId(), e);
         }
     }
 
@@ -38,9 +38,16 @@ public class CertificateImportInput {
                                   @Nullable final String password,
                                   @NonNull final CertContentType contentType,
                                   @NonNull final CertificatePolicyModel policyModel) {
+        this(name, parseContent(name, certificateContent, password, contentType, policyModel), contentType, policyModel);
+    }
+
+    public CertificateImportInput(@NonNull final String name,
+                                  @NonNull final ParsedCertificateContent parsedContent,
+                                  @NonNull final CertContentType contentType,
+                                  @NonNull final CertificatePolicyModel policyModel) {
         this.name = name;
-        this.certificate = (X509Certificate) contentType.getCertificateChain(certificateContent, password).get(0);
-        this.keyData = contentType.getKey(certificateContent, password);
+        this.certificate = parsedContent.certificate();
+        this.keyData = parsedContent.key();
         this.policyModel = policyModel;
         this.parsedCertificateData = parsedInputBuilder(name, contentType, certificate, keyData, policyModel).build();
         this.certificateData = mergePolicies(this.parsedCertificateData, policyModel);
@@ -53,6 +60,17 @@ public class CertificateImportInput {
                 .ifPresent(actions -> validateLifetimeActionList(validityMonths, actions, certAuthorityType));
     }
 
+    private static ParsedCertificateContent parseContent(
+            final String name, final String certificateContent, final String password,
+            final CertContentType contentType, final CertificatePolicyModel policyModel) {
+        //the delegating constructor would check these only after parsing
+        Assert.notNull(name, "name cannot be null.");
+        Assert.notNull(certificateContent, "certificateContent cannot be null.");
+        Assert.notNull(contentType, "contentType cannot be null.");
+        Assert.notNull(policyModel, "policyModel cannot be null.");
+        return contentType.parse(certificateContent, password);
+    }
+
     private static void validateLifetimeActionList(
             final int validityMonths, final List<CertificateLifetimeActionModel> actions, final CertAuthorityType certAuthorityType) {
         Assert.isTrue(actions.size() < 2, "Only 0 or 1 lifetime actions are allowed.");
@@ -0,0 +1,138 @@
+package com.github.nagyesta.lowkeyvault.service.certificate.impl;
+
+import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
+import com.github.nagyesta.lowkeyvault.service.key.util.KeyGenUtil;
+import lombok.NonNull;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.operator.ContentSigner;
+import org.bouncycastle.operator.OperatorCreationException;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.springframework.util.Assert;
+
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Bounded, least recently used cache of the reusable parts of certificate generation: the content signers per key
+ * version and algorithm, the certificate templates per policy and the parsed subjects. A content signer is not
+ * thread-safe, therefore it is used by a single thread at a time and dropped if signing fails.
+ * <br/>
+ * Each certificate vault owns its own cache, the signers of a key version are invalidated when the resources of the key
+ * version are released (it is deleted or purged) to avoid keeping private keys alive after they are gone.
+ */
+public final class CertificateSigningCache {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75F;
+
+    private record SignerKey(VersionedKeyEntityId kid, CertificateAlgorithm algorithm) {
+    }
+
+    private record CachedSigner(PrivateKey privateKey, ContentSigner signer) {
+    }
+
+    private record TemplateKey(String subject, Set<String> emails, Set<String> dnsNames, Set<String> upns,
+                               Set<KeyUsageEnum> keyUsage, Set<String> extendedKeyUsage) {
+
+        static TemplateKey of(final ReadOnlyCertificatePolicy policy) {
+            return new TemplateKey(policy.getSubject(),
+                    copyOrEmpty(policy.getEmails()), copyOrEmpty(policy.getDnsNames()), copyOrEmpty(policy.getUpns()),
+                    copyOrEmpty(policy.getKeyUsage()), copyOrEmpty(policy.getExtendedKeyUsage()));
+        }
+
+        private static <T> Set<T> copyOrEmpty(final Set<T> set) {
+            return Set.copyOf(Objects.requireNonNullElse(set, Collections.emptySet()));
+        }
+    }
+
+    private final Map<SignerKey, CachedSigner> signers;
+    private final Map<TemplateKey, CertificateTemplate> templates;
+    private final Map<String, X500Name> subjects;
+
+    CertificateSigningCache(final int maxEntries) {
+        Assert.isTrue(maxEntries > 0, "Max entries must be positive.");
+        this.signers = lruMap(maxEntries);
+        this.templates = lruMap(maxEntries);
+        this.subjects = lruMap(maxEntries);
+    }
+
+    /**
+     * Returns the template of the policy, creating it on the first call with an equivalent policy.
+     *
+     * @param policy The policy.
+     * @return The template.
+     */
+    CertificateTemplate template(@NonNull final ReadOnlyCertificatePolicy policy) {
+        return templates.computeIfAbsent(TemplateKey.of(policy), k -> CertificateTemplate.of(policy));
+    }
+
+    /**
+     * Returns the parsed subject, parsing it only on the first call with the same value.
+     *
+     * @param subject The subject in string form.
+     * @return The parsed subject.
+     */
+    X500Name subject(@NonNull final String subject) {
+        return subjects.computeIfAbsent(subject, CertificateTemplate::parseSubject);
+    }
+
+    /**
+     * Signs using the cached signer of the key version and algorithm. The signer is rebuilt if the key pair of the
+     * version has been replaced (for example by a restore) since it was cached.
+     *
+     * @param kid       The id of the key version.
+     * @param algorithm The signature algorithm.
+     * @param keyPair   The key pair of the key version.
+     * @param action    The action producing the signed result.
+     * @param <R>       The type of the result.
+     * @return The result of the action.
+     * @throws OperatorCreationException When the signer cannot be created.
+     */
+    <R> R sign(@NonNull final VersionedKeyEntityId kid,
+               @NonNull final CertificateAlgorithm algorithm,
+               @NonNull final KeyPair keyPair,
+               @NonNull final Function<ContentSigner, R> action) throws OperatorCreationException {
+        final SignerKey key = new SignerKey(kid, algorithm);
+        CachedSigner cached = signers.get(key);
+        if (cached == null || cached.privateKey() != keyPair.getPrivate()) {
+            cached = new CachedSigner(keyPair.getPrivate(), new JcaContentSignerBuilder(algorithm.getAlgorithm())
+                    .setProvider(KeyGenUtil.BOUNCY_CASTLE_PROVIDER)
+                    .build(keyPair.getPrivate()));
+            signers.put(key, cached);
+        }
+        synchronized (cached) {
+            try {
+                return action.apply(cached.signer());
+            } catch (final RuntimeException e) {
+                signers.remove(key, cached);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Drops the cached signers of the key version.
+     *
+     * @param kid The id of the key version.
+     */
+    void invalidate(@NonNull final VersionedKeyEntityId kid) {
+        synchronized (signers) {
+            signers.keySet().removeIf(key -> key.kid().equals(kid));
+        }
+    }
+
+    int signerCount() {
+        return signers.size();
+    }
+
+    private static <K, V> Map<K, V> lruMap(final int maxEntries) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.nagyesta.lowkeyvault.service.certificate.impl;
+
+import lombok.NonNull;
+import org.bouncycastle.asn1.ASN1Encodable;
+import org.bouncycastle.asn1.ASN1ObjectIdentifier;
+import org.bouncycastle.asn1.DERSequence;
+import org.bouncycastle.asn1.x500.RDN;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.asn1.x500.X500NameBuilder;
+import org.bouncycastle.asn1.x500.style.BCStyle;
+import org.bouncycastle.asn1.x500.style.IETFUtils;
+import org.bouncycastle.asn1.x509.*;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * The parts of a certificate which depend only on the policy: the parsed subject and the encoded extensions.
+ * Renewals of the same policy can reuse the template and only set the validity window, serial number and key.
+ *
+ * @param subject    The parsed subject (used as issuer as well).
+ * @param extensions The encoded extensions in the order they are added to the certificate.
+ */
+record CertificateTemplate(X500Name subject, List<Extension> extensions) {
+
+    CertificateTemplate {
+        extensions = List.copyOf(extensions);
+    }
+
+    static CertificateTemplate of(@NonNull final ReadOnlyCertificatePolicy input) {
+        try {
+            final List<Extension> extensions = new ArrayList<>();
+            addExtensionOptionally(extensions, Extension.basicConstraints, true, new BasicConstraints(true));
+            addExtensionOptionally(extensions, Extension.subjectAlternativeName, false, generateSubjectAlternativeNames(input));
+            addExtensionOptionally(extensions, Extension.keyUsage, true, generateKeyUsage(input));
+            addExtensionOptionally(extensions, Extension.extendedKeyUsage, false, convertUsageExtensions(input));
+            return new CertificateTemplate(parseSubject(input.getSubject()), extensions);
+        } catch (final IOException e) {
+            throw new IllegalArgumentException("Failed to encode certificate extensions of: " + input.getName(), e);
+        }
+    }
+
+    static X500Name parseSubject(@NonNull final String nameAsString) {
+        final RDN[] rdns = IETFUtils.rDNsFromString(nameAsString, BCStyle.INSTANCE);
+        final X500NameBuilder x500NameBuilder = new X500NameBuilder(BCStyle.INSTANCE);
+        Arrays.stream(rdns).map(RDN::getTypesAndValues).forEach(x500NameBuilder::addMultiValuedRDN);
+        return x500NameBuilder.build();
+    }
+
+    private static KeyUsage generateKeyUsage(final ReadOnlyCertificatePolicy input) {
+        return Objects.requireNonNullElse(input.getKeyUsage(), Collections.<KeyUsageEnum>emptySet())
+                .stream().collect(KeyUsageEnum.toKeyUsage());
+    }
+
+    private static ExtendedKeyUsage convertUsageExtensions(final ReadOnlyCertificatePolicy input) {
+        ExtendedKeyUsage result = null;
+        if (input.getExtendedKeyUsage() != null && !input.getExtendedKeyUsage().isEmpty()) {
+            result = new ExtendedKeyUsage(input.getExtendedKeyUsage()
+                    .stream()
+                    .map(ASN1ObjectIdentifier::new)
+                    .map(KeyPurposeId::getInstance)
+                    .toList()
+                    .toArray(new KeyPurposeId[]{}));
+        }
+        return result;
+    }
+
+    private static GeneralNames generateSubjectAlternativeNames(final ReadOnlyCertificatePolicy input) {
+        final GeneralName[] names = generateSubjectAlternativeNamesArray(input);
+        GeneralNames result = null;
+        if (names.length > 0) {
+            result = GeneralNames.getInstance(new DERSequence(names));
+        }
+        return result;
+    }
+
+    private static GeneralName[] generateSubjectAlternativeNamesArray(final ReadOnlyCertificatePolicy input) {
+        final List<GeneralName> emails = Objects.requireNonNullElse(input.getEmails(), Collections.<String>emptySet()).stream()
+                .map(email -> new GeneralName(GeneralName.rfc822Name, email))
+                .toList();
+        final List<GeneralName> dnsNames = Objects.requireNonNullElse(input.getDnsNames(), Collections.<String>emptySet()).stream()
+                .map(dns -> new GeneralName(GeneralName.dNSName, dns))
+                .toList();
+        final List<GeneralName> ips = Objects.requireNonNullElse(input.getUpns(), Collections.<String>emptySet()).stream()
+                .map(ip -> new GeneralName(GeneralName.iPAddress, ip))
+                .toList();
+        return Stream.of(emails, dnsNames, ips)
+                .flatMap(List::stream)
+                .toArray(GeneralName[]::new);
+    }
+
+    private static void addExtensionOptionally(final List<Extension> extensions,
+                                               final ASN1ObjectIdentifier name,
+                                               final boolean isCritical,
+                                               final ASN1Encodable value) throws IOException {
+        if (value != null) {
+            extensions.add(new Extension(name, isCritical, value.toASN1Primitive().getEncoded()));
+        }
+    }
+}
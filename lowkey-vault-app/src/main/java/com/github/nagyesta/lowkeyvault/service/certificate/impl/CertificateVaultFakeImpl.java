@@ -7,28 +7,35 @@ import com.github.nagyesta.lowkeyvault.service.certificate.LifetimeActionPolicy;
 import com.github.nagyesta.lowkeyvault.service.certificate.ReadOnlyKeyVaultCertificateEntity;
 import com.github.nagyesta.lowkeyvault.service.certificate.id.CertificateEntityId;
 import com.github.nagyesta.lowkeyvault.service.certificate.id.VersionedCertificateEntityId;
-import com.github.nagyesta.lowkeyvault.service.common.ReadOnlyVersionedEntityMultiMap;
 import com.github.nagyesta.lowkeyvault.service.common.impl.BaseVaultFakeImpl;
 import com.github.nagyesta.lowkeyvault.service.key.KeyVaultFake;
-import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyKeyVaultKeyEntity;
 import com.github.nagyesta.lowkeyvault.service.key.id.KeyEntityId;
 import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
-import com.github.nagyesta.lowkeyvault.service.key.impl.KeyVaultKeyEntity;
 import com.github.nagyesta.lowkeyvault.service.secret.id.SecretEntityId;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultFake;
 import lombok.NonNull;
 
+import java.security.KeyPair;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 public class CertificateVaultFakeImpl
         extends BaseVaultFakeImpl<CertificateEntityId, VersionedCertificateEntityId,
         ReadOnlyKeyVaultCertificateEntity, KeyVaultCertificateEntity>
         implements CertificateVaultFake {
 
+    private static final int MAX_CACHED_SIGNING_ENTRIES = 1024;
     private final ConcurrentMap<String, LifetimeActionPolicy> lifetimeActionPolicies = new ConcurrentHashMap<>();
+    private final CertificateSigningCache signingCache = new CertificateSigningCache(MAX_CACHED_SIGNING_ENTRIES);
 
     public CertificateVaultFakeImpl(@org.springframework.lang.NonNull final VaultFake vaultFake,
                                     @org.springframework.lang.NonNull final RecoveryLevel recoveryLevel,
@@ -44,58 +51,128 @@ public class CertificateVaultFakeImpl
     @Override
     public VersionedCertificateEntityId createCertificateVersion(
             @NonNull final String name, @NonNull final CertificateCreationInput input) {
-        final KeyVaultCertificateEntity entity = new KeyVaultCertificateEntity(name, input, vaultFake());
-        return addVersion(entity.getId(), entity);
+        //the key pair and the certificate are generated without holding the lock of the name
+        return publishCertificateVersion(new KeyVaultCertificateEntity(name, input, vaultFake()));
     }
 
     @Override
     public VersionedCertificateEntityId importCertificateVersion(
             @NonNull final String name, @NonNull final CertificateImportInput input) {
-        final KeyVaultCertificateEntity entity = new KeyVaultCertificateEntity(
-                name, input, vaultFake());
-        return addVersion(entity.getId(), entity);
+        return publishCertificateVersion(new KeyVaultCertificateEntity(name, input, vaultFake()));
     }
 
     @Override
     public void restoreCertificateVersion(
             @NonNull final VersionedCertificateEntityId versionedEntityId, @NonNull final CertificateRestoreInput input) {
-        final KeyVaultCertificateEntity entity = new KeyVaultCertificateEntity(versionedEntityId, input, vaultFake());
-        addVersion(entity.getId(), entity);
+        publishCertificateVersion(new KeyVaultCertificateEntity(versionedEntityId, input, vaultFake()));
+    }
+
+    /**
+     * Publishes the key, the secret and the certificate versions while holding the lock of the name, therefore a
+     * concurrent delete, recover or purge of the same name either sees all of them or none.
+     *
+     * @param entity The new certificate version.
+     * @return The id of the new version.
+     */
+    private VersionedCertificateEntityId publishCertificateVersion(final KeyVaultCertificateEntity entity) {
+        return callLocked(entity.getId().id(), () -> {
+            assertNoConflict(entity.getId());
+            entity.publishBackingEntities();
+            return addVersion(entity.getId(), entity);
+        });
+    }
+
+    @Override
+    public CertificateSigningCache signingCache() {
+        return signingCache;
     }
 
     @Override
     public void timeShift(final int offsetSeconds) {
+        timeShift(offsetSeconds, true);
+    }
+
+    @Override
+    public void timeShift(final int offsetSeconds, final boolean renewCertificates) {
         super.timeShift(offsetSeconds);
         lifetimeActionPolicies.values().forEach(p -> p.timeShift(offsetSeconds));
-        performPastRenewals();
+        if (renewCertificates) {
+            certificateRenewalTasks().forEach(Runnable::run);
+        }
     }
 
-    private void performPastRenewals() {
+    @Override
+    public List<Runnable> certificateRenewalTasks() {
         purgeDeletedPolicies();
-        lifetimeActionPolicies.values().stream()
+        return lifetimeActionPolicies.values().stream()
                 .filter(LifetimeActionPolicy::isAutoRenew)
                 .filter(l -> getEntities().containsName(l.getId().id()))
-                .forEach(this::performMissedRenewalsOfPolicy);
+                .<Runnable>map(l -> () -> {
+                    //the certificate might have been deleted since the task was created
+                    if (getEntities().containsName(l.getId().id())) {
+                        performMissedRenewalsOfPolicy(l);
+                    }
+                })
+                .toList();
     }
 
     private void performMissedRenewalsOfPolicy(final LifetimeActionPolicy lifetimeActionPolicy) {
         final CertificateEntityId certificateEntityId = lifetimeActionPolicy.getId();
-        final VersionedCertificateEntityId latestVersionOfEntity = getEntities().getLatestVersionOfEntity(certificateEntityId);
-        final ReadOnlyKeyVaultCertificateEntity readOnlyEntity = getEntities().getReadOnlyEntity(latestVersionOfEntity);
+        //the key pairs are generated before taking the lock of the name
+        final ReadOnlyKeyVaultCertificateEntity planned = latestReadOnlyCertificateVersion(certificateEntityId);
+        final List<KeyPair> keyPairs = generateRenewalKeyPairs(
+                planned.getIssuancePolicy(), missedRenewalTimes(lifetimeActionPolicy, planned).size());
+        //the whole batch is inserted while holding the lock of the name to avoid interleaving with other changes
+        runLocked(certificateEntityId.id(), () -> {
+            final ReadOnlyKeyVaultCertificateEntity latest = latestReadOnlyCertificateVersion(certificateEntityId);
+            final List<OffsetDateTime> renewalTimes = missedRenewalTimes(lifetimeActionPolicy, latest);
+            if (!renewalTimes.isEmpty()) {
+                renewCertificate(latest.getIssuancePolicy(), renewalTimes, keyPairs);
+            }
+        });
+    }
+
+    private List<OffsetDateTime> missedRenewalTimes(
+            final LifetimeActionPolicy lifetimeActionPolicy, final ReadOnlyKeyVaultCertificateEntity latest) {
+        final ReadOnlyCertificatePolicy issuancePolicy = latest.getIssuancePolicy();
         final Function<OffsetDateTime, OffsetDateTime> createdToExpiryFunction = s -> s
-                .plusMonths(readOnlyEntity.getIssuancePolicy().getValidityMonths());
-        lifetimeActionPolicy.missedRenewalDays(readOnlyEntity.getCreated(), createdToExpiryFunction)
-                .forEach(renewalTime -> simulatePointInTimeRotation(certificateEntityId, renewalTime));
+                .plusMonths(issuancePolicy.getValidityMonths());
+        return lifetimeActionPolicy.missedRenewalDays(latest.getCreated(), createdToExpiryFunction);
+    }
+
+    private List<KeyPair> generateRenewalKeyPairs(final ReadOnlyCertificatePolicy issuancePolicy, final int count) {
+        final List<KeyPair> keyPairs;
+        if (!issuancePolicy.isReuseKeyOnRenewal() && count > 0) {
+            final KeyEntityId keyEntityId = new KeyEntityId(vaultFake().baseUri(), issuancePolicy.getName());
+            keyPairs = vaultFake().keyVaultFake().generateRotationKeyPairs(keyEntityId, count);
+        } else {
+            keyPairs = Collections.emptyList();
+        }
+        return keyPairs;
     }
 
-    private void simulatePointInTimeRotation(final CertificateEntityId certificateEntityId, final OffsetDateTime renewalTime) {
-        final ReadOnlyKeyVaultCertificateEntity latest = latestReadOnlyCertificateVersion(certificateEntityId);
-        final CertificatePolicy input = new CertificatePolicy(latest.getIssuancePolicy());
-        input.setValidityStart(renewalTime);
-        final VersionedKeyEntityId kid = rotateIfNeededAndGetLastKeyId(input);
-        final VersionedCertificateEntityId id = generateIdOfNewCertificateEntity(input, kid);
-        final KeyVaultCertificateEntity entity = new KeyVaultCertificateEntity(input, kid, id, vaultFake());
-        addVersion(entity.getId(), entity);
+    /**
+     * Renews the certificate once for each renewal time. The key versions are published together first (as the
+     * certificates are signed using them), then every certificate version is generated before they are published
+     * together as well.
+     *
+     * @param issuancePolicy The issuance policy of the latest version.
+     * @param renewalTimes   The validity start of each renewal in order.
+     * @param keyPairs       The key pairs generated in advance.
+     */
+    private void renewCertificate(final ReadOnlyCertificatePolicy issuancePolicy,
+                                  final List<OffsetDateTime> renewalTimes,
+                                  final List<KeyPair> keyPairs) {
+        final List<VersionedKeyEntityId> kids = renewKeys(issuancePolicy, renewalTimes, keyPairs);
+        final List<KeyVaultCertificateEntity> newVersions = new ArrayList<>(renewalTimes.size());
+        for (int i = 0; i < renewalTimes.size(); i++) {
+            final CertificatePolicy input = new CertificatePolicy(issuancePolicy);
+            input.setValidityStart(renewalTimes.get(i));
+            final VersionedKeyEntityId kid = kids.get(i);
+            final VersionedCertificateEntityId id = generateIdOfNewCertificateEntity(input, kid);
+            newVersions.add(new KeyVaultCertificateEntity(input, kid, id, vaultFake()));
+        }
+        addVersions(issuancePolicy.getName(), newVersions);
     }
 
     private VersionedCertificateEntityId generateIdOfNewCertificateEntity(
@@ -109,52 +186,54 @@ public class CertificateVaultFakeImpl
         return id;
     }
 
-    private VersionedKeyEntityId rotateIfNeededAndGetLastKeyId(final ReadOnlyCertificatePolicy input) {
+    private List<VersionedKeyEntityId> renewKeys(final ReadOnlyCertificatePolicy issuancePolicy,
+                                                 final List<OffsetDateTime> renewalTimes,
+                                                 final List<KeyPair> keyPairs) {
         final KeyVaultFake keyVaultFake = vaultFake().keyVaultFake();
-        final ReadOnlyVersionedEntityMultiMap<KeyEntityId, VersionedKeyEntityId, ReadOnlyKeyVaultKeyEntity> entities = keyVaultFake
-                .getEntities();
-        final VersionedKeyEntityId versionedKeyEntityId;
-        if (input.isReuseKeyOnRenewal()) {
-            final String lastVersion = entities.getVersions(new KeyEntityId(vaultFake().baseUri(), input.getName())).getLast();
-            versionedKeyEntityId = new VersionedKeyEntityId(vaultFake().baseUri(), input.getName(), lastVersion);
-            final OffsetDateTime notBefore = entities.getReadOnlyEntity(versionedKeyEntityId)
+        final KeyEntityId keyEntityId = new KeyEntityId(vaultFake().baseUri(), issuancePolicy.getName());
+        final UnaryOperator<OffsetDateTime> expiryFunction = start -> start.plusMonths(issuancePolicy.getValidityMonths());
+        final List<VersionedKeyEntityId> kids;
+        if (issuancePolicy.isReuseKeyOnRenewal()) {
+            final VersionedKeyEntityId versionedKeyEntityId = keyVaultFake.getEntities().getLatestVersionOfEntity(keyEntityId);
+            final OffsetDateTime notBefore = keyVaultFake.getEntities().getReadOnlyEntity(versionedKeyEntityId)
                     .getNotBefore().orElseThrow(() -> new IllegalStateException("Managed keys should always have notBefore timestamps."));
-            final OffsetDateTime newExpiry = input.getValidityStart().plusMonths(input.getValidityMonths());
-            //extend expiry until the certificate expiry
-            keyVaultFake.setExpiry(versionedKeyEntityId, notBefore, newExpiry);
+            //extend expiry until the expiry of the last certificate
+            keyVaultFake.setExpiry(versionedKeyEntityId, notBefore, expiryFunction.apply(renewalTimes.get(renewalTimes.size() - 1)));
+            kids = Collections.nCopies(renewalTimes.size(), versionedKeyEntityId);
         } else {
-            versionedKeyEntityId = keyVaultFake.rotateKey(new KeyEntityId(vaultFake().baseUri(), input.getName()));
-            //update timestamps
-            final OffsetDateTime notBefore = input.getValidityStart();
-            final OffsetDateTime expiry = notBefore.plusMonths(input.getValidityMonths());
-            keyVaultFake.setExpiry(versionedKeyEntityId, notBefore, expiry);
-            final KeyVaultKeyEntity<?, ?> entity = keyVaultFake.getEntities().getEntity(versionedKeyEntityId, KeyVaultKeyEntity.class);
-            entity.setManaged(true);
-            entity.setCreatedOn(notBefore);
-            entity.setUpdatedOn(notBefore);
+            final List<KeyPair> renewalKeyPairs = new ArrayList<>(keyPairs.subList(0, Math.min(keyPairs.size(), renewalTimes.size())));
+            //only needed if more renewals became due since the key pairs were generated
+            renewalKeyPairs.addAll(keyVaultFake.generateRotationKeyPairs(keyEntityId, renewalTimes.size() - renewalKeyPairs.size()));
+            kids = keyVaultFake.rotateManagedKey(keyEntityId, renewalKeyPairs, renewalTimes, expiryFunction);
         }
-        return versionedKeyEntityId;
+        return kids;
     }
 
     @Override
     public void delete(@NonNull final CertificateEntityId entityId) {
-        super.delete(entityId);
-        vaultFake().keyVaultFake().delete(toKeyEntityId(entityId));
-        vaultFake().secretVaultFake().delete(toSecretEntityId(entityId));
+        runLocked(entityId.id(), () -> {
+            super.delete(entityId);
+            vaultFake().keyVaultFake().delete(toKeyEntityId(entityId));
+            vaultFake().secretVaultFake().delete(toSecretEntityId(entityId));
+        });
     }
 
     @Override
     public void recover(@NonNull final CertificateEntityId entityId) {
-        super.recover(entityId);
-        vaultFake().keyVaultFake().recover(toKeyEntityId(entityId));
-        vaultFake().secretVaultFake().recover(toSecretEntityId(entityId));
+        runLocked(entityId.id(), () -> {
+            super.recover(entityId);
+            vaultFake().keyVaultFake().recover(toKeyEntityId(entityId));
+            vaultFake().secretVaultFake().recover(toSecretEntityId(entityId));
+        });
     }
 
     @Override
     public void purge(@NonNull final CertificateEntityId entityId) {
-        super.purge(entityId);
-        vaultFake().keyVaultFake().purge(toKeyEntityId(entityId));
-        vaultFake().secretVaultFake().purge(toSecretEntityId(entityId));
+        runLocked(entityId.id(), () -> {
+            super.purge(entityId);
+            vaultFake().keyVaultFake().purge(toKeyEntityId(entityId));
+            vaultFake().secretVaultFake().purge(toSecretEntityId(entityId));
+        });
     }
 
     @Override
@@ -165,20 +244,35 @@ public class CertificateVaultFakeImpl
 
     @Override
     public void setLifetimeActionPolicy(@NonNull final LifetimeActionPolicy lifetimeActionPolicy) {
-        final ReadOnlyKeyVaultCertificateEntity readOnlyEntity = latestReadOnlyCertificateVersion(lifetimeActionPolicy.getId());
-        lifetimeActionPolicy.validate(readOnlyEntity.getIssuancePolicy().getValidityMonths());
-        final LifetimeActionPolicy existingPolicy = lifetimeActionPolicy(lifetimeActionPolicy.getId());
-        if (existingPolicy == null) {
-            lifetimeActionPolicies.put(lifetimeActionPolicy.getId().id(), lifetimeActionPolicy);
-        } else {
-            existingPolicy.setLifetimeActions(lifetimeActionPolicy.getLifetimeActions());
-        }
+        runLocked(lifetimeActionPolicy.getId().id(), () -> {
+            final ReadOnlyKeyVaultCertificateEntity readOnlyEntity = latestReadOnlyCertificateVersion(lifetimeActionPolicy.getId());
+            lifetimeActionPolicy.validate(readOnlyEntity.getIssuancePolicy().getValidityMonths());
+            final LifetimeActionPolicy existingPolicy = lifetimeActionPolicy(lifetimeActionPolicy.getId());
+            if (existingPolicy == null) {
+                lifetimeActionPolicies.put(lifetimeActionPolicy.getId().id(), lifetimeActionPolicy);
+            } else {
+                existingPolicy.setLifetimeActions(lifetimeActionPolicy.getLifetimeActions());
+            }
+        });
     }
 
     @Override
     public void regenerateCertificates() {
-        this.getEntitiesInternal().forEachEntity(entity -> entity.regenerateCertificate(this.vaultFake()));
-        this.getDeletedEntitiesInternal().forEachEntity(entity -> entity.regenerateCertificate(this.vaultFake()));
+        certificateRegenerationTasks().forEach(Runnable::run);
+    }
+
+    @Override
+    public List<Runnable> certificateRegenerationTasks() {
+        final Map<String, List<KeyVaultCertificateEntity>> entitiesByName = new TreeMap<>();
+        final Consumer<KeyVaultCertificateEntity> collector = entity -> entitiesByName
+                .computeIfAbsent(entity.getId().id(), k -> new ArrayList<>())
+                .add(entity);
+        this.getEntitiesInternal().forEachEntity(collector);
+        this.getDeletedEntitiesInternal().forEachEntity(collector);
+        return entitiesByName.entrySet().stream()
+                .<Runnable>map(entry -> () -> runLocked(entry.getKey(),
+                        () -> entry.getValue().forEach(entity -> entity.regenerateCertificate(this.vaultFake()))))
+                .toList();
     }
 
     private void purgeDeletedPolicies() {
@@ -7,7 +7,9 @@ import com.github.nagyesta.lowkeyvault.service.certificate.ReadOnlyKeyVaultCerti
 import com.github.nagyesta.lowkeyvault.service.certificate.id.VersionedCertificateEntityId;
 import com.github.nagyesta.lowkeyvault.service.common.BaseVaultEntity;
 import com.github.nagyesta.lowkeyvault.service.common.impl.KeyVaultBaseEntity;
+import com.github.nagyesta.lowkeyvault.service.common.impl.MemoizingSupplier;
 import com.github.nagyesta.lowkeyvault.service.exception.CryptoException;
+import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyAsymmetricKeyVaultKeyEntity;
 import com.github.nagyesta.lowkeyvault.service.key.id.KeyEntityId;
 import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
 import com.github.nagyesta.lowkeyvault.service.key.impl.KeyVaultKeyEntity;
@@ -40,9 +42,13 @@ public class KeyVaultCertificateEntity
     private final CertificateBackingEntityGenerator generator;
     private X509Certificate certificate;
     private ReadOnlyCertificatePolicy originalCertificatePolicy;
-    private final String originalCertificateContents;
+    private final MemoizingSupplier<String> originalCertificateContents;
     private CertificatePolicy issuancePolicy;
-    private PKCS10CertificationRequest csr;
+    //the CSR and the certificate package are only calculated when they are first needed
+    private volatile MemoizingSupplier<PKCS10CertificationRequest> csr;
+    //publishes the key and the secret versions prepared by the constructor, cleared after the first use
+    private Runnable backingEntityPublisher;
+
     /**
      * Constructor for certificate creation.
      *
@@ -62,15 +68,17 @@ public class KeyVaultCertificateEntity
         this.issuancePolicy = new CertificatePolicy(input);
         this.originalCertificatePolicy = new CertificatePolicy(input);
         this.generator = new CertificateBackingEntityGenerator(vault);
-        this.kid = generator.generateKeyPair(input);
+        final KeyVaultKeyEntity<?, ?> preparedKey = generator.prepareKeyPair(input);
+        final ReadOnlyAsymmetricKeyVaultKeyEntity key = asymmetricKey(preparedKey);
+        this.kid = key.getId();
         //reuse the generated key version to produce matching version numbers in all keys
         this.id = new VersionedCertificateEntityId(vault.baseUri(), name, this.kid.version());
-        final CertificateGenerator certificateGenerator = new CertificateGenerator(vault, this.kid);
+        final CertificateGenerator certificateGenerator = new CertificateGenerator(vault, key);
         this.certificate = certificateGenerator.generateCertificate(input);
-        this.csr = certificateGenerator.generateCertificateSigningRequest(name, this.certificate);
-        final VersionedSecretEntityId secretEntityId = new VersionedSecretEntityId(vault.baseUri(), input.getName(), this.kid.version());
-        this.sid = generator.generateSecret(this.originalCertificatePolicy, this.certificate, this.kid, secretEntityId);
-        this.originalCertificateContents = vault.secretVaultFake().getEntities().getReadOnlyEntity(this.sid).getValue();
+        this.csr = certificateGenerator.lazyCertificateSigningRequest(name, this.certificate);
+        this.sid = new VersionedSecretEntityId(vault.baseUri(), input.getName(), this.kid.version());
+        this.originalCertificateContents = generator.certificatePackage(this.originalCertificatePolicy, this.certificate, key);
+        this.backingEntityPublisher = backingEntityPublisher(vault, preparedKey);
         normalizeCoreTimeStamps(input, now());
     }
 
@@ -102,15 +110,17 @@ public class KeyVaultCertificateEntity
         this.issuancePolicy = new CertificatePolicy(policy);
         this.originalCertificatePolicy = new CertificatePolicy(originalCertificateData);
         this.generator = new CertificateBackingEntityGenerator(vault);
-        this.kid = generator.importKeyPair(policy, keyImportRequest);
+        final KeyVaultKeyEntity<?, ?> preparedKey = generator.prepareImportedKeyPair(policy, keyImportRequest);
+        final ReadOnlyAsymmetricKeyVaultKeyEntity key = asymmetricKey(preparedKey);
+        this.kid = key.getId();
         //reuse the generated key version to produce matching version numbers in all keys
         this.id = new VersionedCertificateEntityId(vault.baseUri(), name, this.kid.version());
-        final CertificateGenerator certificateGenerator = new CertificateGenerator(vault, this.kid);
+        final CertificateGenerator certificateGenerator = new CertificateGenerator(vault, key);
         this.certificate = certificate;
-        this.csr = certificateGenerator.generateCertificateSigningRequest(name, this.certificate);
-        final VersionedSecretEntityId secretEntityId = new VersionedSecretEntityId(vault.baseUri(), input.getName(), this.kid.version());
-        this.sid = generator.generateSecret(this.originalCertificatePolicy, this.certificate, this.kid, secretEntityId);
-        this.originalCertificateContents = vault.secretVaultFake().getEntities().getReadOnlyEntity(this.sid).getValue();
+        this.csr = certificateGenerator.lazyCertificateSigningRequest(name, this.certificate);
+        this.sid = new VersionedSecretEntityId(vault.baseUri(), input.getName(), this.kid.version());
+        this.originalCertificateContents = generator.certificatePackage(this.originalCertificatePolicy, this.certificate, key);
+        this.backingEntityPublisher = backingEntityPublisher(vault, preparedKey);
         normalizeCoreTimeStamps(policy, now());
     }
 
@@ -138,11 +148,11 @@ public class KeyVaultCertificateEntity
         this.id = id;
         final CertificateGenerator certificateGenerator = new CertificateGenerator(vault, this.kid);
         this.certificate = certificateGenerator.generateCertificate(input);
-        this.csr = certificateGenerator.generateCertificateSigningRequest(input.getName(), this.certificate);
+        this.csr = certificateGenerator.lazyCertificateSigningRequest(input.getName(), this.certificate);
         final VersionedSecretEntityId secretEntityId = new VersionedSecretEntityId(vault.baseUri(), input.getName(), id.version());
         this.generator = new CertificateBackingEntityGenerator(vault);
-        this.sid = generator.generateSecret(this.originalCertificatePolicy, this.certificate, this.kid, secretEntityId);
-        this.originalCertificateContents = vault.secretVaultFake().getEntities().getReadOnlyEntity(this.sid).getValue();
+        this.originalCertificateContents = generator.certificatePackage(this.originalCertificatePolicy, this.certificate, this.kid);
+        this.sid = generator.generateSecret(this.originalCertificatePolicy, this.originalCertificateContents, secretEntityId);
         normalizeCoreTimeStamps(input, input.getValidityStart());
     }
 
@@ -168,19 +178,24 @@ public class KeyVaultCertificateEntity
         this.issuancePolicy = new CertificatePolicy(policy);
         this.originalCertificatePolicy = new CertificatePolicy(originalCertificateData);
         this.generator = new CertificateBackingEntityGenerator(vault);
+        this.id = new VersionedCertificateEntityId(vault.baseUri(), id.id(), id.version());
+        this.kid = kid;
+        final ReadOnlyAsymmetricKeyVaultKeyEntity key;
         if (vault.keyVaultFake().getEntities().containsEntity(kid)) {
             //key already exists, just extend expiry
-            this.kid = kid;
-            vault.keyVaultFake().getEntities().getEntity(kid, KeyVaultKeyEntity.class).setExpiry(input.getExpires());
+            key = vault.keyVaultFake().getEntities().getEntity(kid, ReadOnlyAsymmetricKeyVaultKeyEntity.class);
+            this.backingEntityPublisher = backingEntityPublisher(vault, () -> vault.keyVaultFake().getEntities()
+                    .getEntity(kid, KeyVaultKeyEntity.class).setExpiry(input.getExpires()));
         } else {
-            this.kid = generator.importKeyPair(kid, policy, keyImportRequest, input.isEnabled());
+            final KeyVaultKeyEntity<?, ?> preparedKey = generator.prepareImportedKeyPair(kid, policy, keyImportRequest, input.isEnabled());
+            key = asymmetricKey(preparedKey);
+            this.backingEntityPublisher = backingEntityPublisher(vault, preparedKey);
         }
-        this.id = new VersionedCertificateEntityId(vault.baseUri(), id.id(), id.version());
-        final CertificateGenerator certificateGenerator = new CertificateGenerator(vault, this.kid);
+        final CertificateGenerator certificateGenerator = new CertificateGenerator(vault, key);
         this.certificate = certificate;
-        this.csr = certificateGenerator.generateCertificateSigningRequest(id.id(), this.certificate);
-        this.sid = generator.generateSecret(this.originalCertificatePolicy, this.certificate, this.kid, sid);
-        this.originalCertificateContents = vault.secretVaultFake().getEntities().getReadOnlyEntity(this.sid).getValue();
+        this.csr = certificateGenerator.lazyCertificateSigningRequest(id.id(), this.certificate);
+        this.originalCertificateContents = generator.certificatePackage(this.originalCertificatePolicy, this.certificate, key);
+        this.sid = sid;
         this.updateIssuancePolicy(convertPolicyToCertificateCreationInput(input.getName(), input.getIssuancePolicy()));
         this.setExpiry(input.getExpires());
         this.setEnabled(input.isEnabled());
@@ -191,6 +206,16 @@ public class KeyVaultCertificateEntity
     }
 
 
+    /**
+     * Publishes the key and the secret versions prepared by the constructor. Must be called while holding the lock of
+     * the certificate name, right before the certificate version is published. Does nothing when called again.
+     */
+    public void publishBackingEntities() {
+        final Runnable publisher = this.backingEntityPublisher;
+        this.backingEntityPublisher = null;
+        Optional.ofNullable(publisher).ifPresent(Runnable::run);
+    }
+
     @Override
     public VersionedCertificateEntityId getId() {
         return id;
@@ -230,12 +255,12 @@ public class KeyVaultCertificateEntity
 
     @Override
     public String getOriginalCertificateContents() {
-        return originalCertificateContents;
+        return originalCertificateContents.get();
     }
 
     @Override
     public PKCS10CertificationRequest getCertificateSigningRequest() {
-        return csr;
+        return csr.get();
     }
 
     @Override
@@ -301,6 +326,26 @@ public class KeyVaultCertificateEntity
                 "Secret must not exist to be able to store certificate data in it. " + sid.asUriNoVersion(vault.baseUri()));
     }
 
+    private Runnable backingEntityPublisher(final VaultFake vault, final KeyVaultKeyEntity<?, ?> key) {
+        return backingEntityPublisher(vault, () -> generator.publishKeyPair(key));
+    }
+
+    private Runnable backingEntityPublisher(final VaultFake vault, final Runnable keyPublisher) {
+        final KeyEntityId keyEntityId = new KeyEntityId(vault.baseUri(), id.id());
+        final SecretEntityId secretEntityId = new SecretEntityId(vault.baseUri(), id.id());
+        return () -> {
+            //the entities with the same name might have been created since the constructor checked them
+            assertNoNameCollisionWithNotManagedEntity(vault, keyEntityId, secretEntityId);
+            keyPublisher.run();
+            generator.generateSecret(originalCertificatePolicy, originalCertificateContents, sid);
+        };
+    }
+
+    private static ReadOnlyAsymmetricKeyVaultKeyEntity asymmetricKey(final KeyVaultKeyEntity<?, ?> key) {
+        Assert.isInstanceOf(ReadOnlyAsymmetricKeyVaultKeyEntity.class, key, "Certificates need an RSA or EC key.");
+        return (ReadOnlyAsymmetricKeyVaultKeyEntity) key;
+    }
+
     private static boolean isNotManaged(final BaseVaultEntity<? extends EntityId> e) {
         return !e.isManaged();
     }
@@ -317,7 +362,7 @@ public class KeyVaultCertificateEntity
     private void regenerateCertificateData(final VaultFake vaultFake, final CertificatePolicy updated) {
         final CertificateGenerator certificateGenerator = new CertificateGenerator(vaultFake, this.kid);
         this.certificate = certificateGenerator.generateCertificate(updated);
-        this.csr = certificateGenerator.generateCertificateSigningRequest(this.id.id(), this.certificate);
+        this.csr = certificateGenerator.lazyCertificateSigningRequest(this.id.id(), this.certificate);
         this.originalCertificatePolicy = updated;
     }
 
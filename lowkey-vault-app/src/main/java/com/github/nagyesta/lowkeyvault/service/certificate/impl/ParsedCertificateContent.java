@@ -0,0 +1,32 @@
+package com.github.nagyesta.lowkeyvault.service.certificate.impl;
+
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.request.JsonWebKeyImportRequest;
+import lombok.NonNull;
+import org.springframework.util.Assert;
+
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.util.List;
+
+/**
+ * The result of parsing an imported certificate store once, holding the certificate chain and the private key.
+ *
+ * @param certificateChain The certificate chain starting with the leaf certificate.
+ * @param key              The private key of the leaf certificate.
+ */
+public record ParsedCertificateContent(@NonNull List<Certificate> certificateChain, @NonNull JsonWebKeyImportRequest key) {
+
+    public ParsedCertificateContent {
+        Assert.notEmpty(certificateChain, "Certificate chain cannot be empty.");
+        certificateChain = List.copyOf(certificateChain);
+    }
+
+    /**
+     * Returns the leaf certificate of the chain.
+     *
+     * @return The certificate.
+     */
+    public X509Certificate certificate() {
+        return (X509Certificate) certificateChain.get(0);
+    }
+}
@@ -0,0 +1,139 @@
+package com.github.nagyesta.lowkeyvault.service.certificate.util;
+
+import com.github.nagyesta.lowkeyvault.service.certificate.CertificateVaultFake;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Regenerates and renews the certificates of multiple vaults in parallel using a dedicated fork-join pool. The work is
+ * split by certificate name, the versions of the same name are processed in order by a single task holding the lock of
+ * the name, while different names (of the same or different vaults) are processed concurrently.
+ */
+@Slf4j
+public class CertificateRegenerationPipeline implements AutoCloseable {
+
+    private final ForkJoinPool pool;
+    private final LongAdder scheduled = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * Creates the pipeline.
+     *
+     * @param parallelism The number of worker threads.
+     */
+    public CertificateRegenerationPipeline(final int parallelism) {
+        Assert.isTrue(parallelism > 0, "Parallelism must be positive.");
+        this.pool = new ForkJoinPool(parallelism, p -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName("cert-regen-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Regenerates the certificates of the vaults and waits until every certificate is processed. The first failure
+     * is rethrown after all tasks finished, the rest of the failures are added as suppressed exceptions.
+     *
+     * @param certificateVaultFakes The certificate fakes of the vaults.
+     */
+    public void regenerate(@NonNull final Collection<? extends CertificateVaultFake> certificateVaultFakes) {
+        final List<Runnable> tasks = certificateVaultFakes.stream()
+                .flatMap(vaultFake -> vaultFake.certificateRegenerationTasks().stream())
+                .toList();
+        scheduled.add(tasks.size());
+        final long start = System.nanoTime();
+        final RuntimeException failure = runAll(tasks.stream()
+                .<Runnable>map(task -> () -> runAndCount(task))
+                .toList());
+        log.info("Regenerated certificates of {} names in {} ms. {}", tasks.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), statistics());
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Performs the due renewals of the certificates of the vaults and waits until every name is processed. The key
+     * pairs of different names are generated in parallel. The failures are reported the same way as in case of
+     * {@link #regenerate(Collection)}, but they are not counted in the statistics.
+     *
+     * @param certificateVaultFakes The certificate fakes of the vaults.
+     */
+    public void renew(@NonNull final Collection<? extends CertificateVaultFake> certificateVaultFakes) {
+        final List<Runnable> tasks = certificateVaultFakes.stream()
+                .flatMap(vaultFake -> vaultFake.certificateRenewalTasks().stream())
+                .toList();
+        final long start = System.nanoTime();
+        final RuntimeException failure = runAll(tasks);
+        log.info("Renewed certificates of {} names in {} ms.", tasks.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Returns the progress of the regeneration since startup.
+     *
+     * @return The statistics.
+     */
+    public CertificateRegenerationStatistics statistics() {
+        return new CertificateRegenerationStatistics(pool.getParallelism(), scheduled.sum(), completed.sum(), failed.sum());
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    private RuntimeException runAll(final List<Runnable> tasks) {
+        final List<CompletableFuture<Void>> futures = tasks.stream()
+                .map(task -> CompletableFuture.runAsync(task, pool))
+                .toList();
+        RuntimeException failure = null;
+        for (final CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (final CompletionException e) {
+                failure = collectFailure(failure, e);
+            }
+        }
+        return failure;
+    }
+
+    private void runAndCount(final Runnable task) {
+        try {
+            task.run();
+            completed.increment();
+        } catch (final RuntimeException e) {
+            failed.increment();
+            throw e;
+        }
+    }
+
+    private RuntimeException collectFailure(final RuntimeException first, final CompletionException e) {
+        final RuntimeException cause;
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+            cause = runtimeException;
+        } else {
+            cause = e;
+        }
+        RuntimeException result = cause;
+        if (first != null) {
+            first.addSuppressed(cause);
+            result = first;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.nagyesta.lowkeyvault.service.certificate.util;
+
+/**
+ * Progress statistics of the {@link CertificateRegenerationPipeline}.
+ *
+ * @param parallelism The number of worker threads.
+ * @param scheduled   The number of certificate names scheduled for regeneration since startup.
+ * @param completed   The number of certificate names regenerated successfully since startup.
+ * @param failed      The number of certificate names which could not be regenerated since startup.
+ */
+public record CertificateRegenerationStatistics(int parallelism, long scheduled, long completed, long failed) {
+
+    /**
+     * Returns the number of certificate names which are scheduled, but not finished yet.
+     *
+     * @return The number of remaining names.
+     */
+    public long remaining() {
+        return scheduled - completed - failed;
+    }
+}
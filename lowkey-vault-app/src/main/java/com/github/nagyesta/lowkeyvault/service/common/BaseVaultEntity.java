@@ -15,6 +15,21 @@ import java.util.Optional;
  */
 public interface BaseVaultEntity<V extends EntityId> extends ReadOnlyDeletedEntity<V>, TimeAware {
 
+    /**
+     * Returns a consistent snapshot of the mutable attributes. Use this when more than one attribute is read
+     * together as the individual getters might observe different states during concurrent updates.
+     *
+     * @return The current snapshot.
+     */
+    EntityAttributes getAttributes();
+
+    /**
+     * Returns the revision of the mutable state (attributes, tags and any other updatable data) of this entity.
+     *
+     * @return The revision, increased by every update.
+     */
+    long getRevision();
+
     boolean isEnabled();
 
     void setEnabled(boolean enabled);
@@ -54,4 +69,18 @@ public interface BaseVaultEntity<V extends EntityId> extends ReadOnlyDeletedEnti
     void setUpdatedOn(OffsetDateTime updatedOn);
 
     void setManaged(boolean managed);
+
+    /**
+     * Registers a listener which is called once when the resources of this entity are released, because it was
+     * deleted or purged. Registering a new listener with the same owner replaces the previous one.
+     *
+     * @param owner    The owner of the listener, like a cache holding data derived from this entity.
+     * @param listener The listener.
+     */
+    void addReleaseListener(Object owner, Runnable listener);
+
+    /**
+     * Calls and removes the registered release listeners.
+     */
+    void releaseResources();
 }
@@ -0,0 +1,102 @@
+package com.github.nagyesta.lowkeyvault.service.common;
+
+import lombok.NonNull;
+
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable snapshot of the mutable attributes of an entity version. Every modification creates a new instance,
+ * therefore readers can use a single snapshot to see a consistent state even during concurrent updates.
+ *
+ * @param created            The time of creation.
+ * @param updated            The time of the last update.
+ * @param notBefore          The optional start of validity.
+ * @param expiry             The optional end of validity.
+ * @param enabled            The enabled flag.
+ * @param tags               The tags (unmodifiable).
+ * @param deletedDate        The optional time of deletion.
+ * @param scheduledPurgeDate The optional time when the deleted entity will be purged.
+ * @param managed            The managed flag.
+ */
+@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+public record EntityAttributes(@NonNull OffsetDateTime created,
+                               @NonNull OffsetDateTime updated,
+                               @NonNull Optional<OffsetDateTime> notBefore,
+                               @NonNull Optional<OffsetDateTime> expiry,
+                               boolean enabled,
+                               @NonNull Map<String, String> tags,
+                               @NonNull Optional<OffsetDateTime> deletedDate,
+                               @NonNull Optional<OffsetDateTime> scheduledPurgeDate,
+                               boolean managed) {
+
+    /**
+     * Creates the attributes of a newly created, enabled entity.
+     *
+     * @param now The time of creation.
+     * @return The attributes.
+     */
+    public static EntityAttributes created(@NonNull final OffsetDateTime now) {
+        return new EntityAttributes(now, now, Optional.empty(), Optional.empty(), true,
+                Collections.emptyMap(), Optional.empty(), Optional.empty(), false);
+    }
+
+    public EntityAttributes withCreated(@NonNull final OffsetDateTime newCreated) {
+        return new EntityAttributes(newCreated, updated, notBefore, expiry, enabled, tags, deletedDate, scheduledPurgeDate, managed);
+    }
+
+    public EntityAttributes withUpdated(@NonNull final OffsetDateTime newUpdated) {
+        return new EntityAttributes(created, newUpdated, notBefore, expiry, enabled, tags, deletedDate, scheduledPurgeDate, managed);
+    }
+
+    public EntityAttributes withNotBefore(final OffsetDateTime newNotBefore) {
+        return new EntityAttributes(created, updated, Optional.ofNullable(newNotBefore), expiry, enabled,
+                tags, deletedDate, scheduledPurgeDate, managed);
+    }
+
+    public EntityAttributes withExpiry(final OffsetDateTime newExpiry) {
+        return new EntityAttributes(created, updated, notBefore, Optional.ofNullable(newExpiry), enabled,
+                tags, deletedDate, scheduledPurgeDate, managed);
+    }
+
+    public EntityAttributes withEnabled(final boolean newEnabled) {
+        return new EntityAttributes(created, updated, notBefore, expiry, newEnabled, tags, deletedDate, scheduledPurgeDate, managed);
+    }
+
+    public EntityAttributes withTags(@NonNull final Map<String, String> newTags) {
+        return new EntityAttributes(created, updated, notBefore, expiry, enabled, Map.copyOf(newTags),
+                deletedDate, scheduledPurgeDate, managed);
+    }
+
+    public EntityAttributes withDeletedDate(final OffsetDateTime newDeletedDate) {
+        return new EntityAttributes(created, updated, notBefore, expiry, enabled, tags,
+                Optional.ofNullable(newDeletedDate), scheduledPurgeDate, managed);
+    }
+
+    public EntityAttributes withScheduledPurgeDate(final OffsetDateTime newScheduledPurgeDate) {
+        return new EntityAttributes(created, updated, notBefore, expiry, enabled, tags,
+                deletedDate, Optional.ofNullable(newScheduledPurgeDate), managed);
+    }
+
+    public EntityAttributes withManaged(final boolean newManaged) {
+        return new EntityAttributes(created, updated, notBefore, expiry, enabled, tags, deletedDate, scheduledPurgeDate, newManaged);
+    }
+
+    /**
+     * Moves every timestamp back in time with the provided number of seconds.
+     *
+     * @param offsetSeconds The number of seconds.
+     * @return The shifted attributes.
+     */
+    public EntityAttributes timeShift(final int offsetSeconds) {
+        return new EntityAttributes(created.minusSeconds(offsetSeconds), updated.minusSeconds(offsetSeconds),
+                notBefore.map(date -> date.minusSeconds(offsetSeconds)),
+                expiry.map(date -> date.minusSeconds(offsetSeconds)),
+                enabled, tags,
+                deletedDate.map(date -> date.minusSeconds(offsetSeconds)),
+                scheduledPurgeDate.map(date -> date.minusSeconds(offsetSeconds)),
+                managed);
+    }
+}
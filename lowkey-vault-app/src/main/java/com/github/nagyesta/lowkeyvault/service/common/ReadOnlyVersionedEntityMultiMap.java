@@ -3,7 +3,6 @@ package com.github.nagyesta.lowkeyvault.service.common;
 import com.github.nagyesta.lowkeyvault.model.v7_2.common.constants.RecoveryLevel;
 import com.github.nagyesta.lowkeyvault.service.EntityId;
 
-import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -12,9 +11,29 @@ public interface ReadOnlyVersionedEntityMultiMap<K extends EntityId, V extends K
 
     List<RE> listLatestEntities();
 
+    List<RE> listLatestEntities(int offset, int limit);
+
+    List<RE> listLatestEntitiesAfter(String lastName, int limit);
+
     List<RE> listLatestNonManagedEntities();
 
-    Deque<String> getVersions(K entityId);
+    /**
+     * Returns the versions of the entity in the order of their creation.
+     *
+     * @param entityId The Id of the entity.
+     * @return read-only view of the versions, the last item is the latest version.
+     */
+    List<String> getVersions(K entityId);
+
+    /**
+     * Returns the versions of the entity in their natural (lexicographic) order.
+     *
+     * @param entityId The Id of the entity.
+     * @return read-only view of the sorted versions.
+     */
+    List<String> getSortedVersions(K entityId);
+
+    List<String> listVersionsAfter(K entityId, String lastVersion, int limit);
 
     boolean containsName(String name);
 
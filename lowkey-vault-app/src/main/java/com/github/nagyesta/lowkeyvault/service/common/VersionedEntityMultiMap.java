@@ -3,16 +3,25 @@ package com.github.nagyesta.lowkeyvault.service.common;
 import com.github.nagyesta.lowkeyvault.service.EntityId;
 import lombok.NonNull;
 
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 public interface VersionedEntityMultiMap<K extends EntityId, V extends K, RE extends BaseVaultEntity<V>, ME extends RE>
-        extends ReadOnlyVersionedEntityMultiMap<K, V, RE> {
+        extends ReadOnlyVersionedEntityMultiMap<K, V, RE>, TimeAware {
 
     ME getEntity(V entityId);
 
     void put(V entityId, ME entity);
 
+    /**
+     * Adds multiple versions of the same name in order. Readers either see every new version or none of them.
+     *
+     * @param name     The name of the entity.
+     * @param entities The fully configured new versions (the last one becomes the latest).
+     */
+    void putAllVersions(@NonNull String name, @NonNull List<ME> entities);
+
     boolean isDeleted();
 
     void moveTo(K entityId, VersionedEntityMultiMap<K, V, RE, ME> destination, Function<ME, ME> applyToAll);
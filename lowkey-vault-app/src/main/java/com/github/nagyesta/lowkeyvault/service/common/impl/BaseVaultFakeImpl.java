@@ -16,6 +16,7 @@ import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -29,19 +30,22 @@ import java.util.stream.Collectors;
 public abstract class BaseVaultFakeImpl<K extends EntityId, V extends K, RE extends BaseVaultEntity<V>, ME extends RE>
         implements BaseVaultFake<K, V, RE> {
 
+    private static final int NAME_LOCK_STRIPES = 64;
     private final VaultFake vaultFake;
     private final VersionedEntityMultiMap<K, V, RE, ME> entities;
     private final VersionedEntityMultiMap<K, V, RE, ME> deletedEntities;
+    private final StripedNameLock nameLock;
 
     protected BaseVaultFakeImpl(@NonNull final VaultFake vaultFake,
                                 @NonNull final RecoveryLevel recoveryLevel,
                                 final Integer recoverableDays) {
         recoveryLevel.checkValidRecoverableDays(recoverableDays);
         this.vaultFake = vaultFake;
-        entities = new ConcurrentVersionedEntityMultiMap<>(
+        entities = new CopyOnWriteVersionedEntityMultiMap<>(
                 recoveryLevel, recoverableDays, this::createVersionedId, false);
-        deletedEntities = new ConcurrentVersionedEntityMultiMap<>(
+        deletedEntities = new CopyOnWriteVersionedEntityMultiMap<>(
                 recoveryLevel, recoverableDays, this::createVersionedId, true);
+        nameLock = new StripedNameLock(NAME_LOCK_STRIPES);
     }
 
     @Override
@@ -56,34 +60,74 @@ public abstract class BaseVaultFakeImpl<K extends EntityId, V extends K, RE exte
 
     @Override
     public void clearTags(@NonNull final V entityId) {
-        entities.getEntity(entityId).setTags(new TreeMap<>());
+        runLocked(entityId.id(), () -> entities.getEntity(entityId).setTags(new TreeMap<>()));
     }
 
     @Override
     public void addTags(@NonNull final V entityId, final Map<String, String> tags) {
-        final TreeMap<String, String> newTags = new TreeMap<>(entities.getEntity(entityId).getTags());
-        newTags.putAll(Objects.requireNonNullElse(tags, Collections.emptyMap()));
-        entities.getEntity(entityId).setTags(newTags);
+        runLocked(entityId.id(), () -> applyTags(entities.getEntity(entityId), tags));
     }
 
     @Override
     public void setEnabled(@NonNull final V entityId, final boolean enabled) {
-        entities.getEntity(entityId).setEnabled(enabled);
+        runLocked(entityId.id(), () -> entities.getEntity(entityId).setEnabled(enabled));
     }
 
     @Override
     public void setExpiry(@NonNull final V entityId,
                           final OffsetDateTime notBefore,
                           final OffsetDateTime expiry) {
-        if (expiry != null && notBefore != null && notBefore.isAfter(expiry)) {
-            throw new IllegalArgumentException("Expiry cannot be before notBefore.");
+        assertValidExpiry(notBefore, expiry);
+        runLocked(entityId.id(), () -> applyExpiry(entities.getEntity(entityId), notBefore, expiry));
+    }
+
+    protected void setCreatedAndUpdatedOn(final V entityId, final OffsetDateTime created, final OffsetDateTime updated) {
+        if (created == null && updated == null) {
+            return;
         }
-        final ME entity = entities.getEntity(entityId);
+        runLocked(entityId.id(), () -> applyCreatedAndUpdatedOn(entities.getEntity(entityId), created, updated));
+    }
+
+    /**
+     * Adds the tags to an entity directly. Must be called either before the entity is published using
+     * {@link #addVersion(EntityId, BaseVaultEntity)}, or while holding the lock of the name.
+     *
+     * @param entity The entity.
+     * @param tags   The tags to add.
+     */
+    protected void applyTags(@org.springframework.lang.NonNull final ME entity, final Map<String, String> tags) {
+        final TreeMap<String, String> newTags = new TreeMap<>(entity.getTags());
+        newTags.putAll(Objects.requireNonNullElse(tags, Collections.emptyMap()));
+        entity.setTags(newTags);
+    }
+
+    /**
+     * Sets the notBefore and expiry of an entity directly.
+     *
+     * @param entity    The entity.
+     * @param notBefore The notBefore timestamp.
+     * @param expiry    The expiry timestamp.
+     * @see #applyTags(BaseVaultEntity, Map)
+     */
+    protected void applyExpiry(@org.springframework.lang.NonNull final ME entity,
+                               final OffsetDateTime notBefore,
+                               final OffsetDateTime expiry) {
+        assertValidExpiry(notBefore, expiry);
         entity.setNotBefore(notBefore);
         entity.setExpiry(expiry);
     }
 
-    protected void setCreatedAndUpdatedOn(final V entityId, final OffsetDateTime created, final OffsetDateTime updated) {
+    /**
+     * Sets the created and updated timestamps of an entity directly. Does nothing if both are null.
+     *
+     * @param entity  The entity.
+     * @param created The created timestamp (defaults to now).
+     * @param updated The updated timestamp (defaults to created).
+     * @see #applyTags(BaseVaultEntity, Map)
+     */
+    protected void applyCreatedAndUpdatedOn(@org.springframework.lang.NonNull final ME entity,
+                                            final OffsetDateTime created,
+                                            final OffsetDateTime updated) {
         if (created == null && updated == null) {
             return;
         }
@@ -92,42 +136,49 @@ public abstract class BaseVaultFakeImpl<K extends EntityId, V extends K, RE exte
         if (createdOn.isAfter(updatedOn)) {
             throw new IllegalArgumentException("Updated cannot be before created.");
         }
-        final ME entity = entities.getEntity(entityId);
         entity.setCreatedOn(createdOn);
         entity.setUpdatedOn(updatedOn);
     }
 
     @Override
     public void delete(@NonNull final K entityId) {
-        if (!entities.containsName(entityId.id())) {
-            throw new NotFoundException("Entity not found: " + entityId);
-        }
-        entities.moveTo(entityId, deletedEntities, this::markDeleted);
+        runLocked(entityId.id(), () -> {
+            if (!entities.containsName(entityId.id())) {
+                throw new NotFoundException("Entity not found: " + entityId);
+            }
+            entities.moveTo(entityId, deletedEntities, this::markDeleted);
+        });
     }
 
     @Override
     public void recover(@NonNull final K entityId) {
         deletedEntities.purgeExpired();
-        if (!deletedEntities.containsName(entityId.id())) {
-            throw new NotFoundException("Entity not found: " + entityId);
-        }
-        deletedEntities.moveTo(entityId, entities, this::markRestored);
+        runLocked(entityId.id(), () -> {
+            if (!deletedEntities.containsName(entityId.id())) {
+                throw new NotFoundException("Entity not found: " + entityId);
+            }
+            deletedEntities.moveTo(entityId, entities, this::markRestored);
+        });
     }
 
     @Override
     public void purge(@NonNull final K entityId) {
         deletedEntities.purgeExpired();
-        if (!deletedEntities.containsName(entityId.id())) {
-            throw new NotFoundException("Entity not found: " + entityId);
-        }
-        deletedEntities.purgeDeleted(entityId);
+        runLocked(entityId.id(), () -> {
+            if (!deletedEntities.containsName(entityId.id())) {
+                throw new NotFoundException("Entity not found: " + entityId);
+            }
+            deletedEntities.getVersions(entityId).forEach(version -> releaseResources(
+                    deletedEntities.getEntity(createVersionedId(entityId.id(), version))));
+            deletedEntities.purgeDeleted(entityId);
+        });
     }
 
     @Override
     public void timeShift(final int offsetSeconds) {
         Assert.isTrue(offsetSeconds > 0, "Offset must be positive.");
-        this.entities.forEachEntity(entity -> entity.timeShift(offsetSeconds));
-        this.deletedEntities.forEachEntity(entity -> entity.timeShift(offsetSeconds));
+        this.entities.timeShift(offsetSeconds);
+        this.deletedEntities.timeShift(offsetSeconds);
         this.deletedEntities.purgeExpired();
     }
 
@@ -139,11 +190,45 @@ public abstract class BaseVaultFakeImpl<K extends EntityId, V extends K, RE exte
     }
 
     protected void setManaged(final V entityId, final boolean managed) {
-        entities.getEntity(entityId).setManaged(managed);
+        runLocked(entityId.id(), () -> entities.getEntity(entityId).setManaged(managed));
+    }
+
+    /**
+     * Executes the action while holding the lock of the entity name. Multistep modifications of the same name must
+     * use this to avoid interleaving with other modifications. The lock is reentrant, nested calls are allowed.
+     *
+     * @param name   The name of the entity.
+     * @param action The action modifying the entity.
+     * @param <T>    The type of the result.
+     * @return The result of the action.
+     */
+    protected <T> T callLocked(@NonNull final String name, @NonNull final Supplier<T> action) {
+        return nameLock.callLocked(name, action);
+    }
+
+    /**
+     * Executes the action while holding the lock of the entity name.
+     *
+     * @param name   The name of the entity.
+     * @param action The action modifying the entity.
+     * @see #callLocked(String, Supplier)
+     */
+    protected void runLocked(@NonNull final String name, @NonNull final Runnable action) {
+        nameLock.runLocked(name, action);
     }
 
     protected abstract V createVersionedId(String id, String version);
 
+    /**
+     * Releases the resources (like cached crypto objects) held by an entity version when it is deleted or purged.
+     * Notifies the release listeners of the entity by default, overriding methods must call this too.
+     *
+     * @param entity The entity version.
+     */
+    protected void releaseResources(@org.springframework.lang.NonNull final ME entity) {
+        entity.releaseResources();
+    }
+
     protected VersionedEntityMultiMap<K, V, RE, ME> getEntitiesInternal() {
         return entities;
     }
@@ -156,21 +241,63 @@ public abstract class BaseVaultFakeImpl<K extends EntityId, V extends K, RE exte
         return vaultFake;
     }
 
+    /**
+     * Publishes a new version of the entity. The entity must be fully configured before it is published, because
+     * readers can access it without taking the lock of the name. The lock is only held while the version is added,
+     * therefore expensive steps like key generation should happen before calling this method.
+     *
+     * @param entityId The id of the new version.
+     * @param entity   The new version.
+     * @return The id of the new version.
+     */
     protected V addVersion(@org.springframework.lang.NonNull final V entityId,
                            @org.springframework.lang.NonNull final ME entity) {
-        assertNoConflict(entityId);
-        entities.put(entityId, entity);
-        return entityId;
+        return callLocked(entityId.id(), () -> {
+            assertNoConflict(entityId);
+            entities.put(entityId, entity);
+            return entityId;
+        });
     }
 
-    private void assertNoConflict(final V entityId) {
+    /**
+     * Publishes multiple new versions of the same name with a single update, readers either see all of them or none.
+     * Every entity must be fully configured before calling this method.
+     *
+     * @param name        The name of the entity.
+     * @param newVersions The new versions in order (the last one becomes the latest).
+     * @return The ids of the new versions.
+     * @see #addVersion(EntityId, BaseVaultEntity)
+     */
+    protected List<V> addVersions(@org.springframework.lang.NonNull final String name,
+                                  @org.springframework.lang.NonNull final List<ME> newVersions) {
+        final List<V> ids = newVersions.stream().map(BaseVaultEntity::getId).toList();
+        runLocked(name, () -> {
+            ids.stream().findFirst().ifPresent(this::assertNoConflict);
+            entities.putAllVersions(name, newVersions);
+        });
+        return ids;
+    }
+
+    /**
+     * Fails if the name of the entity belongs to a deleted entity which is not active at the same time.
+     *
+     * @param entityId The id of the new version.
+     */
+    protected void assertNoConflict(@org.springframework.lang.NonNull final V entityId) {
         deletedEntities.purgeExpired();
         if (!entities.containsName(entityId.id()) && deletedEntities.containsName(entityId.id())) {
             throw new AlreadyExistsException("A deleted entity already exists with this name: " + entityId);
         }
     }
 
+    private static void assertValidExpiry(final OffsetDateTime notBefore, final OffsetDateTime expiry) {
+        if (expiry != null && notBefore != null && notBefore.isAfter(expiry)) {
+            throw new IllegalArgumentException("Expiry cannot be before notBefore.");
+        }
+    }
+
     private ME markDeleted(final ME entity) {
+        releaseResources(entity);
         final int days = entity.getRecoverableDays();
         final OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS);
         entity.setDeletedDate(now);
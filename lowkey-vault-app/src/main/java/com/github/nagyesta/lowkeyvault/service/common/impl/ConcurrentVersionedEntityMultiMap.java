@@ -10,7 +10,9 @@ import org.springframework.util.Assert;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -22,8 +24,8 @@ public class ConcurrentVersionedEntityMultiMap<K extends EntityId, V extends K,
         implements VersionedEntityMultiMap<K, V, RE, ME> {
 
     private final BiFunction<String, String, V> versionCreateFunction;
-    private final Map<String, Map<String, ME>> entities;
-    private final Map<String, Deque<String>> versions;
+    private final ConcurrentNavigableMap<String, Map<String, ME>> entities;
+    private final Map<String, List<String>> versions;
     private final RecoveryLevel recoveryLevel;
     private final Integer recoverableDays;
     private final boolean deleted;
@@ -37,7 +39,7 @@ public class ConcurrentVersionedEntityMultiMap<K extends EntityId, V extends K,
         this.recoveryLevel = recoveryLevel;
         this.recoverableDays = recoverableDays;
         this.deleted = deleted;
-        entities = new ConcurrentHashMap<>();
+        entities = new ConcurrentSkipListMap<>();
         versions = new ConcurrentHashMap<>();
     }
 
@@ -47,6 +49,26 @@ public class ConcurrentVersionedEntityMultiMap<K extends EntityId, V extends K,
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<RE> listLatestEntities(final int offset, final int limit) {
+        Assert.isTrue(offset >= 0, "Offset must not be negative.");
+        Assert.isTrue(limit >= 0, "Limit must not be negative.");
+        return streamAllLatestEntities()
+                .skip(offset)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<RE> listLatestEntitiesAfter(@NonNull final String lastName, final int limit) {
+        Assert.isTrue(limit >= 0, "Limit must not be negative.");
+        return entities.tailMap(lastName, false).keySet().stream()
+                .limit(limit)
+                .map(this::latestVersionOf)
+                .map(this::getEntity)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<RE> listLatestNonManagedEntities() {
         return streamAllLatestEntities()
@@ -55,12 +77,29 @@ public class ConcurrentVersionedEntityMultiMap<K extends EntityId, V extends K,
     }
 
     @Override
-    public Deque<String> getVersions(@NonNull final K entityId) {
+    public List<String> getVersions(@NonNull final K entityId) {
         if (!versions.containsKey(entityId.id())
                 || versions.get(entityId.id()).isEmpty()) {
             throw new NotFoundException("Key not found: " + entityId);
         }
-        return new LinkedList<>(versions.get(entityId.id()));
+        return Collections.unmodifiableList(versions.get(entityId.id()));
+    }
+
+    @Override
+    public List<String> getSortedVersions(@NonNull final K entityId) {
+        return getVersions(entityId).stream()
+                .sorted()
+                .toList();
+    }
+
+    @Override
+    public List<String> listVersionsAfter(@NonNull final K entityId, final String lastVersion, final int limit) {
+        Assert.isTrue(limit >= 0, "Limit must not be negative.");
+        return getVersions(entityId).stream()
+                .filter(version -> lastVersion == null || version.compareTo(lastVersion) > 0)
+                .sorted()
+                .limit(limit)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -87,8 +126,8 @@ public class ConcurrentVersionedEntityMultiMap<K extends EntityId, V extends K,
 
     @Override
     public V getLatestVersionOfEntity(@NonNull final K entityId) {
-        final Deque<String> availableVersions = getVersions(entityId);
-        return versionCreateFunction.apply(entityId.id(), availableVersions.getLast());
+        final List<String> availableVersions = getVersions(entityId);
+        return versionCreateFunction.apply(entityId.id(), availableVersions.get(availableVersions.size() - 1));
     }
 
     @Override
@@ -105,7 +144,15 @@ public class ConcurrentVersionedEntityMultiMap<K extends EntityId, V extends K,
     @Override
     public void put(@NonNull final V entityId, @NonNull final ME entity) {
         entities.computeIfAbsent(entityId.id(), id -> new ConcurrentHashMap<>()).put(entityId.version(), entity);
-        versions.computeIfAbsent(entityId.id(), id -> new ConcurrentLinkedDeque<>()).add(entityId.version());
+        versions.computeIfAbsent(entityId.id(), id -> new CopyOnWriteArrayList<>()).add(entityId.version());
+    }
+
+    @Override
+    public void putAllVersions(@NonNull final String name, @NonNull final List<ME> entities) {
+        entities.forEach(entity -> Assert.isTrue(name.equals(entity.getId().id()),
+                "All versions must belong to the same name: " + name));
+        //this implementation cannot publish the versions atomically, they are added one by one
+        entities.forEach(entity -> put(entity.getId(), entity));
     }
 
     @Override
@@ -133,7 +180,7 @@ public class ConcurrentVersionedEntityMultiMap<K extends EntityId, V extends K,
                        @NonNull final VersionedEntityMultiMap<K, V, RE, ME> destination,
                        @NonNull final Function<ME, ME> applyToAll) {
         final Map<String, ME> toKeep = entities.remove(entityId.id());
-        final Deque<String> versions = this.versions.remove(entityId.id());
+        final List<String> versions = this.versions.remove(entityId.id());
         if (recoveryLevel.isRecoverable()) {
             versions.forEach(version -> destination
                     .put(versionCreateFunction.apply(entityId.id(), version), applyToAll.apply(toKeep.get(version))));
@@ -167,10 +214,21 @@ public class ConcurrentVersionedEntityMultiMap<K extends EntityId, V extends K,
         entities.values().forEach(entityVersions -> entityVersions.values().forEach(entityConsumer));
     }
 
+    @Override
+    public void timeShift(final int offsetSeconds) {
+        Assert.isTrue(offsetSeconds > 0, "Offset must be positive.");
+        forEachEntity(entity -> entity.timeShift(offsetSeconds));
+    }
+
     private Stream<ME> streamAllLatestEntities() {
+        //the entities map is sorted by name, no need to sort again
         return entities.keySet().stream()
-                .map(name -> versionCreateFunction.apply(name, versions.get(name).getLast()))
-                .sorted(Comparator.comparing(EntityId::id))
+                .map(this::latestVersionOf)
                 .map(this::getEntity);
     }
+
+    private V latestVersionOf(final String name) {
+        final List<String> availableVersions = versions.get(name);
+        return versionCreateFunction.apply(name, availableVersions.get(availableVersions.size() - 1));
+    }
 }
@@ -0,0 +1,326 @@
+package com.github.nagyesta.lowkeyvault.service.common.impl;
+
+import com.github.nagyesta.lowkeyvault.model.v7_2.common.constants.RecoveryLevel;
+import com.github.nagyesta.lowkeyvault.service.EntityId;
+import com.github.nagyesta.lowkeyvault.service.common.BaseVaultEntity;
+import com.github.nagyesta.lowkeyvault.service.common.VersionedEntityMultiMap;
+import com.github.nagyesta.lowkeyvault.service.exception.NotFoundException;
+import lombok.NonNull;
+import org.springframework.util.Assert;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Versioned entity map storing a single immutable record per entity name. Each record contains every version of the
+ * entity, and is replaced atomically when it is changed, therefore readers can never observe a partially updated name.
+ * The records are indexed by name as well, to allow listing the latest versions in order without sorting.
+ * When the map is used for deleted entities, the scheduled purge dates are tracked in deadline order, therefore
+ * purging the expired entities does not need to check every deleted entity.
+ *
+ * @param <K>  The type of the key (not versioned).
+ * @param <V>  The versioned key type.
+ * @param <RE> The read-only entity type.
+ * @param <ME> The modifiable entity type.
+ */
+public class CopyOnWriteVersionedEntityMultiMap<K extends EntityId, V extends K, RE extends BaseVaultEntity<V>, ME extends RE>
+        implements VersionedEntityMultiMap<K, V, RE, ME> {
+
+    private final BiFunction<String, String, V> versionCreateFunction;
+    private final Map<String, VersionedEntityRecord<ME>> records;
+    private final ConcurrentNavigableMap<String, VersionedEntityRecord<ME>> sortedRecords;
+    private final RecoveryLevel recoveryLevel;
+    private final Integer recoverableDays;
+    private final boolean deleted;
+    private final PurgeScheduler purgeScheduler;
+
+    public CopyOnWriteVersionedEntityMultiMap(@NonNull final RecoveryLevel recoveryLevel,
+                                              final Integer recoverableDays,
+                                              @NonNull final BiFunction<String, String, V> versionCreateFunction,
+                                              final boolean deleted) {
+        this.versionCreateFunction = versionCreateFunction;
+        recoveryLevel.checkValidRecoverableDays(recoverableDays);
+        this.recoveryLevel = recoveryLevel;
+        this.recoverableDays = recoverableDays;
+        this.deleted = deleted;
+        records = new ConcurrentHashMap<>();
+        sortedRecords = new ConcurrentSkipListMap<>();
+        purgeScheduler = new PurgeScheduler();
+    }
+
+    @Override
+    public List<RE> listLatestEntities() {
+        return streamAllLatestEntities()
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<RE> listLatestEntities(final int offset, final int limit) {
+        Assert.isTrue(offset >= 0, "Offset must not be negative.");
+        Assert.isTrue(limit >= 0, "Limit must not be negative.");
+        return streamAllLatestEntities()
+                .skip(offset)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<RE> listLatestEntitiesAfter(@NonNull final String lastName, final int limit) {
+        Assert.isTrue(limit >= 0, "Limit must not be negative.");
+        return sortedRecords.tailMap(lastName, false).values().stream()
+                .limit(limit)
+                .map(VersionedEntityRecord::latestEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<RE> listLatestNonManagedEntities() {
+        return streamAllLatestEntities()
+                .filter(entity -> !entity.isManaged())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<String> getVersions(@NonNull final K entityId) {
+        return getRecord(entityId).versions();
+    }
+
+    @Override
+    public List<String> getSortedVersions(@NonNull final K entityId) {
+        return getRecord(entityId).sortedVersions();
+    }
+
+    @Override
+    public List<String> listVersionsAfter(@NonNull final K entityId, final String lastVersion, final int limit) {
+        Assert.isTrue(limit >= 0, "Limit must not be negative.");
+        return getRecord(entityId).versionsAfter(lastVersion, limit);
+    }
+
+    @Override
+    public boolean containsName(@NonNull final String name) {
+        return records.containsKey(name);
+    }
+
+    @Override
+    public boolean containsEntityMatching(final String name, final Predicate<RE> predicate) {
+        return Optional.ofNullable(records.get(name))
+                .filter(r -> r.anyMatch(predicate::test))
+                .isPresent();
+    }
+
+    @Override
+    public boolean containsEntity(@NonNull final K entityId) {
+        return Optional.ofNullable(records.get(entityId.id()))
+                .filter(r -> r.containsVersion(entityId.version()))
+                .isPresent();
+    }
+
+    @Override
+    public void assertContainsEntity(@NonNull final V entityId) {
+        if (!containsEntity(entityId)) {
+            throw new NotFoundException("Entity not found: " + entityId);
+        }
+    }
+
+    @Override
+    public V getLatestVersionOfEntity(@NonNull final K entityId) {
+        return versionCreateFunction.apply(entityId.id(), getRecord(entityId).latestVersion());
+    }
+
+    @Override
+    public RE getReadOnlyEntity(@NonNull final V entityId) {
+        return getEntity(entityId);
+    }
+
+    @Override
+    public ME getEntity(@NonNull final V entityId) {
+        return Optional.ofNullable(records.get(entityId.id()))
+                .flatMap(r -> r.getEntity(entityId.version()))
+                .orElseThrow(() -> new NotFoundException("Entity not found: " + entityId));
+    }
+
+    @Override
+    public void put(@NonNull final V entityId, @NonNull final ME entity) {
+        updateRecord(entityId.id(), existing -> Optional.ofNullable(existing)
+                .map(r -> r.withVersion(entityId.version(), entity))
+                .orElseGet(() -> VersionedEntityRecord.of(entityId.version(), entity)));
+    }
+
+    @Override
+    public void putAllVersions(@NonNull final String name, @NonNull final List<ME> entities) {
+        entities.forEach(entity -> Assert.isTrue(name.equals(entity.getId().id()),
+                "All versions must belong to the same name: " + name));
+        if (entities.isEmpty()) {
+            return;
+        }
+        updateRecord(name, existing -> {
+            VersionedEntityRecord<ME> result = existing;
+            for (final ME entity : entities) {
+                final String version = entity.getId().version();
+                if (result == null) {
+                    result = VersionedEntityRecord.of(version, entity);
+                } else {
+                    result = result.withVersion(version, entity);
+                }
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public <R extends RE> R getEntity(@NonNull final V entityId, @NonNull final Class<R> type) {
+        return type.cast(this.getEntity(entityId));
+    }
+
+    @Override
+    public RecoveryLevel getRecoveryLevel() {
+        return recoveryLevel;
+    }
+
+    @Override
+    public Optional<Integer> getRecoverableDays() {
+        return Optional.ofNullable(recoverableDays);
+    }
+
+    @Override
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    /**
+     * Moves every version of the entity to the destination. The move is not atomic across the two maps, the versions
+     * are published in the destination before the record is removed from this map, therefore a reader can see the
+     * name in both maps for a moment, but never in neither of them. Callers must hold the lock of the name to prevent
+     * concurrent modifications of the moved record.
+     *
+     * @param entityId    The id of the entity.
+     * @param destination The destination map.
+     * @param applyToAll  The function applied to each version before publishing it in the destination.
+     */
+    @Override
+    public void moveTo(@NonNull final K entityId,
+                       @NonNull final VersionedEntityMultiMap<K, V, RE, ME> destination,
+                       @NonNull final Function<ME, ME> applyToAll) {
+        final VersionedEntityRecord<ME> toKeep = Optional.ofNullable(records.get(entityId.id()))
+                .orElseThrow(() -> new NotFoundException("Entity not found: " + entityId));
+        if (recoveryLevel.isRecoverable()) {
+            final VersionedEntityRecord<ME> moved = toKeep.mapEntities(applyToAll);
+            if (destination instanceof CopyOnWriteVersionedEntityMultiMap<K, V, RE, ME> copyOnWriteDestination) {
+                copyOnWriteDestination.putRecord(entityId.id(), moved);
+            } else {
+                moved.versions().forEach(version -> destination
+                        .put(versionCreateFunction.apply(entityId.id(), version), moved.getEntity(version).orElseThrow()));
+            }
+        }
+        updateRecord(entityId.id(), existing -> null);
+    }
+
+    @Override
+    public void purgeExpired() {
+        Assert.state(isDeleted(), "Purge cannot be called when map is not in deleted role.");
+        purgeScheduler.pollDue(OffsetDateTime.now(ZoneOffset.UTC)).forEach(name -> Optional.ofNullable(records.get(name))
+                .ifPresent(r -> {
+                    if (r.anyMatch(ME::isPurgeExpired)) {
+                        updateRecord(name, existing -> {
+                            if (existing == r) {
+                                return null;
+                            }
+                            return existing;
+                        });
+                    } else {
+                        //the purge date has been changed since the record was scheduled
+                        schedulePurge(name, r);
+                    }
+                }));
+    }
+
+    @Override
+    public void purgeDeleted(@NonNull final K entityId) {
+        Assert.state(isDeleted(), "Purge cannot be called when map is not in deleted role.");
+        updateRecord(entityId.id(), existing -> {
+            Optional.ofNullable(existing).ifPresent(r ->
+                    Assert.state(r.allMatch(ME::canPurge), "The selected elements cannot be purged."));
+            return null;
+        });
+    }
+
+    @Override
+    public void forEachEntity(@NonNull final Consumer<ME> entityConsumer) {
+        records.values().forEach(r -> r.entities().forEach(entityConsumer));
+    }
+
+    @Override
+    public void timeShift(final int offsetSeconds) {
+        Assert.isTrue(offsetSeconds > 0, "Offset must be positive.");
+        forEachEntity(entity -> entity.timeShift(offsetSeconds));
+        purgeScheduler.timeShift(offsetSeconds);
+    }
+
+    private void putRecord(final String name, final VersionedEntityRecord<ME> entityRecord) {
+        updateRecord(name, existing -> {
+            if (existing == null) {
+                return entityRecord;
+            }
+            VersionedEntityRecord<ME> result = existing;
+            for (final String version : entityRecord.versions()) {
+                result = result.withVersion(version, entityRecord.getEntity(version).orElseThrow());
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Updates the record of the given name atomically, keeping the name index in sync. The index is only modified
+     * while the lock of the record is held, therefore it cannot diverge from the primary map.
+     *
+     * @param name    The name of the entity.
+     * @param updater The function calculating the new record (or null for removal) based on the existing one.
+     */
+    private void updateRecord(final String name, final UnaryOperator<VersionedEntityRecord<ME>> updater) {
+        records.compute(name, (key, existing) -> {
+            final VersionedEntityRecord<ME> result = updater.apply(existing);
+            if (result == null) {
+                sortedRecords.remove(key);
+                if (deleted) {
+                    purgeScheduler.cancel(key);
+                }
+            } else {
+                sortedRecords.put(key, result);
+                if (deleted && result != existing) {
+                    schedulePurge(key, result);
+                }
+            }
+            return result;
+        });
+    }
+
+    private void schedulePurge(final String name, final VersionedEntityRecord<ME> entityRecord) {
+        //the record is purged when any of the versions expires, hence the earliest date is relevant
+        entityRecord.entities()
+                .map(ME::getScheduledPurgeDate)
+                .flatMap(Optional::stream)
+                .min(Comparator.naturalOrder())
+                .ifPresentOrElse(purgeDate -> purgeScheduler.schedule(name, purgeDate), () -> purgeScheduler.cancel(name));
+    }
+
+    private VersionedEntityRecord<ME> getRecord(final K entityId) {
+        return Optional.ofNullable(records.get(entityId.id()))
+                .orElseThrow(() -> new NotFoundException("Key not found: " + entityId));
+    }
+
+    private Stream<ME> streamAllLatestEntities() {
+        return sortedRecords.values().stream()
+                .map(VersionedEntityRecord::latestEntity);
+    }
+}
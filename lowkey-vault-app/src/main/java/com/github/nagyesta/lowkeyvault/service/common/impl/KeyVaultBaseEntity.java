@@ -7,26 +7,19 @@ import com.github.nagyesta.lowkeyvault.service.vault.VaultFake;
 import lombok.NonNull;
 
 import java.time.OffsetDateTime;
-import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
-@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
 public abstract class KeyVaultBaseEntity<V extends EntityId> extends KeyVaultLifecycleAwareEntity implements BaseVaultEntity<V> {
     private final RecoveryLevel recoveryLevel;
     private final Integer recoverableDays;
-    private Map<String, String> tags;
-    private Optional<OffsetDateTime> deletedDate;
-    private Optional<OffsetDateTime> scheduledPurgeDate;
-    private boolean managed;
+    private final Map<Object, Runnable> releaseListeners = new ConcurrentHashMap<>();
 
     protected KeyVaultBaseEntity(@NonNull final VaultFake vault) {
         super();
         this.recoveryLevel = vault.getRecoveryLevel();
         this.recoverableDays = vault.getRecoverableDays();
-        this.tags = Collections.emptyMap();
-        this.deletedDate = Optional.empty();
-        this.scheduledPurgeDate = Optional.empty();
     }
 
     @Override
@@ -41,33 +34,34 @@ public abstract class KeyVaultBaseEntity<V extends EntityId> extends KeyVaultLif
 
     @Override
     public Map<String, String> getTags() {
-        return tags;
+        return getAttributes().tags();
     }
 
     @Override
     public void setTags(final Map<String, String> tags) {
-        updatedNow();
-        this.tags = Map.copyOf(tags);
+        final Map<String, String> copy = Map.copyOf(tags);
+        final OffsetDateTime now = now();
+        updateAttributes(a -> a.withTags(copy).withUpdated(now));
     }
 
     @Override
     public Optional<OffsetDateTime> getDeletedDate() {
-        return deletedDate;
+        return getAttributes().deletedDate();
     }
 
     @Override
     public void setDeletedDate(final OffsetDateTime deletedDate) {
-        this.deletedDate = Optional.ofNullable(deletedDate);
+        updateAttributes(a -> a.withDeletedDate(deletedDate));
     }
 
     @Override
     public Optional<OffsetDateTime> getScheduledPurgeDate() {
-        return scheduledPurgeDate;
+        return getAttributes().scheduledPurgeDate();
     }
 
     @Override
     public void setScheduledPurgeDate(final OffsetDateTime scheduledPurgeDate) {
-        this.scheduledPurgeDate = Optional.ofNullable(scheduledPurgeDate);
+        updateAttributes(a -> a.withScheduledPurgeDate(scheduledPurgeDate));
     }
 
     @Override
@@ -83,19 +77,23 @@ public abstract class KeyVaultBaseEntity<V extends EntityId> extends KeyVaultLif
     }
 
     @Override
-    public void timeShift(final int offsetSeconds) {
-        super.timeShift(offsetSeconds);
-        deletedDate = deletedDate.map(offsetDateTime -> offsetDateTime.minusSeconds(offsetSeconds));
-        scheduledPurgeDate = scheduledPurgeDate.map(offsetDateTime -> offsetDateTime.minusSeconds(offsetSeconds));
+    public boolean isManaged() {
+        return getAttributes().managed();
     }
 
     @Override
-    public boolean isManaged() {
-        return managed;
+    public void setManaged(final boolean managed) {
+        updateAttributes(a -> a.withManaged(managed));
     }
 
     @Override
-    public void setManaged(final boolean managed) {
-        this.managed = managed;
+    public void addReleaseListener(@NonNull final Object owner, @NonNull final Runnable listener) {
+        releaseListeners.put(owner, listener);
+    }
+
+    @Override
+    public void releaseResources() {
+        releaseListeners.keySet().forEach(owner -> Optional.ofNullable(releaseListeners.remove(owner))
+                .ifPresent(Runnable::run));
     }
 }
@@ -1,60 +1,103 @@
 package com.github.nagyesta.lowkeyvault.service.common.impl;
 
-import lombok.Getter;
+import com.github.nagyesta.lowkeyvault.service.common.EntityAttributes;
 import org.springframework.lang.NonNull;
 import org.springframework.util.Assert;
 
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
-@Getter
-@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+/**
+ * Base class of entities with a lifecycle. The mutable attributes are kept in a single immutable
+ * {@link EntityAttributes} snapshot which is replaced atomically on every update.
+ */
 public class KeyVaultLifecycleAwareEntity {
-    private OffsetDateTime created;
-    private Optional<OffsetDateTime> notBefore;
-    private Optional<OffsetDateTime> expiry;
-    private OffsetDateTime updated;
-    private boolean enabled;
+    private final AtomicReference<EntityAttributes> attributes;
+    private final AtomicLong revision = new AtomicLong();
 
     protected KeyVaultLifecycleAwareEntity() {
-        this.enabled = true;
-        this.created = now();
-        this.updated = now();
-        this.notBefore = Optional.empty();
-        this.expiry = Optional.empty();
+        this.attributes = new AtomicReference<>(EntityAttributes.created(now()));
+    }
+
+    public EntityAttributes getAttributes() {
+        return attributes.get();
+    }
+
+    /**
+     * Returns the revision of the mutable state. The revision is increased after every update, therefore
+     * anything derived from the state observed after reading the revision is at least as recent as the revision.
+     *
+     * @return The revision.
+     */
+    public long getRevision() {
+        return revision.get();
+    }
+
+    public OffsetDateTime getCreated() {
+        return getAttributes().created();
+    }
+
+    public Optional<OffsetDateTime> getNotBefore() {
+        return getAttributes().notBefore();
+    }
+
+    public Optional<OffsetDateTime> getExpiry() {
+        return getAttributes().expiry();
+    }
+
+    public OffsetDateTime getUpdated() {
+        return getAttributes().updated();
+    }
+
+    public boolean isEnabled() {
+        return getAttributes().enabled();
     }
 
     public void setEnabled(final boolean enabled) {
-        this.enabled = enabled;
+        updateAttributes(a -> a.withEnabled(enabled));
     }
 
     public void setNotBefore(final OffsetDateTime notBefore) {
-        this.notBefore = Optional.ofNullable(notBefore);
+        updateAttributes(a -> a.withNotBefore(notBefore));
     }
 
     public void setExpiry(final OffsetDateTime expiry) {
-        this.expiry = Optional.ofNullable(expiry);
+        updateAttributes(a -> a.withExpiry(expiry));
     }
 
     public void timeShift(final int offsetSeconds) {
         Assert.isTrue(offsetSeconds > 0, "Offset must be positive.");
-        created = created.minusSeconds(offsetSeconds);
-        updated = updated.minusSeconds(offsetSeconds);
-        notBefore = notBefore.map(offsetDateTime -> offsetDateTime.minusSeconds(offsetSeconds));
-        expiry = expiry.map(offsetDateTime -> offsetDateTime.minusSeconds(offsetSeconds));
+        updateAttributes(a -> a.timeShift(offsetSeconds));
     }
 
     public void setCreatedOn(@NonNull final OffsetDateTime createdOn) {
-        this.created = createdOn;
+        updateAttributes(a -> a.withCreated(createdOn));
     }
 
     public void setUpdatedOn(@NonNull final OffsetDateTime updatedOn) {
-        this.updated = updatedOn;
+        updateAttributes(a -> a.withUpdated(updatedOn));
     }
 
     protected void updatedNow() {
-        this.updated = now();
+        final OffsetDateTime now = now();
+        updateAttributes(a -> a.withUpdated(now));
+    }
+
+    /**
+     * Replaces the attribute snapshot using compare and set. The update function can be called more than once
+     * in case of contention, therefore it must not have side effects.
+     *
+     * @param update The function calculating the new snapshot from the current one.
+     * @return The new snapshot.
+     */
+    protected EntityAttributes updateAttributes(@NonNull final UnaryOperator<EntityAttributes> update) {
+        final EntityAttributes updated = attributes.updateAndGet(update);
+        revision.incrementAndGet();
+        return updated;
     }
 
     protected OffsetDateTime now() {
@@ -0,0 +1,48 @@
+package com.github.nagyesta.lowkeyvault.service.common.impl;
+
+import lombok.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe supplier calculating the value of the delegate on the first call and returning the same value later.
+ * The reference of the delegate is dropped after the calculation to let it be garbage collected.
+ *
+ * @param <T> The type of the value.
+ */
+public final class MemoizingSupplier<T> implements Supplier<T> {
+
+    private volatile Supplier<T> delegate;
+    private volatile T value;
+
+    public MemoizingSupplier(@NonNull final Supplier<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public T get() {
+        T result = value;
+        if (result == null) {
+            synchronized (this) {
+                result = value;
+                if (result == null) {
+                    result = delegate.get();
+                    Assert.notNull(result, "Memoized value must not be null.");
+                    value = result;
+                    delegate = null;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether the value is calculated already.
+     *
+     * @return true if the value is available without calling the delegate.
+     */
+    public boolean isMaterialized() {
+        return value != null;
+    }
+}
@@ -0,0 +1,111 @@
+package com.github.nagyesta.lowkeyvault.service.common.impl;
+
+import com.github.nagyesta.lowkeyvault.service.common.TimeAware;
+import lombok.NonNull;
+import org.springframework.util.Assert;
+
+import java.time.OffsetDateTime;
+import java.util.*;
+
+/**
+ * Keeps track of the scheduled purge dates of deleted entities ordered by their deadline, to allow finding the
+ * expired ones without checking every deleted entity. The deadlines are stored relative to the total time shift
+ * applied so far, therefore a time shift only needs to update a single counter instead of every entry.
+ * Each name has at most one live deadline. Rescheduled and cancelled entries are not removed from the queue
+ * immediately, they are skipped when polled, and the queue is compacted when the stale entries outnumber the live ones.
+ * The scheduler only provides candidates, the owner must verify that the entity is still expired before purging it.
+ */
+final class PurgeScheduler implements TimeAware {
+
+    private static final int COMPACTION_MIN_STALE_ENTRIES = 64;
+    private final PriorityQueue<ScheduledPurge> queue;
+    private final Map<String, Long> deadlines;
+    private long shiftedSeconds;
+
+    PurgeScheduler() {
+        this.queue = new PriorityQueue<>(Comparator.comparingLong(ScheduledPurge::deadline));
+        this.deadlines = new HashMap<>();
+    }
+
+    /**
+     * Sets the purge deadline of the name, replacing the previously scheduled one if there was any.
+     *
+     * @param name      The name of the entity.
+     * @param purgeDate The scheduled purge date.
+     */
+    synchronized void schedule(@NonNull final String name, @NonNull final OffsetDateTime purgeDate) {
+        final long deadline = purgeDate.toEpochSecond() + shiftedSeconds;
+        final Long previous = deadlines.put(name, deadline);
+        if (previous == null || previous != deadline) {
+            queue.add(new ScheduledPurge(name, deadline));
+            compactIfNeeded();
+        }
+    }
+
+    /**
+     * Cancels the scheduled purge of the name (if any).
+     *
+     * @param name The name of the entity.
+     */
+    synchronized void cancel(@NonNull final String name) {
+        deadlines.remove(name);
+    }
+
+    /**
+     * Removes and returns the names having a scheduled purge date at or before the provided time.
+     *
+     * @param now The current time.
+     * @return The names which might be expired already.
+     */
+    synchronized List<String> pollDue(@NonNull final OffsetDateTime now) {
+        final long threshold = now.toEpochSecond() + shiftedSeconds;
+        final List<String> due = new ArrayList<>();
+        while (!queue.isEmpty() && queue.peek().deadline() <= threshold) {
+            final ScheduledPurge polled = queue.poll();
+            if (isLive(polled)) {
+                deadlines.remove(polled.name());
+                due.add(polled.name());
+            }
+        }
+        return due;
+    }
+
+    /**
+     * Returns the number of names with a live deadline.
+     *
+     * @return The number of scheduled names.
+     */
+    synchronized int size() {
+        return deadlines.size();
+    }
+
+    /**
+     * Returns the number of queued entries including the stale ones.
+     *
+     * @return The size of the queue.
+     */
+    synchronized int queuedSize() {
+        return queue.size();
+    }
+
+    @Override
+    public synchronized void timeShift(final int offsetSeconds) {
+        Assert.isTrue(offsetSeconds > 0, "Offset must be positive.");
+        shiftedSeconds += offsetSeconds;
+    }
+
+    private boolean isLive(final ScheduledPurge scheduledPurge) {
+        final Long deadline = deadlines.get(scheduledPurge.name());
+        return deadline != null && deadline == scheduledPurge.deadline();
+    }
+
+    private void compactIfNeeded() {
+        final int stale = queue.size() - deadlines.size();
+        if (stale > COMPACTION_MIN_STALE_ENTRIES && stale > deadlines.size()) {
+            queue.removeIf(scheduledPurge -> !isLive(scheduledPurge));
+        }
+    }
+
+    private record ScheduledPurge(String name, long deadline) {
+    }
+}
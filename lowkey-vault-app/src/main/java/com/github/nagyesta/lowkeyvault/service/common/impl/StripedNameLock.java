@@ -0,0 +1,49 @@
+package com.github.nagyesta.lowkeyvault.service.common.impl;
+
+import lombok.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Fixed size table of reentrant locks selected by the name of the entity. Operations modifying the same name are
+ * serialized, while operations on names mapped to different stripes can run in parallel.
+ */
+final class StripedNameLock {
+
+    private final ReentrantLock[] stripes;
+
+    StripedNameLock(final int stripeCount) {
+        Assert.isTrue(stripeCount > 0, "Stripe count must be positive.");
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    <T> T callLocked(@NonNull final String name, @NonNull final Supplier<T> action) {
+        final ReentrantLock lock = stripeOf(name);
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void runLocked(@NonNull final String name, @NonNull final Runnable action) {
+        callLocked(name, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    boolean isHeldByCurrentThread(@NonNull final String name) {
+        return stripeOf(name).isHeldByCurrentThread();
+    }
+
+    private ReentrantLock stripeOf(final String name) {
+        return stripes[Math.floorMod(name.hashCode(), stripes.length)];
+    }
+}
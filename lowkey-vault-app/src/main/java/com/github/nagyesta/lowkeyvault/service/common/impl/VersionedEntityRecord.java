@@ -0,0 +1,132 @@
+package com.github.nagyesta.lowkeyvault.service.common.impl;
+
+import lombok.NonNull;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Immutable holder of every version of a single named entity. Updates return a new instance
+ * (copy-on-write), therefore a record can be swapped atomically by the map holding it.
+ *
+ * @param <E> The type of the entity.
+ */
+final class VersionedEntityRecord<E> {
+
+    private final String[] versions;
+    private final String[] sortedVersions;
+    private final Object[] entities;
+    private final Map<String, Integer> indexes;
+
+    private VersionedEntityRecord(final String[] versions, final String[] sortedVersions, final Object[] entities) {
+        this.versions = versions;
+        this.sortedVersions = sortedVersions;
+        this.entities = entities;
+        final Map<String, Integer> versionIndexes = new HashMap<>(versions.length * 2);
+        for (int i = 0; i < versions.length; i++) {
+            versionIndexes.put(versions[i], i);
+        }
+        this.indexes = Collections.unmodifiableMap(versionIndexes);
+    }
+
+    static <E> VersionedEntityRecord<E> of(@NonNull final String version, @NonNull final E entity) {
+        return new VersionedEntityRecord<>(new String[]{version}, new String[]{version}, new Object[]{entity});
+    }
+
+    VersionedEntityRecord<E> withVersion(@NonNull final String version, @NonNull final E entity) {
+        final Integer existingIndex = indexes.get(version);
+        final VersionedEntityRecord<E> result;
+        if (existingIndex != null) {
+            final Object[] newEntities = Arrays.copyOf(entities, entities.length);
+            newEntities[existingIndex] = entity;
+            result = new VersionedEntityRecord<>(versions, sortedVersions, newEntities);
+        } else {
+            final String[] newVersions = Arrays.copyOf(versions, versions.length + 1);
+            final Object[] newEntities = Arrays.copyOf(entities, entities.length + 1);
+            newVersions[versions.length] = version;
+            newEntities[entities.length] = entity;
+            result = new VersionedEntityRecord<>(newVersions, insertSorted(version), newEntities);
+        }
+        return result;
+    }
+
+    <R> VersionedEntityRecord<R> mapEntities(@NonNull final Function<E, R> mapper) {
+        final Object[] newEntities = new Object[entities.length];
+        for (int i = 0; i < entities.length; i++) {
+            newEntities[i] = mapper.apply(entityAt(i));
+        }
+        return new VersionedEntityRecord<>(versions, sortedVersions, newEntities);
+    }
+
+    boolean containsVersion(@NonNull final String version) {
+        return indexes.containsKey(version);
+    }
+
+    Optional<E> getEntity(@NonNull final String version) {
+        return Optional.ofNullable(indexes.get(version))
+                .map(this::entityAt);
+    }
+
+    String latestVersion() {
+        return versions[versions.length - 1];
+    }
+
+    E latestEntity() {
+        return entityAt(entities.length - 1);
+    }
+
+    List<String> versions() {
+        //the arrays are never modified after construction, therefore it is safe to expose a view
+        return Collections.unmodifiableList(Arrays.asList(versions));
+    }
+
+    List<String> sortedVersions() {
+        return Collections.unmodifiableList(Arrays.asList(sortedVersions));
+    }
+
+    List<String> versionsAfter(final String lastVersion, final int limit) {
+        int from = 0;
+        if (lastVersion != null) {
+            final int index = Arrays.binarySearch(sortedVersions, lastVersion);
+            if (index >= 0) {
+                from = index + 1;
+            } else {
+                from = -(index + 1);
+            }
+        }
+        final int to = (int) Math.min(sortedVersions.length, (long) from + limit);
+        return List.of(Arrays.copyOfRange(sortedVersions, from, Math.max(from, to)));
+    }
+
+    Stream<E> entities() {
+        return Arrays.stream(entities).map(this::cast);
+    }
+
+    boolean anyMatch(@NonNull final Predicate<E> predicate) {
+        return entities().anyMatch(predicate);
+    }
+
+    boolean allMatch(@NonNull final Predicate<E> predicate) {
+        return entities().allMatch(predicate);
+    }
+
+    private String[] insertSorted(final String version) {
+        final int insertionPoint = -(Arrays.binarySearch(sortedVersions, version) + 1);
+        final String[] result = new String[sortedVersions.length + 1];
+        System.arraycopy(sortedVersions, 0, result, 0, insertionPoint);
+        result[insertionPoint] = version;
+        System.arraycopy(sortedVersions, insertionPoint, result, insertionPoint + 1, sortedVersions.length - insertionPoint);
+        return result;
+    }
+
+    private E entityAt(final int index) {
+        return cast(entities[index]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private E cast(final Object entity) {
+        return (E) entity;
+    }
+}
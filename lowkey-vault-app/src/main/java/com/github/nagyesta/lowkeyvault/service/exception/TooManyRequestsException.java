@@ -0,0 +1,11 @@
+package com.github.nagyesta.lowkeyvault.service.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.nagyesta.lowkeyvault.service.key;
+
+/**
+ * The parameters produced by an encryption in addition to the cipher text.
+ *
+ * @param initializationVector The initialization vector used for the encryption (generated by the vault in case
+ *                             of authenticated algorithms).
+ * @param authenticationTag    The authentication tag in case of authenticated algorithms, null otherwise.
+ */
+public record EncryptionParameters(byte[] initializationVector, byte[] authenticationTag) {
+}
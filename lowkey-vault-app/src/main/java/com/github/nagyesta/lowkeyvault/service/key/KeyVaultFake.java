@@ -8,12 +8,45 @@ import com.github.nagyesta.lowkeyvault.service.key.id.KeyEntityId;
 import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
 import com.github.nagyesta.lowkeyvault.service.key.impl.*;
 
+import java.security.KeyPair;
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 public interface KeyVaultFake extends BaseVaultFake<KeyEntityId, VersionedKeyEntityId, ReadOnlyKeyVaultKeyEntity> {
 
     VersionedKeyEntityId createKeyVersion(String keyName, KeyCreateDetailedInput input);
 
+    /**
+     * Generates and configures a new key version without publishing it. Should be called without holding any locks, as
+     * the generation can be slow. The version becomes visible only when {@link #publishKeyVersion(KeyVaultKeyEntity)}
+     * is called.
+     *
+     * @param keyName The name of the key.
+     * @param input   The input describing the new version.
+     * @return The configured, but not yet published entity.
+     */
+    KeyVaultKeyEntity<?, ?> prepareKeyVersion(String keyName, KeyCreateDetailedInput input);
+
+    /**
+     * Converts and configures an imported key version without publishing it.
+     *
+     * @param keyEntityId The id of the new version.
+     * @param input       The input describing the new version.
+     * @return The configured, but not yet published entity.
+     * @throws CryptoException When the key cannot be converted.
+     * @see #prepareKeyVersion(String, KeyCreateDetailedInput)
+     */
+    KeyVaultKeyEntity<?, ?> prepareImportedKeyVersion(VersionedKeyEntityId keyEntityId, KeyImportInput input) throws CryptoException;
+
+    /**
+     * Publishes a key version prepared earlier.
+     *
+     * @param keyEntity The entity returned by one of the prepare methods.
+     * @return The id of the new version.
+     */
+    VersionedKeyEntityId publishKeyVersion(KeyVaultKeyEntity<?, ?> keyEntity);
+
     VersionedKeyEntityId createRsaKeyVersion(String keyName, RsaKeyCreationInput input);
 
     VersionedKeyEntityId createEcKeyVersion(String keyName, EcKeyCreationInput input);
@@ -37,4 +70,28 @@ public interface KeyVaultFake extends BaseVaultFake<KeyEntityId, VersionedKeyEnt
     void setRotationPolicy(RotationPolicy rotationPolicy);
 
     VersionedKeyEntityId rotateKey(KeyEntityId entityId);
+
+    /**
+     * Rotates a key managed by a certificate once for each validity start using key pairs generated in advance (see
+     * {@link #generateRotationKeyPairs(KeyEntityId, int)}). Every version is fully configured before the versions are
+     * published together.
+     *
+     * @param entityId       The id of the key.
+     * @param keyPairs       The key pairs matching the parameters of the latest version, one for each validity start.
+     * @param validityStarts The validity starts in order (used as notBefore, created and updated timestamps).
+     * @param expiryFunction The function calculating the expiry based on the validity start.
+     * @return The ids of the new versions.
+     */
+    List<VersionedKeyEntityId> rotateManagedKey(KeyEntityId entityId, List<KeyPair> keyPairs,
+                                                List<OffsetDateTime> validityStarts, UnaryOperator<OffsetDateTime> expiryFunction);
+
+    /**
+     * Generates key pairs using the parameters of the latest version of an RSA or EC key. Should be called without
+     * holding any locks, as the generation can be slow when the key pair pool cannot serve the request.
+     *
+     * @param entityId The id of the key.
+     * @param count    The number of key pairs needed.
+     * @return The key pairs.
+     */
+    List<KeyPair> generateRotationKeyPairs(KeyEntityId entityId, int count);
 }
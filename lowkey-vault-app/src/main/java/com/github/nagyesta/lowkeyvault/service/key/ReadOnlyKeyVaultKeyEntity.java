@@ -5,10 +5,14 @@ import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyOperation;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyType;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.SignatureAlgorithm;
 import com.github.nagyesta.lowkeyvault.service.common.BaseVaultEntity;
+import com.github.nagyesta.lowkeyvault.service.exception.CryptoException;
 import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
 import com.github.nagyesta.lowkeyvault.service.key.impl.KeyCreationInput;
 import org.springframework.util.Assert;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
@@ -27,10 +31,76 @@ public interface ReadOnlyKeyVaultKeyEntity extends BaseVaultEntity<VersionedKeyE
         return new String(decryptToBytes(encrypted, encryptionAlgorithm, iv));
     }
 
+    /**
+     * Encrypts the clear text in a single step. Authenticated algorithms are not supported, because they need the
+     * authentication tag to be returned separately, use {@link #encryptStream(InputStream, OutputStream,
+     * EncryptionAlgorithm, byte[], byte[])} instead.
+     *
+     * @param clear               The clear text.
+     * @param encryptionAlgorithm The algorithm.
+     * @param iv                  The initialization vector.
+     * @return The cipher text.
+     */
     byte[] encryptBytes(byte[] clear, EncryptionAlgorithm encryptionAlgorithm, byte[] iv);
 
+    /**
+     * Decrypts the cipher text in a single step. Authenticated algorithms are not supported, use
+     * {@link #decryptStream(InputStream, OutputStream, EncryptionAlgorithm, byte[], byte[], byte[])} instead.
+     *
+     * @param encrypted           The cipher text.
+     * @param encryptionAlgorithm The algorithm.
+     * @param iv                  The initialization vector.
+     * @return The clear text.
+     */
     byte[] decryptToBytes(byte[] encrypted, EncryptionAlgorithm encryptionAlgorithm, byte[] iv);
 
+    /**
+     * Encrypts the data read from the input stream and writes the cipher text to the output stream. Implementations
+     * supporting large inputs process the data in chunks, the default implementation reads the whole input.
+     * Authenticated algorithms generate a new initialization vector for every encryption and return the
+     * authentication tag separately, it is never appended to the cipher text.
+     *
+     * @param clear               The stream of the clear text.
+     * @param encrypted           The stream receiving the cipher text.
+     * @param encryptionAlgorithm The algorithm.
+     * @param iv                  The initialization vector (must be null for authenticated algorithms).
+     * @param aad                 The additional authenticated data (only supported by authenticated algorithms).
+     * @return The initialization vector and the authentication tag used by the encryption.
+     */
+    default EncryptionParameters encryptStream(final InputStream clear, final OutputStream encrypted,
+                                               final EncryptionAlgorithm encryptionAlgorithm, final byte[] iv, final byte[] aad) {
+        Assert.isNull(aad, "Additional authenticated data is not supported by: " + encryptionAlgorithm.getValue());
+        try {
+            encrypted.write(encryptBytes(clear.readAllBytes(), encryptionAlgorithm, iv));
+        } catch (final IOException e) {
+            throw new CryptoException("Cannot encrypt message.", e);
+        }
+        return new EncryptionParameters(iv, null);
+    }
+
+    /**
+     * Decrypts the cipher text read from the input stream and writes the clear text to the output stream.
+     * Implementations supporting large inputs process the data in chunks, the default implementation reads the
+     * whole input.
+     *
+     * @param encrypted           The stream of the cipher text.
+     * @param clear               The stream receiving the clear text.
+     * @param encryptionAlgorithm The algorithm.
+     * @param iv                  The initialization vector.
+     * @param aad                 The additional authenticated data (only supported by authenticated algorithms).
+     * @param tag                 The authentication tag (only supported by authenticated algorithms).
+     */
+    default void decryptStream(final InputStream encrypted, final OutputStream clear,
+                               final EncryptionAlgorithm encryptionAlgorithm, final byte[] iv, final byte[] aad, final byte[] tag) {
+        Assert.isNull(aad, "Additional authenticated data is not supported by: " + encryptionAlgorithm.getValue());
+        Assert.isNull(tag, "Authentication tag is not supported by: " + encryptionAlgorithm.getValue());
+        try {
+            clear.write(decryptToBytes(encrypted.readAllBytes(), encryptionAlgorithm, iv));
+        } catch (final IOException e) {
+            throw new CryptoException("Cannot decrypt message.", e);
+        }
+    }
+
     byte[] signBytes(byte[] digest, SignatureAlgorithm encryptionAlgorithm);
 
     boolean verifySignedBytes(byte[] digest, SignatureAlgorithm encryptionAlgorithm, byte[] signature);
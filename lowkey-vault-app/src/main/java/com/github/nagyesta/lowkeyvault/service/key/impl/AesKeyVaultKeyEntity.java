@@ -4,6 +4,7 @@ import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.EncryptionAlgori
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyOperation;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyType;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.SignatureAlgorithm;
+import com.github.nagyesta.lowkeyvault.service.key.EncryptionParameters;
 import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyAesKeyVaultKeyEntity;
 import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
 import com.github.nagyesta.lowkeyvault.service.key.util.KeyGenUtil;
@@ -14,14 +15,28 @@ import org.springframework.util.Assert;
 
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.IvParameterSpec;
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 
 import static com.github.nagyesta.lowkeyvault.service.key.util.KeyGenUtil.generateAes;
 
 @Slf4j
 public class AesKeyVaultKeyEntity extends KeyVaultKeyEntity<SecretKey, Integer> implements ReadOnlyAesKeyVaultKeyEntity {
 
+    private static final int GCM_TAG_LENGTH_BYTES = 16;
+    private static final int GCM_IV_LENGTH_BYTES = 12;
+    private static final int STREAM_CHUNK_SIZE = 8192;
+    private static final Set<KeyOperation> DISALLOWED_OPERATIONS = Collections.unmodifiableSet(
+            EnumSet.of(KeyOperation.SIGN, KeyOperation.VERIFY));
+
     public AesKeyVaultKeyEntity(@NonNull final VersionedKeyEntityId id,
                                 @NonNull final VaultFake vault,
                                 final Integer keyParam,
@@ -58,24 +73,19 @@ public class AesKeyVaultKeyEntity extends KeyVaultKeyEntity<SecretKey, Integer>
     }
 
     @Override
-    protected List<KeyOperation> disallowedOperations() {
-        return List.of(KeyOperation.SIGN, KeyOperation.VERIFY);
+    protected Set<KeyOperation> disallowedOperations() {
+        return DISALLOWED_OPERATIONS;
     }
 
     @Override
     public byte[] encryptBytes(
             @NonNull final byte[] clear, @NonNull final EncryptionAlgorithm encryptionAlgorithm,
             final byte[] iv) {
-        Assert.state(getOperations().contains(KeyOperation.ENCRYPT), getId() + " does not have ENCRYPT operation assigned.");
-        Assert.state(getOperations().contains(KeyOperation.WRAP_KEY), getId() + " does not have WRAP_KEY operation assigned.");
-        Assert.state(isEnabled(), getId() + " is not enabled.");
-        Assert.isTrue(this.getKeySize() == encryptionAlgorithm.getMaxKeySize(),
-                "Key size (" + getKeySize() + ") is not matching the size required by the selected algorithm: "
-                        + encryptionAlgorithm.getValue());
-        Assert.isTrue(iv != null, "IV must not be null.");
+        validateCryptoInputs(KeyOperation.ENCRYPT, KeyOperation.WRAP_KEY, encryptionAlgorithm);
+        validateNotAuthenticated(encryptionAlgorithm);
+        validateIv(iv);
         return doCrypto(() -> {
-            final Cipher cipher = Cipher.getInstance(encryptionAlgorithm.getAlg(), KeyGenUtil.BOUNCY_CASTLE_PROVIDER);
-            cipher.init(Cipher.ENCRYPT_MODE, this.getKey(), new IvParameterSpec(iv));
+            final Cipher cipher = initCipher(Cipher.ENCRYPT_MODE, encryptionAlgorithm, iv, null);
             return cipher.doFinal(clear);
         }, "Cannot encrypt message.", log);
     }
@@ -83,20 +93,61 @@ public class AesKeyVaultKeyEntity extends KeyVaultKeyEntity<SecretKey, Integer>
     @Override
     public byte[] decryptToBytes(@NonNull final byte[] encrypted, @NonNull final EncryptionAlgorithm encryptionAlgorithm,
                                  final byte[] iv) {
-        Assert.state(getOperations().contains(KeyOperation.DECRYPT), getId() + " does not have DECRYPT operation assigned.");
-        Assert.state(getOperations().contains(KeyOperation.UNWRAP_KEY), getId() + " does not have UNWRAP_KEY operation assigned.");
-        Assert.state(isEnabled(), getId() + " is not enabled.");
-        Assert.isTrue(this.getKeySize() == encryptionAlgorithm.getMaxKeySize(),
-                "Key size (" + getKeySize() + ") is not matching the size required by the selected algorithm: "
-                        + encryptionAlgorithm.getValue());
-        Assert.isTrue(iv != null, "IV must not be null.");
+        validateCryptoInputs(KeyOperation.DECRYPT, KeyOperation.UNWRAP_KEY, encryptionAlgorithm);
+        validateNotAuthenticated(encryptionAlgorithm);
+        validateIv(iv);
         return doCrypto(() -> {
-            final Cipher cipher = Cipher.getInstance(encryptionAlgorithm.getAlg(), KeyGenUtil.BOUNCY_CASTLE_PROVIDER);
-            cipher.init(Cipher.DECRYPT_MODE, this.getKey(), new IvParameterSpec(iv));
+            final Cipher cipher = initCipher(Cipher.DECRYPT_MODE, encryptionAlgorithm, iv, null);
             return cipher.doFinal(encrypted);
         }, "Cannot decrypt message.", log);
     }
 
+    @Override
+    public EncryptionParameters encryptStream(@NonNull final InputStream clear, @NonNull final OutputStream encrypted,
+                                              @NonNull final EncryptionAlgorithm encryptionAlgorithm, final byte[] iv,
+                                              final byte[] aad) {
+        validateCryptoInputs(KeyOperation.ENCRYPT, KeyOperation.WRAP_KEY, encryptionAlgorithm);
+        validateAuthenticatedInputs(encryptionAlgorithm, aad);
+        final byte[] actualIv = encryptionIv(encryptionAlgorithm, iv);
+        return doCrypto(() -> {
+            final Cipher cipher = initCipher(Cipher.ENCRYPT_MODE, encryptionAlgorithm, actualIv, aad);
+            updateInChunks(cipher, clear, encrypted);
+            final byte[] last = cipher.doFinal();
+            byte[] tag = null;
+            int cipherTextLength = last.length;
+            if (encryptionAlgorithm.isAuthenticated()) {
+                cipherTextLength -= GCM_TAG_LENGTH_BYTES;
+                tag = Arrays.copyOfRange(last, cipherTextLength, last.length);
+            }
+            encrypted.write(last, 0, cipherTextLength);
+            return new EncryptionParameters(actualIv, tag);
+        }, "Cannot encrypt message.", log);
+    }
+
+    @Override
+    public void decryptStream(@NonNull final InputStream encrypted, @NonNull final OutputStream clear,
+                              @NonNull final EncryptionAlgorithm encryptionAlgorithm, final byte[] iv,
+                              final byte[] aad, final byte[] tag) {
+        validateCryptoInputs(KeyOperation.DECRYPT, KeyOperation.UNWRAP_KEY, encryptionAlgorithm);
+        validateAuthenticatedInputs(encryptionAlgorithm, aad);
+        validateIv(iv);
+        if (encryptionAlgorithm.isAuthenticated()) {
+            Assert.isTrue(tag != null && tag.length == GCM_TAG_LENGTH_BYTES, "Authentication tag must be 16 bytes long.");
+        } else {
+            Assert.isNull(tag, "Authentication tag is not supported by: " + encryptionAlgorithm.getValue());
+        }
+        doCrypto(() -> {
+            final Cipher cipher = initCipher(Cipher.DECRYPT_MODE, encryptionAlgorithm, iv, aad);
+            updateInChunks(cipher, encrypted, clear);
+            if (encryptionAlgorithm.isAuthenticated()) {
+                clear.write(cipher.doFinal(tag));
+            } else {
+                clear.write(cipher.doFinal());
+            }
+            return null;
+        }, "Cannot decrypt message.", log);
+    }
+
     @Override
     public byte[] signBytes(final byte[] digest, final SignatureAlgorithm encryptionAlgorithm) {
         throw new UnsupportedOperationException("Sign is not supported for OCT keys.");
@@ -108,4 +159,76 @@ public class AesKeyVaultKeyEntity extends KeyVaultKeyEntity<SecretKey, Integer>
                                      final byte[] signature) {
         throw new UnsupportedOperationException("Verify is not supported for OCT keys.");
     }
+
+    private void validateCryptoInputs(final KeyOperation operation, final KeyOperation wrapOperation,
+                                      final EncryptionAlgorithm encryptionAlgorithm) {
+        assertOperationAssigned(operation);
+        assertOperationAssigned(wrapOperation);
+        assertEnabled();
+        Assert.isTrue(this.getKeySize() == encryptionAlgorithm.getMaxKeySize(),
+                () -> "Key size (" + getKeySize() + ") is not matching the size required by the selected algorithm: "
+                        + encryptionAlgorithm.getValue());
+    }
+
+    private void validateIv(final byte[] iv) {
+        Assert.isTrue(iv != null, "IV must not be null.");
+    }
+
+    private void validateNotAuthenticated(final EncryptionAlgorithm encryptionAlgorithm) {
+        Assert.isTrue(!encryptionAlgorithm.isAuthenticated(),
+                () -> "The authentication tag must be handled separately when using: " + encryptionAlgorithm.getValue());
+    }
+
+    /**
+     * Returns the initialization vector of an encryption. The vault generates a new random initialization vector
+     * for every encryption using an authenticated algorithm, because reusing the same value with the same key
+     * would break both the confidentiality and the authenticity of GCM. Caller supplied values are rejected.
+     *
+     * @param encryptionAlgorithm The algorithm.
+     * @param iv                  The initialization vector provided by the caller.
+     * @return The initialization vector to use.
+     */
+    private byte[] encryptionIv(final EncryptionAlgorithm encryptionAlgorithm, final byte[] iv) {
+        final byte[] actualIv;
+        if (encryptionAlgorithm.isAuthenticated()) {
+            Assert.isNull(iv, "The initialization vector is generated by the vault when using: " + encryptionAlgorithm.getValue());
+            actualIv = KeyGenUtil.generateRandomBytes(GCM_IV_LENGTH_BYTES);
+        } else {
+            validateIv(iv);
+            actualIv = iv;
+        }
+        return actualIv;
+    }
+
+    private void validateAuthenticatedInputs(final EncryptionAlgorithm encryptionAlgorithm, final byte[] aad) {
+        if (!encryptionAlgorithm.isAuthenticated()) {
+            Assert.isNull(aad, "Additional authenticated data is not supported by: " + encryptionAlgorithm.getValue());
+        }
+    }
+
+    private Cipher initCipher(final int mode, final EncryptionAlgorithm encryptionAlgorithm,
+                              final byte[] iv, final byte[] aad) throws GeneralSecurityException {
+        final Cipher cipher = Cipher.getInstance(encryptionAlgorithm.getAlg(), KeyGenUtil.BOUNCY_CASTLE_PROVIDER);
+        if (encryptionAlgorithm.isAuthenticated()) {
+            cipher.init(mode, this.getKey(), new GCMParameterSpec(GCM_TAG_LENGTH_BYTES * Byte.SIZE, iv));
+            if (aad != null) {
+                cipher.updateAAD(aad);
+            }
+        } else {
+            cipher.init(mode, this.getKey(), new IvParameterSpec(iv));
+        }
+        return cipher;
+    }
+
+    private void updateInChunks(final Cipher cipher, final InputStream input, final OutputStream output) throws IOException {
+        final byte[] buffer = new byte[STREAM_CHUNK_SIZE];
+        int read = input.read(buffer);
+        while (read >= 0) {
+            final byte[] processed = cipher.update(buffer, 0, read);
+            if (processed != null) {
+                output.write(processed);
+            }
+            read = input.read(buffer);
+        }
+    }
 }
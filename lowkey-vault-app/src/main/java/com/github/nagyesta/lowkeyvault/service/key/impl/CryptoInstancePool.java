@@ -0,0 +1,106 @@
+package com.github.nagyesta.lowkeyvault.service.key.impl;
+
+import lombok.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Bounded pool of initialized crypto objects (like {@link javax.crypto.Cipher} or {@link java.security.Signature}).
+ * The pooled instances are grouped by a key describing the algorithm and the mode they were initialized with. Each
+ * instance is used by a single thread at a time and it is returned to the pool only if the operation completed
+ * successfully, because the state of the instance is undefined otherwise.
+ *
+ * @param <T> The type of the pooled instances.
+ */
+final class CryptoInstancePool<T> {
+
+    /**
+     * Function using a borrowed instance.
+     *
+     * @param <T> The type of the pooled instance.
+     * @param <R> The type of the result.
+     */
+    @FunctionalInterface
+    interface PooledAction<T, R> {
+        R apply(T instance) throws Exception;
+    }
+
+    private final int maxIdlePerKey;
+    private final Map<String, BlockingQueue<T>> idle = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    CryptoInstancePool(final int maxIdlePerKey) {
+        Assert.isTrue(maxIdlePerKey > 0, "Max idle instances must be positive.");
+        this.maxIdlePerKey = maxIdlePerKey;
+    }
+
+    /**
+     * Borrows an idle instance (or creates a new one if there is none), performs the action and returns the instance
+     * to the pool.
+     *
+     * @param poolKey The key describing the algorithm and the mode of the instance.
+     * @param factory The factory creating and initializing a new instance.
+     * @param action  The action using the instance.
+     * @param <R>     The type of the result.
+     * @return The result of the action.
+     * @throws Exception When the instance cannot be created or the action fails.
+     */
+    <R> R apply(@NonNull final String poolKey,
+                @NonNull final Callable<T> factory,
+                @NonNull final PooledAction<T, R> action) throws Exception {
+        return apply(poolKey, factory, action, result -> true);
+    }
+
+    /**
+     * Borrows an idle instance (or creates a new one if there is none), performs the action and returns the instance
+     * to the pool if the result shows that the instance was left in a reusable state. Some providers keep a partial
+     * state after a rejected signature, for example, therefore these instances must be dropped.
+     *
+     * @param poolKey  The key describing the algorithm and the mode of the instance.
+     * @param factory  The factory creating and initializing a new instance.
+     * @param action   The action using the instance.
+     * @param reusable Decides whether the instance can be returned to the pool based on the result.
+     * @param <R>      The type of the result.
+     * @return The result of the action.
+     * @throws Exception When the instance cannot be created or the action fails.
+     */
+    <R> R apply(@NonNull final String poolKey,
+                @NonNull final Callable<T> factory,
+                @NonNull final PooledAction<T, R> action,
+                @NonNull final Predicate<R> reusable) throws Exception {
+        final long borrowedInGeneration = generation.get();
+        final BlockingQueue<T> queue = idle.computeIfAbsent(poolKey, k -> new ArrayBlockingQueue<>(maxIdlePerKey));
+        T instance = queue.poll();
+        if (instance == null) {
+            instance = factory.call();
+        }
+        final R result = action.apply(instance);
+        if (reusable.test(result) && borrowedInGeneration == generation.get()) {
+            queue.offer(instance);
+        }
+        return result;
+    }
+
+    /**
+     * Drops every idle instance. Instances borrowed before the call are not returned to the pool.
+     */
+    void invalidate() {
+        generation.incrementAndGet();
+        idle.clear();
+    }
+
+    int idleCount(@NonNull final String poolKey) {
+        final BlockingQueue<T> queue = idle.get(poolKey);
+        if (queue == null) {
+            return 0;
+        }
+        return queue.size();
+    }
+}
@@ -3,8 +3,10 @@ package com.github.nagyesta.lowkeyvault.service.key.impl;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.*;
 import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyEcKeyVaultKeyEntity;
 import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
-import com.github.nagyesta.lowkeyvault.service.key.util.Asn1ConverterUtil;
+import com.github.nagyesta.lowkeyvault.service.key.util.EcdsaSignatureCodec;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultFake;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
 import org.springframework.util.Assert;
@@ -13,7 +15,9 @@ import java.security.KeyPair;
 import java.security.interfaces.ECPrivateKey;
 import java.security.interfaces.ECPublicKey;
 import java.util.Arrays;
-import java.util.List;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.concurrent.Callable;
 
 import static com.github.nagyesta.lowkeyvault.service.key.util.KeyGenUtil.generateEc;
@@ -21,6 +25,17 @@ import static com.github.nagyesta.lowkeyvault.service.key.util.KeyGenUtil.genera
 @Slf4j
 public class EcKeyVaultKeyEntity extends KeyVaultKeyEntity<KeyPair, KeyCurveName> implements ReadOnlyEcKeyVaultKeyEntity {
 
+    private static final Set<KeyOperation> DISALLOWED_OPERATIONS = Collections.unmodifiableSet(
+            EnumSet.of(KeyOperation.WRAP_KEY, KeyOperation.UNWRAP_KEY, KeyOperation.ENCRYPT, KeyOperation.DECRYPT));
+    //the key material of a version never changes, therefore the encoded components are calculated only once,
+    //but the getters return copies as the arrays would be shared with every caller otherwise
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final byte[] cachedX = normalizeKeyParameter(((ECPublicKey) getKey().getPublic()).getW().getAffineX().toByteArray());
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final byte[] cachedY = normalizeKeyParameter(((ECPublicKey) getKey().getPublic()).getW().getAffineY().toByteArray());
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final byte[] cachedD = ((ECPrivateKey) getKey().getPrivate()).getS().toByteArray();
+
     public EcKeyVaultKeyEntity(@NonNull final VersionedKeyEntityId id,
                                @NonNull final VaultFake vault,
                                @NonNull final KeyCurveName keyParam,
@@ -37,32 +52,32 @@ public class EcKeyVaultKeyEntity extends KeyVaultKeyEntity<KeyPair, KeyCurveName
     }
 
     @Override
-    public KeyType getKeyType() {
-        if (isHsm()) {
-            return KeyType.EC_HSM;
-        } else {
-            return KeyType.EC;
-        }
+    public byte[] getX() {
+        return getCachedX().clone();
     }
 
     @Override
-    public KeyCreationInput<?> keyCreationInput() {
-        return new EcKeyCreationInput(getKeyType(), getKeyCurveName());
+    public byte[] getY() {
+        return getCachedY().clone();
     }
 
     @Override
-    public byte[] getX() {
-        return normalizeKeyParameter(((ECPublicKey) getKey().getPublic()).getW().getAffineX().toByteArray());
+    public byte[] getD() {
+        return getCachedD().clone();
     }
 
     @Override
-    public byte[] getY() {
-        return normalizeKeyParameter(((ECPublicKey) getKey().getPublic()).getW().getAffineY().toByteArray());
+    public KeyType getKeyType() {
+        if (isHsm()) {
+            return KeyType.EC_HSM;
+        } else {
+            return KeyType.EC;
+        }
     }
 
     @Override
-    public byte[] getD() {
-        return ((ECPrivateKey) getKey().getPrivate()).getS().toByteArray();
+    public KeyCreationInput<?> keyCreationInput() {
+        return new EcKeyCreationInput(getKeyType(), getKeyCurveName());
     }
 
     @Override
@@ -71,8 +86,8 @@ public class EcKeyVaultKeyEntity extends KeyVaultKeyEntity<KeyPair, KeyCurveName
     }
 
     @Override
-    protected List<KeyOperation> disallowedOperations() {
-        return List.of(KeyOperation.WRAP_KEY, KeyOperation.UNWRAP_KEY, KeyOperation.ENCRYPT, KeyOperation.DECRYPT);
+    protected Set<KeyOperation> disallowedOperations() {
+        return DISALLOWED_OPERATIONS;
     }
 
     @Override
@@ -88,7 +103,7 @@ public class EcKeyVaultKeyEntity extends KeyVaultKeyEntity<KeyPair, KeyCurveName
     @Override
     public byte[] signBytes(final byte[] digest, final SignatureAlgorithm signatureAlgorithm) {
         validateGenericSignOrVerifyInputs(digest, signatureAlgorithm, KeyOperation.SIGN);
-        Assert.state(signatureAlgorithm.isCompatibleWithCurve(getKeyCurveName()), getId() + " is not using the right key curve.");
+        Assert.state(signatureAlgorithm.isCompatibleWithCurve(getKeyCurveName()), () -> getId() + " is not using the right key curve.");
         final Callable<byte[]> signCallable = signCallable(digest, signatureAlgorithm, getKey().getPrivate());
         return doCrypto(signCallable, "Cannot sign message.", log);
     }
@@ -98,19 +113,19 @@ public class EcKeyVaultKeyEntity extends KeyVaultKeyEntity<KeyPair, KeyCurveName
                                      final SignatureAlgorithm signatureAlgorithm,
                                      final byte[] signature) {
         validateGenericSignOrVerifyInputs(digest, signatureAlgorithm, KeyOperation.VERIFY);
-        Assert.state(signatureAlgorithm.isCompatibleWithCurve(getKeyCurveName()), getId() + " is not using the right key curve.");
+        Assert.state(signatureAlgorithm.isCompatibleWithCurve(getKeyCurveName()), () -> getId() + " is not using the right key curve.");
         final Callable<Boolean> verifyCallable = verifyCallable(digest, signatureAlgorithm, signature, getKey().getPublic());
         return doCrypto(verifyCallable, "Cannot verify digest message.", log);
     }
 
     @Override
-    protected byte[] postProcessGeneratedSignature(final byte[] signature) throws Exception {
-        return Asn1ConverterUtil.convertFromAsn1toRaw(signature, getKeyCurveName().getByteLength());
+    protected byte[] postProcessGeneratedSignature(final byte[] signature) {
+        return EcdsaSignatureCodec.derToRaw(signature, getKeyCurveName().getByteLength());
     }
 
     @Override
-    protected byte[] preProcessVerifiableSignature(final byte[] rawSignature) throws Exception {
-        return Asn1ConverterUtil.convertFromRawToAsn1(rawSignature);
+    protected byte[] preProcessVerifiableSignature(final byte[] rawSignature) {
+        return EcdsaSignatureCodec.rawToDer(rawSignature);
     }
 
     private byte[] normalizeKeyParameter(final byte[] byteArray) {
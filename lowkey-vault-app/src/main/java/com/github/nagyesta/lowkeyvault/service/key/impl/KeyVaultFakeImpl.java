@@ -15,19 +15,26 @@ import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyRotationPolicy;
 import com.github.nagyesta.lowkeyvault.service.key.RotationPolicy;
 import com.github.nagyesta.lowkeyvault.service.key.id.KeyEntityId;
 import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
+import com.github.nagyesta.lowkeyvault.service.key.util.KeyGenUtil;
 import com.github.nagyesta.lowkeyvault.service.key.util.PeriodUtil;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultFake;
 import lombok.NonNull;
 import org.springframework.util.Assert;
 
+import java.security.KeyPair;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 public class KeyVaultFakeImpl
         extends BaseVaultFakeImpl<KeyEntityId, VersionedKeyEntityId, ReadOnlyKeyVaultKeyEntity, KeyVaultKeyEntity<?, ?>>
@@ -49,20 +56,51 @@ public class KeyVaultFakeImpl
         return new VersionedKeyEntityId(vaultFake().baseUri(), id, version);
     }
 
+    @Override
+    protected void releaseResources(@org.springframework.lang.NonNull final KeyVaultKeyEntity<?, ?> entity) {
+        super.releaseResources(entity);
+        entity.invalidateCryptoCache();
+    }
+
     @Override
     public VersionedKeyEntityId createKeyVersion(@NonNull final String keyName, @NonNull final KeyCreateDetailedInput input) {
+        return publishKeyVersion(prepareKeyVersion(keyName, input));
+    }
+
+    @Override
+    public KeyVaultKeyEntity<?, ?> prepareKeyVersion(@NonNull final String keyName, @NonNull final KeyCreateDetailedInput input) {
+        return prepareKeyVersion(keyName, input, id -> newKeyEntity(id, input.getKey()));
+    }
+
+    @Override
+    public VersionedKeyEntityId publishKeyVersion(@NonNull final KeyVaultKeyEntity<?, ?> keyEntity) {
+        return addVersion(keyEntity.getId(), keyEntity);
+    }
+
+    /**
+     * Generates the key and applies every attribute of the input before the new version is published, therefore the
+     * lock of the name is not held during key generation and readers can never see a partially configured version.
+     *
+     * @param keyName       The name of the key.
+     * @param input         The input describing the new version.
+     * @param entityFactory The factory creating the entity of the new version.
+     * @return The configured, but not yet published entity.
+     */
+    private KeyVaultKeyEntity<?, ?> prepareKeyVersion(
+            final String keyName, final KeyCreateDetailedInput input,
+            final Function<VersionedKeyEntityId, KeyVaultKeyEntity<?, ?>> entityFactory) {
         Assert.isTrue(!input.isManaged() || (input.getExpiresOn() != null && input.getNotBefore() != null),
                 "Managed key (name=" + keyName + ") must have notBefore and expiresOn parameters set!");
-        final VersionedKeyEntityId keyEntityId = input.getKey().getKeyType().createKey(this, keyName, input.getKey());
-        setKeyOperations(keyEntityId, input.getKeyOperations());
+        final KeyVaultKeyEntity<?, ?> keyEntity = entityFactory.apply(new VersionedKeyEntityId(vaultFake().baseUri(), keyName));
+        keyEntity.setOperations(Objects.requireNonNullElse(input.getKeyOperations(), Collections.emptyList()));
         //avoid overwriting expiry if it was generated by the rotation policy
-        if (getEntities().getReadOnlyEntity(keyEntityId).getExpiry().isEmpty()) {
-            setExpiry(keyEntityId, input.getNotBefore(), input.getExpiresOn());
+        if (keyEntity.getExpiry().isEmpty()) {
+            applyExpiry(keyEntity, input.getNotBefore(), input.getExpiresOn());
         }
-        setEnabled(keyEntityId, Objects.requireNonNullElse(input.getEnabled(), true));
-        setManaged(keyEntityId, input.isManaged());
-        addTags(keyEntityId, input.getTags());
-        return keyEntityId;
+        keyEntity.setEnabled(Objects.requireNonNullElse(input.getEnabled(), true));
+        keyEntity.setManaged(input.isManaged());
+        applyTags(keyEntity, input.getTags());
+        return keyEntity;
     }
 
     @Override
@@ -73,89 +111,147 @@ public class KeyVaultFakeImpl
 
     @Override
     public VersionedKeyEntityId importKeyVersion(final VersionedKeyEntityId keyEntityId, final KeyImportInput input) {
+        return publishKeyVersion(prepareImportedKeyVersion(keyEntityId, input));
+    }
+
+    @Override
+    public KeyVaultKeyEntity<?, ?> prepareImportedKeyVersion(final VersionedKeyEntityId keyEntityId, final KeyImportInput input) {
         Assert.isTrue(input.getHsm() == null || input.getHsm() == input.getKey().getKeyType().isHsm(),
                 "When HSM property is set in request, key type must match it.");
-        final KeyType keyType = Objects.requireNonNull(input.getKey()).getKeyType();
-        keyType.importKey(this, keyEntityId, input.getKey());
-        setKeyOperations(keyEntityId, input.getKey().getKeyOps());
-        addTags(keyEntityId, input.getTags());
-        setExpiry(keyEntityId, input.getNotBefore(), input.getExpiresOn());
-        setEnabled(keyEntityId, Objects.requireNonNullElse(input.getEnabled(), true));
-        setManaged(keyEntityId, input.isManaged());
-        setCreatedAndUpdatedOn(keyEntityId, input.getCreatedOn(), input.getUpdatedOn());
-        return keyEntityId;
+        final KeyVaultKeyEntity<?, ?> keyEntity = newImportedKeyEntity(keyEntityId, Objects.requireNonNull(input.getKey()));
+        keyEntity.setOperations(Objects.requireNonNullElse(input.getKey().getKeyOps(), Collections.emptyList()));
+        applyTags(keyEntity, input.getTags());
+        applyExpiry(keyEntity, input.getNotBefore(), input.getExpiresOn());
+        keyEntity.setEnabled(Objects.requireNonNullElse(input.getEnabled(), true));
+        keyEntity.setManaged(input.isManaged());
+        applyCreatedAndUpdatedOn(keyEntity, input.getCreatedOn(), input.getUpdatedOn());
+        return keyEntity;
     }
 
     @Override
     public VersionedKeyEntityId importRsaKeyVersion(
             final VersionedKeyEntityId keyEntityId, final JsonWebKeyImportRequest key) {
-        final KeyType keyType = Objects.requireNonNull(key).getKeyType();
-        Assert.isTrue(keyType.isRsa(), "RSA key expected, but found: " + keyType.name());
-        final RsaKeyVaultKeyEntity keyEntity = new RsaKeyVaultKeyEntity(keyEntityId, vaultFake(), rsaConverter.convert(key),
-                rsaConverter.getKeyParameter(key), keyType.isHsm());
-        setExpiryBasedOnRotationPolicy(keyEntityId, keyEntity);
-        return addVersion(keyEntityId, keyEntity);
+        return addVersion(keyEntityId, newImportedRsaKeyEntity(keyEntityId, key));
     }
 
     @Override
     public VersionedKeyEntityId importEcKeyVersion(
             final VersionedKeyEntityId keyEntityId, final JsonWebKeyImportRequest key) {
-        final KeyType keyType = Objects.requireNonNull(key).getKeyType();
-        Assert.isTrue(keyType.isEc(), "EC key expected, but found: " + keyType.name());
-        final EcKeyVaultKeyEntity keyEntity = new EcKeyVaultKeyEntity(keyEntityId, vaultFake(), ecConverter.convert(key),
-                ecConverter.getKeyParameter(key), keyType.isHsm());
-        setExpiryBasedOnRotationPolicy(keyEntityId, keyEntity);
-        return addVersion(keyEntityId, keyEntity);
+        return addVersion(keyEntityId, newImportedEcKeyEntity(keyEntityId, key));
     }
 
     @Override
     public VersionedKeyEntityId importOctKeyVersion(
             final VersionedKeyEntityId keyEntityId, final JsonWebKeyImportRequest key) {
-        final KeyType keyType = Objects.requireNonNull(key).getKeyType();
-        Assert.isTrue(keyType.isOct(), "OCT key expected, but found: " + keyType.name());
-        Assert.isTrue(keyType.isHsm(), "OCT keys are only supported using HSM.");
-        final AesKeyVaultKeyEntity keyEntity = new AesKeyVaultKeyEntity(keyEntityId, vaultFake(), aesConverter.convert(key),
-                aesConverter.getKeyParameter(key), keyType.isHsm());
-        setExpiryBasedOnRotationPolicy(keyEntityId, keyEntity);
-        return addVersion(keyEntityId, keyEntity);
+        return addVersion(keyEntityId, newImportedOctKeyEntity(keyEntityId, key));
     }
 
     @Override
     public VersionedKeyEntityId createRsaKeyVersion(
             @NonNull final String keyName, @NonNull final RsaKeyCreationInput input) {
         final VersionedKeyEntityId keyEntityId = new VersionedKeyEntityId(vaultFake().baseUri(), keyName);
-        final RsaKeyVaultKeyEntity keyEntity = new RsaKeyVaultKeyEntity(keyEntityId, vaultFake(),
-                input.getKeyParameter(), input.getPublicExponent(), input.getKeyType().isHsm());
-        setExpiryBasedOnRotationPolicy(keyEntityId, keyEntity);
-        return addVersion(keyEntityId, keyEntity);
+        return addVersion(keyEntityId, newRsaKeyEntity(keyEntityId, input));
     }
 
     @Override
     public VersionedKeyEntityId createEcKeyVersion(
             @NonNull final String keyName, @NonNull final EcKeyCreationInput input) {
         final VersionedKeyEntityId keyEntityId = new VersionedKeyEntityId(vaultFake().baseUri(), keyName);
-        input.getKeyType().validate(input.getKeyParameter(), KeyCurveName.class);
-        final EcKeyVaultKeyEntity keyEntity = new EcKeyVaultKeyEntity(keyEntityId, vaultFake(),
-                input.getKeyParameter(), input.getKeyType().isHsm());
-        setExpiryBasedOnRotationPolicy(keyEntityId, keyEntity);
-        return addVersion(keyEntityId, keyEntity);
+        return addVersion(keyEntityId, newEcKeyEntity(keyEntityId, input));
     }
 
     @Override
     public VersionedKeyEntityId createOctKeyVersion(
             @NonNull final String keyName, @NonNull final OctKeyCreationInput input) {
         final VersionedKeyEntityId keyEntityId = new VersionedKeyEntityId(vaultFake().baseUri(), keyName);
+        return addVersion(keyEntityId, newOctKeyEntity(keyEntityId, input));
+    }
+
+    private KeyVaultKeyEntity<?, ?> newKeyEntity(final VersionedKeyEntityId keyEntityId, final KeyCreationInput<?> input) {
+        final KeyType keyType = Objects.requireNonNull(input).getKeyType();
+        final KeyVaultKeyEntity<?, ?> keyEntity;
+        if (keyType.isRsa()) {
+            Assert.isInstanceOf(RsaKeyCreationInput.class, input);
+            keyEntity = newRsaKeyEntity(keyEntityId, (RsaKeyCreationInput) input);
+        } else if (keyType.isEc()) {
+            Assert.isInstanceOf(EcKeyCreationInput.class, input);
+            keyEntity = newEcKeyEntity(keyEntityId, (EcKeyCreationInput) input);
+        } else {
+            Assert.isInstanceOf(OctKeyCreationInput.class, input);
+            keyEntity = newOctKeyEntity(keyEntityId, (OctKeyCreationInput) input);
+        }
+        return keyEntity;
+    }
+
+    private RsaKeyVaultKeyEntity newRsaKeyEntity(final VersionedKeyEntityId keyEntityId, final RsaKeyCreationInput input) {
+        final RsaKeyVaultKeyEntity keyEntity = new RsaKeyVaultKeyEntity(keyEntityId, vaultFake(),
+                input.getKeyParameter(), input.getPublicExponent(), input.getKeyType().isHsm());
+        setExpiryBasedOnRotationPolicy(keyEntityId, keyEntity);
+        return keyEntity;
+    }
+
+    private EcKeyVaultKeyEntity newEcKeyEntity(final VersionedKeyEntityId keyEntityId, final EcKeyCreationInput input) {
+        input.getKeyType().validate(input.getKeyParameter(), KeyCurveName.class);
+        final EcKeyVaultKeyEntity keyEntity = new EcKeyVaultKeyEntity(keyEntityId, vaultFake(),
+                input.getKeyParameter(), input.getKeyType().isHsm());
+        setExpiryBasedOnRotationPolicy(keyEntityId, keyEntity);
+        return keyEntity;
+    }
+
+    private AesKeyVaultKeyEntity newOctKeyEntity(final VersionedKeyEntityId keyEntityId, final OctKeyCreationInput input) {
         Assert.isTrue(input.getKeyType().isHsm(), "OCT keys are only supported using HSM.");
         final AesKeyVaultKeyEntity keyEntity = new AesKeyVaultKeyEntity(keyEntityId, vaultFake(),
                 input.getKeyParameter(), input.getKeyType().isHsm());
         setExpiryBasedOnRotationPolicy(keyEntityId, keyEntity);
-        return addVersion(keyEntityId, keyEntity);
+        return keyEntity;
+    }
+
+    private KeyVaultKeyEntity<?, ?> newImportedKeyEntity(final VersionedKeyEntityId keyEntityId, final JsonWebKeyImportRequest key) {
+        final KeyType keyType = key.getKeyType();
+        final KeyVaultKeyEntity<?, ?> keyEntity;
+        if (keyType.isRsa()) {
+            keyEntity = newImportedRsaKeyEntity(keyEntityId, key);
+        } else if (keyType.isEc()) {
+            keyEntity = newImportedEcKeyEntity(keyEntityId, key);
+        } else {
+            keyEntity = newImportedOctKeyEntity(keyEntityId, key);
+        }
+        return keyEntity;
+    }
+
+    private RsaKeyVaultKeyEntity newImportedRsaKeyEntity(final VersionedKeyEntityId keyEntityId, final JsonWebKeyImportRequest key) {
+        final KeyType keyType = Objects.requireNonNull(key).getKeyType();
+        Assert.isTrue(keyType.isRsa(), "RSA key expected, but found: " + keyType.name());
+        final RsaKeyVaultKeyEntity keyEntity = new RsaKeyVaultKeyEntity(keyEntityId, vaultFake(), rsaConverter.convert(key),
+                rsaConverter.getKeyParameter(key), keyType.isHsm());
+        setExpiryBasedOnRotationPolicy(keyEntityId, keyEntity);
+        return keyEntity;
+    }
+
+    private EcKeyVaultKeyEntity newImportedEcKeyEntity(final VersionedKeyEntityId keyEntityId, final JsonWebKeyImportRequest key) {
+        final KeyType keyType = Objects.requireNonNull(key).getKeyType();
+        Assert.isTrue(keyType.isEc(), "EC key expected, but found: " + keyType.name());
+        final EcKeyVaultKeyEntity keyEntity = new EcKeyVaultKeyEntity(keyEntityId, vaultFake(), ecConverter.convert(key),
+                ecConverter.getKeyParameter(key), keyType.isHsm());
+        setExpiryBasedOnRotationPolicy(keyEntityId, keyEntity);
+        return keyEntity;
+    }
+
+    private AesKeyVaultKeyEntity newImportedOctKeyEntity(final VersionedKeyEntityId keyEntityId, final JsonWebKeyImportRequest key) {
+        final KeyType keyType = Objects.requireNonNull(key).getKeyType();
+        Assert.isTrue(keyType.isOct(), "OCT key expected, but found: " + keyType.name());
+        Assert.isTrue(keyType.isHsm(), "OCT keys are only supported using HSM.");
+        final AesKeyVaultKeyEntity keyEntity = new AesKeyVaultKeyEntity(keyEntityId, vaultFake(), aesConverter.convert(key),
+                aesConverter.getKeyParameter(key), keyType.isHsm());
+        setExpiryBasedOnRotationPolicy(keyEntityId, keyEntity);
+        return keyEntity;
     }
 
     @Override
     public void setKeyOperations(@NonNull final VersionedKeyEntityId keyEntityId,
                                  final List<KeyOperation> keyOperations) {
-        getEntitiesInternal().getEntity(keyEntityId).setOperations(Objects.requireNonNullElse(keyOperations, Collections.emptyList()));
+        runLocked(keyEntityId.id(), () -> getEntitiesInternal().getEntity(keyEntityId)
+                .setOperations(Objects.requireNonNullElse(keyOperations, Collections.emptyList())));
     }
 
     @Override
@@ -179,30 +275,99 @@ public class KeyVaultFakeImpl
 
     @Override
     public void setRotationPolicy(@NonNull final RotationPolicy rotationPolicy) {
-        final ReadOnlyKeyVaultKeyEntity readOnlyEntity = latestReadOnlyKeyVersion(rotationPolicy.getId());
-        Assert.state(!readOnlyEntity.isManaged(), "Cannot set rotation policy to managed entity: " + rotationPolicy.getId());
-        rotationPolicy.validate(readOnlyEntity.getExpiry().orElse(null));
-        final RotationPolicy existingPolicy = rotationPolicy(rotationPolicy.getId());
-        if (existingPolicy == null) {
-            rotationPolicies.put(rotationPolicy.getId().id(), rotationPolicy);
-        } else {
-            existingPolicy.setLifetimeActions(rotationPolicy.getLifetimeActions());
-            existingPolicy.setExpiryTime(rotationPolicy.getExpiryTime());
-        }
+        runLocked(rotationPolicy.getId().id(), () -> {
+            final ReadOnlyKeyVaultKeyEntity readOnlyEntity = latestReadOnlyKeyVersion(rotationPolicy.getId());
+            Assert.state(!readOnlyEntity.isManaged(), "Cannot set rotation policy to managed entity: " + rotationPolicy.getId());
+            rotationPolicy.validate(readOnlyEntity.getExpiry().orElse(null));
+            final RotationPolicy existingPolicy = rotationPolicy(rotationPolicy.getId());
+            if (existingPolicy == null) {
+                rotationPolicies.put(rotationPolicy.getId().id(), rotationPolicy);
+            } else {
+                existingPolicy.setLifetimeActions(rotationPolicy.getLifetimeActions());
+                existingPolicy.setExpiryTime(rotationPolicy.getExpiryTime());
+            }
+        });
     }
 
     @Override
     public VersionedKeyEntityId rotateKey(@NonNull final KeyEntityId keyEntityId) {
+        return createKeyVersion(keyEntityId.id(), rotationInput(keyEntityId));
+    }
+
+    @Override
+    public List<VersionedKeyEntityId> rotateManagedKey(@NonNull final KeyEntityId keyEntityId,
+                                                       @NonNull final List<KeyPair> keyPairs,
+                                                       @NonNull final List<OffsetDateTime> validityStarts,
+                                                       @NonNull final UnaryOperator<OffsetDateTime> expiryFunction) {
+        Assert.isTrue(keyPairs.size() == validityStarts.size(), "A key pair is needed for each validity start.");
+        final List<KeyVaultKeyEntity<?, ?>> newVersions = new ArrayList<>(keyPairs.size());
+        for (int i = 0; i < keyPairs.size(); i++) {
+            final OffsetDateTime notBefore = validityStarts.get(i);
+            final KeyPair keyPair = keyPairs.get(i);
+            final KeyCreateDetailedInput input = rotationInputBuilder(keyEntityId)
+                    .managed(true)
+                    .notBefore(notBefore)
+                    .expiresOn(expiryFunction.apply(notBefore))
+                    .build();
+            final KeyVaultKeyEntity<?, ?> keyEntity = prepareKeyVersion(keyEntityId.id(), input,
+                    id -> newKeyPairEntity(id, input.getKey(), keyPair));
+            applyCreatedAndUpdatedOn(keyEntity, notBefore, notBefore);
+            newVersions.add(keyEntity);
+        }
+        return addVersions(keyEntityId.id(), newVersions);
+    }
+
+    @Override
+    public List<KeyPair> generateRotationKeyPairs(@NonNull final KeyEntityId keyEntityId, final int count) {
+        Assert.isTrue(count >= 0, "Count must not be negative.");
+        final Supplier<KeyPair> generator = keyPairGenerator(latestReadOnlyKeyVersion(keyEntityId).keyCreationInput());
+        //generated on the calling thread, the key pair pool (if configured) pre-generates them on its own bounded thread
+        return Stream.generate(generator)
+                .limit(count)
+                .toList();
+    }
+
+    private KeyCreateDetailedInput rotationInput(final KeyEntityId keyEntityId) {
+        return rotationInputBuilder(keyEntityId)
+                //never rotate managed entities
+                .managed(false)
+                //expiry will be automatically set based on rotation policy when created
+                .build();
+    }
+
+    private KeyCreateDetailedInput.KeyCreateDetailedInputBuilder rotationInputBuilder(final KeyEntityId keyEntityId) {
         final ReadOnlyKeyVaultKeyEntity readOnlyEntity = latestReadOnlyKeyVersion(keyEntityId);
-        return createKeyVersion(keyEntityId.id(), KeyCreateDetailedInput.builder()
+        return KeyCreateDetailedInput.builder()
                 .key(readOnlyEntity.keyCreationInput())
                 .keyOperations(readOnlyEntity.getOperations())
                 .enabled(true)
-                //never rotate managed entities
-                .managed(false)
-                .tags(readOnlyEntity.getTags())
-                //expiry will be automatically set based on rotation policy when created
-                .build());
+                .tags(readOnlyEntity.getTags());
+    }
+
+    private Supplier<KeyPair> keyPairGenerator(final KeyCreationInput<?> input) {
+        final Supplier<KeyPair> generator;
+        if (input instanceof RsaKeyCreationInput rsa) {
+            generator = () -> KeyGenUtil.generateRsa(rsa.getKeyParameter(), rsa.getPublicExponent());
+        } else if (input instanceof EcKeyCreationInput ec) {
+            generator = () -> KeyGenUtil.generateEc(ec.getKeyParameter());
+        } else {
+            throw new IllegalArgumentException("Key pairs can be generated only for RSA or EC keys, found: " + input.getKeyType());
+        }
+        return generator;
+    }
+
+    private KeyVaultKeyEntity<?, ?> newKeyPairEntity(
+            final VersionedKeyEntityId keyEntityId, final KeyCreationInput<?> input, final KeyPair keyPair) {
+        final KeyVaultKeyEntity<?, ?> keyEntity;
+        if (input instanceof RsaKeyCreationInput rsa) {
+            keyEntity = new RsaKeyVaultKeyEntity(keyEntityId, vaultFake(), keyPair, rsa.getKeyParameter(), rsa.getKeyType().isHsm());
+        } else if (input instanceof EcKeyCreationInput ec) {
+            keyEntity = new EcKeyVaultKeyEntity(keyEntityId, vaultFake(), keyPair, ec.getKeyParameter(), ec.getKeyType().isHsm());
+        } else {
+            throw new IllegalArgumentException("Key pairs can be used only for RSA or EC keys, found: " + input.getKeyType());
+        }
+        setExpiryBasedOnRotationPolicy(keyEntityId, keyEntity);
+        return keyEntity;
     }
 
     private void setExpiryBasedOnRotationPolicy(final VersionedKeyEntityId keyEntityId, final KeyVaultKeyEntity<?, ?> keyEntity) {
@@ -222,15 +387,20 @@ public class KeyVaultFakeImpl
         final KeyEntityId keyEntityId = rotationPolicy.getId();
         final VersionedKeyEntityId latestVersionOfEntity = getEntities().getLatestVersionOfEntity(keyEntityId);
         final ReadOnlyKeyVaultKeyEntity readOnlyEntity = getEntities().getReadOnlyEntity(latestVersionOfEntity);
-        rotationPolicy.missedRotations(readOnlyEntity.getCreated())
-                .forEach(rotationTime -> simulatePointInTimeRotation(keyEntityId, rotationTime));
+        //every missed version is generated and configured first, then they are published together
+        final List<KeyVaultKeyEntity<?, ?>> newVersions = rotationPolicy.missedRotations(readOnlyEntity.getCreated()).stream()
+                .<KeyVaultKeyEntity<?, ?>>map(rotationTime -> simulatePointInTimeRotation(keyEntityId, rotationTime))
+                .toList();
+        addVersions(keyEntityId.id(), newVersions);
     }
 
-    private void simulatePointInTimeRotation(final KeyEntityId keyEntityId, final OffsetDateTime rotationTime) {
+    private KeyVaultKeyEntity<?, ?> simulatePointInTimeRotation(final KeyEntityId keyEntityId, final OffsetDateTime rotationTime) {
         final OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
         final int diffSeconds = (int) (now.toEpochSecond() - rotationTime.toEpochSecond());
-        final VersionedKeyEntityId versionedKeyEntityId = rotateKey(keyEntityId);
-        getEntities().getEntity(versionedKeyEntityId, KeyVaultKeyEntity.class).timeShift(diffSeconds);
+        final KeyCreateDetailedInput input = rotationInput(keyEntityId);
+        final KeyVaultKeyEntity<?, ?> keyEntity = prepareKeyVersion(keyEntityId.id(), input, id -> newKeyEntity(id, input.getKey()));
+        keyEntity.timeShift(diffSeconds);
+        return keyEntity;
     }
 
     private void purgeDeletedPolicies() {
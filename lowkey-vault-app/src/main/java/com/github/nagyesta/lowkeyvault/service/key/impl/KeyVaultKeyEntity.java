@@ -6,17 +6,22 @@ import com.github.nagyesta.lowkeyvault.service.common.impl.KeyVaultBaseEntity;
 import com.github.nagyesta.lowkeyvault.service.exception.CryptoException;
 import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyKeyVaultKeyEntity;
 import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
+import com.github.nagyesta.lowkeyvault.service.key.util.KeyGenUtil;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultFake;
 import lombok.Getter;
 import lombok.NonNull;
 import org.slf4j.Logger;
 import org.springframework.util.Assert;
 
+import javax.crypto.Cipher;
+import java.security.Key;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.Signature;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Callable;
 
 /**
@@ -27,12 +32,18 @@ import java.util.concurrent.Callable;
  */
 public abstract class KeyVaultKeyEntity<T, S> extends KeyVaultBaseEntity<VersionedKeyEntityId> implements ReadOnlyKeyVaultKeyEntity {
 
+    private static final int MAX_IDLE_CRYPTO_INSTANCES = 16;
+    private static final String SIGN = "sign:";
+    private static final String VERIFY = "verify:";
+    private static final String CIPHER_MODE_SEPARATOR = ":";
+    private final CryptoInstancePool<Signature> signatures = new CryptoInstancePool<>(MAX_IDLE_CRYPTO_INSTANCES);
+    private final CryptoInstancePool<Cipher> ciphers = new CryptoInstancePool<>(MAX_IDLE_CRYPTO_INSTANCES);
     @Getter
     private final T key;
     private final S keyParam;
     private final boolean hsm;
     private final VersionedKeyEntityId id;
-    private List<KeyOperation> operations;
+    private volatile AssignedOperations operations;
 
     protected KeyVaultKeyEntity(@NonNull final VersionedKeyEntityId id,
                                 @org.springframework.lang.NonNull final VaultFake vault,
@@ -44,7 +55,7 @@ public abstract class KeyVaultKeyEntity<T, S> extends KeyVaultBaseEntity<Version
         this.key = key;
         this.keyParam = keyParam;
         this.hsm = hsm;
-        this.operations = Collections.emptyList();
+        this.operations = AssignedOperations.NONE;
     }
 
     protected S getKeyParam() {
@@ -62,18 +73,46 @@ public abstract class KeyVaultKeyEntity<T, S> extends KeyVaultBaseEntity<Version
 
     @Override
     public List<KeyOperation> getOperations() {
-        return operations;
+        return operations.ordered();
     }
 
     public void setOperations(final List<KeyOperation> operations) {
-        final List<KeyOperation> invalid = operations.stream().filter(this.disallowedOperations()::contains).toList();
+        final Set<KeyOperation> disallowed = this.disallowedOperations();
+        final List<KeyOperation> invalid = operations.stream().filter(disallowed::contains).toList();
         Assert.isTrue(invalid.isEmpty(), "Operation not allowed for this key type: " + invalid + ".");
+        this.operations = AssignedOperations.of(operations);
+        //must be the last step as it increases the revision
         this.updatedNow();
-        this.operations = List.copyOf(operations);
     }
 
-    protected List<KeyOperation> disallowedOperations() {
-        return Collections.emptyList();
+    protected Set<KeyOperation> disallowedOperations() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Checks whether the operation is assigned to the key using a constant time lookup.
+     *
+     * @param keyOperation The operation.
+     * @return true if the operation is assigned.
+     */
+    protected boolean hasOperation(final KeyOperation keyOperation) {
+        return operations.lookup().contains(keyOperation);
+    }
+
+    protected void assertOperationAssigned(final KeyOperation keyOperation) {
+        Assert.state(hasOperation(keyOperation), () -> getId() + " does not have " + keyOperation.name() + " operation assigned.");
+    }
+
+    protected void assertEnabled() {
+        Assert.state(isEnabled(), () -> getId() + " is not enabled.");
+    }
+
+    /**
+     * Drops the pooled crypto objects initialized with the key of this entity.
+     */
+    public void invalidateCryptoCache() {
+        signatures.invalidate();
+        ciphers.invalidate();
     }
 
     protected <R> R doCrypto(final Callable<R> task, final String message, final Logger log) {
@@ -87,19 +126,23 @@ public abstract class KeyVaultKeyEntity<T, S> extends KeyVaultBaseEntity<Version
 
     protected void validateGenericSignOrVerifyInputs(
             final byte[] digest, final SignatureAlgorithm signatureAlgorithm, final KeyOperation keyOperation) {
-        Assert.state(getOperations().contains(keyOperation),
-                getId() + " does not have " + keyOperation.name() + " operation assigned.");
-        Assert.state(isEnabled(), getId() + " is not enabled.");
+        assertOperationAssigned(keyOperation);
+        assertEnabled();
         signatureAlgorithm.getHashAlgorithm().verifyDigestLength(digest);
     }
 
     protected Callable<byte[]> signCallable(
             final byte[] digest, final SignatureAlgorithm signatureAlgorithm, final PrivateKey privateKey) {
         return () -> {
-            final Signature sign = signatureAlgorithm.getSignatureInstance();
-            sign.initSign(privateKey);
-            sign.update(signatureAlgorithm.transformDigest(digest));
-            final byte[] signature = sign.sign();
+            final byte[] transformed = signatureAlgorithm.transformDigest(digest);
+            final byte[] signature = signatures.apply(SIGN + signatureAlgorithm.name(), () -> {
+                final Signature sign = signatureAlgorithm.getSignatureInstance();
+                sign.initSign(privateKey);
+                return sign;
+            }, sign -> {
+                sign.update(transformed);
+                return sign.sign();
+            });
             return postProcessGeneratedSignature(signature);
         };
     }
@@ -107,14 +150,40 @@ public abstract class KeyVaultKeyEntity<T, S> extends KeyVaultBaseEntity<Version
     protected Callable<Boolean> verifyCallable(
             final byte[] digest, final SignatureAlgorithm signatureAlgorithm, final byte[] rawSignature, final PublicKey publicKey) {
         return () -> {
-            final Signature verify = signatureAlgorithm.getSignatureInstance();
-            verify.initVerify(publicKey);
             final byte[] signature = preProcessVerifiableSignature(rawSignature);
-            verify.update(signatureAlgorithm.transformDigest(digest));
-            return verify.verify(signature);
+            final byte[] transformed = signatureAlgorithm.transformDigest(digest);
+            return signatures.apply(VERIFY + signatureAlgorithm.name(), () -> {
+                final Signature verify = signatureAlgorithm.getSignatureInstance();
+                verify.initVerify(publicKey);
+                return verify;
+            }, verify -> {
+                verify.update(transformed);
+                return verify.verify(signature);
+            }, Boolean.TRUE::equals);
         };
     }
 
+    /**
+     * Performs a single part cipher operation using a pooled cipher which was initialized with the provided key.
+     * The cipher is reset to its initialized state by {@link Cipher#doFinal(byte[])}, therefore it can be reused
+     * as long as the operation does not need a fresh initialization vector.
+     *
+     * @param algorithm The transformation of the cipher.
+     * @param mode      The operation mode of the cipher.
+     * @param key       The key used for initialization.
+     * @param input     The input of the operation.
+     * @return The output of the operation.
+     * @throws Exception When the cipher cannot be created or the operation fails.
+     */
+    protected byte[] doFinalWithPooledCipher(
+            final String algorithm, final int mode, final Key key, final byte[] input) throws Exception {
+        return ciphers.apply(algorithm + CIPHER_MODE_SEPARATOR + mode, () -> {
+            final Cipher cipher = Cipher.getInstance(algorithm, KeyGenUtil.BOUNCY_CASTLE_PROVIDER);
+            cipher.init(mode, key);
+            return cipher;
+        }, cipher -> cipher.doFinal(input));
+    }
+
     protected byte[] postProcessGeneratedSignature(final byte[] signature) throws Exception {
         return signature;
     }
@@ -122,4 +191,22 @@ public abstract class KeyVaultKeyEntity<T, S> extends KeyVaultBaseEntity<Version
     protected byte[] preProcessVerifiableSignature(final byte[] rawSignature) throws Exception {
         return rawSignature;
     }
+
+    /**
+     * Keeps the operations in the order they were set for the API responses and in an {@link EnumSet} for lookups.
+     *
+     * @param ordered The operations in the original order.
+     * @param lookup  The same operations in a set.
+     */
+    private record AssignedOperations(List<KeyOperation> ordered, Set<KeyOperation> lookup) {
+
+        private static final AssignedOperations NONE = new AssignedOperations(Collections.emptyList(), Collections.emptySet());
+
+        private static AssignedOperations of(final List<KeyOperation> operations) {
+            final List<KeyOperation> ordered = List.copyOf(operations);
+            final EnumSet<KeyOperation> lookup = EnumSet.noneOf(KeyOperation.class);
+            lookup.addAll(ordered);
+            return new AssignedOperations(ordered, Collections.unmodifiableSet(lookup));
+        }
+    }
 }
@@ -6,11 +6,11 @@ import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyType;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.SignatureAlgorithm;
 import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyRsaKeyVaultKeyEntity;
 import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
-import com.github.nagyesta.lowkeyvault.service.key.util.KeyGenUtil;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultFake;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
-import org.springframework.util.Assert;
 
 import javax.crypto.Cipher;
 import java.math.BigInteger;
@@ -24,6 +24,25 @@ import static com.github.nagyesta.lowkeyvault.service.key.util.KeyGenUtil.genera
 @Slf4j
 public class RsaKeyVaultKeyEntity extends KeyVaultKeyEntity<KeyPair, Integer> implements ReadOnlyRsaKeyVaultKeyEntity {
 
+    //the key material of a version never changes, therefore the encoded components are calculated only once,
+    //but the getters return copies as the arrays would be shared with every caller otherwise
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final byte[] cachedN = ((RSAPublicKey) getKey().getPublic()).getModulus().toByteArray();
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final byte[] cachedE = ((RSAPublicKey) getKey().getPublic()).getPublicExponent().toByteArray();
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final byte[] cachedD = ((RSAPrivateCrtKey) getKey().getPrivate()).getPrivateExponent().toByteArray();
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final byte[] cachedDp = ((RSAPrivateCrtKey) getKey().getPrivate()).getPrimeExponentP().toByteArray();
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final byte[] cachedDq = ((RSAPrivateCrtKey) getKey().getPrivate()).getPrimeExponentQ().toByteArray();
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final byte[] cachedP = ((RSAPrivateCrtKey) getKey().getPrivate()).getPrimeP().toByteArray();
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final byte[] cachedQ = ((RSAPrivateCrtKey) getKey().getPrivate()).getPrimeQ().toByteArray();
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final byte[] cachedQi = ((RSAPrivateCrtKey) getKey().getPrivate()).getCrtCoefficient().toByteArray();
+
     public RsaKeyVaultKeyEntity(@NonNull final VersionedKeyEntityId id,
                                 @NonNull final VaultFake vault,
                                 final Integer keyParam,
@@ -40,58 +59,58 @@ public class RsaKeyVaultKeyEntity extends KeyVaultKeyEntity<KeyPair, Integer> im
         super(id, vault, keyPair, KeyType.RSA.validateOrDefault(keySize, Integer.class), hsm);
     }
 
-    @Override
-    public KeyType getKeyType() {
-        if (isHsm()) {
-            return KeyType.RSA_HSM;
-        } else {
-            return KeyType.RSA;
-        }
-    }
-
-    @Override
-    public KeyCreationInput<?> keyCreationInput() {
-        return new RsaKeyCreationInput(getKeyType(), getKeySize(), ((RSAPublicKey) getKey().getPublic()).getPublicExponent());
-    }
-
     @Override
     public byte[] getN() {
-        return ((RSAPublicKey) getKey().getPublic()).getModulus().toByteArray();
+        return getCachedN().clone();
     }
 
     @Override
     public byte[] getE() {
-        return ((RSAPublicKey) getKey().getPublic()).getPublicExponent().toByteArray();
+        return getCachedE().clone();
     }
 
     @Override
     public byte[] getD() {
-        return ((RSAPrivateCrtKey) getKey().getPrivate()).getPrivateExponent().toByteArray();
+        return getCachedD().clone();
     }
 
     @Override
     public byte[] getDp() {
-        return ((RSAPrivateCrtKey) getKey().getPrivate()).getPrimeExponentP().toByteArray();
+        return getCachedDp().clone();
     }
 
     @Override
     public byte[] getDq() {
-        return ((RSAPrivateCrtKey) getKey().getPrivate()).getPrimeExponentQ().toByteArray();
+        return getCachedDq().clone();
     }
 
     @Override
     public byte[] getP() {
-        return ((RSAPrivateCrtKey) getKey().getPrivate()).getPrimeP().toByteArray();
+        return getCachedP().clone();
     }
 
     @Override
     public byte[] getQ() {
-        return ((RSAPrivateCrtKey) getKey().getPrivate()).getPrimeQ().toByteArray();
+        return getCachedQ().clone();
     }
 
     @Override
     public byte[] getQi() {
-        return ((RSAPrivateCrtKey) getKey().getPrivate()).getCrtCoefficient().toByteArray();
+        return getCachedQi().clone();
+    }
+
+    @Override
+    public KeyType getKeyType() {
+        if (isHsm()) {
+            return KeyType.RSA_HSM;
+        } else {
+            return KeyType.RSA;
+        }
+    }
+
+    @Override
+    public KeyCreationInput<?> keyCreationInput() {
+        return new RsaKeyCreationInput(getKeyType(), getKeySize(), ((RSAPublicKey) getKey().getPublic()).getPublicExponent());
     }
 
     @Override
@@ -101,26 +120,20 @@ public class RsaKeyVaultKeyEntity extends KeyVaultKeyEntity<KeyPair, Integer> im
 
     @Override
     public byte[] encryptBytes(@NonNull final byte[] clear, @NonNull final EncryptionAlgorithm encryptionAlgorithm, final byte[] iv) {
-        Assert.state(getOperations().contains(KeyOperation.ENCRYPT), getId() + " does not have ENCRYPT operation assigned.");
-        Assert.state(getOperations().contains(KeyOperation.WRAP_KEY), getId() + " does not have WRAP_KEY operation assigned.");
-        Assert.state(isEnabled(), getId() + " is not enabled.");
-        return doCrypto(() -> {
-            final Cipher cipher = Cipher.getInstance(encryptionAlgorithm.getAlg(), KeyGenUtil.BOUNCY_CASTLE_PROVIDER);
-            cipher.init(Cipher.ENCRYPT_MODE, getKey().getPublic());
-            return cipher.doFinal(clear);
-        }, "Cannot encrypt message.", log);
+        assertOperationAssigned(KeyOperation.ENCRYPT);
+        assertOperationAssigned(KeyOperation.WRAP_KEY);
+        assertEnabled();
+        return doCrypto(() -> doFinalWithPooledCipher(encryptionAlgorithm.getAlg(), Cipher.ENCRYPT_MODE, getKey().getPublic(), clear),
+                "Cannot encrypt message.", log);
     }
 
     @Override
     public byte[] decryptToBytes(@NonNull final byte[] encrypted, @NonNull final EncryptionAlgorithm encryptionAlgorithm, final byte[] iv) {
-        Assert.state(getOperations().contains(KeyOperation.DECRYPT), getId() + " does not have DECRYPT operation assigned.");
-        Assert.state(getOperations().contains(KeyOperation.UNWRAP_KEY), getId() + " does not have UNWRAP_KEY operation assigned.");
-        Assert.state(isEnabled(), getId() + " is not enabled.");
-        return doCrypto(() -> {
-            final Cipher cipher = Cipher.getInstance(encryptionAlgorithm.getAlg(), KeyGenUtil.BOUNCY_CASTLE_PROVIDER);
-            cipher.init(Cipher.DECRYPT_MODE, getKey().getPrivate());
-            return cipher.doFinal(encrypted);
-        }, "Cannot decrypt message.", log);
+        assertOperationAssigned(KeyOperation.DECRYPT);
+        assertOperationAssigned(KeyOperation.UNWRAP_KEY);
+        assertEnabled();
+        return doCrypto(() -> doFinalWithPooledCipher(encryptionAlgorithm.getAlg(), Cipher.DECRYPT_MODE, getKey().getPrivate(), encrypted),
+                "Cannot decrypt message.", log);
     }
 
     @Override
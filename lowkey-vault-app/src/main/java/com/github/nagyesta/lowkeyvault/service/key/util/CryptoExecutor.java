@@ -0,0 +1,163 @@
+package com.github.nagyesta.lowkeyvault.service.key.util;
+
+import com.github.nagyesta.lowkeyvault.service.exception.TooManyRequestsException;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs CPU bound crypto operations on a dedicated fork-join pool sized to the available cores. The operations are
+ * completed asynchronously, therefore the request threads are released while the operations are queued or running.
+ * The number of operations admitted at the same time is limited, callers waiting longer than the admission timeout
+ * are rejected with {@link TooManyRequestsException}.
+ */
+@Slf4j
+public class CryptoExecutor implements AutoCloseable {
+
+    private final ForkJoinPool pool;
+    private final Semaphore admission;
+    private final int maxPending;
+    private final long admissionTimeoutMillis;
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Creates the executor.
+     *
+     * @param parallelism            The number of worker threads.
+     * @param maxPending             The maximum number of operations queued or running at the same time.
+     * @param admissionTimeoutMillis The time a caller can wait for admission before the operation is rejected.
+     */
+    public CryptoExecutor(final int parallelism, final int maxPending, final long admissionTimeoutMillis) {
+        Assert.isTrue(parallelism > 0, "Parallelism must be positive.");
+        Assert.isTrue(maxPending >= parallelism, "Max pending operations must not be less than the parallelism.");
+        Assert.isTrue(admissionTimeoutMillis >= 0, "Admission timeout must not be negative.");
+        this.maxPending = maxPending;
+        this.admissionTimeoutMillis = admissionTimeoutMillis;
+        this.admission = new Semaphore(maxPending);
+        this.pool = new ForkJoinPool(parallelism, p -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName("crypto-" + thread.getPoolIndex());
+            return thread;
+        }, null, true);
+    }
+
+    /**
+     * Submits the operation to the pool. The admission is decided synchronously, the operation is completed
+     * asynchronously. The returned future is completed exceptionally with the exception thrown by the operation.
+     *
+     * @param operation The operation.
+     * @param <T>       The type of the result.
+     * @return The future result of the operation.
+     */
+    public <T> CompletableFuture<T> submit(@NonNull final Supplier<T> operation) {
+        admit(1);
+        try {
+            return CompletableFuture.supplyAsync(() -> countOutcome(operation), pool)
+                    .whenComplete((result, exception) -> admission.release());
+        } catch (final RejectedExecutionException e) {
+            admission.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Submits a batch of operations to the pool. The batch is admitted or rejected as a whole and it is split into
+     * at most as many tasks as the parallelism of the pool. This way a large batch occupies a bounded number of
+     * permits and it cannot fill the queues of the pool ahead of other requests. Failing operations are replaced
+     * with the result of the fallback function, they do not affect the rest of the batch.
+     *
+     * @param operations The operations.
+     * @param fallback   The function converting the exception of a failed operation to a result.
+     * @param <T>        The type of the results.
+     * @return The future results of the operations in the order of the operations.
+     */
+    public <T> CompletableFuture<List<T>> submitAll(@NonNull final List<Supplier<T>> operations,
+                                                    @NonNull final Function<RuntimeException, T> fallback) {
+        if (operations.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        final int tasks = Math.min(operations.size(), pool.getParallelism());
+        admit(tasks);
+        final int chunkSize = (operations.size() + tasks - 1) / tasks;
+        final List<CompletableFuture<List<T>>> chunks = new ArrayList<>(tasks);
+        try {
+            for (int from = 0; from < operations.size(); from += chunkSize) {
+                final List<Supplier<T>> chunk = operations.subList(from, Math.min(from + chunkSize, operations.size()));
+                chunks.add(CompletableFuture.supplyAsync(() -> runChunk(chunk, fallback), pool)
+                        .whenComplete((result, exception) -> admission.release()));
+            }
+        } catch (final RejectedExecutionException e) {
+            admission.release(tasks - chunks.size());
+            throw e;
+        }
+        return CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> chunks.stream()
+                        .flatMap(chunk -> chunk.join().stream())
+                        .toList());
+    }
+
+    /**
+     * Returns the current state of the pool and the admission control.
+     *
+     * @return The statistics.
+     */
+    public CryptoExecutorStatistics statistics() {
+        return new CryptoExecutorStatistics(pool.getParallelism(), maxPending, maxPending - admission.availablePermits(),
+                pool.getActiveThreadCount(), pool.getQueuedSubmissionCount() + pool.getQueuedTaskCount(),
+                completed.sum(), failed.sum(), rejected.sum());
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    private <T> List<T> runChunk(final List<Supplier<T>> chunk, final Function<RuntimeException, T> fallback) {
+        final List<T> results = new ArrayList<>(chunk.size());
+        for (final Supplier<T> operation : chunk) {
+            T result;
+            try {
+                result = countOutcome(operation);
+            } catch (final RuntimeException e) {
+                result = fallback.apply(e);
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    private <T> T countOutcome(final Supplier<T> operation) {
+        try {
+            final T result = operation.get();
+            completed.increment();
+            return result;
+        } catch (final RuntimeException e) {
+            failed.increment();
+            throw e;
+        }
+    }
+
+    private void admit(final int permits) {
+        boolean admitted;
+        try {
+            admitted = admission.tryAcquire(permits, admissionTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            rejected.increment();
+            log.warn("Rejecting crypto operation as {} operations are already pending.", maxPending);
+            throw new TooManyRequestsException("Too many crypto operations are pending, please retry later.");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.nagyesta.lowkeyvault.service.key.util;
+
+/**
+ * Usage statistics of the {@link CryptoExecutor}.
+ *
+ * @param parallelism The number of worker threads.
+ * @param maxPending  The maximum number of tasks (single operations or parts of batches) admitted at the same time.
+ * @param pending     The number of admitted tasks which are queued or running.
+ * @param running     The number of worker threads currently running operations.
+ * @param queued      The number of operations waiting in the queues of the pool.
+ * @param completed   The number of operations completed successfully since startup.
+ * @param failed      The number of operations failed with an exception since startup.
+ * @param rejected    The number of requests rejected by the admission control since startup.
+ */
+public record CryptoExecutorStatistics(int parallelism, int maxPending, int pending, int running, long queued,
+                                       long completed, long failed, long rejected) {
+}
@@ -0,0 +1,124 @@
+package com.github.nagyesta.lowkeyvault.service.key.util;
+
+import lombok.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * Converts ECDSA signatures between the DER encoded sequence of two integers produced by the JCA and the raw,
+ * fixed length R||S concatenation used by Azure Key Vault. Works directly on the byte arrays without creating
+ * ASN.1 objects or big integers.
+ */
+public final class EcdsaSignatureCodec {
+
+    private static final int SEQUENCE_TAG = 0x30;
+    private static final int INTEGER_TAG = 0x02;
+    private static final int SINGLE_BYTE_LONG_FORM = 0x81;
+    private static final int MAX_SHORT_FORM_LENGTH = 0x7F;
+    private static final int MAX_LONG_FORM_LENGTH = 0xFF;
+    private static final int SIGN_BIT = 0x80;
+    private static final int BYTE_MASK = 0xFF;
+
+    private EcdsaSignatureCodec() {
+        throw new IllegalCallerException("Utility cannot be instantiated.");
+    }
+
+    /**
+     * Converts a DER encoded signature to the raw format.
+     *
+     * @param der         The DER encoded signature.
+     * @param paramLength The byte length of the curve parameters (the length of R and S in the raw format).
+     * @return The raw signature.
+     */
+    public static byte[] derToRaw(@NonNull final byte[] der, final int paramLength) {
+        Assert.isTrue(paramLength > 0, "Parameter length must be positive.");
+        Assert.isTrue(der.length > 2 && (der[0] & BYTE_MASK) == SEQUENCE_TAG, "Signature is not a DER sequence.");
+        int offset = 1;
+        final int sequenceLength;
+        if ((der[offset] & BYTE_MASK) == SINGLE_BYTE_LONG_FORM) {
+            sequenceLength = der[offset + 1] & BYTE_MASK;
+            offset += 2;
+        } else {
+            sequenceLength = der[offset] & BYTE_MASK;
+            offset++;
+        }
+        Assert.isTrue(offset + sequenceLength == der.length, "Signature sequence length is invalid.");
+        final byte[] raw = new byte[paramLength * 2];
+        offset = copyInteger(der, offset, raw, 0, paramLength);
+        offset = copyInteger(der, offset, raw, paramLength, paramLength);
+        Assert.isTrue(offset == der.length, "Signature sequence has trailing data.");
+        return raw;
+    }
+
+    /**
+     * Converts a raw signature to DER encoding.
+     *
+     * @param raw The raw signature (R and S concatenated, using the same length for both).
+     * @return The DER encoded signature.
+     */
+    public static byte[] rawToDer(@NonNull final byte[] raw) {
+        Assert.isTrue(raw.length > 0 && raw.length % 2 == 0, "Raw signature length must be a positive even number.");
+        final int paramLength = raw.length / 2;
+        final int rStart = firstSignificantByte(raw, 0, paramLength);
+        final int sStart = firstSignificantByte(raw, paramLength, paramLength);
+        final int rLength = integerContentLength(raw, rStart, paramLength);
+        final int sLength = integerContentLength(raw, sStart, raw.length);
+        final int contentLength = rLength + sLength + 2 + 2;
+        Assert.isTrue(contentLength <= MAX_LONG_FORM_LENGTH, "Raw signature is too long.");
+        final int headerLength;
+        if (contentLength > MAX_SHORT_FORM_LENGTH) {
+            headerLength = 2 + 1;
+        } else {
+            headerLength = 2;
+        }
+        final byte[] der = new byte[headerLength + contentLength];
+        der[0] = (byte) SEQUENCE_TAG;
+        if (contentLength > MAX_SHORT_FORM_LENGTH) {
+            der[1] = (byte) SINGLE_BYTE_LONG_FORM;
+        }
+        der[headerLength - 1] = (byte) contentLength;
+        final int sOffset = writeInteger(raw, rStart, paramLength, rLength, der, headerLength);
+        writeInteger(raw, sStart, raw.length, sLength, der, sOffset);
+        return der;
+    }
+
+    private static int copyInteger(final byte[] der, final int offset, final byte[] raw, final int rawOffset, final int paramLength) {
+        Assert.isTrue(offset + 2 <= der.length && der[offset] == INTEGER_TAG, "Signature integer is missing.");
+        final int length = der[offset + 1] & BYTE_MASK;
+        final int start = offset + 2;
+        final int end = start + length;
+        Assert.isTrue(length > 0 && length <= MAX_SHORT_FORM_LENGTH && end <= der.length, "Signature integer length is invalid.");
+        final int valueStart = firstSignificantByte(der, start, length);
+        final int valueLength = end - valueStart;
+        Assert.isTrue(valueLength <= paramLength, "Signature integer is longer than the parameter length.");
+        System.arraycopy(der, valueStart, raw, rawOffset + paramLength - valueLength, valueLength);
+        return end;
+    }
+
+    private static int writeInteger(final byte[] raw, final int start, final int end, final int length,
+                                    final byte[] der, final int offset) {
+        der[offset] = INTEGER_TAG;
+        der[offset + 1] = (byte) length;
+        final int valueLength = end - start;
+        System.arraycopy(raw, start, der, offset + 2 + length - valueLength, valueLength);
+        return offset + 2 + length;
+    }
+
+    private static int integerContentLength(final byte[] raw, final int start, final int end) {
+        int length = end - start;
+        //a leading 0 byte is needed when the highest bit is set to keep the integer positive
+        if ((raw[start] & SIGN_BIT) != 0) {
+            length++;
+        }
+        return length;
+    }
+
+    private static int firstSignificantByte(final byte[] bytes, final int start, final int length) {
+        final int last = start + length - 1;
+        int index = start;
+        //skip the leading zeros but keep the last byte to represent 0 values
+        while (index < last && bytes[index] == 0) {
+            index++;
+        }
+        return index;
+    }
+}
@@ -7,18 +7,18 @@ import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.springframework.lang.Nullable;
-import org.springframework.util.Assert;
 
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
 import java.math.BigInteger;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
-import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.spec.AlgorithmParameterSpec;
 import java.security.spec.RSAKeyGenParameterSpec;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 public final class KeyGenUtil {
@@ -27,6 +27,9 @@ public final class KeyGenUtil {
      * The single instance of the Bouncy Castle provider we need.
      */
     public static final BouncyCastleProvider BOUNCY_CASTLE_PROVIDER = new BouncyCastleProvider();
+    private static final AtomicReference<KeyPairPool> KEY_PAIR_POOL = new AtomicReference<>();
+    private static final AtomicReference<StripedSecureRandom> SECURE_RANDOM =
+            new AtomicReference<>(new StripedSecureRandom(StripedSecureRandom.DEFAULT_ALGORITHM));
 
     private KeyGenUtil() {
         throw new IllegalCallerException("Utility cannot be instantiated.");
@@ -38,42 +41,75 @@ public final class KeyGenUtil {
         return keyGenerator(KeyType.OCT_HSM.getAlgorithmName(), size).generateKey();
     }
 
+    /**
+     * Sets the pool used for serving pre-generated RSA and EC key pairs. Key pairs are generated inline when
+     * the pool is not set or cannot serve the request.
+     *
+     * @param keyPairPool The pool or null to turn off pooling.
+     */
+    public static void useKeyPairPool(@Nullable final KeyPairPool keyPairPool) {
+        KEY_PAIR_POOL.set(keyPairPool);
+    }
+
+    /**
+     * Sets the source of randomness used for generating keys, serial numbers and random bytes.
+     *
+     * @param secureRandom The source of randomness.
+     */
+    public static void useSecureRandom(@NonNull final StripedSecureRandom secureRandom) {
+        SECURE_RANDOM.set(secureRandom);
+    }
+
+    /**
+     * Returns the {@link SecureRandom} instance assigned to the current thread. The instance is thread-safe, but it can
+     * be shared by multiple threads.
+     *
+     * @return The instance.
+     */
+    @org.springframework.lang.NonNull
+    public static SecureRandom secureRandom() {
+        return SECURE_RANDOM.get().current();
+    }
+
     @org.springframework.lang.NonNull
     public static KeyPair generateEc(@NonNull final KeyCurveName keyCurveName) {
-        return keyPairGenerator(KeyType.EC.getAlgorithmName(), keyCurveName.getAlgSpec()).generateKeyPair();
+        return takeFromPoolOrGenerate(KeyPairSpec.ec(keyCurveName));
     }
 
     @org.springframework.lang.NonNull
     public static KeyPair generateRsa(@Nullable final Integer keySize, @Nullable final BigInteger publicExponent) {
+        return takeFromPoolOrGenerate(KeyPairSpec.rsa(keySize, publicExponent));
+    }
+
+    @org.springframework.lang.NonNull
+    static KeyPair generateEcInline(@NonNull final KeyCurveName keyCurveName) {
+        return keyPairGenerator(KeyType.EC.getAlgorithmName(), keyCurveName.getAlgSpec()).generateKeyPair();
+    }
+
+    @org.springframework.lang.NonNull
+    static KeyPair generateRsaInline(@Nullable final Integer keySize, @Nullable final BigInteger publicExponent) {
         final int nonNullKeySize = KeyType.RSA.validateOrDefault(keySize, Integer.class);
-        final BigInteger notNullPublicExponent = Objects.requireNonNullElse(publicExponent, BigInteger.valueOf(65537));
+        final BigInteger notNullPublicExponent = Objects.requireNonNullElse(publicExponent, KeyPairSpec.DEFAULT_PUBLIC_EXPONENT);
         final RSAKeyGenParameterSpec rsaKeyGenParameterSpec = new RSAKeyGenParameterSpec(nonNullKeySize, notNullPublicExponent);
         return keyPairGenerator(KeyType.RSA.getAlgorithmName(), rsaKeyGenParameterSpec).generateKeyPair();
     }
 
     @org.springframework.lang.NonNull
     public static byte[] generateRandomBytes(final int count) {
-        return generateRandomBytes(count, "NativePRNG");
+        return SECURE_RANDOM.get().nextBytes(count);
     }
 
-    @org.springframework.lang.NonNull
-    static byte[] generateRandomBytes(final int count, @org.springframework.lang.NonNull final String algorithm) {
-        Assert.isTrue(count > 0, "Number of bytes must be greater than 0.");
-        try {
-            final byte[] bytes = new byte[count];
-            SecureRandom.getInstance(algorithm).nextBytes(bytes);
-            return bytes;
-        } catch (final NoSuchAlgorithmException e) {
-            log.error(e.getMessage(), e);
-            throw new CryptoException("Failed to generate random bytes.", e);
-        }
+    private static KeyPair takeFromPoolOrGenerate(final KeyPairSpec spec) {
+        return Optional.ofNullable(KEY_PAIR_POOL.get())
+                .flatMap(pool -> pool.take(spec))
+                .orElseGet(spec::generate);
     }
 
     static KeyPairGenerator keyPairGenerator(final String algorithmName,
                                              final AlgorithmParameterSpec algSpec) {
         try {
             final KeyPairGenerator keyGen = KeyPairGenerator.getInstance(algorithmName, BOUNCY_CASTLE_PROVIDER);
-            keyGen.initialize(algSpec);
+            keyGen.initialize(algSpec, secureRandom());
             return keyGen;
         } catch (final Exception e) {
             log.error(e.getMessage(), e);
@@ -85,7 +121,7 @@ public final class KeyGenUtil {
     static KeyGenerator keyGenerator(final String algorithmName, final int keySize) {
         try {
             final KeyGenerator keyGenerator = KeyGenerator.getInstance(algorithmName);
-            keyGenerator.init(keySize);
+            keyGenerator.init(keySize, secureRandom());
             return keyGenerator;
         } catch (final Exception e) {
             log.error(e.getMessage(), e);
@@ -0,0 +1,132 @@
+package com.github.nagyesta.lowkeyvault.service.key.util;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
+
+import java.security.KeyPair;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Pool of key pairs generated in the background for the configured key pair specifications. The pool refills
+ * itself up to the watermark after every key pair taken. Requests for specifications which are not configured,
+ * or arriving while the pool is empty are counted as misses and the caller must generate the key pair inline.
+ */
+@Slf4j
+public class KeyPairPool implements AutoCloseable {
+
+    private final int watermark;
+    private final Map<KeyPairSpec, BlockingQueue<KeyPair>> pools;
+    private final Map<KeyPairSpec, AtomicBoolean> refillScheduled;
+    private final Map<KeyPairSpec, LongAdder> hits;
+    private final Map<KeyPairSpec, LongAdder> misses;
+    private final ExecutorService executor;
+
+    /**
+     * Creates the pool and starts the initial background generation.
+     *
+     * @param specs     The key pair specifications which should be pre-generated.
+     * @param watermark The number of idle key pairs kept for each specification.
+     */
+    public KeyPairPool(@NonNull final Collection<KeyPairSpec> specs, final int watermark) {
+        Assert.isTrue(watermark > 0, "Watermark must be positive.");
+        this.watermark = watermark;
+        this.pools = specs.stream().distinct()
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), s -> new ArrayBlockingQueue<>(watermark)));
+        this.refillScheduled = pools.keySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), s -> new AtomicBoolean()));
+        this.hits = new ConcurrentHashMap<>();
+        this.misses = new ConcurrentHashMap<>();
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "key-pair-pool");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        pools.keySet().forEach(this::scheduleRefill);
+    }
+
+    /**
+     * Takes a pre-generated key pair if there is any available.
+     *
+     * @param spec The specification of the key pair.
+     * @return The key pair or empty if the pool cannot serve the request.
+     */
+    public Optional<KeyPair> take(@NonNull final KeyPairSpec spec) {
+        final Optional<KeyPair> keyPair = Optional.ofNullable(pools.get(spec)).map(BlockingQueue::poll);
+        if (keyPair.isPresent()) {
+            hits.computeIfAbsent(spec, s -> new LongAdder()).increment();
+            scheduleRefill(spec);
+        } else {
+            misses.computeIfAbsent(spec, s -> new LongAdder()).increment();
+            if (pools.containsKey(spec)) {
+                scheduleRefill(spec);
+            }
+        }
+        return keyPair;
+    }
+
+    /**
+     * Returns the current hit and miss counters and the number of idle key pairs for each specification.
+     *
+     * @return The statistics.
+     */
+    public SortedMap<String, KeyPairPoolStatistics> statistics() {
+        final SortedMap<String, KeyPairPoolStatistics> result = new TreeMap<>();
+        pools.keySet().forEach(spec -> result.put(spec.toString(), statisticsOf(spec)));
+        misses.keySet().forEach(spec -> result.putIfAbsent(spec.toString(), statisticsOf(spec)));
+        return Collections.unmodifiableSortedMap(result);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    int idleCount(@NonNull final KeyPairSpec spec) {
+        return Optional.ofNullable(pools.get(spec)).map(BlockingQueue::size).orElse(0);
+    }
+
+    private KeyPairPoolStatistics statisticsOf(final KeyPairSpec spec) {
+        return new KeyPairPoolStatistics(
+                Optional.ofNullable(hits.get(spec)).map(LongAdder::sum).orElse(0L),
+                Optional.ofNullable(misses.get(spec)).map(LongAdder::sum).orElse(0L),
+                idleCount(spec), watermark);
+    }
+
+    private void scheduleRefill(final KeyPairSpec spec) {
+        final AtomicBoolean scheduled = refillScheduled.get(spec);
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> refill(spec, scheduled));
+            } catch (final RejectedExecutionException e) {
+                scheduled.set(false);
+                log.debug("Key pair pool is closed, skipping refill of: {}", spec);
+            }
+        }
+    }
+
+    private void refill(final KeyPairSpec spec, final AtomicBoolean scheduled) {
+        final BlockingQueue<KeyPair> queue = pools.get(spec);
+        boolean generated = false;
+        try {
+            while (queue.remainingCapacity() > 0 && !Thread.currentThread().isInterrupted()) {
+                queue.offer(spec.generate());
+            }
+            generated = true;
+        } catch (final Exception e) {
+            log.warn("Failed to pre-generate key pair: {}", spec, e);
+        } finally {
+            scheduled.set(false);
+        }
+        //a take() could not schedule a refill if it happened after the loop, but before the flag was cleared
+        if (generated && queue.remainingCapacity() > 0 && !executor.isShutdown()) {
+            scheduleRefill(spec);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.github.nagyesta.lowkeyvault.service.key.util;
+
+/**
+ * Usage statistics of a single key pair specification of the {@link KeyPairPool}.
+ *
+ * @param hits      The number of key pairs served from the pool.
+ * @param misses    The number of requests which needed inline generation.
+ * @param idle      The number of pre-generated key pairs currently available.
+ * @param watermark The number of key pairs the pool is refilled to.
+ */
+public record KeyPairPoolStatistics(long hits, long misses, int idle, int watermark) {
+
+    /**
+     * Calculates the ratio of the requests served from the pool.
+     *
+     * @return The hit rate between 0 and 1 (0 if there were no requests).
+     */
+    public double hitRate() {
+        final long total = hits + misses;
+        if (total == 0) {
+            return 0;
+        }
+        return (double) hits / total;
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.nagyesta.lowkeyvault.service.key.util;
+
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyCurveName;
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyType;
+import lombok.NonNull;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.util.Objects;
+
+/**
+ * Describes the parameters of a generated key pair. Two specifications are equal if they would produce key pairs
+ * with the same type and parameters.
+ *
+ * @param keyType        The type of the key (RSA or EC).
+ * @param keySize        The size of the RSA key (null for EC keys).
+ * @param publicExponent The public exponent of the RSA key (null for EC keys).
+ * @param curveName      The curve of the EC key (null for RSA keys).
+ */
+public record KeyPairSpec(@NonNull KeyType keyType, Integer keySize, BigInteger publicExponent, KeyCurveName curveName) {
+
+    /**
+     * The default public exponent used for RSA keys.
+     */
+    public static final BigInteger DEFAULT_PUBLIC_EXPONENT = BigInteger.valueOf(65537);
+    private static final String SEPARATOR = ":";
+    private static final int MAX_RSA_PARTS = 3;
+
+    public KeyPairSpec {
+        Assert.isTrue(keyType == KeyType.RSA || keyType == KeyType.EC, "Key type must be RSA or EC.");
+    }
+
+    /**
+     * Creates the specification of an RSA key pair using the defaults for the missing parameters.
+     *
+     * @param keySize        The key size or null for the default.
+     * @param publicExponent The public exponent or null for the default.
+     * @return The specification.
+     */
+    public static KeyPairSpec rsa(final Integer keySize, final BigInteger publicExponent) {
+        return new KeyPairSpec(KeyType.RSA, KeyType.RSA.validateOrDefault(keySize, Integer.class),
+                Objects.requireNonNullElse(publicExponent, DEFAULT_PUBLIC_EXPONENT), null);
+    }
+
+    /**
+     * Creates the specification of an EC key pair.
+     *
+     * @param curveName The curve.
+     * @return The specification.
+     */
+    public static KeyPairSpec ec(@NonNull final KeyCurveName curveName) {
+        return new KeyPairSpec(KeyType.EC, null, null, curveName);
+    }
+
+    /**
+     * Parses a specification from the "RSA[:keySize[:publicExponent]]" or the "EC:curveName" format.
+     *
+     * @param value The text representation.
+     * @return The specification.
+     */
+    public static KeyPairSpec parse(@NonNull final String value) {
+        Assert.hasText(value, "Key pair specification must not be blank.");
+        final String[] parts = StringUtils.delimitedListToStringArray(value.trim(), SEPARATOR);
+        final KeyType type = KeyType.forValue(parts[0]);
+        if (type == KeyType.EC) {
+            Assert.isTrue(parts.length == 2, "EC key pair specification must be in the 'EC:curveName' format.");
+            final KeyCurveName curveName = KeyCurveName.forValue(parts[1]);
+            Assert.notNull(curveName, "Unknown curve: " + parts[1]);
+            return ec(curveName);
+        }
+        Assert.isTrue(type == KeyType.RSA && parts.length <= MAX_RSA_PARTS,
+                "RSA key pair specification must be in the 'RSA[:keySize[:publicExponent]]' format.");
+        Integer size = null;
+        BigInteger exponent = null;
+        if (parts.length > 1) {
+            size = Integer.valueOf(parts[1]);
+        }
+        if (parts.length > 2) {
+            exponent = new BigInteger(parts[2]);
+        }
+        return rsa(size, exponent);
+    }
+
+    /**
+     * Generates a new key pair synchronously.
+     *
+     * @return The key pair.
+     */
+    KeyPair generate() {
+        if (keyType == KeyType.EC) {
+            return KeyGenUtil.generateEcInline(curveName);
+        }
+        return KeyGenUtil.generateRsaInline(keySize, publicExponent);
+    }
+
+    @Override
+    public String toString() {
+        if (keyType == KeyType.EC) {
+            return keyType.getValue() + SEPARATOR + curveName.getValue();
+        }
+        return keyType.getValue() + SEPARATOR + keySize + SEPARATOR + publicExponent;
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.nagyesta.lowkeyvault.service.key.util;
+
+import com.github.nagyesta.lowkeyvault.service.exception.CryptoException;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Source of randomness spreading the callers over a fixed number of {@link SecureRandom} instances (stripes). Every
+ * instance is created and seeded once when the source is created, then shared by the threads mapped to the same stripe.
+ * The number of instances does not depend on the number of threads, therefore short-lived (e.g. virtual) threads
+ * do not need to create and seed a new generator each.
+ */
+@Slf4j
+public final class StripedSecureRandom {
+
+    /**
+     * The algorithm used by default (a deterministic random bit generator seeded by the platform).
+     */
+    public static final String DEFAULT_ALGORITHM = "DRBG";
+    @Getter
+    private final String algorithm;
+    private final SecureRandom[] stripes;
+
+    /**
+     * Creates the source of randomness using one stripe per available processor.
+     *
+     * @param algorithm The name of the {@link SecureRandom} algorithm.
+     */
+    public StripedSecureRandom(@NonNull final String algorithm) {
+        this(algorithm, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates the source of randomness and seeds every stripe.
+     *
+     * @param algorithm   The name of the {@link SecureRandom} algorithm.
+     * @param stripeCount The number of {@link SecureRandom} instances.
+     */
+    public StripedSecureRandom(@NonNull final String algorithm, final int stripeCount) {
+        Assert.isTrue(stripeCount > 0, "Stripe count must be greater than 0.");
+        this.algorithm = algorithm;
+        this.stripes = IntStream.range(0, stripeCount)
+                .mapToObj(i -> newInstance(algorithm))
+                .toArray(SecureRandom[]::new);
+    }
+
+    /**
+     * Returns the instance assigned to the current thread. The instances are thread-safe, but they can be shared by
+     * multiple threads.
+     *
+     * @return The instance.
+     */
+    public SecureRandom current() {
+        return stripes[Math.floorMod(System.identityHashCode(Thread.currentThread()), stripes.length)];
+    }
+
+    /**
+     * Returns the number of {@link SecureRandom} instances.
+     *
+     * @return The number of stripes.
+     */
+    public int stripeCount() {
+        return stripes.length;
+    }
+
+    /**
+     * Generates the requested number of random bytes using the instance assigned to the current thread.
+     *
+     * @param count The number of bytes.
+     * @return The random bytes.
+     */
+    public byte[] nextBytes(final int count) {
+        Assert.isTrue(count > 0, "Number of bytes must be greater than 0.");
+        final byte[] bytes = new byte[count];
+        current().nextBytes(bytes);
+        return bytes;
+    }
+
+    private static SecureRandom newInstance(final String algorithm) {
+        try {
+            return SecureRandom.getInstance(algorithm);
+        } catch (final NoSuchAlgorithmException e) {
+            log.error(e.getMessage(), e);
+            throw new CryptoException("Failed to create secure random instance.", e);
+        }
+    }
+}
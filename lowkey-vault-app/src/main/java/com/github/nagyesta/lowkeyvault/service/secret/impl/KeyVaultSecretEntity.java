@@ -1,6 +1,7 @@
 package com.github.nagyesta.lowkeyvault.service.secret.impl;
 
 import com.github.nagyesta.lowkeyvault.service.common.impl.KeyVaultBaseEntity;
+import com.github.nagyesta.lowkeyvault.service.common.impl.MemoizingSupplier;
 import com.github.nagyesta.lowkeyvault.service.secret.ReadOnlyKeyVaultSecretEntity;
 import com.github.nagyesta.lowkeyvault.service.secret.id.VersionedSecretEntityId;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultFake;
@@ -8,9 +9,11 @@ import lombok.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
+import java.util.function.Supplier;
+
 public class KeyVaultSecretEntity extends KeyVaultBaseEntity<VersionedSecretEntityId> implements ReadOnlyKeyVaultSecretEntity {
 
-    private String value;
+    private volatile Supplier<String> value;
     private final String contentType;
     private final VersionedSecretEntityId id;
 
@@ -21,17 +24,35 @@ public class KeyVaultSecretEntity extends KeyVaultBaseEntity<VersionedSecretEnti
         super(vault);
         Assert.hasText(value, "Value must not be null or blank.");
         this.id = id;
+        this.value = () -> value;
+        this.contentType = contentType;
+    }
+
+    /**
+     * Constructor for secrets with a value calculated only when it is first read.
+     *
+     * @param id          The id of the secret.
+     * @param vault       The vault of the secret.
+     * @param value       The supplier of the value.
+     * @param contentType The content type of the secret.
+     */
+    public KeyVaultSecretEntity(@NonNull final VersionedSecretEntityId id,
+                                @org.springframework.lang.NonNull final VaultFake vault,
+                                @NonNull final MemoizingSupplier<String> value,
+                                @Nullable final String contentType) {
+        super(vault);
+        this.id = id;
         this.value = value;
         this.contentType = contentType;
     }
 
     @Override
     public String getValue() {
-        return value;
+        return value.get();
     }
 
     public void setValue(final String value) {
-        this.value = value;
+        this.value = () -> value;
     }
 
     @Override
@@ -1,7 +1,9 @@
 package com.github.nagyesta.lowkeyvault.service.secret.impl;
 
 
+import com.github.nagyesta.lowkeyvault.service.common.impl.MemoizingSupplier;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.ToString;
 import org.springframework.util.Assert;
@@ -16,6 +18,9 @@ import java.util.Objects;
 public class SecretCreateInput {
 
     private final String value;
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final MemoizingSupplier<String> lazyValue;
     private final String contentType;
     private final OffsetDateTime createdOn;
     private final OffsetDateTime updatedOn;
@@ -26,8 +31,9 @@ public class SecretCreateInput {
     private final Map<String, String> tags;
 
     SecretCreateInput(final SecretCreateInputBuilder builder) {
-        Assert.notNull(builder.value, "Secret value cannot be null!");
+        Assert.isTrue(builder.value != null || builder.lazyValue != null, "Secret value cannot be null!");
         this.value = builder.value;
+        this.lazyValue = builder.lazyValue;
         this.contentType = builder.contentType;
         this.createdOn = builder.createdOn;
         this.updatedOn = builder.updatedOn;
@@ -45,6 +51,8 @@ public class SecretCreateInput {
     @ToString
     public static class SecretCreateInputBuilder {
         private String value;
+        @ToString.Exclude
+        private MemoizingSupplier<String> lazyValue;
         private String contentType;
         private OffsetDateTime createdOn;
         private OffsetDateTime updatedOn;
@@ -62,6 +70,17 @@ public class SecretCreateInput {
             return this;
         }
 
+        /**
+         * Sets a value which is calculated only when the secret value is first read. Takes precedence over the value.
+         *
+         * @param lazyValue The supplier of the value.
+         * @return this
+         */
+        public SecretCreateInputBuilder lazyValue(@NonNull final MemoizingSupplier<String> lazyValue) {
+            this.lazyValue = lazyValue;
+            return this;
+        }
+
         public SecretCreateInputBuilder contentType(final String contentType) {
             this.contentType = contentType;
             return this;
@@ -39,13 +39,17 @@ public class SecretVaultFakeImpl
                 "Managed secret (name=" + entityId.id() + ") must have notBefore and expiresOn parameters set!");
         Assert.isTrue(!input.isManaged() || input.getContentType() != null,
                 "Managed secret (name=" + entityId.id() + ") must have the content type parameter set!");
-        final KeyVaultSecretEntity secretEntity = new KeyVaultSecretEntity(entityId, vaultFake(), input.getValue(), input.getContentType());
-        final VersionedSecretEntityId secretEntityId = addVersion(entityId, secretEntity);
-        addTags(secretEntityId, input.getTags());
-        setExpiry(secretEntityId, input.getNotBefore(), input.getExpiresOn());
-        setEnabled(secretEntityId, input.isEnabled());
-        setManaged(secretEntityId, input.isManaged());
-        setCreatedAndUpdatedOn(secretEntityId, input.getCreatedOn(), input.getUpdatedOn());
-        return secretEntityId;
+        final KeyVaultSecretEntity secretEntity;
+        if (input.getLazyValue() != null) {
+            secretEntity = new KeyVaultSecretEntity(entityId, vaultFake(), input.getLazyValue(), input.getContentType());
+        } else {
+            secretEntity = new KeyVaultSecretEntity(entityId, vaultFake(), input.getValue(), input.getContentType());
+        }
+        applyTags(secretEntity, input.getTags());
+        applyExpiry(secretEntity, input.getNotBefore(), input.getExpiresOn());
+        secretEntity.setEnabled(input.isEnabled());
+        secretEntity.setManaged(input.isManaged());
+        applyCreatedAndUpdatedOn(secretEntity, input.getCreatedOn(), input.getUpdatedOn());
+        return addVersion(entityId, secretEntity);
     }
 }
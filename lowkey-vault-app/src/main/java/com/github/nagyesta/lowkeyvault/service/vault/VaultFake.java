@@ -43,4 +43,14 @@ public interface VaultFake {
     void recover();
 
     void timeShift(int offsetSeconds, boolean regenerateCertificates);
+
+    /**
+     * Shifts the time of the vault and its entities.
+     *
+     * @param offsetSeconds          The number of seconds to shift with.
+     * @param regenerateCertificates True if the certificates should be regenerated on the calling thread.
+     * @param renewCertificates      True if the due certificate renewals should be performed on the calling thread.
+     * @see com.github.nagyesta.lowkeyvault.service.certificate.CertificateVaultFake#certificateRenewalTasks()
+     */
+    void timeShift(int offsetSeconds, boolean regenerateCertificates, boolean renewCertificates);
 }
@@ -143,6 +143,11 @@ public class VaultFakeImpl implements VaultFake {
 
     @Override
     public void timeShift(final int offsetSeconds, final boolean regenerateCertificates) {
+        timeShift(offsetSeconds, regenerateCertificates, true);
+    }
+
+    @Override
+    public void timeShift(final int offsetSeconds, final boolean regenerateCertificates, final boolean renewCertificates) {
         Assert.isTrue(offsetSeconds > 0, "Offset must be positive.");
         createdOn = createdOn.minusSeconds(offsetSeconds);
         deletedOn = Optional.ofNullable(deletedOn)
@@ -150,7 +155,7 @@ public class VaultFakeImpl implements VaultFake {
                 .orElse(null);
         keyVaultFake().timeShift(offsetSeconds);
         secretVaultFake().timeShift(offsetSeconds);
-        certificateVaultFake().timeShift(offsetSeconds);
+        certificateVaultFake().timeShift(offsetSeconds, renewCertificates);
         if (regenerateCertificates) {
             log.info("Regenerating certificates of vault: {}", baseUri());
             certificateVaultFake().regenerateCertificates();
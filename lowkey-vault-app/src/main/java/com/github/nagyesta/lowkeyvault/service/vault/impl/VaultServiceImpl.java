@@ -1,23 +1,41 @@
 package com.github.nagyesta.lowkeyvault.service.vault.impl;
 
 import com.github.nagyesta.lowkeyvault.model.v7_2.common.constants.RecoveryLevel;
+import com.github.nagyesta.lowkeyvault.service.certificate.CertificateVaultFake;
+import com.github.nagyesta.lowkeyvault.service.certificate.util.CertificateRegenerationPipeline;
 import com.github.nagyesta.lowkeyvault.service.exception.AlreadyExistsException;
 import com.github.nagyesta.lowkeyvault.service.exception.NotFoundException;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultFake;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultService;
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.Assert;
 
 import java.net.URI;
 import java.util.*;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 @Slf4j
 public class VaultServiceImpl implements VaultService {
 
-    private final Set<VaultFake> vaultFakes = new CopyOnWriteArraySet<>();
+    /**
+     * The vaults by their base URI.
+     */
+    private final ConcurrentMap<URI, VaultFake> vaultFakes = new ConcurrentSkipListMap<>();
+    /**
+     * Lookup index of the vaults containing both the base URIs and the aliases. Modified only while holding the lock
+     * of {@link #vaultFakes}, read without locking.
+     */
+    private final ConcurrentMap<URI, VaultFake> uriIndex = new ConcurrentHashMap<>();
+    private final CertificateRegenerationPipeline certificateRegenerationPipeline;
+
+    public VaultServiceImpl(@NonNull final CertificateRegenerationPipeline certificateRegenerationPipeline) {
+        this.certificateRegenerationPipeline = certificateRegenerationPipeline;
+    }
 
     @Override
     public VaultFake findByUri(final URI uri) {
@@ -39,20 +57,23 @@ public class VaultServiceImpl implements VaultService {
     @Override
     public VaultFake create(final URI uri, final RecoveryLevel recoveryLevel, final Integer recoverableDays, final Set<URI> aliases) {
         final Optional<Set<URI>> optionalAliases = Optional.ofNullable(aliases);
-        optionalAliases.stream().flatMap(Set::stream).forEach(alias -> {
-            Assert.isTrue(!uri.equals(alias), "Base URI cannot match alias: " + alias);
-            if (findByUriAndDeleteStatus(alias, v -> true).isPresent()) {
-                throw new AlreadyExistsException("Vault alias already exists: " + alias);
-            }
-        });
-        final VaultFake vaultFake = create(uri, () -> new VaultFakeImpl(uri, recoveryLevel, recoverableDays));
-        optionalAliases.ifPresent(vaultFake::setAliases);
-        return vaultFake;
+        synchronized (vaultFakes) {
+            optionalAliases.stream().flatMap(Set::stream).forEach(alias -> {
+                Assert.isTrue(!uri.equals(alias), "Base URI cannot match alias: " + alias);
+                if (exists(alias)) {
+                    throw new AlreadyExistsException("Vault alias already exists: " + alias);
+                }
+            });
+            final VaultFake vaultFake = create(uri, () -> new VaultFakeImpl(uri, recoveryLevel, recoverableDays));
+            optionalAliases.ifPresent(vaultFake::setAliases);
+            vaultFake.aliases().forEach(alias -> uriIndex.put(alias, vaultFake));
+            return vaultFake;
+        }
     }
 
     @Override
     public List<VaultFake> list() {
-        return vaultFakes.stream()
+        return vaultFakes.values().stream()
                 .filter(VaultFake::isActive)
                 .toList();
     }
@@ -60,7 +81,7 @@ public class VaultServiceImpl implements VaultService {
     @Override
     public List<VaultFake> listDeleted() {
         purgeExpired();
-        return vaultFakes.stream()
+        return vaultFakes.values().stream()
                 .filter(VaultFake::isDeleted)
                 .toList();
     }
@@ -100,7 +121,7 @@ public class VaultServiceImpl implements VaultService {
             final VaultFake found = vaultFake
                     .orElseThrow(() -> new NotFoundException("Unable to find deleted vault: " + uri));
             log.info("Purging vault with URI: {}", uri);
-            return vaultFakes.remove(found);
+            return remove(found);
         }
     }
 
@@ -108,7 +129,15 @@ public class VaultServiceImpl implements VaultService {
     public void timeShift(final int offsetSeconds, final boolean regenerateCertificates) {
         Assert.isTrue(offsetSeconds > 0, "Offset must be positive.");
         log.info("Performing time shift with {} seconds for all vaults.", offsetSeconds);
-        vaultFakes.forEach(vaultFake -> vaultFake.timeShift(offsetSeconds, regenerateCertificates));
+        final List<VaultFake> vaults = List.copyOf(vaultFakes.values());
+        vaults.forEach(vaultFake -> vaultFake.timeShift(offsetSeconds, false, false));
+        final List<CertificateVaultFake> certificateVaultFakes = vaults.stream().map(VaultFake::certificateVaultFake).toList();
+        //the key pairs of the renewed certificates are generated in parallel for different names
+        certificateRegenerationPipeline.renew(certificateVaultFakes);
+        if (regenerateCertificates) {
+            log.info("Regenerating certificates of {} vaults.", vaults.size());
+            certificateRegenerationPipeline.regenerate(certificateVaultFakes);
+        }
         purgeExpired();
     }
 
@@ -117,25 +146,30 @@ public class VaultServiceImpl implements VaultService {
         log.info("Updating aliases of: {} , adding: {}, removing: {}", baseUri, add, remove);
         Assert.isTrue(add != null || remove != null, "At least one of the add/remove parameters needs to be populated.");
         Assert.isTrue(!Objects.equals(add, remove), "The URL we want to add and remove, must be different.");
-        final VaultFake fake = findByUriIncludeDeleted(baseUri);
-
-        final TreeSet<URI> aliases = new TreeSet<>(fake.aliases());
-        Optional.ofNullable(add).ifPresent(alias -> {
-            if (findByUriAndDeleteStatus(add, v -> true).isPresent()) {
-                throw new AlreadyExistsException("Vault alias already exists: " + add);
-            }
-            aliases.add(alias);
-        });
-        Optional.ofNullable(remove).ifPresent(aliases::remove);
-        fake.setAliases(aliases);
-        return fake;
+        synchronized (vaultFakes) {
+            final VaultFake fake = findByUriIncludeDeleted(baseUri);
+
+            final TreeSet<URI> aliases = new TreeSet<>(fake.aliases());
+            Optional.ofNullable(add).ifPresent(alias -> {
+                if (exists(add)) {
+                    throw new AlreadyExistsException("Vault alias already exists: " + add);
+                }
+                aliases.add(alias);
+            });
+            Optional.ofNullable(remove).ifPresent(aliases::remove);
+            final Set<URI> removed = new HashSet<>(fake.aliases());
+            removed.removeAll(aliases);
+            fake.setAliases(aliases);
+            removed.forEach(alias -> uriIndex.remove(alias, fake));
+            aliases.forEach(alias -> uriIndex.put(alias, fake));
+            return fake;
+        }
     }
 
     private Optional<VaultFake> findByUriAndDeleteStatus(final URI uri, final Predicate<VaultFake> deletedPredicate) {
-        return vaultFakes.stream()
-                .filter(v -> v.matches(uri))
-                .filter(deletedPredicate)
-                .findFirst();
+        return Optional.ofNullable(uri)
+                .map(uriIndex::get)
+                .filter(deletedPredicate);
     }
 
     private VaultFake create(final URI uri, final Supplier<VaultFake> vaultFakeSupplier) {
@@ -145,19 +179,31 @@ public class VaultServiceImpl implements VaultService {
             }
             log.info("Creating vault for URI: {}", uri);
             final VaultFake vaultFake = vaultFakeSupplier.get();
-            vaultFakes.add(vaultFake);
+            vaultFakes.put(vaultFake.baseUri(), vaultFake);
+            uriIndex.put(vaultFake.baseUri(), vaultFake);
             return vaultFake;
         }
     }
 
     private boolean exists(final URI uri) {
-        return vaultFakes.stream()
-                .anyMatch(v -> v.matches(uri));
+        return findByUriAndDeleteStatus(uri, v -> true).isPresent();
+    }
+
+    private boolean remove(final VaultFake vaultFake) {
+        final boolean removed = vaultFakes.remove(vaultFake.baseUri(), vaultFake);
+        if (removed) {
+            uriIndex.remove(vaultFake.baseUri(), vaultFake);
+            vaultFake.aliases().forEach(alias -> uriIndex.remove(alias, vaultFake));
+        }
+        return removed;
     }
 
     private void purgeExpired() {
         synchronized (vaultFakes) {
-            vaultFakes.removeIf(VaultFake::isExpired);
+            vaultFakes.values().stream()
+                    .filter(VaultFake::isExpired)
+                    .toList()
+                    .forEach(this::remove);
         }
     }
 }
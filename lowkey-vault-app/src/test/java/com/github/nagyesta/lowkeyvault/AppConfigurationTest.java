@@ -1,10 +1,13 @@
 package com.github.nagyesta.lowkeyvault;
 
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyCurveName;
+import com.github.nagyesta.lowkeyvault.service.key.util.KeyPairSpec;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultService;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.net.URI;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
@@ -14,6 +17,7 @@ import static org.mockito.Mockito.verify;
 class AppConfigurationTest {
 
     private static final int PORT = 8443;
+    private static final int RSA_4096 = 4096;
 
     @Test
     void testDoAddVaultAliasesShouldSplitAndApplyAliasPairsWhenCalledWithValidInput() {
@@ -31,6 +35,32 @@ class AppConfigurationTest {
         verify(service).updateAlias(eq(URI.create("https://secondary.localhost:8443")), eq(URI.create("https://localhost:8443")), isNull());
     }
 
+    @Test
+    void testParseKeyPairSpecsShouldSplitAndParseSpecsWhenCalledWithValidInput() {
+        //given
+        final AppConfiguration underTest = new AppConfiguration();
+        underTest.setKeyPairPoolSpecs("RSA:4096, EC:P-256,,");
+
+        //when
+        final List<KeyPairSpec> actual = underTest.parseKeyPairSpecs();
+
+        //then
+        Assertions.assertIterableEquals(List.of(KeyPairSpec.rsa(RSA_4096, null), KeyPairSpec.ec(KeyCurveName.P_256)), actual);
+    }
+
+    @Test
+    void testParseKeyPairSpecsShouldReturnEmptyListWhenCalledWithoutSpecs() {
+        //given
+        final AppConfiguration underTest = new AppConfiguration();
+        underTest.setKeyPairPoolSpecs("");
+
+        //when
+        final List<KeyPairSpec> actual = underTest.parseKeyPairSpecs();
+
+        //then
+        Assertions.assertTrue(actual.isEmpty());
+    }
+
     @Test
     void testDoAddVaultAliasesShouldThrowExceptionWhenCalledWithInvalidPairs() {
         //given
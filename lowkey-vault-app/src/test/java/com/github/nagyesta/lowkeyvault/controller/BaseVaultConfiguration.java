@@ -1,5 +1,6 @@
 package com.github.nagyesta.lowkeyvault.controller;
 
+import com.github.nagyesta.lowkeyvault.service.certificate.util.CertificateRegenerationPipeline;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultService;
 import com.github.nagyesta.lowkeyvault.service.vault.impl.VaultServiceImpl;
 import org.springframework.context.annotation.Bean;
@@ -10,8 +11,13 @@ import org.springframework.context.annotation.Profile;
 @Configuration
 public class BaseVaultConfiguration {
 
+    @Bean(destroyMethod = "close")
+    public CertificateRegenerationPipeline certificateRegenerationPipeline() {
+        return new CertificateRegenerationPipeline(1);
+    }
+
     @Bean
     public VaultService vaultService() {
-        return new VaultServiceImpl();
+        return new VaultServiceImpl(certificateRegenerationPipeline());
     }
 }
@@ -0,0 +1,41 @@
+package com.github.nagyesta.lowkeyvault.controller;
+
+import com.github.nagyesta.lowkeyvault.service.key.util.CryptoExecutor;
+import com.github.nagyesta.lowkeyvault.service.key.util.CryptoExecutorStatistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.mockito.Mockito.*;
+
+class CryptoExecutorManagementControllerTest {
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testConstructorShouldThrowExceptionWhenCalledWithNull() {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new CryptoExecutorManagementController(null));
+
+        //then + exception
+    }
+
+    @Test
+    void testStatisticsShouldReturnTheStatisticsOfTheExecutorWhenCalled() {
+        //given
+        final CryptoExecutor executor = mock(CryptoExecutor.class);
+        final CryptoExecutorStatistics expected = new CryptoExecutorStatistics(2, 2, 1, 1, 0L, 1L, 0L, 0L);
+        when(executor.statistics()).thenReturn(expected);
+        final CryptoExecutorManagementController underTest = new CryptoExecutorManagementController(executor);
+
+        //when
+        final ResponseEntity<CryptoExecutorStatistics> actual = underTest.statistics();
+
+        //then
+        Assertions.assertEquals(HttpStatus.OK, actual.getStatusCode());
+        Assertions.assertEquals(expected, actual.getBody());
+        verify(executor).statistics();
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.nagyesta.lowkeyvault.controller;
+
+import com.github.nagyesta.lowkeyvault.management.KeyCryptoBatchExecutor;
+import com.github.nagyesta.lowkeyvault.model.management.KeyCryptoBatchItemModel;
+import com.github.nagyesta.lowkeyvault.model.management.KeyCryptoBatchRequest;
+import com.github.nagyesta.lowkeyvault.model.management.KeyCryptoBatchResultModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.Mockito.*;
+
+class KeyCryptoBatchManagementControllerTest {
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testConstructorShouldThrowExceptionWhenCalledWithNull() {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new KeyCryptoBatchManagementController(null));
+
+        //then + exception
+    }
+
+    @Test
+    void testBatchShouldReturnTheResultsOfTheExecutorWhenCalled() {
+        //given
+        final KeyCryptoBatchExecutor executor = mock(KeyCryptoBatchExecutor.class);
+        final List<KeyCryptoBatchItemModel> operations = List.of(new KeyCryptoBatchItemModel());
+        final List<KeyCryptoBatchResultModel> expected = List.of(new KeyCryptoBatchResultModel());
+        when(executor.execute(same(operations))).thenReturn(CompletableFuture.completedFuture(expected));
+        final KeyCryptoBatchRequest request = new KeyCryptoBatchRequest();
+        request.setOperations(operations);
+        final KeyCryptoBatchManagementController underTest = new KeyCryptoBatchManagementController(executor);
+
+        //when
+        final ResponseEntity<List<KeyCryptoBatchResultModel>> actual = underTest.batch(request).join();
+
+        //then
+        Assertions.assertEquals(HttpStatus.OK, actual.getStatusCode());
+        Assertions.assertSame(expected, actual.getBody());
+        verify(executor).execute(same(operations));
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.nagyesta.lowkeyvault.controller;
+
+import com.github.nagyesta.lowkeyvault.service.key.util.KeyPairPool;
+import com.github.nagyesta.lowkeyvault.service.key.util.KeyPairPoolStatistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.mockito.Mockito.*;
+
+class KeyPairPoolManagementControllerTest {
+
+    private static final String SPEC = "EC:P-256";
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testConstructorShouldThrowExceptionWhenCalledWithNull() {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new KeyPairPoolManagementController(null));
+
+        //then + exception
+    }
+
+    @Test
+    void testStatisticsShouldReturnTheStatisticsOfThePoolWhenCalled() {
+        //given
+        final KeyPairPool pool = mock(KeyPairPool.class);
+        final SortedMap<String, KeyPairPoolStatistics> expected = new TreeMap<>(Map.of(SPEC, new KeyPairPoolStatistics(1L, 2L, 1, 2)));
+        when(pool.statistics()).thenReturn(expected);
+        final KeyPairPoolManagementController underTest = new KeyPairPoolManagementController(pool);
+
+        //when
+        final ResponseEntity<Map<String, KeyPairPoolStatistics>> actual = underTest.statistics();
+
+        //then
+        Assertions.assertEquals(HttpStatus.OK, actual.getStatusCode());
+        Assertions.assertEquals(expected, actual.getBody());
+        verify(pool).statistics();
+    }
+}
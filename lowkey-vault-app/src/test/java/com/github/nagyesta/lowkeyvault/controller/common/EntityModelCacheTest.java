@@ -0,0 +1,149 @@
+package com.github.nagyesta.lowkeyvault.controller.common;
+
+import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyKeyVaultKeyEntity;
+import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static com.github.nagyesta.lowkeyvault.TestConstantsKeys.VERSIONED_KEY_ENTITY_ID_1_VERSION_1;
+import static com.github.nagyesta.lowkeyvault.TestConstantsKeys.VERSIONED_KEY_ENTITY_ID_1_VERSION_2;
+import static com.github.nagyesta.lowkeyvault.TestConstantsUri.HTTPS_LOCALHOST_8443;
+import static com.github.nagyesta.lowkeyvault.TestConstantsUri.HTTPS_LOWKEY_VAULT;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EntityModelCacheTest {
+
+    private static final int MAX_SIZE = 2;
+    private final AtomicInteger conversions = new AtomicInteger();
+    private final BiFunction<ReadOnlyKeyVaultKeyEntity, URI, String> converter =
+            (entity, uri) -> uri + "/" + entity.getRevision() + "/" + conversions.incrementAndGet();
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void testConstructorShouldThrowExceptionWhenCalledWithNotPositiveSize(final int size) {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new EntityModelCache<>(size));
+
+        //then + exception
+    }
+
+    @Test
+    void testGetShouldReuseModelWhenEntityIsNotUpdated() {
+        //given
+        final EntityModelCache<VersionedKeyEntityId, ReadOnlyKeyVaultKeyEntity, String> underTest = new EntityModelCache<>(MAX_SIZE);
+        final ReadOnlyKeyVaultKeyEntity entity = entity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, 1L);
+        final String first = underTest.get(entity, HTTPS_LOCALHOST_8443, converter);
+
+        //when
+        final String actual = underTest.get(entity, HTTPS_LOCALHOST_8443, converter);
+
+        //then
+        Assertions.assertSame(first, actual);
+        Assertions.assertEquals(1, conversions.get());
+    }
+
+    @Test
+    void testGetShouldConvertAgainWhenRevisionChanged() {
+        //given
+        final EntityModelCache<VersionedKeyEntityId, ReadOnlyKeyVaultKeyEntity, String> underTest = new EntityModelCache<>(MAX_SIZE);
+        final ReadOnlyKeyVaultKeyEntity entity = entity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, 1L);
+        final String first = underTest.get(entity, HTTPS_LOCALHOST_8443, converter);
+        when(entity.getRevision()).thenReturn(2L);
+
+        //when
+        final String actual = underTest.get(entity, HTTPS_LOCALHOST_8443, converter);
+
+        //then
+        Assertions.assertNotEquals(first, actual);
+        Assertions.assertEquals(HTTPS_LOCALHOST_8443 + "/2/2", actual);
+    }
+
+    @Test
+    void testGetShouldConvertAgainWhenEntityInstanceIsDifferent() {
+        //given
+        final EntityModelCache<VersionedKeyEntityId, ReadOnlyKeyVaultKeyEntity, String> underTest = new EntityModelCache<>(MAX_SIZE);
+        final ReadOnlyKeyVaultKeyEntity entity = entity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, 1L);
+        final ReadOnlyKeyVaultKeyEntity restored = entity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, 1L);
+        underTest.get(entity, HTTPS_LOCALHOST_8443, converter);
+
+        //when
+        underTest.get(restored, HTTPS_LOCALHOST_8443, converter);
+
+        //then
+        Assertions.assertEquals(2, conversions.get());
+    }
+
+    @Test
+    void testGetShouldCacheModelsSeparatelyWhenCalledWithDifferentBaseUris() {
+        //given
+        final EntityModelCache<VersionedKeyEntityId, ReadOnlyKeyVaultKeyEntity, String> underTest = new EntityModelCache<>(MAX_SIZE);
+        final ReadOnlyKeyVaultKeyEntity entity = entity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, 1L);
+        final String local = underTest.get(entity, HTTPS_LOCALHOST_8443, converter);
+
+        //when
+        final String alias = underTest.get(entity, HTTPS_LOWKEY_VAULT, converter);
+
+        //then
+        Assertions.assertTrue(local.startsWith(HTTPS_LOCALHOST_8443.toString()));
+        Assertions.assertTrue(alias.startsWith(HTTPS_LOWKEY_VAULT.toString()));
+        Assertions.assertSame(local, underTest.get(entity, HTTPS_LOCALHOST_8443, converter));
+        Assertions.assertSame(alias, underTest.get(entity, HTTPS_LOWKEY_VAULT, converter));
+    }
+
+    @Test
+    void testGetShouldEvictLeastRecentlyUsedModelWhenMaximumSizeIsReached() {
+        //given
+        final EntityModelCache<VersionedKeyEntityId, ReadOnlyKeyVaultKeyEntity, String> underTest = new EntityModelCache<>(MAX_SIZE);
+        final ReadOnlyKeyVaultKeyEntity recent = entity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, 1L);
+        final ReadOnlyKeyVaultKeyEntity eldest = entity(VERSIONED_KEY_ENTITY_ID_1_VERSION_2, 1L);
+        final String recentModel = underTest.get(recent, HTTPS_LOCALHOST_8443, converter);
+        final String eldestModel = underTest.get(eldest, HTTPS_LOCALHOST_8443, converter);
+        underTest.get(recent, HTTPS_LOCALHOST_8443, converter);
+
+        //when
+        underTest.get(recent, HTTPS_LOWKEY_VAULT, converter);
+
+        //then
+        Assertions.assertEquals(MAX_SIZE, underTest.size());
+        Assertions.assertSame(recentModel, underTest.get(recent, HTTPS_LOCALHOST_8443, converter));
+        Assertions.assertNotEquals(eldestModel, underTest.get(eldest, HTTPS_LOCALHOST_8443, converter));
+    }
+
+    @Test
+    void testGetShouldEvictModelsOfEntityWhenResourcesOfEntityAreReleased() {
+        //given
+        final EntityModelCache<VersionedKeyEntityId, ReadOnlyKeyVaultKeyEntity, String> underTest = new EntityModelCache<>(MAX_SIZE);
+        final ReadOnlyKeyVaultKeyEntity released = entity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, 1L);
+        final ReadOnlyKeyVaultKeyEntity other = entity(VERSIONED_KEY_ENTITY_ID_1_VERSION_2, 1L);
+        underTest.get(released, HTTPS_LOCALHOST_8443, converter);
+        final String otherModel = underTest.get(other, HTTPS_LOCALHOST_8443, converter);
+        final ArgumentCaptor<Runnable> listener = ArgumentCaptor.forClass(Runnable.class);
+        verify(released).addReleaseListener(same(underTest), listener.capture());
+
+        //when
+        listener.getValue().run();
+
+        //then
+        Assertions.assertEquals(1, underTest.size());
+        Assertions.assertSame(otherModel, underTest.get(other, HTTPS_LOCALHOST_8443, converter));
+    }
+
+    private ReadOnlyKeyVaultKeyEntity entity(final VersionedKeyEntityId id, final long revision) {
+        final ReadOnlyKeyVaultKeyEntity entity = mock(ReadOnlyKeyVaultKeyEntity.class);
+        when(entity.getId()).thenReturn(id);
+        when(entity.getRevision()).thenReturn(revision);
+        return entity;
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.nagyesta.lowkeyvault.controller.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static com.github.nagyesta.lowkeyvault.TestConstantsKeys.KEY_NAME_1;
+
+class SkipTokenTest {
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {" "})
+    void testParseShouldReturnFirstPageWhenCalledWithBlankValue(final String input) {
+        //given
+
+        //when
+        final SkipToken actual = SkipToken.parse(input);
+
+        //then
+        Assertions.assertEquals(SkipToken.FIRST_PAGE, actual);
+        Assertions.assertFalse(actual.isCursor());
+        Assertions.assertEquals(0, actual.getOffset());
+    }
+
+    @SuppressWarnings("checkstyle:MagicNumber")
+    @Test
+    void testParseShouldReturnOffsetWhenCalledWithNumericValue() {
+        //given
+
+        //when
+        final SkipToken actual = SkipToken.parse("42");
+
+        //then
+        Assertions.assertFalse(actual.isCursor());
+        Assertions.assertEquals(42, actual.getOffset());
+        Assertions.assertTrue(actual.getLastItem().isEmpty());
+        Assertions.assertEquals("42", actual.asString());
+    }
+
+    @Test
+    void testParseShouldReturnCursorWhenCalledWithTheStringFormOfACursor() {
+        //given
+        final SkipToken expected = SkipToken.after(KEY_NAME_1);
+
+        //when
+        final SkipToken actual = SkipToken.parse(expected.asString());
+
+        //then
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertTrue(actual.isCursor());
+        Assertions.assertEquals(KEY_NAME_1, actual.getLastItem().orElseThrow());
+    }
+
+    @Test
+    void testAsStringShouldReturnUrlSafeValueWhenCalledOnCursor() {
+        //given
+        final SkipToken underTest = SkipToken.after(KEY_NAME_1 + "?&=/+");
+
+        //when
+        final String actual = underTest.asString();
+
+        //then
+        Assertions.assertTrue(actual.matches("^[A-Za-z0-9_-]+$"));
+    }
+
+    @Test
+    void testParseShouldThrowExceptionWhenCalledWithInvalidBase64() {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SkipToken.parse("not*base64"));
+
+        //then + exception
+    }
+
+    @Test
+    void testParseShouldThrowExceptionWhenCalledWithUnknownTokenFormat() {
+        //given
+        final String input = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(KEY_NAME_1.getBytes(StandardCharsets.UTF_8));
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SkipToken.parse(input));
+
+        //then + exception
+    }
+
+    @Test
+    void testOffsetShouldThrowExceptionWhenCalledWithNegativeValue() {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SkipToken.offset(-1));
+
+        //then + exception
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testAfterShouldThrowExceptionWhenCalledWithNull() {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SkipToken.after(null));
+
+        //then + exception
+    }
+}
@@ -10,6 +10,7 @@ import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyType;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.SignatureAlgorithm;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.request.ImportKeyRequest;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.request.JsonWebKeyImportRequest;
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.request.UpdateKeyRequest;
 import com.github.nagyesta.lowkeyvault.service.common.ReadOnlyVersionedEntityMultiMap;
 import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyKeyVaultKeyEntity;
 import com.github.nagyesta.lowkeyvault.service.key.id.KeyEntityId;
@@ -33,6 +34,7 @@ import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Map;
 import java.util.stream.Stream;
 
 @LaunchAbortArmed
@@ -160,6 +162,31 @@ class KeyControllerIntegrationTest {
         Assertions.assertTrue(valid);
     }
 
+    @Test
+    void testGetShouldReturnSharedModelWhichIsNeverModifiedWhenKeyIsUpdatedAfterConversion() throws IOException {
+        //given
+        final String resource = "/key/import/aes-import-valid.json";
+        final ImportKeyRequest input = loadResourceAsObject(resource);
+        final URI baseUri = URI.create("https://primary.localhost:8443");
+        final String name = "aes-cached-name";
+        final KeyVaultKeyModel imported = underTest.importKey(name, baseUri, input).getBody();
+        final String version = imported.getKey().getId().replaceFirst(".*/", "");
+        final KeyVaultKeyModel first = underTest.getWithVersion(name, version, baseUri).getBody();
+        final String expectedJson = objectMapper.writeValueAsString(first);
+        final UpdateKeyRequest update = new UpdateKeyRequest();
+        update.setTags(Map.of(name, version));
+
+        //when
+        final KeyVaultKeyModel updated = underTest.updateVersion(name, version, baseUri, update).getBody();
+
+        //then
+        Assertions.assertSame(first, imported);
+        Assertions.assertNotSame(first, updated);
+        Assertions.assertEquals(expectedJson, objectMapper.writeValueAsString(first));
+        Assertions.assertEquals(Map.of(name, version), updated.getTags());
+        Assertions.assertSame(updated, underTest.get(name, baseUri).getBody());
+    }
+
     private ImportKeyRequest loadResourceAsObject(final String resource) throws IOException {
         final String json = ResourceUtils.loadResourceAsString(resource);
         return objectMapper.reader().readValue(json, ImportKeyRequest.class);
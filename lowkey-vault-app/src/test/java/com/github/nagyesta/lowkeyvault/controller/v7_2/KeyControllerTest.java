@@ -1,5 +1,6 @@
 package com.github.nagyesta.lowkeyvault.controller.v7_2;
 
+import com.github.nagyesta.lowkeyvault.controller.common.SkipToken;
 import com.github.nagyesta.lowkeyvault.mapper.common.registry.KeyConverterRegistry;
 import com.github.nagyesta.lowkeyvault.mapper.v7_2.key.KeyEntityToV72KeyItemModelConverter;
 import com.github.nagyesta.lowkeyvault.mapper.v7_2.key.KeyEntityToV72KeyVersionItemModelConverter;
@@ -286,12 +287,12 @@ class KeyControllerTest {
         //given
         when(keyVaultFake.getEntities())
                 .thenReturn(entities);
-        when(entities.getVersions(eq(new KeyEntityId(HTTPS_LOCALHOST_8443, KEY_NAME_1, null))))
+        when(entities.getSortedVersions(eq(new KeyEntityId(HTTPS_LOCALHOST_8443, KEY_NAME_1, null))))
                 .thenThrow(new NotFoundException("not found"));
 
         //when
         Assertions.assertThrows(NotFoundException.class,
-                () -> underTest.versions(KEY_NAME_1, HTTPS_LOCALHOST_8443, 0, 0));
+                () -> underTest.versions(KEY_NAME_1, HTTPS_LOCALHOST_8443, 0, "0"));
 
         //then + exception
     }
@@ -306,11 +307,12 @@ class KeyControllerTest {
                 .sorted()
                 .collect(Collectors.toCollection(LinkedList::new));
         final KeyEntityId baseUri = new KeyEntityId(HTTPS_LOCALHOST_8443, KEY_NAME_1, null);
-        final String expectedNextUri = baseUri.asUri(HTTPS_LOCALHOST_8443, "versions?api-version=7.2&$skiptoken=31&maxresults=1")
+        final String expectedNextUri = baseUri.asUri(HTTPS_LOCALHOST_8443, "versions?api-version=7.2&$skiptoken="
+                + SkipToken.after(fullList.get(index)).asString() + "&maxresults=1")
                 .toString();
         when(keyVaultFake.getEntities())
                 .thenReturn(entities);
-        when(entities.getVersions(eq(baseUri))).thenReturn(fullList);
+        when(entities.getSortedVersions(eq(baseUri))).thenReturn(fullList);
         when(entities.getReadOnlyEntity(any())).thenAnswer(invocation -> {
             final VersionedKeyEntityId keyEntityId = invocation.getArgument(0, VersionedKeyEntityId.class);
             return createEntity(keyEntityId, createRequest(null, null, null));
@@ -323,7 +325,7 @@ class KeyControllerTest {
 
         //when
         final ResponseEntity<KeyVaultItemListModel<KeyVaultKeyItemModel>> actual =
-                underTest.versions(KEY_NAME_1, HTTPS_LOCALHOST_8443, 1, index);
+                underTest.versions(KEY_NAME_1, HTTPS_LOCALHOST_8443, 1, String.valueOf(index));
 
         //then
         Assertions.assertNotNull(actual);
@@ -346,7 +348,7 @@ class KeyControllerTest {
         final KeyEntityId baseUri = new KeyEntityId(HTTPS_LOCALHOST_8443, KEY_NAME_1, null);
         when(keyVaultFake.getEntities())
                 .thenReturn(entities);
-        when(entities.getVersions(eq(baseUri))).thenReturn(fullList);
+        when(entities.getSortedVersions(eq(baseUri))).thenReturn(fullList);
         when(entities.getReadOnlyEntity(any())).thenAnswer(invocation -> {
             final VersionedKeyEntityId keyEntityId = invocation.getArgument(0, VersionedKeyEntityId.class);
             return createEntity(keyEntityId, createRequest(null, null, null));
@@ -361,7 +363,7 @@ class KeyControllerTest {
 
         //when
         final ResponseEntity<KeyVaultItemListModel<KeyVaultKeyItemModel>> actual =
-                underTest.versions(KEY_NAME_1, HTTPS_LOCALHOST_8443, 25, 0);
+                underTest.versions(KEY_NAME_1, HTTPS_LOCALHOST_8443, 25, "0");
 
         //then
         Assertions.assertNotNull(actual);
@@ -571,7 +573,7 @@ class KeyControllerTest {
                 .thenReturn(recoverableDays);
         final CreateKeyRequest request = createRequest(operations, expiry, notBefore);
         final ReadOnlyKeyVaultKeyEntity entity = createEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, request);
-        when(entities.listLatestEntities())
+        when(entities.listLatestEntities(anyInt(), anyInt()))
                 .thenReturn(List.of(entity));
         final KeyVaultKeyItemModel keyItemModel = keyVaultKeyItemModel(baseUri.asUri(HTTPS_LOCALHOST_8443), Map.of());
         when(keyEntityToV72KeyItemModelConverter.convert(same(entity), eq(HTTPS_LOCALHOST_8443)))
@@ -579,7 +581,7 @@ class KeyControllerTest {
 
         //when
         final ResponseEntity<KeyVaultItemListModel<KeyVaultKeyItemModel>> actual =
-                underTest.listKeys(HTTPS_LOCALHOST_8443, 1, 0);
+                underTest.listKeys(HTTPS_LOCALHOST_8443, 1, "0");
 
         //then
         Assertions.assertNotNull(actual);
@@ -594,7 +596,7 @@ class KeyControllerTest {
         verify(vaultFake).getRecoverableDays();
         verify(keyVaultFake, atLeastOnce()).getEntities();
         verify(keyVaultFake, never()).getDeletedEntities();
-        verify(entities).listLatestEntities();
+        verify(entities).listLatestEntities(anyInt(), anyInt());
         verify(keyEntityToV72KeyItemModelConverter).convert(same(entity), eq(HTTPS_LOCALHOST_8443));
     }
 
@@ -614,7 +616,7 @@ class KeyControllerTest {
                 .thenReturn(recoverableDays);
         final CreateKeyRequest request = createRequest(operations, expiry, notBefore);
         final ReadOnlyKeyVaultKeyEntity entity = createEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, request);
-        when(entities.listLatestEntities())
+        when(entities.listLatestEntities(anyInt(), anyInt()))
                 .thenReturn(List.of(entity, entity, entity));
         final KeyVaultKeyItemModel keyItemModel = keyVaultKeyItemModel(baseUri.asUri(HTTPS_LOCALHOST_8443), Map.of());
         when(keyEntityToV72KeyItemModelConverter.convert(same(entity), eq(HTTPS_LOCALHOST_8443)))
@@ -622,7 +624,7 @@ class KeyControllerTest {
 
         //when
         final ResponseEntity<KeyVaultItemListModel<KeyVaultKeyItemModel>> actual =
-                underTest.listKeys(HTTPS_LOCALHOST_8443, 1, 0);
+                underTest.listKeys(HTTPS_LOCALHOST_8443, 1, "0");
 
         //then
         Assertions.assertNotNull(actual);
@@ -631,7 +633,8 @@ class KeyControllerTest {
         Assertions.assertNotNull(actual.getBody().getValue());
         Assertions.assertEquals(1, actual.getBody().getValue().size());
         Assertions.assertSame(keyItemModel, actual.getBody().getValue().get(0));
-        final String expectedNextLink = HTTPS_LOCALHOST_8443 + "/keys?api-version=7.2&$skiptoken=1&maxresults=1";
+        final String expectedNextLink = HTTPS_LOCALHOST_8443 + "/keys?api-version=7.2&$skiptoken="
+                + SkipToken.after(KEY_NAME_1).asString() + "&maxresults=1";
         Assertions.assertEquals(expectedNextLink, actual.getBody().getNextLink());
         verify(vaultService).findByUri(eq(HTTPS_LOCALHOST_8443));
         verify(vaultFake).keyVaultFake();
@@ -639,7 +642,7 @@ class KeyControllerTest {
         verify(vaultFake).getRecoverableDays();
         verify(keyVaultFake, atLeastOnce()).getEntities();
         verify(keyVaultFake, never()).getDeletedEntities();
-        verify(entities).listLatestEntities();
+        verify(entities).listLatestEntities(anyInt(), anyInt());
         verify(keyEntityToV72KeyItemModelConverter).convert(same(entity), eq(HTTPS_LOCALHOST_8443));
     }
 
@@ -661,7 +664,7 @@ class KeyControllerTest {
         final ReadOnlyKeyVaultKeyEntity entity = createEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, request);
         entity.setDeletedDate(TIME_10_MINUTES_AGO);
         entity.setScheduledPurgeDate(TIME_IN_10_MINUTES);
-        when(entities.listLatestEntities())
+        when(entities.listLatestEntities(anyInt(), anyInt()))
                 .thenReturn(List.of(entity));
         final DeletedKeyVaultKeyItemModel keyItemModel = deletedKeyVaultKeyItemModel(baseUri, Map.of());
         when(keyEntityToV72KeyItemModelConverter.convertDeleted(same(entity), eq(HTTPS_LOCALHOST_8443)))
@@ -669,7 +672,7 @@ class KeyControllerTest {
 
         //when
         final ResponseEntity<KeyVaultItemListModel<DeletedKeyVaultKeyItemModel>> actual =
-                underTest.listDeletedKeys(HTTPS_LOCALHOST_8443, 1, 0);
+                underTest.listDeletedKeys(HTTPS_LOCALHOST_8443, 1, "0");
 
         //then
         Assertions.assertNotNull(actual);
@@ -684,7 +687,7 @@ class KeyControllerTest {
         verify(vaultFake).getRecoverableDays();
         verify(keyVaultFake, atLeastOnce()).getDeletedEntities();
         verify(keyVaultFake, never()).getEntities();
-        verify(entities).listLatestEntities();
+        verify(entities).listLatestEntities(anyInt(), anyInt());
         verify(keyEntityToV72KeyItemModelConverter).convertDeleted(same(entity), eq(HTTPS_LOCALHOST_8443));
     }
 
@@ -727,7 +730,7 @@ class KeyControllerTest {
         verify(keyVaultFake, never()).getDeletedEntities();
         verify(keyVaultFake, atLeastOnce()).purge(eq(UNVERSIONED_KEY_ENTITY_ID_1));
         verify(keyVaultFake, never()).getEntities();
-        verify(entities, never()).listLatestEntities();
+        verify(entities, never()).listLatestEntities(anyInt(), anyInt());
         verify(keyEntityToV72KeyItemModelConverter, never()).convertDeleted(same(entity), eq(HTTPS_LOCALHOST_8443));
     }
 
@@ -749,7 +752,7 @@ class KeyControllerTest {
         final ReadOnlyKeyVaultKeyEntity entity = createEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, request);
         entity.setDeletedDate(TIME_10_MINUTES_AGO);
         entity.setScheduledPurgeDate(TIME_IN_10_MINUTES);
-        when(entities.listLatestEntities())
+        when(entities.listLatestEntities(anyInt(), anyInt()))
                 .thenReturn(List.of(entity, entity, entity));
         final DeletedKeyVaultKeyItemModel keyItemModel = deletedKeyVaultKeyItemModel(baseUri, Map.of());
         when(keyEntityToV72KeyItemModelConverter.convertDeleted(same(entity), eq(HTTPS_LOCALHOST_8443)))
@@ -757,7 +760,7 @@ class KeyControllerTest {
 
         //when
         final ResponseEntity<KeyVaultItemListModel<DeletedKeyVaultKeyItemModel>> actual =
-                underTest.listDeletedKeys(HTTPS_LOCALHOST_8443, 1, 0);
+                underTest.listDeletedKeys(HTTPS_LOCALHOST_8443, 1, "0");
 
         //then
         Assertions.assertNotNull(actual);
@@ -766,7 +769,8 @@ class KeyControllerTest {
         Assertions.assertNotNull(actual.getBody().getValue());
         Assertions.assertEquals(1, actual.getBody().getValue().size());
         Assertions.assertSame(keyItemModel, actual.getBody().getValue().get(0));
-        final String expectedNextLink = HTTPS_LOCALHOST_8443 + "/deletedkeys?api-version=7.2&$skiptoken=1&maxresults=1";
+        final String expectedNextLink = HTTPS_LOCALHOST_8443 + "/deletedkeys?api-version=7.2&$skiptoken="
+                + SkipToken.after(KEY_NAME_1).asString() + "&maxresults=1";
         Assertions.assertEquals(expectedNextLink, actual.getBody().getNextLink());
         verify(vaultService).findByUri(eq(HTTPS_LOCALHOST_8443));
         verify(vaultFake).keyVaultFake();
@@ -774,7 +778,7 @@ class KeyControllerTest {
         verify(vaultFake).getRecoverableDays();
         verify(keyVaultFake, atLeastOnce()).getDeletedEntities();
         verify(keyVaultFake, never()).getEntities();
-        verify(entities).listLatestEntities();
+        verify(entities).listLatestEntities(anyInt(), anyInt());
         verify(keyEntityToV72KeyItemModelConverter).convertDeleted(same(entity), eq(HTTPS_LOCALHOST_8443));
     }
 
@@ -1,5 +1,6 @@
 package com.github.nagyesta.lowkeyvault.controller.v7_2;
 
+import com.github.nagyesta.lowkeyvault.controller.common.SkipToken;
 import com.github.nagyesta.lowkeyvault.mapper.common.registry.SecretConverterRegistry;
 import com.github.nagyesta.lowkeyvault.mapper.v7_2.secret.SecretEntityToV72ModelConverter;
 import com.github.nagyesta.lowkeyvault.mapper.v7_2.secret.SecretEntityToV72SecretItemModelConverter;
@@ -205,12 +206,12 @@ class SecretControllerTest {
         //given
         when(secretVaultFake.getEntities())
                 .thenReturn(entities);
-        when(entities.getVersions(eq(new SecretEntityId(HTTPS_LOCALHOST_8443, SECRET_NAME_1, null))))
+        when(entities.getSortedVersions(eq(new SecretEntityId(HTTPS_LOCALHOST_8443, SECRET_NAME_1, null))))
                 .thenThrow(new NotFoundException("not found"));
 
         //when
         Assertions.assertThrows(NotFoundException.class,
-                () -> underTest.versions(SECRET_NAME_1, HTTPS_LOCALHOST_8443, 0, 0));
+                () -> underTest.versions(SECRET_NAME_1, HTTPS_LOCALHOST_8443, 0, "0"));
 
         //then + exception
     }
@@ -225,11 +226,12 @@ class SecretControllerTest {
                 .sorted()
                 .collect(Collectors.toCollection(LinkedList::new));
         final SecretEntityId baseUri = new SecretEntityId(HTTPS_LOCALHOST_8443, SECRET_NAME_1, null);
-        final String expectedNextUri = baseUri.asUri(HTTPS_LOCALHOST_8443, "versions?api-version=7.2&$skiptoken=31&maxresults=1")
+        final String expectedNextUri = baseUri.asUri(HTTPS_LOCALHOST_8443, "versions?api-version=7.2&$skiptoken="
+                + SkipToken.after(fullList.get(index)).asString() + "&maxresults=1")
                 .toString();
         when(secretVaultFake.getEntities())
                 .thenReturn(entities);
-        when(entities.getVersions(eq(baseUri))).thenReturn(fullList);
+        when(entities.getSortedVersions(eq(baseUri))).thenReturn(fullList);
         when(entities.getReadOnlyEntity(any())).thenAnswer(invocation -> {
             final VersionedSecretEntityId secretEntityId = invocation.getArgument(0, VersionedSecretEntityId.class);
             return createEntity(secretEntityId, createRequest(null, null));
@@ -243,7 +245,7 @@ class SecretControllerTest {
 
         //when
         final ResponseEntity<KeyVaultItemListModel<KeyVaultSecretItemModel>> actual =
-                underTest.versions(SECRET_NAME_1, HTTPS_LOCALHOST_8443, 1, index);
+                underTest.versions(SECRET_NAME_1, HTTPS_LOCALHOST_8443, 1, String.valueOf(index));
 
         //then
         Assertions.assertNotNull(actual);
@@ -266,7 +268,7 @@ class SecretControllerTest {
         final SecretEntityId baseUri = new SecretEntityId(HTTPS_LOCALHOST_8443, SECRET_NAME_1, null);
         when(secretVaultFake.getEntities())
                 .thenReturn(entities);
-        when(entities.getVersions(eq(baseUri))).thenReturn(fullList);
+        when(entities.getSortedVersions(eq(baseUri))).thenReturn(fullList);
         when(entities.getReadOnlyEntity(any())).thenAnswer(invocation -> {
             final VersionedSecretEntityId secretEntityId = invocation.getArgument(0, VersionedSecretEntityId.class);
             return createEntity(secretEntityId, createRequest(null, null));
@@ -281,7 +283,7 @@ class SecretControllerTest {
 
         //when
         final ResponseEntity<KeyVaultItemListModel<KeyVaultSecretItemModel>> actual =
-                underTest.versions(SECRET_NAME_1, HTTPS_LOCALHOST_8443, 25, 0);
+                underTest.versions(SECRET_NAME_1, HTTPS_LOCALHOST_8443, 25, "0");
 
         //then
         Assertions.assertNotNull(actual);
@@ -538,7 +540,7 @@ class SecretControllerTest {
                 .thenReturn(recoverableDays);
         final CreateSecretRequest request = createRequest(expiry, notBefore);
         final ReadOnlyKeyVaultSecretEntity entity = createEntity(VERSIONED_SECRET_ENTITY_ID_1_VERSION_1, request);
-        when(entities.listLatestEntities())
+        when(entities.listLatestEntities(anyInt(), anyInt()))
                 .thenReturn(List.of(entity));
         final KeyVaultSecretItemModel secretItemModel = keyVaultSecretItemModel(baseUri.asUri(HTTPS_LOCALHOST_8443), Map.of());
         when(secretEntityToV72SecretItemModelConverter.convert(same(entity), eq(HTTPS_LOCALHOST_8443)))
@@ -546,7 +548,7 @@ class SecretControllerTest {
 
         //when
         final ResponseEntity<KeyVaultItemListModel<KeyVaultSecretItemModel>> actual =
-                underTest.listSecrets(HTTPS_LOCALHOST_8443, 1, 0);
+                underTest.listSecrets(HTTPS_LOCALHOST_8443, 1, "0");
 
         //then
         Assertions.assertNotNull(actual);
@@ -561,7 +563,7 @@ class SecretControllerTest {
         verify(vaultFake).getRecoverableDays();
         verify(secretVaultFake, atLeastOnce()).getEntities();
         verify(secretVaultFake, never()).getDeletedEntities();
-        verify(entities).listLatestEntities();
+        verify(entities).listLatestEntities(anyInt(), anyInt());
         verify(secretEntityToV72SecretItemModelConverter).convert(same(entity), eq(HTTPS_LOCALHOST_8443));
     }
 
@@ -581,7 +583,7 @@ class SecretControllerTest {
                 .thenReturn(recoverableDays);
         final CreateSecretRequest request = createRequest(expiry, notBefore);
         final ReadOnlyKeyVaultSecretEntity entity = createEntity(VERSIONED_SECRET_ENTITY_ID_1_VERSION_1, request);
-        when(entities.listLatestEntities())
+        when(entities.listLatestEntities(anyInt(), anyInt()))
                 .thenReturn(List.of(entity, entity, entity));
         final KeyVaultSecretItemModel secretItemModel = keyVaultSecretItemModel(baseUri.asUri(HTTPS_LOCALHOST_8443), Map.of());
         when(secretEntityToV72SecretItemModelConverter.convert(same(entity), eq(HTTPS_LOCALHOST_8443)))
@@ -589,7 +591,7 @@ class SecretControllerTest {
 
         //when
         final ResponseEntity<KeyVaultItemListModel<KeyVaultSecretItemModel>> actual =
-                underTest.listSecrets(HTTPS_LOCALHOST_8443, 1, 0);
+                underTest.listSecrets(HTTPS_LOCALHOST_8443, 1, "0");
 
         //then
         Assertions.assertNotNull(actual);
@@ -598,7 +600,8 @@ class SecretControllerTest {
         Assertions.assertNotNull(actual.getBody().getValue());
         Assertions.assertEquals(1, actual.getBody().getValue().size());
         Assertions.assertSame(secretItemModel, actual.getBody().getValue().get(0));
-        final String expectedNextLink = HTTPS_LOCALHOST_8443 + "/secrets?api-version=7.2&$skiptoken=1&maxresults=1";
+        final String expectedNextLink = HTTPS_LOCALHOST_8443 + "/secrets?api-version=7.2&$skiptoken="
+                + SkipToken.after(SECRET_NAME_1).asString() + "&maxresults=1";
         Assertions.assertEquals(expectedNextLink, actual.getBody().getNextLink());
         verify(vaultService).findByUri(eq(HTTPS_LOCALHOST_8443));
         verify(vaultFake).secretVaultFake();
@@ -606,7 +609,7 @@ class SecretControllerTest {
         verify(vaultFake).getRecoverableDays();
         verify(secretVaultFake, atLeastOnce()).getEntities();
         verify(secretVaultFake, never()).getDeletedEntities();
-        verify(entities).listLatestEntities();
+        verify(entities).listLatestEntities(anyInt(), anyInt());
         verify(secretEntityToV72SecretItemModelConverter).convert(same(entity), eq(HTTPS_LOCALHOST_8443));
     }
 
@@ -629,7 +632,7 @@ class SecretControllerTest {
         final ReadOnlyKeyVaultSecretEntity entity = createEntity(VERSIONED_SECRET_ENTITY_ID_1_VERSION_1, request);
         entity.setDeletedDate(TIME_10_MINUTES_AGO);
         entity.setScheduledPurgeDate(TIME_IN_10_MINUTES);
-        when(entities.listLatestEntities())
+        when(entities.listLatestEntities(anyInt(), anyInt()))
                 .thenReturn(List.of(entity));
         final DeletedKeyVaultSecretItemModel secretItemModel = deletedKeyVaultSecretItemModel(baseUri, Map.of());
         when(secretEntityToV72SecretItemModelConverter.convertDeleted(same(entity), eq(HTTPS_LOCALHOST_8443)))
@@ -637,7 +640,7 @@ class SecretControllerTest {
 
         //when
         final ResponseEntity<KeyVaultItemListModel<DeletedKeyVaultSecretItemModel>> actual =
-                underTest.listDeletedSecrets(HTTPS_LOCALHOST_8443, 1, 0);
+                underTest.listDeletedSecrets(HTTPS_LOCALHOST_8443, 1, "0");
 
         //then
         Assertions.assertNotNull(actual);
@@ -652,7 +655,7 @@ class SecretControllerTest {
         verify(vaultFake).getRecoverableDays();
         verify(secretVaultFake, atLeastOnce()).getDeletedEntities();
         verify(secretVaultFake, never()).getEntities();
-        verify(entities).listLatestEntities();
+        verify(entities).listLatestEntities(anyInt(), anyInt());
         verify(secretEntityToV72SecretItemModelConverter).convertDeleted(same(entity), eq(HTTPS_LOCALHOST_8443));
     }
 
@@ -674,7 +677,7 @@ class SecretControllerTest {
         final ReadOnlyKeyVaultSecretEntity entity = createEntity(VERSIONED_SECRET_ENTITY_ID_1_VERSION_1, request);
         entity.setDeletedDate(TIME_10_MINUTES_AGO);
         entity.setScheduledPurgeDate(TIME_IN_10_MINUTES);
-        when(entities.listLatestEntities())
+        when(entities.listLatestEntities(anyInt(), anyInt()))
                 .thenReturn(List.of(entity, entity, entity));
         final DeletedKeyVaultSecretItemModel secretItemModel = deletedKeyVaultSecretItemModel(baseUri, Map.of());
         when(secretEntityToV72SecretItemModelConverter.convertDeleted(same(entity), eq(HTTPS_LOCALHOST_8443)))
@@ -682,7 +685,7 @@ class SecretControllerTest {
 
         //when
         final ResponseEntity<KeyVaultItemListModel<DeletedKeyVaultSecretItemModel>> actual =
-                underTest.listDeletedSecrets(HTTPS_LOCALHOST_8443, 1, 0);
+                underTest.listDeletedSecrets(HTTPS_LOCALHOST_8443, 1, "0");
 
         //then
         Assertions.assertNotNull(actual);
@@ -691,7 +694,8 @@ class SecretControllerTest {
         Assertions.assertNotNull(actual.getBody().getValue());
         Assertions.assertEquals(1, actual.getBody().getValue().size());
         Assertions.assertSame(secretItemModel, actual.getBody().getValue().get(0));
-        final String expectedNextLink = HTTPS_LOCALHOST_8443 + "/deletedsecrets?api-version=7.2&$skiptoken=1&maxresults=1";
+        final String expectedNextLink = HTTPS_LOCALHOST_8443 + "/deletedsecrets?api-version=7.2&$skiptoken="
+                + SkipToken.after(SECRET_NAME_1).asString() + "&maxresults=1";
         Assertions.assertEquals(expectedNextLink, actual.getBody().getNextLink());
         verify(vaultService).findByUri(eq(HTTPS_LOCALHOST_8443));
         verify(vaultFake).secretVaultFake();
@@ -699,7 +703,7 @@ class SecretControllerTest {
         verify(vaultFake).getRecoverableDays();
         verify(secretVaultFake, atLeastOnce()).getDeletedEntities();
         verify(secretVaultFake, never()).getEntities();
-        verify(entities).listLatestEntities();
+        verify(entities).listLatestEntities(anyInt(), anyInt());
         verify(secretEntityToV72SecretItemModelConverter).convertDeleted(same(entity), eq(HTTPS_LOCALHOST_8443));
     }
 
@@ -25,7 +25,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.net.URI;
-import java.util.Deque;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -79,7 +78,7 @@ class CertificateBackupRestoreControllerIntegrationTest {
         vaultFake.timeShift(SECONDS_IN_FIVE_DAYS, true);
 
         final CertificateEntityId entityId = new CertificateEntityId(baseUri, CERTIFICATE_BACKUP_TEST);
-        final Deque<String> versions = vaultFake.certificateVaultFake().getEntities().getVersions(entityId);
+        final List<String> versions = vaultFake.certificateVaultFake().getEntities().getVersions(entityId);
         final List<KeyVaultCertificateModel> expectedCerts = getAllCertificateModelVersions(baseUri, versions);
         final List<String> expectedSecrets = getAllSecretValuesForVersions(entityId, vaultFake, versions);
         final ReadOnlyKeyVaultKeyEntity expectedKey = getOnlyKeyForVersions(entityId, vaultFake, versions);
@@ -149,7 +148,7 @@ class CertificateBackupRestoreControllerIntegrationTest {
     }
 
     private static List<String> getAllSecretValuesForVersions(
-            final CertificateEntityId entityId, final VaultFake vaultFake, final Deque<String> versions) {
+            final CertificateEntityId entityId, final VaultFake vaultFake, final List<String> versions) {
         final List<String> secrets = versions.stream()
                 .map(v -> new VersionedSecretEntityId(entityId.vault(), entityId.id(), v))
                 .map(vaultFake.secretVaultFake().getEntities()::getReadOnlyEntity)
@@ -160,7 +159,7 @@ class CertificateBackupRestoreControllerIntegrationTest {
     }
 
     private static ReadOnlyKeyVaultKeyEntity getOnlyKeyForVersions(
-            final CertificateEntityId entityId, final VaultFake vaultFake, final Deque<String> versions) {
+            final CertificateEntityId entityId, final VaultFake vaultFake, final List<String> versions) {
         final List<ReadOnlyKeyVaultKeyEntity> keys = versions.stream()
                 .map(v -> new VersionedKeyEntityId(entityId.vault(), entityId.id(), v))
                 .filter(vaultFake.keyVaultFake().getEntities()::containsEntity)
@@ -171,7 +170,7 @@ class CertificateBackupRestoreControllerIntegrationTest {
     }
 
     private List<KeyVaultCertificateModel> getAllCertificateModelVersions(
-            final URI baseUri, final Deque<String> versions) {
+            final URI baseUri, final List<String> versions) {
         final List<KeyVaultCertificateModel> certs = versions.stream()
                 .map(v -> certificateController.getWithVersion(CERTIFICATE_BACKUP_TEST, v, baseUri).getBody())
                 .collect(Collectors.toList());
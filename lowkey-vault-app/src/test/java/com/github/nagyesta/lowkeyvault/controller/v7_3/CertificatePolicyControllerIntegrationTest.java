@@ -17,7 +17,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.ResponseEntity;
 
 import java.net.URI;
-import java.util.Deque;
+import java.util.List;
 import java.util.Set;
 
 import static com.github.nagyesta.lowkeyvault.TestConstantsCertificates.CERT_NAME_2;
@@ -116,7 +116,7 @@ class CertificatePolicyControllerIntegrationTest extends BaseCertificateControll
         final CreateCertificateRequest request = getCreateCertificateRequest();
         final String certificateName = CERT_NAME_2 + "policy";
         certificateController.create(certificateName, VAULT_URI_1, request);
-        final Deque<String> versions = findByUri(VAULT_URI_1)
+        final List<String> versions = findByUri(VAULT_URI_1)
                 .certificateVaultFake()
                 .getEntities()
                 .getVersions(new CertificateEntityId(VAULT_URI_1, certificateName));
@@ -128,7 +128,7 @@ class CertificatePolicyControllerIntegrationTest extends BaseCertificateControll
         Assertions.assertEquals(OK, actual.getStatusCode());
         final CertificatePolicyModel body = actual.getBody();
         Assertions.assertNotNull(body);
-        final URI id = new VersionedCertificateEntityId(VAULT_URI_1, certificateName, versions.getFirst())
+        final URI id = new VersionedCertificateEntityId(VAULT_URI_1, certificateName, versions.get(0))
                 .asPolicyUri(VAULT_URI_1);
         Assertions.assertEquals(request.getPolicy().getSecretProperties(), body.getSecretProperties());
         Assertions.assertEquals(request.getPolicy().getKeyProperties(), body.getKeyProperties());
@@ -144,7 +144,7 @@ class CertificatePolicyControllerIntegrationTest extends BaseCertificateControll
         final CreateCertificateRequest request = getCreateCertificateRequest();
         final String certificateName = CERT_NAME_2 + "-update-policy";
         certificateController.create(certificateName, VAULT_URI_1, request);
-        final Deque<String> versions = findByUri(VAULT_URI_1)
+        final List<String> versions = findByUri(VAULT_URI_1)
                 .certificateVaultFake()
                 .getEntities()
                 .getVersions(new CertificateEntityId(VAULT_URI_1, certificateName));
@@ -157,7 +157,7 @@ class CertificatePolicyControllerIntegrationTest extends BaseCertificateControll
         Assertions.assertEquals(OK, actual.getStatusCode());
         final CertificatePolicyModel body = actual.getBody();
         Assertions.assertNotNull(body);
-        final URI id = new VersionedCertificateEntityId(VAULT_URI_1, certificateName, versions.getFirst())
+        final URI id = new VersionedCertificateEntityId(VAULT_URI_1, certificateName, versions.get(0))
                 .asPolicyUri(VAULT_URI_1);
         Assertions.assertEquals(update.getSecretProperties(), body.getSecretProperties());
         Assertions.assertEquals(update.getKeyProperties(), body.getKeyProperties());
@@ -21,6 +21,7 @@ import com.github.nagyesta.lowkeyvault.service.key.id.KeyEntityId;
 import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
 import com.github.nagyesta.lowkeyvault.service.key.impl.KeyVaultKeyEntity;
 import com.github.nagyesta.lowkeyvault.service.key.impl.RsaKeyVaultKeyEntity;
+import com.github.nagyesta.lowkeyvault.service.key.util.CryptoExecutor;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultFake;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultService;
 import org.junit.jupiter.api.AfterEach;
@@ -42,6 +43,8 @@ import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static com.github.nagyesta.lowkeyvault.TestConstants.*;
@@ -65,6 +68,8 @@ class KeyCryptoControllerTest {
     @Mock
     private VaultService vaultService;
     @Mock
+    private CryptoExecutor cryptoExecutor;
+    @Mock
     private VaultFake vaultFake;
     @Mock
     private KeyVaultFake keyVaultFake;
@@ -86,21 +91,23 @@ class KeyCryptoControllerTest {
     public static Stream<Arguments> nullProvider() {
         final KeyConverterRegistry registry = mock(KeyConverterRegistry.class);
         return Stream.<Arguments>builder()
-                .add(Arguments.of(null, null))
-                .add(Arguments.of(registry, null))
-                .add(Arguments.of(null, mock(VaultService.class)))
+                .add(Arguments.of(null, mock(VaultService.class), mock(CryptoExecutor.class)))
+                .add(Arguments.of(registry, null, mock(CryptoExecutor.class)))
+                .add(Arguments.of(registry, mock(VaultService.class), null))
                 .build();
     }
 
     @BeforeEach
     void setUp() {
         openMocks = MockitoAnnotations.openMocks(this);
+        when(cryptoExecutor.submit(any())).thenAnswer(invocation -> CompletableFuture.completedFuture(
+                invocation.<Supplier<?>>getArgument(0).get()));
         when(registry.modelConverter(eq(ApiConstants.V_7_3))).thenReturn(keyEntityToV72ModelConverter);
         when(registry.itemConverter(eq(ApiConstants.V_7_3))).thenReturn(keyEntityToV72KeyItemModelConverter);
         when(registry.versionedItemConverter(eq(ApiConstants.V_7_3))).thenReturn(keyEntityToV72KeyVersionItemModelConverter);
         when(registry.versionedEntityId(any(URI.class), anyString(), anyString())).thenCallRealMethod();
         when(registry.entityId(any(URI.class), anyString())).thenCallRealMethod();
-        underTest = new KeyCryptoController(registry, vaultService);
+        underTest = new KeyCryptoController(registry, vaultService, cryptoExecutor);
         when(vaultService.findByUri(eq(HTTPS_LOCALHOST_8443))).thenReturn(vaultFake);
         when(vaultFake.baseUri()).thenReturn(HTTPS_LOCALHOST_8443);
         when(vaultFake.keyVaultFake()).thenReturn(keyVaultFake);
@@ -115,12 +122,13 @@ class KeyCryptoControllerTest {
     @MethodSource("nullProvider")
     void testConstructorShouldThrowExceptionWhenCalledWithNull(
             final KeyConverterRegistry registry,
-            final VaultService vaultService) {
+            final VaultService vaultService,
+            final CryptoExecutor cryptoExecutor) {
         //given
 
         //when
         Assertions.assertThrows(IllegalArgumentException.class,
-                () -> new KeyCryptoController(registry, vaultService));
+                () -> new KeyCryptoController(registry, vaultService, cryptoExecutor));
 
         //then + exception
     }
@@ -149,7 +157,7 @@ class KeyCryptoControllerTest {
 
         //when
         final ResponseEntity<KeyOperationsResult> encrypted = underTest
-                .encrypt(KEY_NAME_1, KEY_VERSION_3, HTTPS_LOCALHOST_8443, encryptParameters);
+                .encrypt(KEY_NAME_1, KEY_VERSION_3, HTTPS_LOCALHOST_8443, encryptParameters).join();
         Assertions.assertNotNull(encrypted);
         Assertions.assertEquals(HttpStatus.OK, encrypted.getStatusCode());
         Assertions.assertNotNull(encrypted.getBody());
@@ -159,7 +167,7 @@ class KeyCryptoControllerTest {
         decryptParameters.setAlgorithm(EncryptionAlgorithm.RSA_OAEP_256);
         decryptParameters.setValue(encrypted.getBody().getValue());
         final ResponseEntity<KeyOperationsResult> actual = underTest
-                .decrypt(KEY_NAME_1, KEY_VERSION_3, HTTPS_LOCALHOST_8443, decryptParameters);
+                .decrypt(KEY_NAME_1, KEY_VERSION_3, HTTPS_LOCALHOST_8443, decryptParameters).join();
 
         //then
         Assertions.assertNotNull(actual);
@@ -198,7 +206,7 @@ class KeyCryptoControllerTest {
 
         //when
         final ResponseEntity<KeySignResult> signature = underTest
-                .sign(KEY_NAME_1, KEY_VERSION_3, HTTPS_LOCALHOST_8443, keySignParameters);
+                .sign(KEY_NAME_1, KEY_VERSION_3, HTTPS_LOCALHOST_8443, keySignParameters).join();
         Assertions.assertNotNull(signature);
         Assertions.assertEquals(HttpStatus.OK, signature.getStatusCode());
         Assertions.assertNotNull(signature.getBody());
@@ -209,7 +217,7 @@ class KeyCryptoControllerTest {
         verifyParameters.setDigest(ENCODER.encodeToString(HashUtil.hash(clearText.getBytes(StandardCharsets.UTF_8), HashAlgorithm.SHA256)));
         verifyParameters.setValue(signature.getBody().getValue());
         final ResponseEntity<KeyVerifyResult> actual = underTest
-                .verify(KEY_NAME_1, KEY_VERSION_3, HTTPS_LOCALHOST_8443, verifyParameters);
+                .verify(KEY_NAME_1, KEY_VERSION_3, HTTPS_LOCALHOST_8443, verifyParameters).join();
 
         //then
         Assertions.assertNotNull(actual);
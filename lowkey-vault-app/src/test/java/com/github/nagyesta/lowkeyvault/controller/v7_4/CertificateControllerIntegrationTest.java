@@ -3,6 +3,7 @@ package com.github.nagyesta.lowkeyvault.controller.v7_4;
 import com.github.nagyesta.abortmission.booster.jupiter.annotation.LaunchAbortArmed;
 import com.github.nagyesta.lowkeyvault.ResourceUtils;
 import com.github.nagyesta.lowkeyvault.TestConstants;
+import com.github.nagyesta.lowkeyvault.controller.common.SkipToken;
 import com.github.nagyesta.lowkeyvault.controller.v7_3.BaseCertificateControllerIntegrationTest;
 import com.github.nagyesta.lowkeyvault.model.common.DeletedModel;
 import com.github.nagyesta.lowkeyvault.model.common.KeyVaultItemListModel;
@@ -64,9 +65,11 @@ class CertificateControllerIntegrationTest extends BaseCertificateControllerInte
         final String uri3 = getRandomVaultUriAsString();
         return Stream.<Arguments>builder()
                 .add(Arguments.of(uri1, 5, 0,
-                        uri1 + "/certificates?api-version=7.4&$skiptoken=5&maxresults=5&includePending=true"))
+                        uri1 + "/certificates?api-version=7.4&$skiptoken=" + SkipToken.after(CERT_NAME_1 + 4).asString()
+                                + "&maxresults=5&includePending=true"))
                 .add(Arguments.of(uri2, 3, 1,
-                        uri2 + "/certificates?api-version=7.4&$skiptoken=4&maxresults=3&includePending=true"))
+                        uri2 + "/certificates?api-version=7.4&$skiptoken=" + SkipToken.after(CERT_NAME_1 + 3).asString()
+                                + "&maxresults=3&includePending=true"))
                 .add(Arguments.of(uri3, 3, 8,
                         null))
                 .build();
@@ -155,7 +158,7 @@ class CertificateControllerIntegrationTest extends BaseCertificateControllerInte
         //given
         final CreateCertificateRequest request = getCreateCertificateRequest();
         underTest.create(CERT_NAME_2, VAULT_URI_1, request);
-        final Deque<String> versions = findByUri(VAULT_URI_1)
+        final List<String> versions = findByUri(VAULT_URI_1)
                 .certificateVaultFake()
                 .getEntities()
                 .getVersions(new CertificateEntityId(VAULT_URI_1, CERT_NAME_2));
@@ -170,7 +173,7 @@ class CertificateControllerIntegrationTest extends BaseCertificateControllerInte
         Assertions.assertNotNull(body.getCertificate());
         Assertions.assertNotNull(body.getThumbprint());
         Assertions.assertEquals(Collections.emptyMap(), body.getTags());
-        final URI id = new VersionedCertificateEntityId(VAULT_URI_1, CERT_NAME_2, versions.getFirst())
+        final URI id = new VersionedCertificateEntityId(VAULT_URI_1, CERT_NAME_2, versions.get(0))
                 .asUri(VAULT_URI_1);
         Assertions.assertEquals(id.toString(), body.getId());
     }
@@ -180,14 +183,14 @@ class CertificateControllerIntegrationTest extends BaseCertificateControllerInte
         //given
         final CreateCertificateRequest request = getCreateCertificateRequest();
         underTest.create(CERT_NAME_3, VAULT_URI_1, request);
-        final Deque<String> versions = findByUri(VAULT_URI_1)
+        final List<String> versions = findByUri(VAULT_URI_1)
                 .certificateVaultFake()
                 .getEntities()
                 .getVersions(new CertificateEntityId(VAULT_URI_1, CERT_NAME_3));
 
         //when
         final ResponseEntity<KeyVaultCertificateModel> actual = underTest
-                .getWithVersion(CERT_NAME_3, versions.getFirst(), VAULT_URI_1);
+                .getWithVersion(CERT_NAME_3, versions.get(0), VAULT_URI_1);
 
         //then
         Assertions.assertEquals(OK, actual.getStatusCode());
@@ -196,7 +199,7 @@ class CertificateControllerIntegrationTest extends BaseCertificateControllerInte
         Assertions.assertNotNull(body.getCertificate());
         Assertions.assertNotNull(body.getThumbprint());
         Assertions.assertEquals(Collections.emptyMap(), body.getTags());
-        final URI id = new VersionedCertificateEntityId(VAULT_URI_1, CERT_NAME_3, versions.getFirst())
+        final URI id = new VersionedCertificateEntityId(VAULT_URI_1, CERT_NAME_3, versions.get(0))
                 .asUri(VAULT_URI_1);
         Assertions.assertEquals(id.toString(), body.getId());
     }
@@ -433,7 +436,7 @@ class CertificateControllerIntegrationTest extends BaseCertificateControllerInte
 
         //when
         final ResponseEntity<KeyVaultItemListModel<KeyVaultCertificateItemModel>> actual = underTest
-                .versions(name, VAULT_URI_1, 1, 0);
+                .versions(name, VAULT_URI_1, 1, "0");
 
         //then
         Assertions.assertEquals(OK, actual.getStatusCode());
@@ -463,7 +466,7 @@ class CertificateControllerIntegrationTest extends BaseCertificateControllerInte
 
         //when
         final ResponseEntity<KeyVaultItemListModel<KeyVaultCertificateItemModel>> actual = underTest
-                .listCertificates(vault, pageSize, offset, true);
+                .listCertificates(vault, pageSize, String.valueOf(offset), true);
 
         //then
         Assertions.assertEquals(OK, actual.getStatusCode());
@@ -489,7 +492,7 @@ class CertificateControllerIntegrationTest extends BaseCertificateControllerInte
         underTest.create(certificateName, VAULT_URI_1, request);
         final CertificateVaultFake certificateVaultFake = findByUri(VAULT_URI_1)
                 .certificateVaultFake();
-        final Deque<String> versions = certificateVaultFake
+        final List<String> versions = certificateVaultFake
                 .getEntities()
                 .getVersions(new CertificateEntityId(VAULT_URI_1, certificateName));
 
@@ -500,7 +503,7 @@ class CertificateControllerIntegrationTest extends BaseCertificateControllerInte
         Assertions.assertEquals(OK, actual.getStatusCode());
         final DeletedKeyVaultCertificateModel body = actual.getBody();
         final VersionedCertificateEntityId expectedId =
-                new VersionedCertificateEntityId(VAULT_URI_1, certificateName, versions.getFirst());
+                new VersionedCertificateEntityId(VAULT_URI_1, certificateName, versions.get(0));
 
         assertExpectedCertificateModel(request, expectedId, body);
         assertIsDeletedModel(body, expectedId);
@@ -536,7 +539,7 @@ class CertificateControllerIntegrationTest extends BaseCertificateControllerInte
         final CertificateVaultFake certificateVaultFake = findByUri(VAULT_URI_1)
                 .certificateVaultFake();
         final CertificateEntityId entityId = new CertificateEntityId(VAULT_URI_1, certificateName);
-        final Deque<String> versions = certificateVaultFake
+        final List<String> versions = certificateVaultFake
                 .getEntities()
                 .getVersions(entityId);
         certificateVaultFake.delete(entityId);
@@ -549,7 +552,7 @@ class CertificateControllerIntegrationTest extends BaseCertificateControllerInte
         Assertions.assertEquals(OK, actual.getStatusCode());
         final KeyVaultCertificateModel body = actual.getBody();
         final VersionedCertificateEntityId expectedId =
-                new VersionedCertificateEntityId(VAULT_URI_1, certificateName, versions.getFirst());
+                new VersionedCertificateEntityId(VAULT_URI_1, certificateName, versions.get(0));
 
         assertExpectedCertificateModel(request, expectedId, body);
         Assertions.assertTrue(certificateVaultFake.getEntities().containsName(certificateName));
@@ -565,7 +568,7 @@ class CertificateControllerIntegrationTest extends BaseCertificateControllerInte
         final CertificateVaultFake certificateVaultFake = findByUri(VAULT_URI_1)
                 .certificateVaultFake();
         final CertificateEntityId entityId = new CertificateEntityId(VAULT_URI_1, certificateName);
-        final Deque<String> versions = certificateVaultFake
+        final List<String> versions = certificateVaultFake
                 .getEntities()
                 .getVersions(entityId);
         certificateVaultFake.delete(entityId);
@@ -578,7 +581,7 @@ class CertificateControllerIntegrationTest extends BaseCertificateControllerInte
         Assertions.assertEquals(OK, actual.getStatusCode());
         final DeletedKeyVaultCertificateModel body = actual.getBody();
         final VersionedCertificateEntityId expectedId =
-                new VersionedCertificateEntityId(VAULT_URI_1, certificateName, versions.getFirst());
+                new VersionedCertificateEntityId(VAULT_URI_1, certificateName, versions.get(0));
 
         assertExpectedCertificateModel(request, expectedId, body);
         assertIsDeletedModel(body, expectedId);
@@ -599,7 +602,7 @@ class CertificateControllerIntegrationTest extends BaseCertificateControllerInte
 
         //when
         final ResponseEntity<KeyVaultItemListModel<DeletedKeyVaultCertificateItemModel>> actual =
-                underTest.listDeletedCertificates(VAULT_URI_2, 1, 0, true);
+                underTest.listDeletedCertificates(VAULT_URI_2, 1, "0", true);
 
         //then
         Assertions.assertEquals(OK, actual.getStatusCode());
@@ -618,7 +621,7 @@ class CertificateControllerIntegrationTest extends BaseCertificateControllerInte
         final CreateCertificateRequest request = getCreateCertificateRequest();
         final String certificateName = CERT_NAME_2 + "-update-properties";
         underTest.create(certificateName, VAULT_URI_1, request);
-        final Deque<String> versions = findByUri(VAULT_URI_1)
+        final List<String> versions = findByUri(VAULT_URI_1)
                 .certificateVaultFake()
                 .getEntities()
                 .getVersions(new CertificateEntityId(VAULT_URI_1, certificateName));
@@ -630,7 +633,7 @@ class CertificateControllerIntegrationTest extends BaseCertificateControllerInte
 
         //when
         final ResponseEntity<KeyVaultCertificateModel> actual = underTest
-                .updateCertificateProperties(certificateName, versions.getLast(), VAULT_URI_1, properties);
+                .updateCertificateProperties(certificateName, versions.get(versions.size() - 1), VAULT_URI_1, properties);
 
         //then
         Assertions.assertEquals(OK, actual.getStatusCode());
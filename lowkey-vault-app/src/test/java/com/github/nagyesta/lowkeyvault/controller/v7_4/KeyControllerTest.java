@@ -1,5 +1,6 @@
 package com.github.nagyesta.lowkeyvault.controller.v7_4;
 
+import com.github.nagyesta.lowkeyvault.controller.common.SkipToken;
 import com.github.nagyesta.lowkeyvault.mapper.common.registry.KeyConverterRegistry;
 import com.github.nagyesta.lowkeyvault.mapper.v7_2.key.KeyEntityToV72KeyItemModelConverter;
 import com.github.nagyesta.lowkeyvault.mapper.v7_2.key.KeyEntityToV72KeyVersionItemModelConverter;
@@ -297,12 +298,12 @@ class KeyControllerTest {
         //given
         when(keyVaultFake.getEntities())
                 .thenReturn(entities);
-        when(entities.getVersions(eq(new KeyEntityId(HTTPS_LOCALHOST_8443, KEY_NAME_1, null))))
+        when(entities.getSortedVersions(eq(new KeyEntityId(HTTPS_LOCALHOST_8443, KEY_NAME_1, null))))
                 .thenThrow(new NotFoundException("not found"));
 
         //when
         Assertions.assertThrows(NotFoundException.class,
-                () -> underTest.versions(KEY_NAME_1, HTTPS_LOCALHOST_8443, 0, 0));
+                () -> underTest.versions(KEY_NAME_1, HTTPS_LOCALHOST_8443, 0, "0"));
 
         //then + exception
     }
@@ -317,11 +318,12 @@ class KeyControllerTest {
                 .sorted()
                 .collect(Collectors.toCollection(LinkedList::new));
         final KeyEntityId baseUri = new KeyEntityId(HTTPS_LOCALHOST_8443, KEY_NAME_1, null);
-        final String expectedNextUri = baseUri.asUri(HTTPS_LOCALHOST_8443, "versions?api-version=7.4&$skiptoken=31&maxresults=1")
+        final String expectedNextUri = baseUri.asUri(HTTPS_LOCALHOST_8443, "versions?api-version=7.4&$skiptoken="
+                + SkipToken.after(fullList.get(index)).asString() + "&maxresults=1")
                 .toString();
         when(keyVaultFake.getEntities())
                 .thenReturn(entities);
-        when(entities.getVersions(eq(baseUri))).thenReturn(fullList);
+        when(entities.getSortedVersions(eq(baseUri))).thenReturn(fullList);
         when(entities.getReadOnlyEntity(any())).thenAnswer(invocation -> {
             final VersionedKeyEntityId keyEntityId = invocation.getArgument(0, VersionedKeyEntityId.class);
             return createEntity(keyEntityId, createRequest(null, null, null));
@@ -334,7 +336,7 @@ class KeyControllerTest {
 
         //when
         final ResponseEntity<KeyVaultItemListModel<KeyVaultKeyItemModel>> actual =
-                underTest.versions(KEY_NAME_1, HTTPS_LOCALHOST_8443, 1, index);
+                underTest.versions(KEY_NAME_1, HTTPS_LOCALHOST_8443, 1, String.valueOf(index));
 
         //then
         Assertions.assertNotNull(actual);
@@ -357,7 +359,7 @@ class KeyControllerTest {
         final KeyEntityId baseUri = new KeyEntityId(HTTPS_LOCALHOST_8443, KEY_NAME_1, null);
         when(keyVaultFake.getEntities())
                 .thenReturn(entities);
-        when(entities.getVersions(eq(baseUri))).thenReturn(fullList);
+        when(entities.getSortedVersions(eq(baseUri))).thenReturn(fullList);
         when(entities.getReadOnlyEntity(any())).thenAnswer(invocation -> {
             final VersionedKeyEntityId keyEntityId = invocation.getArgument(0, VersionedKeyEntityId.class);
             return createEntity(keyEntityId, createRequest(null, null, null));
@@ -372,7 +374,7 @@ class KeyControllerTest {
 
         //when
         final ResponseEntity<KeyVaultItemListModel<KeyVaultKeyItemModel>> actual =
-                underTest.versions(KEY_NAME_1, HTTPS_LOCALHOST_8443, 25, 0);
+                underTest.versions(KEY_NAME_1, HTTPS_LOCALHOST_8443, 25, "0");
 
         //then
         Assertions.assertNotNull(actual);
@@ -582,7 +584,7 @@ class KeyControllerTest {
                 .thenReturn(recoverableDays);
         final CreateKeyRequest request = createRequest(operations, expiry, notBefore);
         final ReadOnlyKeyVaultKeyEntity entity = createEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, request);
-        when(entities.listLatestEntities())
+        when(entities.listLatestEntities(anyInt(), anyInt()))
                 .thenReturn(List.of(entity));
         final KeyVaultKeyItemModel keyItemModel = keyVaultKeyItemModel(baseUri.asUri(HTTPS_LOCALHOST_8443), Map.of());
         when(keyEntityToV72KeyItemModelConverter.convert(same(entity), eq(HTTPS_LOCALHOST_8443)))
@@ -590,7 +592,7 @@ class KeyControllerTest {
 
         //when
         final ResponseEntity<KeyVaultItemListModel<KeyVaultKeyItemModel>> actual =
-                underTest.listKeys(HTTPS_LOCALHOST_8443, 1, 0);
+                underTest.listKeys(HTTPS_LOCALHOST_8443, 1, "0");
 
         //then
         Assertions.assertNotNull(actual);
@@ -605,7 +607,7 @@ class KeyControllerTest {
         verify(vaultFake).getRecoverableDays();
         verify(keyVaultFake, atLeastOnce()).getEntities();
         verify(keyVaultFake, never()).getDeletedEntities();
-        verify(entities).listLatestEntities();
+        verify(entities).listLatestEntities(anyInt(), anyInt());
         verify(keyEntityToV72KeyItemModelConverter).convert(same(entity), eq(HTTPS_LOCALHOST_8443));
     }
 
@@ -625,7 +627,7 @@ class KeyControllerTest {
                 .thenReturn(recoverableDays);
         final CreateKeyRequest request = createRequest(operations, expiry, notBefore);
         final ReadOnlyKeyVaultKeyEntity entity = createEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, request);
-        when(entities.listLatestEntities())
+        when(entities.listLatestEntities(anyInt(), anyInt()))
                 .thenReturn(List.of(entity, entity, entity));
         final KeyVaultKeyItemModel keyItemModel = keyVaultKeyItemModel(baseUri.asUri(HTTPS_LOCALHOST_8443), Map.of());
         when(keyEntityToV72KeyItemModelConverter.convert(same(entity), eq(HTTPS_LOCALHOST_8443)))
@@ -633,7 +635,7 @@ class KeyControllerTest {
 
         //when
         final ResponseEntity<KeyVaultItemListModel<KeyVaultKeyItemModel>> actual =
-                underTest.listKeys(HTTPS_LOCALHOST_8443, 1, 0);
+                underTest.listKeys(HTTPS_LOCALHOST_8443, 1, "0");
 
         //then
         Assertions.assertNotNull(actual);
@@ -642,7 +644,8 @@ class KeyControllerTest {
         Assertions.assertNotNull(actual.getBody().getValue());
         Assertions.assertEquals(1, actual.getBody().getValue().size());
         Assertions.assertSame(keyItemModel, actual.getBody().getValue().get(0));
-        final String expectedNextLink = HTTPS_LOCALHOST_8443 + "/keys?api-version=7.4&$skiptoken=1&maxresults=1";
+        final String expectedNextLink = HTTPS_LOCALHOST_8443 + "/keys?api-version=7.4&$skiptoken="
+                + SkipToken.after(KEY_NAME_1).asString() + "&maxresults=1";
         Assertions.assertEquals(expectedNextLink, actual.getBody().getNextLink());
         verify(vaultService).findByUri(eq(HTTPS_LOCALHOST_8443));
         verify(vaultFake).keyVaultFake();
@@ -650,7 +653,7 @@ class KeyControllerTest {
         verify(vaultFake).getRecoverableDays();
         verify(keyVaultFake, atLeastOnce()).getEntities();
         verify(keyVaultFake, never()).getDeletedEntities();
-        verify(entities).listLatestEntities();
+        verify(entities).listLatestEntities(anyInt(), anyInt());
         verify(keyEntityToV72KeyItemModelConverter).convert(same(entity), eq(HTTPS_LOCALHOST_8443));
     }
 
@@ -672,7 +675,7 @@ class KeyControllerTest {
         final ReadOnlyKeyVaultKeyEntity entity = createEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, request);
         entity.setDeletedDate(TIME_10_MINUTES_AGO);
         entity.setScheduledPurgeDate(TIME_IN_10_MINUTES);
-        when(entities.listLatestEntities())
+        when(entities.listLatestEntities(anyInt(), anyInt()))
                 .thenReturn(List.of(entity));
         final DeletedKeyVaultKeyItemModel keyItemModel = deletedKeyVaultKeyItemModel(baseUri, Map.of());
         when(keyEntityToV72KeyItemModelConverter.convertDeleted(same(entity), eq(HTTPS_LOCALHOST_8443)))
@@ -680,7 +683,7 @@ class KeyControllerTest {
 
         //when
         final ResponseEntity<KeyVaultItemListModel<DeletedKeyVaultKeyItemModel>> actual =
-                underTest.listDeletedKeys(HTTPS_LOCALHOST_8443, 1, 0);
+                underTest.listDeletedKeys(HTTPS_LOCALHOST_8443, 1, "0");
 
         //then
         Assertions.assertNotNull(actual);
@@ -695,7 +698,7 @@ class KeyControllerTest {
         verify(vaultFake).getRecoverableDays();
         verify(keyVaultFake, atLeastOnce()).getDeletedEntities();
         verify(keyVaultFake, never()).getEntities();
-        verify(entities).listLatestEntities();
+        verify(entities).listLatestEntities(anyInt(), anyInt());
         verify(keyEntityToV72KeyItemModelConverter).convertDeleted(same(entity), eq(HTTPS_LOCALHOST_8443));
     }
 
@@ -760,7 +763,7 @@ class KeyControllerTest {
         final ReadOnlyKeyVaultKeyEntity entity = createEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, request);
         entity.setDeletedDate(TIME_10_MINUTES_AGO);
         entity.setScheduledPurgeDate(TIME_IN_10_MINUTES);
-        when(entities.listLatestEntities())
+        when(entities.listLatestEntities(anyInt(), anyInt()))
                 .thenReturn(List.of(entity, entity, entity));
         final DeletedKeyVaultKeyItemModel keyItemModel = deletedKeyVaultKeyItemModel(baseUri, Map.of());
         when(keyEntityToV72KeyItemModelConverter.convertDeleted(same(entity), eq(HTTPS_LOCALHOST_8443)))
@@ -768,7 +771,7 @@ class KeyControllerTest {
 
         //when
         final ResponseEntity<KeyVaultItemListModel<DeletedKeyVaultKeyItemModel>> actual =
-                underTest.listDeletedKeys(HTTPS_LOCALHOST_8443, 1, 0);
+                underTest.listDeletedKeys(HTTPS_LOCALHOST_8443, 1, "0");
 
         //then
         Assertions.assertNotNull(actual);
@@ -777,7 +780,8 @@ class KeyControllerTest {
         Assertions.assertNotNull(actual.getBody().getValue());
         Assertions.assertEquals(1, actual.getBody().getValue().size());
         Assertions.assertSame(keyItemModel, actual.getBody().getValue().get(0));
-        final String expectedNextLink = HTTPS_LOCALHOST_8443 + "/deletedkeys?api-version=7.4&$skiptoken=1&maxresults=1";
+        final String expectedNextLink = HTTPS_LOCALHOST_8443 + "/deletedkeys?api-version=7.4&$skiptoken="
+                + SkipToken.after(KEY_NAME_1).asString() + "&maxresults=1";
         Assertions.assertEquals(expectedNextLink, actual.getBody().getNextLink());
         verify(vaultService).findByUri(eq(HTTPS_LOCALHOST_8443));
         verify(vaultFake).keyVaultFake();
@@ -785,7 +789,7 @@ class KeyControllerTest {
         verify(vaultFake).getRecoverableDays();
         verify(keyVaultFake, atLeastOnce()).getDeletedEntities();
         verify(keyVaultFake, never()).getEntities();
-        verify(entities).listLatestEntities();
+        verify(entities).listLatestEntities(anyInt(), anyInt());
         verify(keyEntityToV72KeyItemModelConverter).convertDeleted(same(entity), eq(HTTPS_LOCALHOST_8443));
     }
 
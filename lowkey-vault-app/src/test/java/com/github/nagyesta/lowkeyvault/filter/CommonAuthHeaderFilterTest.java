@@ -1,6 +1,9 @@
 package com.github.nagyesta.lowkeyvault.filter;
 
 import com.github.nagyesta.lowkeyvault.model.common.ApiConstants;
+import com.github.nagyesta.lowkeyvault.service.exception.NotFoundException;
+import com.github.nagyesta.lowkeyvault.service.vault.VaultFake;
+import com.github.nagyesta.lowkeyvault.service.vault.VaultService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -36,6 +39,8 @@ class CommonAuthHeaderFilterTest {
     private HttpServletResponse response;
     @Mock
     private FilterChain chain;
+    @Mock
+    private VaultService vaultService;
 
     private AutoCloseable openMocks;
 
@@ -80,7 +85,7 @@ class CommonAuthHeaderFilterTest {
     @ValueSource(strings = {EMPTY, HEADER_VALUE})
     void testDoFilterInternalShouldNotCallNextOnChainWhenAuthorizationHeaderMissing(final String headerValue)
             throws ServletException, IOException {
-        final CommonAuthHeaderFilter underTest = new CommonAuthHeaderFilter(LOCALHOST);
+        final CommonAuthHeaderFilter underTest = new CommonAuthHeaderFilter(LOCALHOST, vaultService);
 
         //given
         when(request.getHeader(eq(HttpHeaders.AUTHORIZATION))).thenReturn(headerValue);
@@ -102,7 +107,7 @@ class CommonAuthHeaderFilterTest {
     @ValueSource(strings = {EMPTY, HEADER_VALUE})
     void testDoFilterInternalShouldAddTokenToResponseHeaderWhenCalled(final String headerValue)
             throws ServletException, IOException {
-        final CommonAuthHeaderFilter underTest = new CommonAuthHeaderFilter(LOCALHOST);
+        final CommonAuthHeaderFilter underTest = new CommonAuthHeaderFilter(LOCALHOST, vaultService);
 
         //given
         when(request.getHeader(eq(HttpHeaders.AUTHORIZATION))).thenReturn(headerValue);
@@ -118,7 +123,7 @@ class CommonAuthHeaderFilterTest {
     @MethodSource("authResourceProvider")
     void testDoFilterInternalShouldSetResourceOnResponseHeaderWhenCalled(final String authResource, final URI expected)
             throws ServletException, IOException {
-        final CommonAuthHeaderFilter underTest = new CommonAuthHeaderFilter(authResource);
+        final CommonAuthHeaderFilter underTest = new CommonAuthHeaderFilter(authResource, vaultService);
 
         //given
         when(request.getHeader(eq(HttpHeaders.AUTHORIZATION))).thenReturn(HEADER_VALUE);
@@ -134,7 +139,7 @@ class CommonAuthHeaderFilterTest {
     @MethodSource("hostAndPortProvider")
     void testDoFilterInternalShouldSetRequestBaseUriRequestAttributeWhenCalled(
             final String hostName, final int port, final String path, final URI expected) throws ServletException, IOException {
-        final CommonAuthHeaderFilter underTest = new CommonAuthHeaderFilter(LOCALHOST);
+        final CommonAuthHeaderFilter underTest = new CommonAuthHeaderFilter(LOCALHOST, vaultService);
 
         //given
         when(request.getServerName()).thenReturn(hostName);
@@ -151,9 +156,62 @@ class CommonAuthHeaderFilterTest {
         verify(request).setAttribute(eq(ApiConstants.REQUEST_BASE_URI), eq(expected));
     }
 
+    @Test
+    void testDoFilterInternalShouldSetRequestVaultAttributeWhenVaultIsFound() throws ServletException, IOException {
+        final CommonAuthHeaderFilter underTest = new CommonAuthHeaderFilter(LOCALHOST, vaultService);
+
+        //given
+        final VaultFake vaultFake = mock(VaultFake.class);
+        when(request.getHeader(eq(HttpHeaders.AUTHORIZATION))).thenReturn(HEADER_VALUE);
+        when(request.getServerName()).thenReturn(LOCALHOST);
+        when(request.getServerPort()).thenReturn(TOMCAT_SECURE_PORT);
+        when(vaultService.findByUri(eq(HTTPS_LOCALHOST_8443))).thenReturn(vaultFake);
+
+        //when
+        underTest.doFilterInternal(request, response, chain);
+
+        //then
+        verify(vaultService).findByUri(eq(HTTPS_LOCALHOST_8443));
+        verify(request).setAttribute(eq(ApiConstants.REQUEST_VAULT), same(vaultFake));
+        verify(chain).doFilter(same(request), same(response));
+    }
+
+    @Test
+    void testDoFilterInternalShouldNotSetRequestVaultAttributeWhenVaultIsNotFound() throws ServletException, IOException {
+        final CommonAuthHeaderFilter underTest = new CommonAuthHeaderFilter(LOCALHOST, vaultService);
+
+        //given
+        when(request.getHeader(eq(HttpHeaders.AUTHORIZATION))).thenReturn(HEADER_VALUE);
+        when(request.getServerName()).thenReturn(LOCALHOST);
+        when(request.getServerPort()).thenReturn(TOMCAT_SECURE_PORT);
+        when(vaultService.findByUri(eq(HTTPS_LOCALHOST_8443))).thenThrow(new NotFoundException(LOCALHOST));
+
+        //when
+        underTest.doFilterInternal(request, response, chain);
+
+        //then
+        verify(request, never()).setAttribute(eq(ApiConstants.REQUEST_VAULT), any());
+        verify(chain).doFilter(same(request), same(response));
+    }
+
+    @Test
+    void testDoFilterInternalShouldNotResolveVaultWhenAuthorizationHeaderIsMissing() throws ServletException, IOException {
+        final CommonAuthHeaderFilter underTest = new CommonAuthHeaderFilter(LOCALHOST, vaultService);
+
+        //given
+        when(request.getServerName()).thenReturn(LOCALHOST);
+        when(request.getServerPort()).thenReturn(TOMCAT_SECURE_PORT);
+
+        //when
+        underTest.doFilterInternal(request, response, chain);
+
+        //then
+        verifyNoInteractions(vaultService);
+    }
+
     @Test
     void testShouldNotFilterShouldReturnTrueWhenRequestBaseUriIsPing() {
-        final CommonAuthHeaderFilter underTest = new CommonAuthHeaderFilter(LOCALHOST);
+        final CommonAuthHeaderFilter underTest = new CommonAuthHeaderFilter(LOCALHOST, vaultService);
 
         //given
         when(request.getRequestURI()).thenReturn("/ping");
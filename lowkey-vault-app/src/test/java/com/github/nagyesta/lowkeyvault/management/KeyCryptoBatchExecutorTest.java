@@ -0,0 +1,178 @@
+package com.github.nagyesta.lowkeyvault.management;
+
+import com.github.nagyesta.lowkeyvault.model.management.KeyCryptoBatchItemModel;
+import com.github.nagyesta.lowkeyvault.model.management.KeyCryptoBatchResultModel;
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.EncryptionAlgorithm;
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyCurveName;
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyOperation;
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyType;
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.SignatureAlgorithm;
+import com.github.nagyesta.lowkeyvault.service.certificate.util.CertificateRegenerationPipeline;
+import com.github.nagyesta.lowkeyvault.service.exception.NotFoundException;
+import com.github.nagyesta.lowkeyvault.service.key.KeyVaultFake;
+import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
+import com.github.nagyesta.lowkeyvault.service.key.impl.EcKeyCreationInput;
+import com.github.nagyesta.lowkeyvault.service.key.impl.OctKeyCreationInput;
+import com.github.nagyesta.lowkeyvault.service.key.util.CryptoExecutor;
+import com.github.nagyesta.lowkeyvault.service.vault.VaultService;
+import com.github.nagyesta.lowkeyvault.service.vault.impl.VaultServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.github.nagyesta.lowkeyvault.TestConstantsKeys.KEY_NAME_1;
+import static com.github.nagyesta.lowkeyvault.TestConstantsKeys.KEY_NAME_2;
+import static com.github.nagyesta.lowkeyvault.TestConstantsUri.HTTPS_LOCALHOST_8443;
+import static org.mockito.Mockito.mock;
+
+class KeyCryptoBatchExecutorTest {
+
+    private static final int THREADS = 2;
+    private static final int MAX_PENDING = 4;
+    private static final long TIMEOUT_MILLIS = 1000L;
+    private static final int AES_256 = 256;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private CertificateRegenerationPipeline regenerationPipeline;
+    private CryptoExecutor cryptoExecutor;
+    private KeyCryptoBatchExecutor underTest;
+    private KeyVaultFake keyVaultFake;
+    private VersionedKeyEntityId keyId;
+    private String digest;
+
+    @BeforeEach
+    void setUp() throws NoSuchAlgorithmException {
+        regenerationPipeline = new CertificateRegenerationPipeline(1);
+        final VaultService vaultService = new VaultServiceImpl(regenerationPipeline);
+        keyVaultFake = vaultService.create(HTTPS_LOCALHOST_8443).keyVaultFake();
+        keyId = keyVaultFake.createEcKeyVersion(KEY_NAME_1, new EcKeyCreationInput(KeyType.EC, KeyCurveName.P_256));
+        keyVaultFake.setKeyOperations(keyId, List.of(KeyOperation.SIGN, KeyOperation.VERIFY));
+        digest = ENCODER.encodeToString(MessageDigest.getInstance("SHA-256").digest("batch".getBytes(StandardCharsets.UTF_8)));
+        cryptoExecutor = new CryptoExecutor(THREADS, MAX_PENDING, TIMEOUT_MILLIS);
+        underTest = new KeyCryptoBatchExecutor(vaultService, cryptoExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cryptoExecutor.close();
+        regenerationPipeline.close();
+    }
+
+    public static Stream<Arguments> nullProvider() {
+        return Stream.<Arguments>builder()
+                .add(Arguments.of(null, mock(CryptoExecutor.class)))
+                .add(Arguments.of(mock(VaultService.class), null))
+                .build();
+    }
+
+    @ParameterizedTest
+    @MethodSource("nullProvider")
+    void testConstructorShouldThrowExceptionWhenCalledWithNull(final VaultService vaultService, final CryptoExecutor executor) {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new KeyCryptoBatchExecutor(vaultService, executor));
+
+        //then + exception
+    }
+
+    @Test
+    void testExecuteShouldReturnResultsInOrderWhenCalledWithSignAndVerifyOperations() {
+        //given
+        final List<KeyCryptoBatchResultModel> signatures = underTest.execute(List.of(
+                item(KeyOperation.SIGN, keyId.version(), digest, null),
+                item(KeyOperation.SIGN, null, digest, null))).join();
+        final String signature = signatures.get(0).getValue();
+
+        //when
+        final List<KeyCryptoBatchResultModel> actual = underTest.execute(List.of(
+                item(KeyOperation.VERIFY, keyId.version(), signature, digest),
+                item(KeyOperation.VERIFY, null, signatures.get(1).getValue(), digest))).join();
+
+        //then
+        Assertions.assertEquals(keyId.asUri(HTTPS_LOCALHOST_8443), signatures.get(0).getId());
+        Assertions.assertEquals(keyId.asUri(HTTPS_LOCALHOST_8443), signatures.get(1).getId());
+        Assertions.assertEquals(2, actual.size());
+        actual.forEach(result -> {
+            Assertions.assertEquals(Boolean.TRUE, result.getVerified());
+            Assertions.assertNull(result.getError());
+        });
+    }
+
+    @Test
+    void testExecuteShouldReturnErrorsPerItemWhenSomeOperationsFail() {
+        //given
+        final List<KeyCryptoBatchItemModel> operations = List.of(
+                item(KeyOperation.ENCRYPT, keyId.version(), digest, null),
+                item(KeyOperation.SIGN, keyId.version(), digest, null),
+                item(KeyOperation.IMPORT, keyId.version(), digest, null));
+        final KeyCryptoBatchItemModel missingKey = item(KeyOperation.SIGN, null, digest, null);
+        missingKey.setKeyName("missing");
+
+        //when
+        final List<KeyCryptoBatchResultModel> actual = underTest.execute(List.of(
+                operations.get(0), operations.get(1), operations.get(2), missingKey)).join();
+
+        //then
+        Assertions.assertNotNull(actual.get(0).getError());
+        Assertions.assertNull(actual.get(1).getError());
+        Assertions.assertNotNull(actual.get(1).getValue());
+        Assertions.assertEquals(IllegalArgumentException.class.getName(), actual.get(2).getError().getCode());
+        Assertions.assertEquals(NotFoundException.class.getName(), actual.get(3).getError().getCode());
+    }
+
+    @Test
+    void testExecuteShouldReturnIvAndTagSeparatelyWhenCalledWithGcmOperations() {
+        //given
+        final VersionedKeyEntityId octKeyId = keyVaultFake
+                .createOctKeyVersion(KEY_NAME_2, new OctKeyCreationInput(KeyType.OCT_HSM, AES_256));
+        keyVaultFake.setKeyOperations(octKeyId,
+                List.of(KeyOperation.ENCRYPT, KeyOperation.DECRYPT, KeyOperation.WRAP_KEY, KeyOperation.UNWRAP_KEY));
+        final String clear = ENCODER.encodeToString(KEY_NAME_1.getBytes(StandardCharsets.UTF_8));
+        final byte[] aad = KEY_NAME_2.getBytes(StandardCharsets.UTF_8);
+        final KeyCryptoBatchResultModel encrypted = underTest.execute(List.of(gcmItem(KeyOperation.ENCRYPT, clear, aad))).join().get(0);
+        final KeyCryptoBatchItemModel decrypt = gcmItem(KeyOperation.DECRYPT, encrypted.getValue(), aad);
+        decrypt.setInitializationVector(encrypted.getInitializationVector());
+        decrypt.setAuthenticationTag(encrypted.getAuthenticationTag());
+
+        //when
+        final KeyCryptoBatchResultModel actual = underTest.execute(List.of(decrypt)).join().get(0);
+
+        //then
+        Assertions.assertNull(encrypted.getError());
+        Assertions.assertNotNull(encrypted.getInitializationVector());
+        Assertions.assertNotNull(encrypted.getAuthenticationTag());
+        Assertions.assertNull(actual.getError());
+        Assertions.assertEquals(clear, actual.getValue());
+    }
+
+    private KeyCryptoBatchItemModel gcmItem(final KeyOperation operation, final String value, final byte[] aad) {
+        final KeyCryptoBatchItemModel item = item(operation, null, value, null);
+        item.setKeyName(KEY_NAME_2);
+        item.setAlgorithm(EncryptionAlgorithm.A256GCM.getValue());
+        item.setAdditionalAuthData(aad);
+        return item;
+    }
+
+    private KeyCryptoBatchItemModel item(final KeyOperation operation, final String version, final String value, final String digestValue) {
+        final KeyCryptoBatchItemModel item = new KeyCryptoBatchItemModel();
+        item.setBaseUri(HTTPS_LOCALHOST_8443);
+        item.setKeyName(KEY_NAME_1);
+        item.setKeyVersion(version);
+        item.setOperation(operation);
+        item.setAlgorithm(SignatureAlgorithm.ES256.getValue());
+        item.setValue(value);
+        item.setDigest(digestValue);
+        return item;
+    }
+}
@@ -4,6 +4,7 @@ import com.github.nagyesta.lowkeyvault.TestConstants;
 import com.github.nagyesta.lowkeyvault.mapper.common.registry.KeyConverterRegistry;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.DeletedKeyVaultKeyItemModel;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.KeyVaultKeyItemModel;
+import com.github.nagyesta.lowkeyvault.service.common.EntityAttributes;
 import com.github.nagyesta.lowkeyvault.service.key.KeyVaultFake;
 import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyKeyVaultKeyEntity;
 import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
@@ -113,7 +114,8 @@ class KeyEntityToV72KeyItemModelConverterTest {
         underTest = new KeyEntityToV72KeyItemModelConverter(registry);
         when(registry.propertiesConverter(anyString())).thenReturn(propertiesModelConverter);
         when(vault.keyVaultFake()).thenReturn(keyVault);
-        when(propertiesModelConverter.convert(any(ReadOnlyKeyVaultKeyEntity.class), any(URI.class))).thenReturn(PROPERTIES_MODEL);
+        when(propertiesModelConverter.convert(any(ReadOnlyKeyVaultKeyEntity.class), any(EntityAttributes.class), any(URI.class)))
+                .thenReturn(PROPERTIES_MODEL);
     }
 
     @AfterEach
@@ -138,7 +140,7 @@ class KeyEntityToV72KeyItemModelConverterTest {
 
         //then
         Assertions.assertEquals(expected, actual);
-        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultKeyEntity.class), any(URI.class));
+        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultKeyEntity.class), any(EntityAttributes.class), any(URI.class));
     }
 
     @Test
@@ -173,6 +175,6 @@ class KeyEntityToV72KeyItemModelConverterTest {
 
         //then
         Assertions.assertEquals(expected, actual);
-        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultKeyEntity.class), any(URI.class));
+        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultKeyEntity.class), any(EntityAttributes.class), any(URI.class));
     }
 }
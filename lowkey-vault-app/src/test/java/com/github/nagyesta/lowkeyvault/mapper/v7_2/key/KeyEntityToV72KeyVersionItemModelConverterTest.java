@@ -2,6 +2,7 @@ package com.github.nagyesta.lowkeyvault.mapper.v7_2.key;
 
 import com.github.nagyesta.lowkeyvault.mapper.common.registry.KeyConverterRegistry;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.KeyVaultKeyItemModel;
+import com.github.nagyesta.lowkeyvault.service.common.EntityAttributes;
 import com.github.nagyesta.lowkeyvault.service.key.KeyVaultFake;
 import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyKeyVaultKeyEntity;
 import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
@@ -64,7 +65,8 @@ class KeyEntityToV72KeyVersionItemModelConverterTest {
         underTest = new KeyEntityToV72KeyVersionItemModelConverter(registry);
         when(registry.propertiesConverter(anyString())).thenReturn(propertiesModelConverter);
         when(vault.keyVaultFake()).thenReturn(keyVault);
-        when(propertiesModelConverter.convert(any(ReadOnlyKeyVaultKeyEntity.class), any(URI.class))).thenReturn(PROPERTIES_MODEL);
+        when(propertiesModelConverter.convert(any(ReadOnlyKeyVaultKeyEntity.class), any(EntityAttributes.class), any(URI.class)))
+                .thenReturn(PROPERTIES_MODEL);
     }
 
     @AfterEach
@@ -89,7 +91,7 @@ class KeyEntityToV72KeyVersionItemModelConverterTest {
 
         //then
         Assertions.assertEquals(expected, actual);
-        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultKeyEntity.class), any(URI.class));
+        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultKeyEntity.class), any(EntityAttributes.class), any(URI.class));
     }
 
     @Test
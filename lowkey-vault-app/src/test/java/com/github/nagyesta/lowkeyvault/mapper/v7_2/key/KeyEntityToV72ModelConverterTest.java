@@ -4,6 +4,7 @@ import com.github.nagyesta.lowkeyvault.mapper.common.registry.KeyConverterRegist
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.KeyVaultKeyModel;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyCurveName;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyType;
+import com.github.nagyesta.lowkeyvault.service.common.EntityAttributes;
 import com.github.nagyesta.lowkeyvault.service.key.KeyVaultFake;
 import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyKeyVaultKeyEntity;
 import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
@@ -88,7 +89,8 @@ class KeyEntityToV72ModelConverterTest {
         when(registry.versionedEntityId(any(URI.class), anyString(), anyString())).thenCallRealMethod();
         when(registry.entityId(any(URI.class), anyString())).thenCallRealMethod();
         when(vault.keyVaultFake()).thenReturn(keyVault);
-        when(propertiesModelConverter.convert(any(ReadOnlyKeyVaultKeyEntity.class), any(URI.class))).thenReturn(PROPERTIES_MODEL);
+        when(propertiesModelConverter.convert(any(ReadOnlyKeyVaultKeyEntity.class), any(EntityAttributes.class), any(URI.class)))
+                .thenReturn(PROPERTIES_MODEL);
     }
 
     @AfterEach
@@ -123,7 +125,7 @@ class KeyEntityToV72ModelConverterTest {
         assertEcFieldsAreNull(actual);
         assertOctFieldsAreNull(actual);
 
-        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultKeyEntity.class), any(URI.class));
+        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultKeyEntity.class), any(EntityAttributes.class), any(URI.class));
     }
 
     @ParameterizedTest
@@ -154,7 +156,7 @@ class KeyEntityToV72ModelConverterTest {
         assertRsaFieldsAreNull(actual);
         assertOctFieldsAreNull(actual);
 
-        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultKeyEntity.class), any(URI.class));
+        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultKeyEntity.class), any(EntityAttributes.class), any(URI.class));
     }
 
     @ParameterizedTest
@@ -2,6 +2,7 @@ package com.github.nagyesta.lowkeyvault.mapper.v7_2.secret;
 
 import com.github.nagyesta.lowkeyvault.mapper.common.registry.SecretConverterRegistry;
 import com.github.nagyesta.lowkeyvault.model.v7_2.secret.KeyVaultSecretModel;
+import com.github.nagyesta.lowkeyvault.service.common.EntityAttributes;
 import com.github.nagyesta.lowkeyvault.service.secret.ReadOnlyKeyVaultSecretEntity;
 import com.github.nagyesta.lowkeyvault.service.secret.SecretVaultFake;
 import com.github.nagyesta.lowkeyvault.service.secret.id.VersionedSecretEntityId;
@@ -61,7 +62,7 @@ class SecretEntityToV72ModelConverterTest {
         underTest = new SecretEntityToV72ModelConverter(registry);
         when(registry.propertiesConverter(anyString())).thenReturn(propertiesModelConverter);
         when(vault.secretVaultFake()).thenReturn(secretVault);
-        when(propertiesModelConverter.convert(any(ReadOnlyKeyVaultSecretEntity.class), any(URI.class)))
+        when(propertiesModelConverter.convert(any(ReadOnlyKeyVaultSecretEntity.class), any(EntityAttributes.class), any(URI.class)))
                 .thenReturn(SECRET_PROPERTIES_MODEL);
     }
 
@@ -86,7 +87,7 @@ class SecretEntityToV72ModelConverterTest {
 
         //then
         assertFieldsMatch(tags, input, expectedUri, actual);
-        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultSecretEntity.class), any(URI.class));
+        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultSecretEntity.class), any(EntityAttributes.class), any(URI.class));
     }
 
     @ParameterizedTest
@@ -107,7 +108,7 @@ class SecretEntityToV72ModelConverterTest {
         //then
         assertFieldsMatch(tags, input, expectedUri, actual);
         Assertions.assertEquals(actual.getId().replaceAll("/secrets/", "/keys/"), actual.getKid());
-        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultSecretEntity.class), any(URI.class));
+        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultSecretEntity.class), any(EntityAttributes.class), any(URI.class));
     }
 
     @Test
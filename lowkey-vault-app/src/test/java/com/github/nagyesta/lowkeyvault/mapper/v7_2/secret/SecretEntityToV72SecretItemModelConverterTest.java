@@ -4,6 +4,7 @@ import com.github.nagyesta.lowkeyvault.TestConstants;
 import com.github.nagyesta.lowkeyvault.mapper.common.registry.SecretConverterRegistry;
 import com.github.nagyesta.lowkeyvault.model.v7_2.secret.DeletedKeyVaultSecretItemModel;
 import com.github.nagyesta.lowkeyvault.model.v7_2.secret.KeyVaultSecretItemModel;
+import com.github.nagyesta.lowkeyvault.service.common.EntityAttributes;
 import com.github.nagyesta.lowkeyvault.service.secret.ReadOnlyKeyVaultSecretEntity;
 import com.github.nagyesta.lowkeyvault.service.secret.SecretVaultFake;
 import com.github.nagyesta.lowkeyvault.service.secret.id.VersionedSecretEntityId;
@@ -113,7 +114,7 @@ class SecretEntityToV72SecretItemModelConverterTest {
         underTest = new SecretEntityToV72SecretItemModelConverter(registry);
         when(registry.propertiesConverter(anyString())).thenReturn(propertiesModelConverter);
         when(vault.secretVaultFake()).thenReturn(secretVault);
-        when(propertiesModelConverter.convert(any(ReadOnlyKeyVaultSecretEntity.class), any(URI.class)))
+        when(propertiesModelConverter.convert(any(ReadOnlyKeyVaultSecretEntity.class), any(EntityAttributes.class), any(URI.class)))
                 .thenReturn(SECRET_PROPERTIES_MODEL);
     }
 
@@ -139,7 +140,7 @@ class SecretEntityToV72SecretItemModelConverterTest {
 
         //then
         Assertions.assertEquals(expected, actual);
-        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultSecretEntity.class), any(URI.class));
+        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultSecretEntity.class), any(EntityAttributes.class), any(URI.class));
     }
 
     @Test
@@ -174,6 +175,6 @@ class SecretEntityToV72SecretItemModelConverterTest {
 
         //then
         Assertions.assertEquals(expected, actual);
-        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultSecretEntity.class), any(URI.class));
+        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultSecretEntity.class), any(EntityAttributes.class), any(URI.class));
     }
 }
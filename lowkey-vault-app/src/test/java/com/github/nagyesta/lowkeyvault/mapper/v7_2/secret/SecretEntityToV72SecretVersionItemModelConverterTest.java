@@ -2,6 +2,7 @@ package com.github.nagyesta.lowkeyvault.mapper.v7_2.secret;
 
 import com.github.nagyesta.lowkeyvault.mapper.common.registry.SecretConverterRegistry;
 import com.github.nagyesta.lowkeyvault.model.v7_2.secret.KeyVaultSecretItemModel;
+import com.github.nagyesta.lowkeyvault.service.common.EntityAttributes;
 import com.github.nagyesta.lowkeyvault.service.secret.ReadOnlyKeyVaultSecretEntity;
 import com.github.nagyesta.lowkeyvault.service.secret.SecretVaultFake;
 import com.github.nagyesta.lowkeyvault.service.secret.id.VersionedSecretEntityId;
@@ -72,7 +73,7 @@ class SecretEntityToV72SecretVersionItemModelConverterTest {
         underTest = new SecretEntityToV72SecretVersionItemModelConverter(registry);
         when(registry.propertiesConverter(anyString())).thenReturn(propertiesModelConverter);
         when(vault.secretVaultFake()).thenReturn(secretVault);
-        when(propertiesModelConverter.convert(any(ReadOnlyKeyVaultSecretEntity.class), any(URI.class)))
+        when(propertiesModelConverter.convert(any(ReadOnlyKeyVaultSecretEntity.class), any(EntityAttributes.class), any(URI.class)))
                 .thenReturn(SECRET_PROPERTIES_MODEL);
     }
 
@@ -98,7 +99,7 @@ class SecretEntityToV72SecretVersionItemModelConverterTest {
 
         //then
         Assertions.assertEquals(expected, actual);
-        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultSecretEntity.class), any(URI.class));
+        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultSecretEntity.class), any(EntityAttributes.class), any(URI.class));
     }
 
     @Test
@@ -6,10 +6,12 @@ import com.github.nagyesta.lowkeyvault.model.common.ApiConstants;
 import com.github.nagyesta.lowkeyvault.model.v7_3.certificate.CertificatePropertiesModel;
 import com.github.nagyesta.lowkeyvault.model.v7_3.certificate.KeyVaultCertificateItemModel;
 import com.github.nagyesta.lowkeyvault.service.certificate.ReadOnlyKeyVaultCertificateEntity;
+import com.github.nagyesta.lowkeyvault.service.common.EntityAttributes;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import static com.github.nagyesta.lowkeyvault.TestConstants.TAGS_ONE_KEY;
+import static com.github.nagyesta.lowkeyvault.TestConstants.TIME_10_MINUTES_AGO;
 import static com.github.nagyesta.lowkeyvault.TestConstantsCertificates.CERT_NAME_1;
 import static com.github.nagyesta.lowkeyvault.TestConstantsUri.HTTPS_LOCALHOST_8443;
 import static com.github.nagyesta.lowkeyvault.TestConstantsUri.HTTPS_LOWKEY_VAULT;
@@ -63,10 +65,11 @@ class CertificateEntityToV73CertificateItemModelConverterTest {
         final byte[] expectedThumbprint = THUMBPRINT;
         final ReadOnlyKeyVaultCertificateEntity input = mock(ReadOnlyKeyVaultCertificateEntity.class);
         final CertificatePropertiesModel propertiesModel = new CertificatePropertiesModel();
-        when(properties.convert(same(input), eq(HTTPS_LOCALHOST_8443))).thenReturn(propertiesModel);
+        final EntityAttributes attributes = EntityAttributes.created(TIME_10_MINUTES_AGO).withTags(TAGS_ONE_KEY);
+        when(properties.convert(same(input), same(attributes), eq(HTTPS_LOCALHOST_8443))).thenReturn(propertiesModel);
         when(input.getId()).thenReturn(TestConstantsCertificates.VERSIONED_CERT_ENTITY_ID_1_VERSION_3);
         when(input.getThumbprint()).thenReturn(expectedThumbprint);
-        when(input.getTags()).thenReturn(TAGS_ONE_KEY);
+        when(input.getAttributes()).thenReturn(attributes);
 
         //when
         final KeyVaultCertificateItemModel actual = underTest.convert(input, HTTPS_LOCALHOST_8443);
@@ -78,6 +81,7 @@ class CertificateEntityToV73CertificateItemModelConverterTest {
         Assertions.assertSame(propertiesModel, actual.getAttributes());
         Assertions.assertTrue(actual.getAttributes().isEnabled());
         Assertions.assertEquals(TAGS_ONE_KEY, actual.getTags());
-        verify(properties).convert(same(input), eq(HTTPS_LOCALHOST_8443));
+        verify(properties).convert(same(input), same(attributes), eq(HTTPS_LOCALHOST_8443));
+        verify(input).getAttributes();
     }
 }
@@ -7,6 +7,7 @@ import com.github.nagyesta.lowkeyvault.model.common.backup.KeyBackupListItem;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyCurveName;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyType;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.request.JsonWebKeyImportRequest;
+import com.github.nagyesta.lowkeyvault.service.common.EntityAttributes;
 import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyKeyVaultKeyEntity;
 import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
 import com.github.nagyesta.lowkeyvault.service.key.impl.AesKeyVaultKeyEntity;
@@ -50,7 +51,8 @@ class KeyEntityToV72BackupConverterTest {
         openMocks = MockitoAnnotations.openMocks(this);
         underTest = new KeyEntityToV72BackupConverter(registry);
         when(registry.propertiesConverter(anyString())).thenReturn(propertiesModelConverter);
-        when(propertiesModelConverter.convert(any(ReadOnlyKeyVaultKeyEntity.class), any(URI.class))).thenReturn(KEY_PROPERTIES_MODEL);
+        when(propertiesModelConverter.convert(any(ReadOnlyKeyVaultKeyEntity.class), any(EntityAttributes.class), any(URI.class)))
+                .thenReturn(KEY_PROPERTIES_MODEL);
     }
 
     @AfterEach
@@ -87,7 +89,7 @@ class KeyEntityToV72BackupConverterTest {
         assertRsaPropertiesAreEqual(input, keyMaterial);
         assertMinimalPropertiesPopulated(actual);
         assertIdsEqual(input.getId(), actual);
-        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultKeyEntity.class), any(URI.class));
+        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultKeyEntity.class), any(EntityAttributes.class), any(URI.class));
         verifyNoMoreInteractions(propertiesModelConverter);
     }
 
@@ -109,7 +111,7 @@ class KeyEntityToV72BackupConverterTest {
         assertOctPropertiesAreEqual(input, keyMaterial);
         assertMinimalPropertiesPopulated(actual);
         assertIdsEqual(input.getId(), actual);
-        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultKeyEntity.class), any(URI.class));
+        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultKeyEntity.class), any(EntityAttributes.class), any(URI.class));
         verifyNoMoreInteractions(propertiesModelConverter);
     }
 
@@ -130,7 +132,7 @@ class KeyEntityToV72BackupConverterTest {
         assertEcPropertiesAreEqual(input, keyMaterial);
         assertMinimalPropertiesPopulated(actual);
         assertIdsEqual(input.getId(), actual);
-        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultKeyEntity.class), any(URI.class));
+        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultKeyEntity.class), any(EntityAttributes.class), any(URI.class));
         verifyNoMoreInteractions(propertiesModelConverter);
     }
 
@@ -156,7 +158,7 @@ class KeyEntityToV72BackupConverterTest {
         Assertions.assertEquals(tagMap, actual.getTags());
         Assertions.assertTrue(actual.isManaged());
         assertIdsEqual(input.getId(), actual);
-        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultKeyEntity.class), any(URI.class));
+        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultKeyEntity.class), any(EntityAttributes.class), any(URI.class));
         verifyNoMoreInteractions(propertiesModelConverter);
     }
 
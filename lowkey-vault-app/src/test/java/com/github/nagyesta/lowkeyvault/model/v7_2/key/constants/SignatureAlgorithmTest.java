@@ -8,6 +8,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Stream;
 
 class SignatureAlgorithmTest {
@@ -46,6 +47,31 @@ class SignatureAlgorithmTest {
                 .build();
     }
 
+    public static Stream<Arguments> curveProvider() {
+        return Stream.<Arguments>builder()
+                .add(Arguments.of(SignatureAlgorithm.ES256, KeyCurveName.P_256))
+                .add(Arguments.of(SignatureAlgorithm.ES256K, KeyCurveName.P_256K))
+                .add(Arguments.of(SignatureAlgorithm.ES384, KeyCurveName.P_384))
+                .add(Arguments.of(SignatureAlgorithm.ES512, KeyCurveName.P_521))
+                .build();
+    }
+
+    @ParameterizedTest
+    @MethodSource("curveProvider")
+    void testIsCompatibleWithCurveShouldReturnTrueOnlyForTheMatchingCurveWhenCalled(
+            final SignatureAlgorithm underTest, final KeyCurveName expected) {
+        //given
+
+        //when
+        final List<KeyCurveName> actual = Arrays.stream(KeyCurveName.values())
+                .filter(underTest::isCompatibleWithCurve)
+                .toList();
+
+        //then
+        Assertions.assertEquals(List.of(expected), actual);
+        Assertions.assertFalse(underTest.isCompatibleWithCurve(null));
+    }
+
     @Test
     void testIsCompatibleWithCurveShouldReturnFalseInCaseOfRsaAlgorithm() {
         //given
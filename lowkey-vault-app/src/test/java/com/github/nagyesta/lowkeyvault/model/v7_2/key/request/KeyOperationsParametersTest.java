@@ -1,10 +1,14 @@
 package com.github.nagyesta.lowkeyvault.model.v7_2.key.request;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Base64;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -34,4 +38,36 @@ class KeyOperationsParametersTest {
         //then
         Assertions.assertArrayEquals(expected, actual);
     }
+
+    @ParameterizedTest
+    @MethodSource("base64Provider")
+    void testGetValueAsBase64DecodedStreamShouldReturnBase64DecodedValueWhenCalledWithString(
+            final String input, final byte[] expected) throws IOException {
+        //given
+        final KeyOperationsParameters underTest = new KeyOperationsParameters();
+        underTest.setValue(input);
+        Assumptions.assumeTrue(input != null);
+
+        //when
+        final byte[] actual;
+        try (InputStream stream = underTest.getValueAsBase64DecodedStream()) {
+            actual = stream.readAllBytes();
+        }
+
+        //then
+        Assertions.assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void testGetValueAsBase64DecodedStreamShouldFailWhenValueContainsNonAsciiCharacters() {
+        //given
+        final KeyOperationsParameters underTest = new KeyOperationsParameters();
+        //the lower byte of this character would be a valid Base64 character ('A')
+        underTest.setValue("AAA\u0141");
+
+        //when
+        Assertions.assertThrows(IOException.class, () -> underTest.getValueAsBase64DecodedStream().readAllBytes());
+
+        //then + exception
+    }
 }
@@ -4,6 +4,7 @@ import com.github.nagyesta.lowkeyvault.mapper.common.registry.SecretConverterReg
 import com.github.nagyesta.lowkeyvault.mapper.v7_2.secret.SecretEntityToV72BackupConverter;
 import com.github.nagyesta.lowkeyvault.mapper.v7_2.secret.SecretEntityToV72PropertiesModelConverter;
 import com.github.nagyesta.lowkeyvault.model.common.backup.SecretBackupListItem;
+import com.github.nagyesta.lowkeyvault.service.common.EntityAttributes;
 import com.github.nagyesta.lowkeyvault.service.secret.ReadOnlyKeyVaultSecretEntity;
 import com.github.nagyesta.lowkeyvault.service.secret.impl.KeyVaultSecretEntity;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultFake;
@@ -42,7 +43,7 @@ class SecretEntityToV72BackupConverterTest {
     void setUp() {
         openMocks = MockitoAnnotations.openMocks(this);
         when(registry.propertiesConverter(anyString())).thenReturn(propertiesModelConverter);
-        when(propertiesModelConverter.convert(any(ReadOnlyKeyVaultSecretEntity.class), any(URI.class)))
+        when(propertiesModelConverter.convert(any(ReadOnlyKeyVaultSecretEntity.class), any(EntityAttributes.class), any(URI.class)))
                 .thenReturn(SECRET_PROPERTIES_MODEL);
     }
 
@@ -82,7 +83,7 @@ class SecretEntityToV72BackupConverterTest {
         Assertions.assertEquals(input.getId().vault(), actual.getVaultBaseUri());
         Assertions.assertEquals(input.getId().id(), actual.getId());
         Assertions.assertEquals(input.getId().version(), actual.getVersion());
-        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultSecretEntity.class), any(URI.class));
+        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultSecretEntity.class), any(EntityAttributes.class), any(URI.class));
         verifyNoMoreInteractions(propertiesModelConverter);
     }
 
@@ -110,7 +111,7 @@ class SecretEntityToV72BackupConverterTest {
         Assertions.assertEquals(input.getId().vault(), actual.getVaultBaseUri());
         Assertions.assertEquals(input.getId().id(), actual.getId());
         Assertions.assertEquals(input.getId().version(), actual.getVersion());
-        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultSecretEntity.class), any(URI.class));
+        verify(propertiesModelConverter).convert(any(ReadOnlyKeyVaultSecretEntity.class), any(EntityAttributes.class), any(URI.class));
         verifyNoMoreInteractions(propertiesModelConverter);
     }
 }
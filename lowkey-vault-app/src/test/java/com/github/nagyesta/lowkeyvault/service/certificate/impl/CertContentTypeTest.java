@@ -276,6 +276,44 @@ class CertContentTypeTest {
         Assertions.assertEquals(KeyType.RSA, actual.getKeyType());
     }
 
+    public static Stream<Arguments> parseProvider() {
+        return Stream.<Arguments>builder()
+                .add(Arguments.of(PKCS12, ResourceUtils.loadResourceAsBase64String("/cert/ec.p12"), "changeit", KeyType.EC, EC_CERT))
+                .add(Arguments.of(PEM, ResourceUtils.loadResourceAsString("/cert/ec.pem"), null, KeyType.EC, EC_CERT))
+                .add(Arguments.of(PKCS12, ResourceUtils.loadResourceAsBase64String("/cert/rsa.p12"), "", KeyType.RSA, RSA_CERT))
+                .add(Arguments.of(PEM, ResourceUtils.loadResourceAsString("/cert/rsa.pem"), null, KeyType.RSA, RSA_CERT))
+                .build();
+    }
+
+    @ParameterizedTest
+    @MethodSource("parseProvider")
+    void testParseShouldReturnCertificateChainAndKeyTogetherWhenCalledWithValidStore(
+            final CertContentType underTest, final String store, final String password,
+            final KeyType expectedKeyType, final String expectedCertificate) throws CertificateEncodingException {
+        //given
+
+        //when
+        final ParsedCertificateContent actual = underTest.parse(store, password);
+
+        //then
+        Assertions.assertEquals(1, actual.certificateChain().size());
+        Assertions.assertSame(actual.certificateChain().get(0), actual.certificate());
+        Assertions.assertEquals(expectedCertificate, toBase64(actual.certificate()));
+        Assertions.assertEquals(expectedKeyType, actual.key().getKeyType());
+        Assertions.assertEquals(underTest.getKey(store, password), actual.key());
+    }
+
+    @ParameterizedTest
+    @MethodSource("instanceProvider")
+    void testParseShouldThrowExceptionWhenCalledWithNullCertificate(final CertContentType underTest) {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.parse(null, "changeit"));
+
+        //then + exception
+    }
+
     @ParameterizedTest
     @MethodSource("instanceProvider")
     void testGetKeyShouldThrowExceptionWhenCalledWithNullCertificate(final CertContentType underTest) {
@@ -207,6 +207,26 @@ class CertificateImportInputTest {
         Assertions.assertNull(actual.getKeyData().getCurveName());
     }
 
+    @Test
+    void testConstructorShouldUseParsedContentWhenCalledWithPreviouslyParsedRsaData() {
+        //given
+        final String certContent = Objects.requireNonNull(ResourceUtils.loadResourceAsString("/cert/rsa.pem"));
+        final ParsedCertificateContent parsedContent = CertContentType.PEM.parse(certContent, EMPTY_PASSWORD);
+        final CertificateImportInput expected = new CertificateImportInput(
+                CERT_NAME_1, certContent, EMPTY_PASSWORD, CertContentType.PEM, new CertificatePolicyModel());
+
+        //when
+        final CertificateImportInput actual = new CertificateImportInput(
+                CERT_NAME_1, parsedContent, CertContentType.PEM, new CertificatePolicyModel());
+
+        //then
+        Assertions.assertSame(parsedContent.certificate(), actual.getCertificate());
+        Assertions.assertSame(parsedContent.key(), actual.getKeyData());
+        Assertions.assertEquals(expected.getCertificate(), actual.getCertificate());
+        Assertions.assertEquals(expected.getKeyData(), actual.getKeyData());
+        Assertions.assertEquals(expected.getCertificateData(), actual.getCertificateData());
+    }
+
     @ParameterizedTest
     @MethodSource("nullProvider")
     void testConstructorShouldThrowExceptionWhenCalledWithNull(
@@ -0,0 +1,141 @@
+package com.github.nagyesta.lowkeyvault.service.certificate.impl;
+
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyCurveName;
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyType;
+import com.github.nagyesta.lowkeyvault.service.key.util.KeyGenUtil;
+import org.bouncycastle.operator.ContentSigner;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.security.KeyPair;
+import java.time.OffsetDateTime;
+import java.util.Set;
+import java.util.function.Function;
+
+import static com.github.nagyesta.lowkeyvault.TestConstantsCertificates.CERT_NAME_1;
+import static com.github.nagyesta.lowkeyvault.TestConstantsKeys.VERSIONED_KEY_ENTITY_ID_1_VERSION_1;
+import static com.github.nagyesta.lowkeyvault.TestConstantsKeys.VERSIONED_KEY_ENTITY_ID_1_VERSION_2;
+
+class CertificateSigningCacheTest {
+
+    private static final int MAX_ENTRIES = 2;
+    private static final String SUBJECT = "CN=localhost";
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void testConstructorShouldThrowExceptionWhenCalledWithNotPositiveMaxEntries(final int maxEntries) {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new CertificateSigningCache(maxEntries));
+
+        //then + exception
+    }
+
+    @Test
+    void testTemplateShouldReturnSameTemplateWhenCalledWithPoliciesDifferingOnlyInValidity() {
+        //given
+        final CertificateSigningCache underTest = new CertificateSigningCache(MAX_ENTRIES);
+        final CertificatePolicy first = policy(Set.of("localhost"));
+        final CertificatePolicy renewal = new CertificatePolicy(first);
+        renewal.setValidityStart(first.getValidityStart().plusMonths(1));
+        final CertificatePolicy other = policy(Set.of("other.localhost"));
+
+        //when
+        final CertificateTemplate actual = underTest.template(first);
+
+        //then
+        Assertions.assertSame(actual, underTest.template(renewal));
+        Assertions.assertNotSame(actual, underTest.template(other));
+        Assertions.assertEquals(underTest.subject(SUBJECT), actual.subject());
+        Assertions.assertSame(underTest.subject(SUBJECT), underTest.subject(SUBJECT));
+    }
+
+    @Test
+    void testSignShouldReuseSignerWhenCalledWithSameKeyVersionAndAlgorithm() throws Exception {
+        //given
+        final CertificateSigningCache underTest = new CertificateSigningCache(MAX_ENTRIES);
+        final KeyPair keyPair = KeyGenUtil.generateEc(KeyCurveName.P_256);
+
+        //when
+        final ContentSigner first = underTest.sign(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, CertificateAlgorithm.EC, keyPair,
+                Function.identity());
+        final ContentSigner second = underTest.sign(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, CertificateAlgorithm.EC, keyPair,
+                Function.identity());
+        final ContentSigner otherVersion = underTest.sign(VERSIONED_KEY_ENTITY_ID_1_VERSION_2, CertificateAlgorithm.EC, keyPair,
+                Function.identity());
+
+        //then
+        Assertions.assertSame(first, second);
+        Assertions.assertNotSame(first, otherVersion);
+        Assertions.assertEquals(2, underTest.signerCount());
+    }
+
+    @Test
+    void testSignShouldRebuildSignerWhenKeyPairOfVersionIsReplaced() throws Exception {
+        //given
+        final CertificateSigningCache underTest = new CertificateSigningCache(MAX_ENTRIES);
+        final ContentSigner original = underTest.sign(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, CertificateAlgorithm.EC,
+                KeyGenUtil.generateEc(KeyCurveName.P_256), Function.identity());
+
+        //when
+        final ContentSigner actual = underTest.sign(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, CertificateAlgorithm.EC,
+                KeyGenUtil.generateEc(KeyCurveName.P_256), Function.identity());
+
+        //then
+        Assertions.assertNotSame(original, actual);
+        Assertions.assertEquals(1, underTest.signerCount());
+    }
+
+    @Test
+    void testSignShouldDropSignerWhenActionFails() throws Exception {
+        //given
+        final CertificateSigningCache underTest = new CertificateSigningCache(MAX_ENTRIES);
+        final KeyPair keyPair = KeyGenUtil.generateEc(KeyCurveName.P_256);
+        underTest.sign(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, CertificateAlgorithm.EC, keyPair, Function.identity());
+
+        //when
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> underTest.sign(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, CertificateAlgorithm.EC, keyPair, signer -> {
+                    throw new IllegalStateException("failure");
+                }));
+
+        //then + exception
+        Assertions.assertEquals(0, underTest.signerCount());
+    }
+
+    @Test
+    void testInvalidateShouldDropOnlySignersOfKeyVersionWhenCalledWithCachedKeyVersion() throws Exception {
+        //given
+        final CertificateSigningCache underTest = new CertificateSigningCache(MAX_ENTRIES);
+        final KeyPair keyPair = KeyGenUtil.generateEc(KeyCurveName.P_256);
+        underTest.sign(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, CertificateAlgorithm.EC, keyPair, Function.identity());
+        final ContentSigner other = underTest.sign(VERSIONED_KEY_ENTITY_ID_1_VERSION_2, CertificateAlgorithm.EC, keyPair,
+                Function.identity());
+
+        //when
+        underTest.invalidate(VERSIONED_KEY_ENTITY_ID_1_VERSION_1);
+
+        //then
+        Assertions.assertEquals(1, underTest.signerCount());
+        Assertions.assertSame(other, underTest.sign(VERSIONED_KEY_ENTITY_ID_1_VERSION_2, CertificateAlgorithm.EC, keyPair,
+                Function.identity()));
+    }
+
+    private CertificatePolicy policy(final Set<String> dnsNames) {
+        return new CertificatePolicy(CertificateCreationInput.builder()
+                .validityStart(OffsetDateTime.now())
+                .subject(SUBJECT)
+                .name(CERT_NAME_1)
+                .dnsNames(dnsNames)
+                .contentType(CertContentType.PEM)
+                .keyCurveName(KeyCurveName.P_256)
+                .keyType(KeyType.EC)
+                .validityMonths(CertificateCreationInput.DEFAULT_VALIDITY_MONTHS)
+                .keyUsage(CertificateCreationInput.DEFAULT_KEY_USAGES)
+                .extendedKeyUsage(CertificateCreationInput.DEFAULT_EXT_KEY_USAGES)
+                .build());
+    }
+}
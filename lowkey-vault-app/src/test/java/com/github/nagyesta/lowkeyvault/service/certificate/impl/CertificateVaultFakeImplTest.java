@@ -9,7 +9,10 @@ import com.github.nagyesta.lowkeyvault.model.v7_3.certificate.CertificateRestore
 import com.github.nagyesta.lowkeyvault.service.certificate.*;
 import com.github.nagyesta.lowkeyvault.service.certificate.id.CertificateEntityId;
 import com.github.nagyesta.lowkeyvault.service.certificate.id.VersionedCertificateEntityId;
+import com.github.nagyesta.lowkeyvault.service.exception.AlreadyExistsException;
+import com.github.nagyesta.lowkeyvault.service.key.id.KeyEntityId;
 import com.github.nagyesta.lowkeyvault.service.key.impl.KeyVaultFakeImpl;
+import com.github.nagyesta.lowkeyvault.service.secret.id.SecretEntityId;
 import com.github.nagyesta.lowkeyvault.service.secret.impl.SecretVaultFakeImpl;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultFake;
 import com.github.nagyesta.lowkeyvault.service.vault.impl.VaultFakeImpl;
@@ -19,14 +22,22 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.github.nagyesta.lowkeyvault.TestConstants.*;
 import static com.github.nagyesta.lowkeyvault.TestConstantsCertificateKeys.EMPTY_PASSWORD;
 import static com.github.nagyesta.lowkeyvault.TestConstantsCertificates.*;
+import static com.github.nagyesta.lowkeyvault.TestConstantsUri.HTTPS_DEFAULT_LOWKEY_VAULT;
 import static com.github.nagyesta.lowkeyvault.TestConstantsUri.HTTPS_LOCALHOST_8443;
 import static com.github.nagyesta.lowkeyvault.model.v7_2.common.constants.RecoveryLevel.MAX_RECOVERABLE_DAYS_INCLUSIVE;
 import static com.github.nagyesta.lowkeyvault.model.v7_2.common.constants.RecoveryLevel.RECOVERABLE_AND_PURGEABLE;
@@ -38,6 +49,9 @@ import static org.mockito.Mockito.*;
 
 class CertificateVaultFakeImplTest {
 
+    private static final int STRESS_ROUNDS = 32;
+    private static final int TIMEOUT_SECONDS = 30;
+
     public static Stream<Arguments> createNullProvider() {
         return Stream.<Arguments>builder()
                 .add(Arguments.of(null, null))
@@ -121,6 +135,24 @@ class CertificateVaultFakeImplTest {
         Assertions.assertNotNull(actual.getCertificateSigningRequest());
     }
 
+    @Test
+    void testCertificateRegenerationTasksShouldReturnOneTaskPerNameWhenCalledWithMultipleVersions() {
+        //given
+        final VaultFake vault = new VaultFakeImpl(HTTPS_LOCALHOST_8443);
+        final CertificateVaultFake underTest = vault.certificateVaultFake();
+        underTest.createCertificateVersion(CERT_NAME_1, regenerationInput(CERT_NAME_1));
+        underTest.createCertificateVersion(CERT_NAME_1, regenerationInput(CERT_NAME_1));
+        underTest.createCertificateVersion(CERT_NAME_2, regenerationInput(CERT_NAME_2));
+
+        //when
+        final List<Runnable> actual = underTest.certificateRegenerationTasks();
+
+        //then
+        Assertions.assertEquals(2, actual.size());
+        actual.forEach(Runnable::run);
+        Assertions.assertEquals(2, underTest.getEntities().getVersions(new CertificateEntityId(HTTPS_LOCALHOST_8443, CERT_NAME_1)).size());
+    }
+
     @ParameterizedTest
     @MethodSource("createNullProvider")
     void testCreateCertificateVersionShouldThrowExceptionWhenCalledWithNull(final String name, final CertificateCreationInput input) {
@@ -430,4 +462,84 @@ class CertificateVaultFakeImplTest {
         underTest.createCertificateVersion(CERT_NAME_1, cert);
         return underTest;
     }
+
+    @Test
+    void testDeleteShouldDropCachedSignersOfTheVaultOnlyWhenCalledWithExistingCertificate() {
+        //given
+        final VaultFake vault = new VaultFakeImpl(HTTPS_LOCALHOST_8443);
+        final VaultFake otherVault = new VaultFakeImpl(HTTPS_DEFAULT_LOWKEY_VAULT);
+        final CertificateVaultFake underTest = vault.certificateVaultFake();
+        underTest.createCertificateVersion(CERT_NAME_1, regenerationInput(CERT_NAME_1));
+        otherVault.certificateVaultFake().createCertificateVersion(CERT_NAME_1, regenerationInput(CERT_NAME_1));
+
+        //when
+        underTest.delete(new CertificateEntityId(HTTPS_LOCALHOST_8443, CERT_NAME_1));
+
+        //then
+        Assertions.assertNotSame(underTest.signingCache(), otherVault.certificateVaultFake().signingCache());
+        Assertions.assertEquals(0, underTest.signingCache().signerCount());
+        Assertions.assertEquals(1, otherVault.certificateVaultFake().signingCache().signerCount());
+    }
+
+    @Test
+    void testCreateCertificateVersionShouldPublishKeySecretAndCertificateTogetherWhenCalledConcurrentlyWithDelete()
+            throws Exception {
+        //given
+        final VaultFake vault = new VaultFakeImpl(HTTPS_LOCALHOST_8443);
+        final CertificateVaultFake underTest = vault.certificateVaultFake();
+        final List<String> names = IntStream.range(0, STRESS_ROUNDS)
+                .mapToObj(i -> CERT_NAME_1 + "-" + i)
+                .toList();
+        names.forEach(name -> underTest.createCertificateVersion(name, regenerationInput(name)));
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        //when
+        try {
+            for (final String name : names) {
+                final List<Callable<Object>> tasks = List.of(
+                        Executors.callable(() -> createIgnoringDeletedConflict(underTest, name)),
+                        Executors.callable(() -> underTest.delete(new CertificateEntityId(HTTPS_LOCALHOST_8443, name))));
+                for (final Future<Object> future : executor.invokeAll(tasks)) {
+                    future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        //then
+        names.forEach(name -> {
+            Assertions.assertFalse(underTest.getEntities().containsName(name));
+            Assertions.assertFalse(vault.keyVaultFake().getEntities().containsName(name));
+            Assertions.assertFalse(vault.secretVaultFake().getEntities().containsName(name));
+            final int certificateVersions = underTest.getDeletedEntities()
+                    .getVersions(new CertificateEntityId(HTTPS_LOCALHOST_8443, name)).size();
+            Assertions.assertEquals(certificateVersions, vault.keyVaultFake().getDeletedEntities()
+                    .getVersions(new KeyEntityId(HTTPS_LOCALHOST_8443, name)).size());
+            Assertions.assertEquals(certificateVersions, vault.secretVaultFake().getDeletedEntities()
+                    .getVersions(new SecretEntityId(HTTPS_LOCALHOST_8443, name)).size());
+        });
+    }
+
+    private void createIgnoringDeletedConflict(final CertificateVaultFake underTest, final String name) {
+        try {
+            underTest.createCertificateVersion(name, regenerationInput(name));
+        } catch (final AlreadyExistsException e) {
+            //expected when the delete wins the race
+        }
+    }
+
+    private CertificateCreationInput regenerationInput(final String name) {
+        return CertificateCreationInput.builder()
+                .validityStart(NOW)
+                .subject("CN=" + LOCALHOST)
+                .name(name)
+                .enableTransparency(false)
+                .certAuthorityType(UNKNOWN)
+                .contentType(CertContentType.PEM)
+                .keyType(KeyType.EC)
+                .keyCurveName(KeyCurveName.P_256)
+                .validityMonths(VALIDITY_MONTHS)
+                .build();
+    }
 }
@@ -10,12 +10,14 @@ import com.github.nagyesta.lowkeyvault.service.key.impl.EcKeyCreationInput;
 import com.github.nagyesta.lowkeyvault.service.secret.impl.SecretCreateInput;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultFake;
 import com.github.nagyesta.lowkeyvault.service.vault.impl.VaultFakeImpl;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.util.MimeTypeUtils;
 
 import java.security.cert.X509Certificate;
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
@@ -296,6 +298,35 @@ class KeyVaultCertificateEntityIntegrationTest {
         Assertions.assertNotNull(actual.getOriginalCertificateContents());
     }
 
+    @Test
+    void testCreateConstructorShouldReuseLazilyGeneratedCsrAndSecretValueWhenTheyAreReadMultipleTimes() {
+        //given
+        final CertificateCreationInput input = CertificateCreationInput.builder()
+                .validityStart(NOW)
+                .subject("CN=" + LOCALHOST)
+                .name(CERT_NAME_1)
+                .enableTransparency(false)
+                .certAuthorityType(SELF_SIGNED)
+                .contentType(CertContentType.PKCS12)
+                .keyCurveName(KeyCurveName.P_256)
+                .keyType(KeyType.EC)
+                .validityMonths(TWO_YEARS_IN_MONTHS)
+                .build();
+        final VaultFake vault = new VaultFakeImpl(HTTPS_LOCALHOST_8443);
+        final KeyVaultCertificateEntity underTest = new KeyVaultCertificateEntity(CERT_NAME_1, input, vault);
+        underTest.publishBackingEntities();
+
+        //when
+        final PKCS10CertificationRequest first = underTest.getCertificateSigningRequest();
+        final PKCS10CertificationRequest second = underTest.getCertificateSigningRequest();
+        final String secretValue = vault.secretVaultFake().getEntities().getReadOnlyEntity(underTest.getSid()).getValue();
+
+        //then
+        Assertions.assertNotNull(first);
+        Assertions.assertSame(first, second);
+        Assertions.assertSame(secretValue, underTest.getOriginalCertificateContents());
+    }
+
     @Test
     void testRegenerateCertificateShouldRegenerateCertificateWhenTheValidityIsNoLongerAccurate() {
         //given
@@ -313,6 +344,7 @@ class KeyVaultCertificateEntityIntegrationTest {
 
         final VaultFake vault = new VaultFakeImpl(HTTPS_LOCALHOST_8443);
         final KeyVaultCertificateEntity underTest = new KeyVaultCertificateEntity(CERT_NAME_1, input, vault);
+        underTest.publishBackingEntities();
         underTest.timeShift((int) Duration.ofDays(1).toSeconds());
         final X509Certificate original = (X509Certificate) underTest.getCertificate();
 
@@ -324,6 +356,36 @@ class KeyVaultCertificateEntityIntegrationTest {
         Assertions.assertNotEquals(original, actual);
     }
 
+    @Test
+    void testPublishBackingEntitiesShouldPublishKeyAndSecretOnlyOnceWhenCalledAfterTheCreateConstructor() {
+        //given
+        final CertificateCreationInput input = CertificateCreationInput.builder()
+                .validityStart(NOW)
+                .subject("CN=" + LOCALHOST)
+                .name(CERT_NAME_1)
+                .enableTransparency(false)
+                .certAuthorityType(SELF_SIGNED)
+                .contentType(CertContentType.PEM)
+                .keyCurveName(KeyCurveName.P_256)
+                .keyType(KeyType.EC)
+                .validityMonths(TWO_YEARS_IN_MONTHS)
+                .build();
+        final VaultFake vault = new VaultFakeImpl(HTTPS_LOCALHOST_8443);
+        final KeyVaultCertificateEntity underTest = new KeyVaultCertificateEntity(CERT_NAME_1, input, vault);
+        Assertions.assertFalse(vault.keyVaultFake().getEntities().containsName(CERT_NAME_1));
+        Assertions.assertFalse(vault.secretVaultFake().getEntities().containsName(CERT_NAME_1));
+
+        //when
+        underTest.publishBackingEntities();
+        underTest.publishBackingEntities();
+
+        //then
+        Assertions.assertEquals(List.of(underTest.getKid().version()),
+                vault.keyVaultFake().getEntities().getVersions(underTest.getKid()));
+        Assertions.assertEquals(List.of(underTest.getSid().version()),
+                vault.secretVaultFake().getEntities().getVersions(underTest.getSid()));
+    }
+
     @Test
     void testRegenerateCertificateShouldNotRegenerateCertificateWhenTheValidityIsStillAccurate() {
         //given
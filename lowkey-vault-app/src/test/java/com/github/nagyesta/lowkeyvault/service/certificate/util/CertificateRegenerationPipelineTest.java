@@ -0,0 +1,160 @@
+package com.github.nagyesta.lowkeyvault.service.certificate.util;
+
+import com.github.nagyesta.lowkeyvault.service.certificate.CertificateVaultFake;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CertificateRegenerationPipelineTest {
+
+    private static final int PARALLELISM = 2;
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void testConstructorShouldThrowExceptionWhenCalledWithNotPositiveParallelism(final int parallelism) {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new CertificateRegenerationPipeline(parallelism));
+
+        //then + exception
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testRegenerateShouldThrowExceptionWhenCalledWithNull() {
+        //given
+        try (CertificateRegenerationPipeline underTest = new CertificateRegenerationPipeline(PARALLELISM)) {
+
+            //when
+            Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.regenerate(null));
+
+            //then + exception
+        }
+    }
+
+    @Test
+    void testRegenerateShouldRunTasksOfDifferentVaultsInParallelWhenCalled() {
+        //given
+        final CountDownLatch bothStarted = new CountDownLatch(PARALLELISM);
+        final Runnable task = () -> {
+            bothStarted.countDown();
+            try {
+                Assertions.assertTrue(bothStarted.await(1, TimeUnit.MINUTES));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        };
+        final CertificateVaultFake first = vaultWithTasks(List.of(task));
+        final CertificateVaultFake second = vaultWithTasks(List.of(task));
+        try (CertificateRegenerationPipeline underTest = new CertificateRegenerationPipeline(PARALLELISM)) {
+
+            //when
+            underTest.regenerate(List.of(first, second));
+
+            //then
+            Assertions.assertEquals(new CertificateRegenerationStatistics(PARALLELISM, 2L, 2L, 0L), underTest.statistics());
+            Assertions.assertEquals(0L, underTest.statistics().remaining());
+        }
+    }
+
+    @Test
+    void testRegenerateShouldRunAllTasksAndRethrowFirstFailureWhenTasksFail() {
+        //given
+        final AtomicInteger calls = new AtomicInteger();
+        final IllegalStateException failure = new IllegalStateException("failure");
+        final CertificateVaultFake vault = vaultWithTasks(List.of(
+                () -> {
+                    calls.incrementAndGet();
+                    throw failure;
+                },
+                calls::incrementAndGet,
+                () -> {
+                    calls.incrementAndGet();
+                    throw new IllegalArgumentException("other");
+                }));
+        try (CertificateRegenerationPipeline underTest = new CertificateRegenerationPipeline(PARALLELISM)) {
+
+            //when
+            final IllegalStateException actual = Assertions.assertThrows(IllegalStateException.class,
+                    () -> underTest.regenerate(List.of(vault)));
+
+            //then + exception
+            Assertions.assertSame(failure, actual);
+            Assertions.assertEquals(1, actual.getSuppressed().length);
+            Assertions.assertEquals(3, calls.get());
+            Assertions.assertEquals(new CertificateRegenerationStatistics(PARALLELISM, 3L, 1L, 2L), underTest.statistics());
+        }
+    }
+
+    @Test
+    void testRenewShouldRunRenewalTasksOfDifferentVaultsInParallelWithoutCountingThemWhenCalled() {
+        //given
+        final CountDownLatch bothStarted = new CountDownLatch(PARALLELISM);
+        final Runnable task = () -> {
+            bothStarted.countDown();
+            try {
+                Assertions.assertTrue(bothStarted.await(1, TimeUnit.MINUTES));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        };
+        final CertificateVaultFake first = vaultWithRenewalTasks(List.of(task));
+        final CertificateVaultFake second = vaultWithRenewalTasks(List.of(task));
+        try (CertificateRegenerationPipeline underTest = new CertificateRegenerationPipeline(PARALLELISM)) {
+
+            //when
+            underTest.renew(List.of(first, second));
+
+            //then
+            Assertions.assertEquals(0L, bothStarted.getCount());
+            Assertions.assertEquals(new CertificateRegenerationStatistics(PARALLELISM, 0L, 0L, 0L), underTest.statistics());
+        }
+    }
+
+    @Test
+    void testRenewShouldRunAllTasksAndRethrowFirstFailureWhenTasksFail() {
+        //given
+        final AtomicInteger calls = new AtomicInteger();
+        final IllegalStateException failure = new IllegalStateException("failure");
+        final CertificateVaultFake vault = vaultWithRenewalTasks(List.of(
+                () -> {
+                    calls.incrementAndGet();
+                    throw failure;
+                },
+                calls::incrementAndGet));
+        try (CertificateRegenerationPipeline underTest = new CertificateRegenerationPipeline(PARALLELISM)) {
+
+            //when
+            final IllegalStateException actual = Assertions.assertThrows(IllegalStateException.class,
+                    () -> underTest.renew(List.of(vault)));
+
+            //then + exception
+            Assertions.assertSame(failure, actual);
+            Assertions.assertEquals(2, calls.get());
+        }
+    }
+
+    private CertificateVaultFake vaultWithTasks(final List<Runnable> tasks) {
+        final CertificateVaultFake vault = mock(CertificateVaultFake.class);
+        when(vault.certificateRegenerationTasks()).thenReturn(tasks);
+        return vault;
+    }
+
+    private CertificateVaultFake vaultWithRenewalTasks(final List<Runnable> tasks) {
+        final CertificateVaultFake vault = mock(CertificateVaultFake.class);
+        when(vault.certificateRenewalTasks()).thenReturn(tasks);
+        return vault;
+    }
+}
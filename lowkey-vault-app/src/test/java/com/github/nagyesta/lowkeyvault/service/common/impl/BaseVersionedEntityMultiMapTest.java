@@ -0,0 +1,987 @@
+package com.github.nagyesta.lowkeyvault.service.common.impl;
+
+import com.github.nagyesta.lowkeyvault.TestConstants;
+import com.github.nagyesta.lowkeyvault.model.v7_2.common.constants.RecoveryLevel;
+import com.github.nagyesta.lowkeyvault.service.common.VersionedEntityMultiMap;
+import com.github.nagyesta.lowkeyvault.service.exception.NotFoundException;
+import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyKeyVaultKeyEntity;
+import com.github.nagyesta.lowkeyvault.service.key.id.KeyEntityId;
+import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
+import com.github.nagyesta.lowkeyvault.service.key.impl.KeyVaultKeyEntity;
+import com.github.nagyesta.lowkeyvault.service.key.impl.RsaKeyVaultKeyEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.github.nagyesta.lowkeyvault.TestConstantsKeys.*;
+import static com.github.nagyesta.lowkeyvault.TestConstantsUri.HTTPS_LOCALHOST_8443;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+abstract class BaseVersionedEntityMultiMapTest {
+
+    @SuppressWarnings({"checkstyle:VisibilityModifier", "checkstyle:JavadocVariable"})
+    protected VersionedEntityMultiMap<KeyEntityId, VersionedKeyEntityId, ReadOnlyKeyVaultKeyEntity, KeyVaultKeyEntity<?, ?>> underTest;
+    @SuppressWarnings({"checkstyle:VisibilityModifier", "checkstyle:JavadocVariable"})
+    @Mock
+    protected RsaKeyVaultKeyEntity key1Version1Mock;
+    @SuppressWarnings({"checkstyle:VisibilityModifier", "checkstyle:JavadocVariable"})
+    @Mock
+    protected RsaKeyVaultKeyEntity key1Version2Mock;
+    @SuppressWarnings({"checkstyle:VisibilityModifier", "checkstyle:JavadocVariable"})
+    @Mock
+    protected RsaKeyVaultKeyEntity key1Version3Mock;
+    @SuppressWarnings({"checkstyle:VisibilityModifier", "checkstyle:JavadocVariable"})
+    @Mock
+    protected RsaKeyVaultKeyEntity key2Version1Mock;
+    @SuppressWarnings({"checkstyle:VisibilityModifier", "checkstyle:JavadocVariable"})
+    @Mock
+    protected RsaKeyVaultKeyEntity key2Version2Mock;
+    @SuppressWarnings({"checkstyle:VisibilityModifier", "checkstyle:JavadocVariable"})
+    @Mock
+    protected RsaKeyVaultKeyEntity key3Version1Mock;
+    @SuppressWarnings({"checkstyle:VisibilityModifier", "checkstyle:JavadocVariable"})
+    @Mock
+    protected RsaKeyVaultKeyEntity key3Version2Mock;
+    private AutoCloseable openMocks;
+
+    protected abstract
+    VersionedEntityMultiMap<KeyEntityId, VersionedKeyEntityId, ReadOnlyKeyVaultKeyEntity, KeyVaultKeyEntity<?, ?>> createMap(
+            RecoveryLevel recoveryLevel,
+            Integer recoverableDays,
+            BiFunction<String, String, VersionedKeyEntityId> versionCreateFunction,
+            boolean deleted);
+
+    public static Stream<Arguments> nullProvider() {
+        final BiFunction<String, String, VersionedKeyEntityId> function = (i, v) -> VERSIONED_KEY_ENTITY_ID_1_VERSION_1;
+        final int days = RecoveryLevel.MAX_RECOVERABLE_DAYS_INCLUSIVE;
+        final RecoveryLevel level = RecoveryLevel.RECOVERABLE;
+        return Stream.<Arguments>builder()
+                .add(Arguments.of(null, null, null, false))
+                .add(Arguments.of(level, null, null, false))
+                .add(Arguments.of(null, days, null, false))
+                .add(Arguments.of(null, null, function, false))
+                .add(Arguments.of(null, days, function, false))
+                .add(Arguments.of(level, null, function, false))
+                .add(Arguments.of(level, days, null, false))
+                .add(Arguments.of(null, null, null, true))
+                .add(Arguments.of(level, null, null, true))
+                .add(Arguments.of(null, days, null, true))
+                .add(Arguments.of(null, null, function, true))
+                .add(Arguments.of(null, days, function, true))
+                .add(Arguments.of(level, null, function, true))
+                .add(Arguments.of(level, days, null, true))
+                .build();
+    }
+
+    public static Stream<Arguments> recoveryProvider() {
+        return Stream.<Arguments>builder()
+                .add(Arguments.of(RecoveryLevel.PURGEABLE, null))
+                .add(Arguments.of(RecoveryLevel.RECOVERABLE_AND_PURGEABLE, RecoveryLevel.MAX_RECOVERABLE_DAYS_INCLUSIVE))
+                .add(Arguments.of(RecoveryLevel.CUSTOMIZED_RECOVERABLE, RecoveryLevel.MIN_RECOVERABLE_DAYS_INCLUSIVE))
+                .build();
+    }
+
+    public static Stream<Arguments> moveToNullProvider() {
+        final KeyEntityId key = UNVERSIONED_KEY_ENTITY_ID_1;
+        final var dest = new CopyOnWriteVersionedEntityMultiMap<>(RecoveryLevel.RECOVERABLE, RecoveryLevel.MAX_RECOVERABLE_DAYS_INCLUSIVE,
+                (i, v) -> new VersionedKeyEntityId(HTTPS_LOCALHOST_8443, i, v), false);
+        final Function<KeyVaultKeyEntity<?, ?>, KeyVaultKeyEntity<?, ?>> function = Function.identity();
+        return Stream.<Arguments>builder()
+                .add(Arguments.of(null, null, null))
+                .add(Arguments.of(key, null, null))
+                .add(Arguments.of(null, dest, null))
+                .add(Arguments.of(null, null, function))
+                .add(Arguments.of(null, dest, function))
+                .add(Arguments.of(key, null, function))
+                .add(Arguments.of(key, dest, null))
+                .build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        underTest = createMap(RecoveryLevel.RECOVERABLE, RecoveryLevel.MAX_RECOVERABLE_DAYS_INCLUSIVE,
+                (i, v) -> new VersionedKeyEntityId(HTTPS_LOCALHOST_8443, i, v), false);
+        openMocks = MockitoAnnotations.openMocks(this);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        openMocks.close();
+    }
+
+    @ParameterizedTest
+    @MethodSource("nullProvider")
+    void testConstructorShouldThrowExceptionWhenCalledWithNulls(
+            final RecoveryLevel recoveryLevel,
+            final Integer recoverableDays,
+            final BiFunction<String, String, VersionedKeyEntityId> versionCreateFunction,
+            final boolean deleted) {
+        //given
+        putAllMocks();
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> createMap(recoveryLevel, recoverableDays, versionCreateFunction, deleted));
+
+        //then + exception
+    }
+
+    @SuppressWarnings("checkstyle:MagicNumber")
+    @Test
+    void testListLatestEntitiesShouldReturnOnlyTheLatestVersionPerEntityWhenMultipleVersionsWerePut() {
+        //given
+        putAllMocks();
+
+        //when
+        final List<ReadOnlyKeyVaultKeyEntity> actual = underTest.listLatestEntities();
+
+        //then
+        Assertions.assertNotNull(actual);
+        Assertions.assertEquals(3, actual.size());
+        Assertions.assertSame(key1Version3Mock, actual.get(0));
+        Assertions.assertSame(key2Version2Mock, actual.get(1));
+        Assertions.assertSame(key3Version2Mock, actual.get(2));
+    }
+
+    @SuppressWarnings("checkstyle:MagicNumber")
+    @Test
+    void testListLatestNonManagedEntitiesShouldReturnOnlyTheNotManagedEntitiesWhenMultipleVersionsWerePut() {
+        //given
+        putAllMocks();
+        when(key1Version3Mock.isManaged()).thenReturn(true);
+
+        //when
+        final List<ReadOnlyKeyVaultKeyEntity> actual = underTest.listLatestNonManagedEntities();
+
+        //then
+        Assertions.assertNotNull(actual);
+        Assertions.assertEquals(2, actual.size());
+        Assertions.assertSame(key2Version2Mock, actual.get(0));
+        Assertions.assertSame(key3Version2Mock, actual.get(1));
+    }
+
+    @Test
+    void testListLatestEntitiesShouldReturnEmptyListWhenEmpty() {
+        //given
+
+        //when
+        final List<ReadOnlyKeyVaultKeyEntity> actual = underTest.listLatestEntities();
+
+        //then
+        Assertions.assertNotNull(actual);
+        Assertions.assertIterableEquals(List.of(), actual);
+    }
+
+    @Test
+    void testListLatestEntitiesWithWindowShouldReturnOnlyTheRequestedWindowInNameOrderWhenCalled() {
+        //given
+        putAllMocks();
+
+        //when
+        final List<ReadOnlyKeyVaultKeyEntity> actual = underTest.listLatestEntities(1, 1);
+
+        //then
+        Assertions.assertIterableEquals(List.of(key2Version2Mock), actual);
+    }
+
+    @SuppressWarnings("checkstyle:MagicNumber")
+    @Test
+    void testListLatestEntitiesWithWindowShouldReturnRemainingItemsWhenCalledWithLimitGoingPastTheEnd() {
+        //given
+        putAllMocks();
+
+        //when
+        final List<ReadOnlyKeyVaultKeyEntity> actual = underTest.listLatestEntities(1, 10);
+
+        //then
+        Assertions.assertIterableEquals(List.of(key2Version2Mock, key3Version2Mock), actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, -42})
+    void testListLatestEntitiesWithWindowShouldThrowExceptionWhenCalledWithNegativeValues(final int value) {
+        //given
+        putAllMocks();
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.listLatestEntities(value, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.listLatestEntities(0, value));
+
+        //then + exception
+    }
+
+    @Test
+    void testListLatestEntitiesAfterShouldReturnItemsFollowingTheCursorInNameOrderWhenCalled() {
+        //given
+        putAllMocks();
+
+        //when
+        final List<ReadOnlyKeyVaultKeyEntity> actual = underTest.listLatestEntitiesAfter(KEY_NAME_1, 1);
+
+        //then
+        Assertions.assertIterableEquals(List.of(key2Version2Mock), actual);
+    }
+
+    @SuppressWarnings("checkstyle:MagicNumber")
+    @Test
+    void testListLatestEntitiesAfterShouldSeekToTheNextNameWhenTheCursorItemIsNoLongerPresent() {
+        //given
+        putAllMocks();
+
+        //when
+        final List<ReadOnlyKeyVaultKeyEntity> actual = underTest.listLatestEntitiesAfter(KEY_NAME_1 + "a", 10);
+
+        //then
+        Assertions.assertIterableEquals(List.of(key2Version2Mock, key3Version2Mock), actual);
+    }
+
+    @Test
+    void testListLatestEntitiesAfterShouldThrowExceptionWhenCalledWithNegativeLimit() {
+        //given
+        putAllMocks();
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.listLatestEntitiesAfter(KEY_NAME_1, -1));
+
+        //then + exception
+    }
+
+    @Test
+    void testListVersionsAfterShouldReturnVersionsFollowingTheCursorWhenCalled() {
+        //given
+        putAllMocks();
+
+        //when
+        final List<String> actual = underTest.listVersionsAfter(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, KEY_VERSION_1, 1);
+
+        //then
+        Assertions.assertIterableEquals(List.of(KEY_VERSION_2), actual);
+    }
+
+    @SuppressWarnings("checkstyle:MagicNumber")
+    @Test
+    void testListVersionsAfterShouldReturnVersionsFromTheStartWhenCalledWithoutCursor() {
+        //given
+        putAllMocks();
+
+        //when
+        final List<String> actual = underTest.listVersionsAfter(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, null, 10);
+
+        //then
+        Assertions.assertIterableEquals(List.of(KEY_VERSION_1, KEY_VERSION_2, KEY_VERSION_3), actual);
+    }
+
+    @Test
+    void testListVersionsAfterShouldReturnEmptyListWhenCalledWithTheLastVersion() {
+        //given
+        putAllMocks();
+
+        //when
+        final List<String> actual = underTest.listVersionsAfter(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, KEY_VERSION_3, 1);
+
+        //then
+        Assertions.assertIterableEquals(List.of(), actual);
+    }
+
+    @Test
+    void testListVersionsAfterShouldThrowExceptionWhenCalledWithMissingKey() {
+        //given
+
+        //when
+        Assertions.assertThrows(NotFoundException.class,
+                () -> underTest.listVersionsAfter(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, null, 1));
+
+        //then + exception
+    }
+
+    @SuppressWarnings("checkstyle:MagicNumber")
+    @Test
+    void testListVersionsAfterShouldReturnVersionsInOrderWhenTheyWereAddedInDifferentOrder() {
+        //given
+        underTest.put(VERSIONED_KEY_ENTITY_ID_1_VERSION_3, key1Version3Mock);
+        underTest.put(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, key1Version1Mock);
+        underTest.put(VERSIONED_KEY_ENTITY_ID_1_VERSION_2, key1Version2Mock);
+
+        //when
+        final List<String> actual = underTest.listVersionsAfter(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, null, 10);
+
+        //then
+        Assertions.assertIterableEquals(List.of(KEY_VERSION_1, KEY_VERSION_2, KEY_VERSION_3), actual);
+    }
+
+    @Test
+    void testPutAllVersionsShouldAddEveryVersionInOrderWhenCalledWithVersionsOfTheSameName() {
+        //given
+        underTest.put(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, key1Version1Mock);
+        when(key1Version2Mock.getId()).thenReturn(VERSIONED_KEY_ENTITY_ID_1_VERSION_2);
+        when(key1Version3Mock.getId()).thenReturn(VERSIONED_KEY_ENTITY_ID_1_VERSION_3);
+
+        //when
+        underTest.putAllVersions(KEY_NAME_1, List.of(key1Version2Mock, key1Version3Mock));
+
+        //then
+        Assertions.assertIterableEquals(List.of(KEY_VERSION_1, KEY_VERSION_2, KEY_VERSION_3),
+                underTest.getVersions(VERSIONED_KEY_ENTITY_ID_1_VERSION_1));
+        Assertions.assertEquals(VERSIONED_KEY_ENTITY_ID_1_VERSION_3, underTest.getLatestVersionOfEntity(UNVERSIONED_KEY_ENTITY_ID_1));
+        Assertions.assertSame(key1Version2Mock, underTest.getEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_2));
+    }
+
+    @Test
+    void testPutAllVersionsShouldThrowExceptionWithoutAddingAnyVersionWhenCalledWithVersionsOfDifferentNames() {
+        //given
+        when(key1Version1Mock.getId()).thenReturn(VERSIONED_KEY_ENTITY_ID_1_VERSION_1);
+        when(key2Version1Mock.getId()).thenReturn(VERSIONED_KEY_ENTITY_ID_2_VERSION_1);
+        final List<KeyVaultKeyEntity<?, ?>> versions = List.of(key1Version1Mock, key2Version1Mock);
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.putAllVersions(KEY_NAME_1, versions));
+
+        //then + exception
+        Assertions.assertFalse(underTest.containsName(KEY_NAME_1));
+    }
+
+    @Test
+    void testGetVersionsShouldReturnReadOnlyViewWhenCalledWithExistingKey() {
+        //given
+        putAllMocks();
+        final List<String> actual = underTest.getVersions(VERSIONED_KEY_ENTITY_ID_1_VERSION_1);
+
+        //when
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> actual.add(KEY_VERSION_1));
+
+        //then + exception
+    }
+
+    @Test
+    void testGetSortedVersionsShouldReturnVersionsInNaturalOrderWhenCalledWithExistingKey() {
+        //given
+        underTest.put(VERSIONED_KEY_ENTITY_ID_1_VERSION_3, key1Version3Mock);
+        underTest.put(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, key1Version1Mock);
+        underTest.put(VERSIONED_KEY_ENTITY_ID_1_VERSION_2, key1Version2Mock);
+
+        //when
+        final List<String> actual = underTest.getSortedVersions(VERSIONED_KEY_ENTITY_ID_1_VERSION_1);
+
+        //then
+        Assertions.assertIterableEquals(List.of(KEY_VERSION_1, KEY_VERSION_2, KEY_VERSION_3), actual);
+        Assertions.assertIterableEquals(List.of(KEY_VERSION_3, KEY_VERSION_1, KEY_VERSION_2),
+                underTest.getVersions(VERSIONED_KEY_ENTITY_ID_1_VERSION_1));
+        Assertions.assertEquals(VERSIONED_KEY_ENTITY_ID_1_VERSION_2,
+                underTest.getLatestVersionOfEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1));
+    }
+
+    @Test
+    void testGetSortedVersionsShouldThrowExceptionWhenCalledWithMissingKey() {
+        //given
+
+        //when
+        Assertions.assertThrows(NotFoundException.class, () -> underTest.getSortedVersions(VERSIONED_KEY_ENTITY_ID_1_VERSION_1));
+
+        //then + exception
+    }
+
+    @Test
+    void testGetVersionsShouldReturnAllRelevantVersionsWhenCalledWithExistingKey() {
+        //given
+        putAllMocks();
+
+        //when
+        final List<String> actual = underTest.getVersions(VERSIONED_KEY_ENTITY_ID_1_VERSION_1);
+
+        //then
+        Assertions.assertNotNull(actual);
+        Assertions.assertIterableEquals(List.of(KEY_VERSION_1, KEY_VERSION_2, KEY_VERSION_3), actual);
+    }
+
+    @Test
+    void testGetVersionsShouldReturnOnlyRelevantVersionsWhenCalledWithExistingKey() {
+        //given
+        putAllMocks();
+
+        //when
+        final List<String> actual = underTest.getVersions(VERSIONED_KEY_ENTITY_ID_2_VERSION_1);
+
+        //then
+        Assertions.assertNotNull(actual);
+        Assertions.assertIterableEquals(List.of(KEY_VERSION_1, KEY_VERSION_2), actual);
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testGetVersionsShouldThrowExceptionWhenCalledWithNull() {
+        //given
+        putAllMocks();
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.getVersions(null));
+
+        //then + exception
+    }
+
+    @Test
+    void testGetVersionsShouldThrowExceptionWhenCalledWithNotFoundEntity() {
+        //given
+        underTest.put(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, key1Version1Mock);
+
+        //when
+        Assertions.assertThrows(NotFoundException.class, () -> underTest.getVersions(VERSIONED_KEY_ENTITY_ID_3_VERSION_1));
+
+        //then + exception
+    }
+
+    @Test
+    void testGetVersionsShouldThrowExceptionWhenCalledWhileEmpty() {
+        //given
+
+        //when
+        Assertions.assertThrows(NotFoundException.class, () -> underTest.getVersions(VERSIONED_KEY_ENTITY_ID_1_VERSION_1));
+
+        //then + exception
+    }
+
+    @Test
+    void testContainsNameShouldReturnTrueWhenCalledWithExistingKey() {
+        //given
+        putAllMocks();
+
+        //when
+        final boolean actual = underTest.containsName(KEY_NAME_1);
+
+        //then
+        Assertions.assertTrue(actual);
+    }
+
+    @Test
+    void testContainsNameShouldReturnFalseWhenCalledWithNonExistingKey() {
+        //given
+        underTest.put(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, key1Version1Mock);
+
+        //when
+        final boolean actual = underTest.containsName(KEY_NAME_2);
+
+        //then
+        Assertions.assertFalse(actual);
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testContainsNameShouldThrowExceptionWhenCalledWithNull() {
+        //given
+        putAllMocks();
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.containsName(null));
+
+        //then + exception
+    }
+
+    @Test
+    void testContainsEntityShouldReturnTrueWhenCalledWithExistingKey() {
+        //given
+        putAllMocks();
+
+        //when
+        final boolean actual = underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1);
+
+        //then
+        Assertions.assertTrue(actual);
+    }
+
+    @Test
+    void testContainsEntityShouldReturnFalseWhenCalledWithNonExistingKeyVersion() {
+        //given
+        putAllMocks();
+
+        //when
+        final boolean actual = underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_3_VERSION_3);
+
+        //then
+        Assertions.assertFalse(actual);
+    }
+
+    @Test
+    void testContainsEntityShouldReturnFalseWhenCalledWithNonExistingKeyName() {
+        //given
+
+        //when
+        final boolean actual = underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_3_VERSION_3);
+
+        //then
+        Assertions.assertFalse(actual);
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testContainsEntityShouldThrowExceptionWhenCalledWithNull() {
+        //given
+        putAllMocks();
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.containsEntity(null));
+
+        //then + exception
+    }
+
+    @Test
+    void testAssertContainsEntityShouldSucceedWhenCalledWithExistingKey() {
+        //given
+        putAllMocks();
+
+        //when
+        Assertions.assertDoesNotThrow(() -> underTest.assertContainsEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1));
+
+        //then + no exception
+    }
+
+    @Test
+    void testAssertContainsEntityShouldThrowExceptionWhenCalledWithNonExistingKey() {
+        //given
+        putAllMocks();
+
+        //when
+        Assertions.assertThrows(NotFoundException.class, () -> underTest.assertContainsEntity(VERSIONED_KEY_ENTITY_ID_3_VERSION_3));
+
+        //then + exception
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testAssertContainsEntityShouldThrowExceptionWhenCalledWithNull() {
+        //given
+        putAllMocks();
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.assertContainsEntity(null));
+
+        //then + exception
+    }
+
+    @Test
+    void testGetLatestVersionOfEntityShouldThrowExceptionWhenMissingEntity() {
+        //given
+
+        //when
+        Assertions.assertThrows(NotFoundException.class, () -> underTest.getLatestVersionOfEntity(UNVERSIONED_KEY_ENTITY_ID_3));
+
+        //then + exception
+    }
+
+    @Test
+    void testGetLatestVersionOfEntityIdShouldReturnEntityWhenFound() {
+        //given
+        putAllMocks();
+
+        //when
+        final VersionedKeyEntityId actual = underTest.getLatestVersionOfEntity(UNVERSIONED_KEY_ENTITY_ID_3);
+
+        //then
+        Assertions.assertEquals(VERSIONED_KEY_ENTITY_ID_3_VERSION_2, actual);
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testGetLatestVersionOfEntityShouldThrowExceptionWhenCalledWithNull() {
+        //given
+        putAllMocks();
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.getLatestVersionOfEntity(null));
+
+        //then + exception
+    }
+
+    @Test
+    void testGetReadOnlyEntityShouldReturnEntityWhenCalledWithExistingKey() {
+        //given
+        putAllMocks();
+
+        //when
+        final ReadOnlyKeyVaultKeyEntity actual = underTest.getReadOnlyEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_3);
+
+        //then
+        Assertions.assertSame(key1Version3Mock, actual);
+    }
+
+    @Test
+    void testGetReadOnlyEntityShouldThrowExceptionWhenCalledWithMissingKey() {
+        //given
+        putAllMocks();
+
+        //when
+        Assertions.assertThrows(NotFoundException.class, () -> underTest.getReadOnlyEntity(VERSIONED_KEY_ENTITY_ID_3_VERSION_3));
+
+        //then + exception
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testGetReadOnlyEntityShouldThrowExceptionWhenCalledWithNull() {
+        //given
+        putAllMocks();
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.getReadOnlyEntity(null));
+
+        //then + exception
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testGetEntityShouldThrowExceptionWhenCalledWithNull() {
+        //given
+        putAllMocks();
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.getEntity(null));
+
+        //then + exception
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testPutShouldThrowExceptionWhenCalledWithNullKey() {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.put(null, key1Version1Mock));
+
+        //then + exception
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testPutShouldThrowExceptionWhenCalledWithNullValue() {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.put(VERSIONED_KEY_ENTITY_ID_3_VERSION_3, null));
+
+        //then + exception
+    }
+
+    @Test
+    void testGetEntityWithTypeShouldReturnEntityWhenCalledWithValidInput() {
+        //given
+        putAllMocks();
+
+        //when
+        final ReadOnlyKeyVaultKeyEntity actual = underTest.getEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_3, ReadOnlyKeyVaultKeyEntity.class);
+
+        //then
+        Assertions.assertSame(key1Version3Mock, actual);
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testGetEntityWithTypeShouldThrowExceptionWhenCalledWithNull() {
+        //given
+        putAllMocks();
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.getEntity(null, ReadOnlyKeyVaultKeyEntity.class));
+
+        //then + exception
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testGetEntityWithTypeShouldThrowExceptionWhenCalledWithNullType() {
+        //given
+        putAllMocks();
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.getEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_3, null));
+
+        //then + exception
+    }
+
+    @ParameterizedTest
+    @MethodSource("recoveryProvider")
+    void testGetRecoveryLevelAndDaysShouldReturnTheRecoveryLevelWhichWasSetPreviouslyWhenCalled(
+            final RecoveryLevel recoveryLevel, final Integer recoverableDays) {
+        //given
+        underTest = createMap(recoveryLevel, recoverableDays,
+                (i, v) -> new VersionedKeyEntityId(HTTPS_LOCALHOST_8443, i, v), false);
+
+        //when
+        final RecoveryLevel actualRecoveryLevel = underTest.getRecoveryLevel();
+        final Optional<Integer> actualRecoverableDays = underTest.getRecoverableDays();
+
+        //then
+        Assertions.assertEquals(recoveryLevel, actualRecoveryLevel);
+        Assertions.assertEquals(recoverableDays, actualRecoverableDays.orElse(null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testIsDeletedShouldReturnTheRecoveryLevelWhichWasSetPreviouslyWhenCalled(final boolean deleted) {
+        //given
+        underTest = createMap(RecoveryLevel.PURGEABLE, null,
+                (i, v) -> new VersionedKeyEntityId(HTTPS_LOCALHOST_8443, i, v), deleted);
+
+        //when
+        final boolean actual = underTest.isDeleted();
+
+        //then
+        Assertions.assertEquals(deleted, actual);
+    }
+
+    @ParameterizedTest
+    @MethodSource("recoveryProvider")
+    void testMoveToShouldMoveItemsBasedOnRecoveryLevelWhenCalled(
+            final RecoveryLevel recoveryLevel, final Integer recoverableDays) {
+        //given
+        underTest = createMap(recoveryLevel, recoverableDays,
+                (i, v) -> new VersionedKeyEntityId(HTTPS_LOCALHOST_8443, i, v), false);
+        final VersionedEntityMultiMap<KeyEntityId, VersionedKeyEntityId, ReadOnlyKeyVaultKeyEntity, KeyVaultKeyEntity<?, ?>>
+                deleted = createMap(recoveryLevel, recoverableDays,
+                (i, v) -> new VersionedKeyEntityId(HTTPS_LOCALHOST_8443, i, v), true);
+        putAllMocks();
+
+        //when
+        underTest.moveTo(UNVERSIONED_KEY_ENTITY_ID_1, deleted, (e) -> {
+            e.setDeletedDate(TestConstants.NOW);
+            return e;
+        });
+
+        //then
+        Assertions.assertFalse(underTest.containsName(KEY_NAME_1));
+        Assertions.assertTrue(underTest.containsName(KEY_NAME_2));
+        Assertions.assertTrue(underTest.containsName(KEY_NAME_3));
+        if (recoveryLevel.isRecoverable()) {
+            Assertions.assertTrue(deleted.containsName(KEY_NAME_1));
+            verify(key1Version1Mock).setDeletedDate(eq(TestConstants.NOW));
+            verify(key1Version2Mock).setDeletedDate(eq(TestConstants.NOW));
+            verify(key1Version3Mock).setDeletedDate(eq(TestConstants.NOW));
+            Assertions.assertIterableEquals(List.of(key1Version3Mock), deleted.listLatestEntities());
+        } else {
+            Assertions.assertFalse(deleted.containsName(KEY_NAME_1));
+            Assertions.assertIterableEquals(List.of(), deleted.listLatestEntities());
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("moveToNullProvider")
+    void testMoveToShouldThrowExceptionWhenCalledWithNullType(
+            final KeyEntityId entityId,
+            final VersionedEntityMultiMap<KeyEntityId, VersionedKeyEntityId, ReadOnlyKeyVaultKeyEntity, KeyVaultKeyEntity<?, ?>> dest,
+            final Function<KeyVaultKeyEntity<?, ?>, KeyVaultKeyEntity<?, ?>> applyToAll) {
+        //given
+        putAllMocks();
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.moveTo(entityId, dest, applyToAll));
+
+        //then + exception
+    }
+
+    @ParameterizedTest
+    @MethodSource("recoveryProvider")
+    void testPurgeExpiredShouldRemoveItemsRegardlessRecoveryLevelWhenCalled(
+            final RecoveryLevel recoveryLevel, final Integer recoverableDays) {
+        //given
+        underTest = createMap(recoveryLevel, recoverableDays,
+                (i, v) -> new VersionedKeyEntityId(HTTPS_LOCALHOST_8443, i, v), true);
+        final OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        Stream.of(key1Version1Mock, key1Version2Mock, key1Version3Mock)
+                .forEach(mock -> {
+                    when(mock.getScheduledPurgeDate()).thenReturn(Optional.of(now.minusSeconds(1)));
+                    when(mock.isPurgeExpired()).thenReturn(true);
+                });
+        Stream.of(key2Version1Mock, key2Version2Mock, key3Version1Mock, key3Version2Mock)
+                .forEach(mock -> {
+                    when(mock.getScheduledPurgeDate()).thenReturn(Optional.of(now.plusDays(1)));
+                    when(mock.isPurgeExpired()).thenReturn(false);
+                });
+        putAllMocks();
+
+        //when
+        underTest.purgeExpired();
+
+        //then
+        Assertions.assertFalse(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1));
+        Assertions.assertFalse(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_2));
+        Assertions.assertFalse(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_3));
+        Assertions.assertTrue(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_2_VERSION_1));
+        Assertions.assertTrue(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_2_VERSION_2));
+        Assertions.assertTrue(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_3_VERSION_1));
+        Assertions.assertTrue(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_3_VERSION_2));
+    }
+
+    @Test
+    void testPurgeExpiredShouldThrowExceptionWhenCalledOnNotDeletedMap() {
+        //given
+        underTest = createMap(RecoveryLevel.RECOVERABLE, RecoveryLevel.MAX_RECOVERABLE_DAYS_INCLUSIVE,
+                (i, v) -> new VersionedKeyEntityId(HTTPS_LOCALHOST_8443, i, v), false);
+        putAllMocks();
+
+        //when
+        Assertions.assertThrows(IllegalStateException.class, () -> underTest.purgeExpired());
+
+        //then + exception
+    }
+
+    @Test
+    void testPurgeDeletedShouldRemoveMatchingItemsWhenTheyCanBePurged() {
+        //given
+        underTest = createMap(
+                RecoveryLevel.RECOVERABLE_AND_PURGEABLE, RecoveryLevel.MAX_RECOVERABLE_DAYS_INCLUSIVE,
+                (i, v) -> new VersionedKeyEntityId(HTTPS_LOCALHOST_8443, i, v), true);
+        putAllMocks();
+        Stream.of(
+                        key1Version1Mock, key1Version2Mock, key1Version3Mock,
+                        key2Version1Mock, key2Version2Mock,
+                        key3Version1Mock, key3Version2Mock
+                )
+                .forEach(mock -> {
+                    when(mock.isPurgeExpired()).thenReturn(false);
+                    when(mock.canPurge()).thenReturn(true);
+                });
+
+        //when
+        underTest.purgeDeleted(UNVERSIONED_KEY_ENTITY_ID_3);
+
+        //then
+        Assertions.assertTrue(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1));
+        Assertions.assertTrue(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_2));
+        Assertions.assertTrue(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_3));
+        Assertions.assertTrue(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_2_VERSION_1));
+        Assertions.assertTrue(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_2_VERSION_2));
+        Assertions.assertFalse(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_3_VERSION_1));
+        Assertions.assertFalse(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_3_VERSION_2));
+    }
+
+    @Test
+    void testPurgeDeletedShouldThrowExceptionWhenTheyCanNotBePurged() {
+        //given
+        underTest = createMap(
+                RecoveryLevel.RECOVERABLE_AND_PURGEABLE, RecoveryLevel.MAX_RECOVERABLE_DAYS_INCLUSIVE,
+                (i, v) -> new VersionedKeyEntityId(HTTPS_LOCALHOST_8443, i, v), true);
+        putAllMocks();
+        Stream.of(
+                        key1Version1Mock, key1Version2Mock, key1Version3Mock,
+                        key2Version1Mock, key2Version2Mock,
+                        key3Version1Mock, key3Version2Mock
+                )
+                .forEach(mock -> {
+                    when(mock.isPurgeExpired()).thenReturn(false);
+                    when(mock.canPurge()).thenReturn(false);
+                });
+
+        //when
+        Assertions.assertThrows(IllegalStateException.class, () -> underTest.purgeDeleted(UNVERSIONED_KEY_ENTITY_ID_3));
+
+        //then + exception
+        Assertions.assertTrue(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1));
+        Assertions.assertTrue(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_2));
+        Assertions.assertTrue(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_3));
+        Assertions.assertTrue(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_2_VERSION_1));
+        Assertions.assertTrue(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_2_VERSION_2));
+        Assertions.assertTrue(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_3_VERSION_1));
+        Assertions.assertTrue(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_3_VERSION_2));
+    }
+
+    @Test
+    void testPurgeDeletedShouldThrowExceptionWhenCalledOnNotDeletedMap() {
+        //given
+        underTest = createMap(RecoveryLevel.RECOVERABLE, RecoveryLevel.MAX_RECOVERABLE_DAYS_INCLUSIVE,
+                (i, v) -> new VersionedKeyEntityId(HTTPS_LOCALHOST_8443, i, v), false);
+        putAllMocks();
+
+        //when
+        Assertions.assertThrows(IllegalStateException.class, () -> underTest.purgeDeleted(UNVERSIONED_KEY_ENTITY_ID_3));
+
+        //then + exception
+    }
+
+    @Test
+    void testPurgeDeletedShouldThrowExceptionWhenCalledWithNull() {
+        //given
+        underTest = createMap(RecoveryLevel.RECOVERABLE, RecoveryLevel.MAX_RECOVERABLE_DAYS_INCLUSIVE,
+                (i, v) -> new VersionedKeyEntityId(HTTPS_LOCALHOST_8443, i, v), true);
+        putAllMocks();
+
+        //when
+        //noinspection ConstantConditions
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.purgeDeleted(null));
+
+        //then + exception
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testForEachEntityShouldThrowExceptionWhenCalledWithNull() {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.forEachEntity(null));
+
+        //then + exception
+    }
+
+    @Test
+    void testMoveToShouldKeepExistingVersionsOfDestinationWhenCalledWithNameAlreadyPresentInDestination() {
+        //given
+        final VersionedEntityMultiMap<KeyEntityId, VersionedKeyEntityId, ReadOnlyKeyVaultKeyEntity, KeyVaultKeyEntity<?, ?>>
+                deleted = createMap(RecoveryLevel.RECOVERABLE, RecoveryLevel.MAX_RECOVERABLE_DAYS_INCLUSIVE,
+                (i, v) -> new VersionedKeyEntityId(HTTPS_LOCALHOST_8443, i, v), true);
+        deleted.put(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, key1Version1Mock);
+        underTest.put(VERSIONED_KEY_ENTITY_ID_1_VERSION_2, key1Version2Mock);
+        underTest.put(VERSIONED_KEY_ENTITY_ID_1_VERSION_3, key1Version3Mock);
+
+        //when
+        underTest.moveTo(UNVERSIONED_KEY_ENTITY_ID_1, deleted, Function.identity());
+
+        //then
+        Assertions.assertIterableEquals(List.of(KEY_VERSION_1, KEY_VERSION_2, KEY_VERSION_3),
+                deleted.getVersions(UNVERSIONED_KEY_ENTITY_ID_1));
+        Assertions.assertSame(key1Version1Mock, deleted.getEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1));
+        Assertions.assertSame(key1Version3Mock, deleted.getEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_3));
+    }
+
+    @SuppressWarnings("checkstyle:MagicNumber")
+    @Test
+    void testPutShouldKeepAllVersionsWhenCalledConcurrentlyForTheSameName() {
+        //given
+        final int count = 100;
+        final List<String> versions = IntStream.range(0, count)
+                .mapToObj(i -> UUID.randomUUID().toString().replaceAll("-", ""))
+                .toList();
+
+        //when
+        versions.parallelStream()
+                .forEach(v -> underTest.put(new VersionedKeyEntityId(HTTPS_LOCALHOST_8443, KEY_NAME_1, v), key1Version1Mock));
+
+        //then
+        final List<String> actual = underTest.getVersions(UNVERSIONED_KEY_ENTITY_ID_1);
+        Assertions.assertEquals(count, actual.size());
+        Assertions.assertEquals(Set.copyOf(versions), Set.copyOf(actual));
+    }
+
+    protected void putAllMocks() {
+        underTest.put(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, key1Version1Mock);
+        underTest.put(VERSIONED_KEY_ENTITY_ID_2_VERSION_1, key2Version1Mock);
+        underTest.put(VERSIONED_KEY_ENTITY_ID_3_VERSION_1, key3Version1Mock);
+        underTest.put(VERSIONED_KEY_ENTITY_ID_1_VERSION_2, key1Version2Mock);
+        underTest.put(VERSIONED_KEY_ENTITY_ID_2_VERSION_2, key2Version2Mock);
+        underTest.put(VERSIONED_KEY_ENTITY_ID_3_VERSION_2, key3Version2Mock);
+        underTest.put(VERSIONED_KEY_ENTITY_ID_1_VERSION_3, key1Version3Mock);
+    }
+}
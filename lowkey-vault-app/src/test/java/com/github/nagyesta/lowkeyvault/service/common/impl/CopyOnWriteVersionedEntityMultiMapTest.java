@@ -0,0 +1,150 @@
+package com.github.nagyesta.lowkeyvault.service.common.impl;
+
+import com.github.nagyesta.lowkeyvault.model.v7_2.common.constants.RecoveryLevel;
+import com.github.nagyesta.lowkeyvault.service.common.VersionedEntityMultiMap;
+import com.github.nagyesta.lowkeyvault.service.exception.NotFoundException;
+import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyKeyVaultKeyEntity;
+import com.github.nagyesta.lowkeyvault.service.key.id.KeyEntityId;
+import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
+import com.github.nagyesta.lowkeyvault.service.key.impl.KeyVaultKeyEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static com.github.nagyesta.lowkeyvault.TestConstantsKeys.*;
+import static com.github.nagyesta.lowkeyvault.TestConstantsUri.HTTPS_LOCALHOST_8443;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CopyOnWriteVersionedEntityMultiMapTest extends BaseVersionedEntityMultiMapTest {
+
+    @Override
+    protected
+    VersionedEntityMultiMap<KeyEntityId, VersionedKeyEntityId, ReadOnlyKeyVaultKeyEntity, KeyVaultKeyEntity<?, ?>> createMap(
+            final RecoveryLevel recoveryLevel,
+            final Integer recoverableDays,
+            final BiFunction<String, String, VersionedKeyEntityId> versionCreateFunction,
+            final boolean deleted) {
+        return new CopyOnWriteVersionedEntityMultiMap<>(recoveryLevel, recoverableDays, versionCreateFunction, deleted);
+    }
+
+    @SuppressWarnings("checkstyle:MagicNumber")
+    @Test
+    void testPurgeExpiredShouldRemoveItemsWhenTheirPurgeDateIsReachedUsingTimeShift() {
+        //given
+        underTest = new CopyOnWriteVersionedEntityMultiMap<>(RecoveryLevel.RECOVERABLE, RecoveryLevel.MAX_RECOVERABLE_DAYS_INCLUSIVE,
+                (i, v) -> new VersionedKeyEntityId(HTTPS_LOCALHOST_8443, i, v), true);
+        final OffsetDateTime purgeDate = OffsetDateTime.now(ZoneOffset.UTC).plusDays(1);
+        when(key1Version1Mock.getScheduledPurgeDate()).thenReturn(Optional.of(purgeDate));
+        when(key2Version1Mock.getScheduledPurgeDate()).thenReturn(Optional.of(purgeDate.plusDays(10)));
+        underTest.put(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, key1Version1Mock);
+        underTest.put(VERSIONED_KEY_ENTITY_ID_2_VERSION_1, key2Version1Mock);
+        underTest.purgeExpired();
+        Assertions.assertTrue(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1));
+        when(key1Version1Mock.isPurgeExpired()).thenReturn(true);
+        when(key2Version1Mock.isPurgeExpired()).thenReturn(true);
+
+        //when
+        underTest.timeShift((int) Duration.ofDays(2).toSeconds());
+        underTest.purgeExpired();
+
+        //then
+        Assertions.assertFalse(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1));
+        Assertions.assertTrue(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_2_VERSION_1));
+        verify(key1Version1Mock).timeShift((int) Duration.ofDays(2).toSeconds());
+        verify(key2Version1Mock).timeShift((int) Duration.ofDays(2).toSeconds());
+    }
+
+    @Test
+    void testPurgeExpiredShouldKeepItemsWhenTheEntityIsNotExpiredAnymore() {
+        //given
+        underTest = new CopyOnWriteVersionedEntityMultiMap<>(RecoveryLevel.RECOVERABLE, RecoveryLevel.MAX_RECOVERABLE_DAYS_INCLUSIVE,
+                (i, v) -> new VersionedKeyEntityId(HTTPS_LOCALHOST_8443, i, v), true);
+        when(key1Version1Mock.getScheduledPurgeDate()).thenReturn(Optional.of(OffsetDateTime.now(ZoneOffset.UTC).minusDays(1)));
+        when(key1Version1Mock.isPurgeExpired()).thenReturn(false);
+        underTest.put(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, key1Version1Mock);
+
+        //when
+        underTest.purgeExpired();
+
+        //then
+        Assertions.assertTrue(underTest.containsEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_1));
+    }
+
+    @Test
+    void testMoveToShouldMoveAllVersionsInOrderWhenCalledWithDifferentImplementation() {
+        //given
+        final ConcurrentVersionedEntityMultiMap<KeyEntityId, VersionedKeyEntityId, ReadOnlyKeyVaultKeyEntity, KeyVaultKeyEntity<?, ?>>
+                deleted = new ConcurrentVersionedEntityMultiMap<>(RecoveryLevel.RECOVERABLE, RecoveryLevel.MAX_RECOVERABLE_DAYS_INCLUSIVE,
+                (i, v) -> new VersionedKeyEntityId(HTTPS_LOCALHOST_8443, i, v), true);
+        putAllMocks();
+
+        //when
+        underTest.moveTo(UNVERSIONED_KEY_ENTITY_ID_1, deleted, Function.identity());
+
+        //then
+        Assertions.assertFalse(underTest.containsName(KEY_NAME_1));
+        Assertions.assertIterableEquals(List.of(KEY_VERSION_1, KEY_VERSION_2, KEY_VERSION_3),
+                deleted.getVersions(UNVERSIONED_KEY_ENTITY_ID_1));
+        Assertions.assertSame(key1Version3Mock, deleted.getEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_3));
+    }
+
+    @Test
+    void testMoveToShouldThrowExceptionWhenCalledWithMissingEntity() {
+        //given
+        final CopyOnWriteVersionedEntityMultiMap<KeyEntityId, VersionedKeyEntityId, ReadOnlyKeyVaultKeyEntity, KeyVaultKeyEntity<?, ?>>
+                deleted = new CopyOnWriteVersionedEntityMultiMap<>(RecoveryLevel.RECOVERABLE, RecoveryLevel.MAX_RECOVERABLE_DAYS_INCLUSIVE,
+                (i, v) -> new VersionedKeyEntityId(HTTPS_LOCALHOST_8443, i, v), true);
+        underTest.put(VERSIONED_KEY_ENTITY_ID_2_VERSION_1, key2Version1Mock);
+
+        //when
+        Assertions.assertThrows(NotFoundException.class,
+                () -> underTest.moveTo(UNVERSIONED_KEY_ENTITY_ID_1, deleted, Function.identity()));
+
+        //then + exception
+        Assertions.assertFalse(deleted.containsName(KEY_NAME_1));
+    }
+
+    @Test
+    void testPutShouldReplaceEntityWithoutAddingNewVersionWhenCalledWithExistingVersion() {
+        //given
+        putAllMocks();
+
+        //when
+        underTest.put(VERSIONED_KEY_ENTITY_ID_1_VERSION_2, key2Version2Mock);
+
+        //then
+        Assertions.assertSame(key2Version2Mock, underTest.getEntity(VERSIONED_KEY_ENTITY_ID_1_VERSION_2));
+        Assertions.assertIterableEquals(List.of(KEY_VERSION_1, KEY_VERSION_2, KEY_VERSION_3),
+                underTest.getVersions(UNVERSIONED_KEY_ENTITY_ID_1));
+        Assertions.assertEquals(VERSIONED_KEY_ENTITY_ID_1_VERSION_3, underTest.getLatestVersionOfEntity(UNVERSIONED_KEY_ENTITY_ID_1));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testMoveToShouldPublishVersionsInDestinationBeforeRemovingThemWhenCalled() {
+        //given
+        final VersionedEntityMultiMap<KeyEntityId, VersionedKeyEntityId, ReadOnlyKeyVaultKeyEntity, KeyVaultKeyEntity<?, ?>>
+                deleted = mock(VersionedEntityMultiMap.class);
+        final List<Boolean> presentInSourceWhenPublished = new ArrayList<>();
+        doAnswer(invocation -> presentInSourceWhenPublished.add(underTest.containsName(KEY_NAME_1)))
+                .when(deleted).put(any(), any());
+        underTest.put(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, key1Version1Mock);
+        underTest.put(VERSIONED_KEY_ENTITY_ID_1_VERSION_2, key1Version2Mock);
+
+        //when
+        underTest.moveTo(UNVERSIONED_KEY_ENTITY_ID_1, deleted, Function.identity());
+
+        //then
+        Assertions.assertEquals(List.of(true, true), presentInSourceWhenPublished);
+        Assertions.assertFalse(underTest.containsName(KEY_NAME_1));
+        verify(deleted).put(VERSIONED_KEY_ENTITY_ID_1_VERSION_1, key1Version1Mock);
+        verify(deleted).put(VERSIONED_KEY_ENTITY_ID_1_VERSION_2, key1Version2Mock);
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.nagyesta.lowkeyvault.service.common.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+class MemoizingSupplierTest {
+
+    private static final int THREADS = 8;
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testConstructorShouldThrowExceptionWhenCalledWithNull() {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new MemoizingSupplier<>(null));
+
+        //then + exception
+    }
+
+    @Test
+    void testGetShouldCallDelegateOnlyOnceWhenCalledMultipleTimes() {
+        //given
+        final AtomicInteger calls = new AtomicInteger();
+        final MemoizingSupplier<String> underTest = new MemoizingSupplier<>(() -> "value" + calls.incrementAndGet());
+        Assertions.assertFalse(underTest.isMaterialized());
+
+        //when
+        final String first = underTest.get();
+        final String second = underTest.get();
+
+        //then
+        Assertions.assertEquals("value1", first);
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertTrue(underTest.isMaterialized());
+    }
+
+    @Test
+    void testGetShouldThrowExceptionAndRetryLaterWhenDelegateReturnsNull() {
+        //given
+        final AtomicInteger calls = new AtomicInteger();
+        final MemoizingSupplier<Integer> underTest = new MemoizingSupplier<>(() -> {
+            final int count = calls.incrementAndGet();
+            Integer result = null;
+            if (count > 1) {
+                result = count;
+            }
+            return result;
+        });
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, underTest::get);
+
+        //then + exception
+        Assertions.assertFalse(underTest.isMaterialized());
+        Assertions.assertEquals(2, underTest.get());
+    }
+
+    @Test
+    void testGetShouldCallDelegateOnlyOnceWhenCalledConcurrently() throws Exception {
+        //given
+        final AtomicInteger calls = new AtomicInteger();
+        final MemoizingSupplier<Object> underTest = new MemoizingSupplier<>(() -> {
+            calls.incrementAndGet();
+            return new Object();
+        });
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        try {
+            //when
+            final List<Future<Object>> futures = IntStream.range(0, THREADS)
+                    .mapToObj(i -> executorService.submit(() -> {
+                        start.await();
+                        return underTest.get();
+                    }))
+                    .toList();
+            start.countDown();
+
+            //then
+            final Object expected = underTest.get();
+            for (final Future<Object> future : futures) {
+                Assertions.assertSame(expected, future.get(1, TimeUnit.MINUTES));
+            }
+            Assertions.assertEquals(1, calls.get());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
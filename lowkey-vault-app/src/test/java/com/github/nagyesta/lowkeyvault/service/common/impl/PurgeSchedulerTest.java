@@ -0,0 +1,175 @@
+package com.github.nagyesta.lowkeyvault.service.common.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static com.github.nagyesta.lowkeyvault.TestConstantsKeys.*;
+
+class PurgeSchedulerTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.now(ZoneOffset.UTC);
+
+    @SuppressWarnings("checkstyle:MagicNumber")
+    @Test
+    void testPollDueShouldReturnOnlyTheExpiredNamesInDeadlineOrderWhenCalled() {
+        //given
+        final PurgeScheduler underTest = new PurgeScheduler();
+        underTest.schedule(KEY_NAME_1, NOW.minusSeconds(10));
+        underTest.schedule(KEY_NAME_2, NOW.plusSeconds(10));
+        underTest.schedule(KEY_NAME_3, NOW.minusSeconds(20));
+
+        //when
+        final List<String> actual = underTest.pollDue(NOW);
+
+        //then
+        Assertions.assertIterableEquals(List.of(KEY_NAME_3, KEY_NAME_1), actual);
+        Assertions.assertEquals(1, underTest.size());
+    }
+
+    @SuppressWarnings("checkstyle:MagicNumber")
+    @Test
+    void testPollDueShouldReturnShiftedDeadlinesWhenTimeShiftWasCalled() {
+        //given
+        final PurgeScheduler underTest = new PurgeScheduler();
+        underTest.schedule(KEY_NAME_1, NOW.plusSeconds(10));
+        underTest.schedule(KEY_NAME_2, NOW.plusSeconds(100));
+
+        //when
+        underTest.timeShift(50);
+        final List<String> actual = underTest.pollDue(NOW);
+
+        //then
+        Assertions.assertIterableEquals(List.of(KEY_NAME_1), actual);
+        Assertions.assertEquals(1, underTest.size());
+    }
+
+    @SuppressWarnings("checkstyle:MagicNumber")
+    @Test
+    void testScheduleShouldUseTheCurrentTimeScaleWhenCalledAfterTimeShift() {
+        //given
+        final PurgeScheduler underTest = new PurgeScheduler();
+        underTest.timeShift(50);
+
+        //when
+        underTest.schedule(KEY_NAME_1, NOW.plusSeconds(10));
+
+        //then
+        Assertions.assertIterableEquals(List.of(), underTest.pollDue(NOW));
+        Assertions.assertIterableEquals(List.of(KEY_NAME_1), underTest.pollDue(NOW.plusSeconds(10)));
+    }
+
+    @SuppressWarnings("checkstyle:MagicNumber")
+    @Test
+    void testPollDueShouldUseOnlyTheLatestDeadlineWhenNameWasRescheduled() {
+        //given
+        final PurgeScheduler underTest = new PurgeScheduler();
+        underTest.schedule(KEY_NAME_1, NOW.minusSeconds(10));
+        underTest.schedule(KEY_NAME_1, NOW.plusSeconds(10));
+        underTest.schedule(KEY_NAME_2, NOW.plusSeconds(10));
+        underTest.schedule(KEY_NAME_2, NOW.minusSeconds(10));
+
+        //when
+        final List<String> actual = underTest.pollDue(NOW);
+
+        //then
+        Assertions.assertIterableEquals(List.of(KEY_NAME_2), actual);
+        Assertions.assertEquals(1, underTest.size());
+        Assertions.assertIterableEquals(List.of(KEY_NAME_1), underTest.pollDue(NOW.plusSeconds(10)));
+        Assertions.assertEquals(0, underTest.size());
+        Assertions.assertEquals(0, underTest.queuedSize());
+    }
+
+    @SuppressWarnings("checkstyle:MagicNumber")
+    @Test
+    void testPollDueShouldNotReturnNameWhenItWasCancelled() {
+        //given
+        final PurgeScheduler underTest = new PurgeScheduler();
+        underTest.schedule(KEY_NAME_1, NOW.minusSeconds(10));
+        underTest.schedule(KEY_NAME_2, NOW.minusSeconds(10));
+
+        //when
+        underTest.cancel(KEY_NAME_1);
+        final List<String> actual = underTest.pollDue(NOW);
+
+        //then
+        Assertions.assertIterableEquals(List.of(KEY_NAME_2), actual);
+        Assertions.assertEquals(0, underTest.size());
+    }
+
+    @SuppressWarnings("checkstyle:MagicNumber")
+    @Test
+    void testScheduleShouldNotQueueDuplicatesWhenCalledWithTheSameDeadline() {
+        //given
+        final PurgeScheduler underTest = new PurgeScheduler();
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            underTest.schedule(KEY_NAME_1, NOW.plusSeconds(10));
+        }
+
+        //then
+        Assertions.assertEquals(1, underTest.size());
+        Assertions.assertEquals(1, underTest.queuedSize());
+    }
+
+    @SuppressWarnings("checkstyle:MagicNumber")
+    @Test
+    void testScheduleShouldCompactTheQueueWhenNamesAreRescheduledRepeatedly() {
+        //given
+        final PurgeScheduler underTest = new PurgeScheduler();
+        underTest.schedule(KEY_NAME_2, NOW.plusSeconds(1));
+
+        //when
+        for (int i = 0; i < 10_000; i++) {
+            underTest.schedule(KEY_NAME_1, NOW.plusSeconds(i));
+            underTest.cancel(KEY_NAME_1);
+        }
+
+        //then
+        Assertions.assertEquals(1, underTest.size());
+        Assertions.assertTrue(underTest.queuedSize() < 100);
+        Assertions.assertIterableEquals(List.of(KEY_NAME_2), underTest.pollDue(NOW.plusSeconds(10_000)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void testTimeShiftShouldThrowExceptionWhenCalledWithNotPositiveValue(final int value) {
+        //given
+        final PurgeScheduler underTest = new PurgeScheduler();
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.timeShift(value));
+
+        //then + exception
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testCancelShouldThrowExceptionWhenCalledWithNull() {
+        //given
+        final PurgeScheduler underTest = new PurgeScheduler();
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.cancel(null));
+
+        //then + exception
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testScheduleShouldThrowExceptionWhenCalledWithNull() {
+        //given
+        final PurgeScheduler underTest = new PurgeScheduler();
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.schedule(KEY_NAME_1, null));
+
+        //then + exception
+    }
+}
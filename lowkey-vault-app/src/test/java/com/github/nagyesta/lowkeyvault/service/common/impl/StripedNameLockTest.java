@@ -0,0 +1,140 @@
+package com.github.nagyesta.lowkeyvault.service.common.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.github.nagyesta.lowkeyvault.TestConstantsKeys.KEY_NAME_1;
+
+class StripedNameLockTest {
+
+    private static final int STRIPES = 64;
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 1000;
+    private static final int TIMEOUT_SECONDS = 10;
+    private static final String NAME_A = "a";
+    private static final String NAME_B = "b";
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void testConstructorShouldThrowExceptionWhenCalledWithNotPositiveStripeCount(final int value) {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new StripedNameLock(value));
+
+        //then + exception
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testCallLockedShouldThrowExceptionWhenCalledWithNullName() {
+        //given
+        final StripedNameLock underTest = new StripedNameLock(STRIPES);
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.callLocked(null, () -> 1));
+
+        //then + exception
+    }
+
+    @Test
+    void testCallLockedShouldAllowNestedCallsWhenCalledFromTheSameThread() {
+        //given
+        final StripedNameLock underTest = new StripedNameLock(STRIPES);
+
+        //when
+        final boolean actual = underTest.callLocked(KEY_NAME_1,
+                () -> underTest.callLocked(KEY_NAME_1, () -> underTest.isHeldByCurrentThread(KEY_NAME_1)));
+
+        //then
+        Assertions.assertTrue(actual);
+        Assertions.assertFalse(underTest.isHeldByCurrentThread(KEY_NAME_1));
+    }
+
+    @Test
+    void testRunLockedShouldReleaseLockWhenActionThrowsException() {
+        //given
+        final StripedNameLock underTest = new StripedNameLock(STRIPES);
+
+        //when
+        Assertions.assertThrows(IllegalStateException.class, () -> underTest.runLocked(KEY_NAME_1, () -> {
+            throw new IllegalStateException();
+        }));
+
+        //then
+        Assertions.assertFalse(underTest.isHeldByCurrentThread(KEY_NAME_1));
+    }
+
+    @Test
+    void testRunLockedShouldSerializeReadModifyWriteStepsWhenCalledConcurrentlyForTheSameName() throws Exception {
+        //given
+        final StripedNameLock underTest = new StripedNameLock(STRIPES);
+        final int[] counter = new int[1];
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final List<Callable<Object>> tasks = IntStream.range(0, THREADS)
+                .mapToObj(i -> Executors.callable(() -> IntStream.range(0, ITERATIONS)
+                        .forEach(j -> underTest.runLocked(KEY_NAME_1, () -> {
+                            final int value = counter[0];
+                            Thread.yield();
+                            counter[0] = value + 1;
+                        }))))
+                .collect(Collectors.toList());
+
+        //when
+        try {
+            for (final Future<Object> future : executor.invokeAll(tasks)) {
+                future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        //then
+        Assertions.assertEquals(THREADS * ITERATIONS, counter[0]);
+    }
+
+    @Test
+    void testRunLockedShouldNotBlockOtherNamesWhenLockIsHeldByAnotherThread() throws Exception {
+        //given
+        final StripedNameLock underTest = new StripedNameLock(STRIPES);
+        final CountDownLatch locked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<?> holder = executor.submit(() -> underTest.runLocked(NAME_A, () -> {
+                locked.countDown();
+                awaitQuietly(release);
+            }));
+            Assertions.assertTrue(locked.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+            //when
+            final Future<String> other = executor.submit(() -> underTest.callLocked(NAME_B, () -> NAME_B));
+            final Future<String> same = executor.submit(() -> underTest.callLocked(NAME_A, () -> NAME_A));
+
+            //then
+            Assertions.assertEquals(NAME_B, other.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            Assertions.assertThrows(TimeoutException.class, () -> same.get(1, TimeUnit.SECONDS));
+            release.countDown();
+            holder.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            Assertions.assertEquals(NAME_A, same.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
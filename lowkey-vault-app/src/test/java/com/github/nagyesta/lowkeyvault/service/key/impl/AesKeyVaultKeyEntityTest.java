@@ -4,6 +4,8 @@ import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.EncryptionAlgori
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyOperation;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyType;
 import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.SignatureAlgorithm;
+import com.github.nagyesta.lowkeyvault.service.exception.CryptoException;
+import com.github.nagyesta.lowkeyvault.service.key.EncryptionParameters;
 import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultFake;
 import com.github.nagyesta.lowkeyvault.service.vault.impl.VaultFakeImpl;
@@ -13,9 +15,12 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Stream;
 
 import static com.github.nagyesta.lowkeyvault.TestConstants.*;
@@ -27,6 +32,8 @@ import static org.mockito.Mockito.mock;
 class AesKeyVaultKeyEntityTest {
 
     private static final byte[] IV = "_iv-param-value_".getBytes(StandardCharsets.UTF_8);
+    private static final int LARGE_INPUT_SIZE = 100_000;
+    private static final int GCM_IV_LENGTH = 12;
 
     public static Stream<Arguments> invalidValueProvider() {
         return Stream.<Arguments>builder()
@@ -35,9 +42,27 @@ class AesKeyVaultKeyEntityTest {
                 .build();
     }
 
+    public static Stream<Arguments> streamSource() {
+        final byte[] aad = LOCALHOST.getBytes(StandardCharsets.UTF_8);
+        return Stream.<Arguments>builder()
+                .add(Arguments.of(EncryptionAlgorithm.A128CBCPAD, null))
+                .add(Arguments.of(EncryptionAlgorithm.A256CBCPAD, null))
+                .add(Arguments.of(EncryptionAlgorithm.A128GCM, null))
+                .add(Arguments.of(EncryptionAlgorithm.A192GCM, aad))
+                .add(Arguments.of(EncryptionAlgorithm.A256GCM, aad))
+                .build();
+    }
+
+    public static Stream<Arguments> authenticatedSource() {
+        return Arrays.stream(EncryptionAlgorithm.values())
+                .filter(EncryptionAlgorithm::isAuthenticated)
+                .map(Arguments::of);
+    }
+
     public static Stream<Arguments> stringSource() {
         return Arrays.stream(EncryptionAlgorithm.values())
                 .filter(ea -> ea.isCompatible(KeyType.OCT_HSM))
+                .filter(ea -> !ea.isAuthenticated())
                 .flatMap(ea -> Stream.<Arguments>builder()
                         .add(Arguments.of(DEFAULT_VAULT, ea))
                         .add(Arguments.of(LOCALHOST, ea))
@@ -270,4 +295,156 @@ class AesKeyVaultKeyEntityTest {
         final OctKeyCreationInput value = (OctKeyCreationInput) actual;
         Assertions.assertEquals(keySize, value.getKeyParameter());
     }
+
+    @ParameterizedTest
+    @MethodSource("streamSource")
+    void testEncryptStreamThenDecryptStreamShouldReturnOriginalBytesWhenCalledWithLargeInput(
+            final EncryptionAlgorithm algorithm, final byte[] aad) {
+        //given
+        final AesKeyVaultKeyEntity underTest = entityFor(algorithm);
+        final byte[] clear = new byte[LARGE_INPUT_SIZE];
+        new Random(LARGE_INPUT_SIZE).nextBytes(clear);
+        final ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+        final ByteArrayOutputStream decrypted = new ByteArrayOutputStream();
+
+        //when
+        final EncryptionParameters parameters = underTest.encryptStream(
+                new ByteArrayInputStream(clear), encrypted, algorithm, ivFor(algorithm), aad);
+        underTest.decryptStream(new ByteArrayInputStream(encrypted.toByteArray()), decrypted, algorithm,
+                parameters.initializationVector(), aad, parameters.authenticationTag());
+
+        //then
+        Assertions.assertArrayEquals(clear, decrypted.toByteArray());
+        Assertions.assertEquals(algorithm.isAuthenticated(), parameters.authenticationTag() != null);
+    }
+
+    @ParameterizedTest
+    @MethodSource("authenticatedSource")
+    void testEncryptStreamShouldGenerateNewIvForEveryEncryptionWhenCalledWithAuthenticatedAlgorithm(
+            final EncryptionAlgorithm algorithm) {
+        //given
+        final AesKeyVaultKeyEntity underTest = entityFor(algorithm);
+        final byte[] clear = DEFAULT_VAULT.getBytes(StandardCharsets.UTF_8);
+        final ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+
+        //when
+        final EncryptionParameters first = underTest.encryptStream(
+                new ByteArrayInputStream(clear), encrypted, algorithm, null, null);
+        final EncryptionParameters second = underTest.encryptStream(
+                new ByteArrayInputStream(clear), new ByteArrayOutputStream(), algorithm, null, null);
+
+        //then
+        Assertions.assertEquals(GCM_IV_LENGTH, first.initializationVector().length);
+        Assertions.assertEquals(GCM_IV_LENGTH, second.initializationVector().length);
+        Assertions.assertFalse(Arrays.equals(first.initializationVector(), second.initializationVector()));
+        Assertions.assertEquals(clear.length, encrypted.size());
+    }
+
+    @ParameterizedTest
+    @MethodSource("authenticatedSource")
+    void testEncryptStreamShouldThrowExceptionWhenIvIsProvidedForAuthenticatedAlgorithm(final EncryptionAlgorithm algorithm) {
+        //given
+        final AesKeyVaultKeyEntity underTest = entityFor(algorithm);
+        final ByteArrayInputStream input = new ByteArrayInputStream(IV);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> underTest.encryptStream(input, output, algorithm, IV, null));
+
+        //then + exception
+    }
+
+    @ParameterizedTest
+    @MethodSource("authenticatedSource")
+    void testEncryptBytesShouldThrowExceptionWhenCalledWithAuthenticatedAlgorithm(final EncryptionAlgorithm algorithm) {
+        //given
+        final AesKeyVaultKeyEntity underTest = entityFor(algorithm);
+        final byte[] clear = DEFAULT_VAULT.getBytes(StandardCharsets.UTF_8);
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.encryptBytes(clear, algorithm, IV));
+
+        //then + exception
+    }
+
+    @ParameterizedTest
+    @MethodSource("authenticatedSource")
+    void testDecryptToBytesShouldThrowExceptionWhenCalledWithAuthenticatedAlgorithm(final EncryptionAlgorithm algorithm) {
+        //given
+        final AesKeyVaultKeyEntity underTest = entityFor(algorithm);
+        final byte[] encrypted = DEFAULT_VAULT.getBytes(StandardCharsets.UTF_8);
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.decryptToBytes(encrypted, algorithm, IV));
+
+        //then + exception
+    }
+
+    @Test
+    void testDecryptStreamShouldThrowExceptionWhenAuthenticationFails() {
+        //given
+        final EncryptionAlgorithm algorithm = EncryptionAlgorithm.A128GCM;
+        final AesKeyVaultKeyEntity underTest = entityFor(algorithm);
+        final ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+        final byte[] aad = LOCALHOST.getBytes(StandardCharsets.UTF_8);
+        final EncryptionParameters parameters = underTest.encryptStream(
+                new ByteArrayInputStream(DEFAULT_VAULT.getBytes(StandardCharsets.UTF_8)), encrypted, algorithm, null, aad);
+        final ByteArrayInputStream input = new ByteArrayInputStream(encrypted.toByteArray());
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final byte[] iv = parameters.initializationVector();
+        final byte[] tag = parameters.authenticationTag();
+
+        //when
+        Assertions.assertThrows(CryptoException.class,
+                () -> underTest.decryptStream(input, output, algorithm, iv, LOWKEY_VAULT.getBytes(StandardCharsets.UTF_8), tag));
+
+        //then + exception
+    }
+
+    @Test
+    void testDecryptStreamShouldThrowExceptionWhenTagIsMissingForGcm() {
+        //given
+        final EncryptionAlgorithm algorithm = EncryptionAlgorithm.A192GCM;
+        final AesKeyVaultKeyEntity underTest = entityFor(algorithm);
+        final ByteArrayInputStream input = new ByteArrayInputStream(IV);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> underTest.decryptStream(input, output, algorithm, IV, null, null));
+
+        //then + exception
+    }
+
+    @Test
+    void testEncryptStreamShouldThrowExceptionWhenAadIsUsedWithCbc() {
+        //given
+        final EncryptionAlgorithm algorithm = EncryptionAlgorithm.A128CBCPAD;
+        final AesKeyVaultKeyEntity underTest = entityFor(algorithm);
+        final ByteArrayInputStream input = new ByteArrayInputStream(IV);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> underTest.encryptStream(input, output, algorithm, IV, IV));
+
+        //then + exception
+    }
+
+    private byte[] ivFor(final EncryptionAlgorithm algorithm) {
+        byte[] iv = null;
+        if (!algorithm.isAuthenticated()) {
+            iv = IV;
+        }
+        return iv;
+    }
+
+    private AesKeyVaultKeyEntity entityFor(final EncryptionAlgorithm algorithm) {
+        final VaultFake vaultFake = new VaultFakeImpl(HTTPS_LOWKEY_VAULT);
+        final AesKeyVaultKeyEntity entity = new AesKeyVaultKeyEntity(
+                VERSIONED_KEY_ENTITY_ID_1_VERSION_1, vaultFake, algorithm.getMinKeySize(), false);
+        entity.setOperations(List.of(KeyOperation.ENCRYPT, KeyOperation.DECRYPT, KeyOperation.WRAP_KEY, KeyOperation.UNWRAP_KEY));
+        return entity;
+    }
 }
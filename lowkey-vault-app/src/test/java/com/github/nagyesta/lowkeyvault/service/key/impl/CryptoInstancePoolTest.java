@@ -0,0 +1,115 @@
+package com.github.nagyesta.lowkeyvault.service.key.impl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class CryptoInstancePoolTest {
+
+    private static final String POOL_KEY_1 = "sign:PS256";
+    private static final String POOL_KEY_2 = "verify:PS256";
+    private static final int MAX_IDLE = 2;
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void testConstructorShouldThrowExceptionWhenCalledWithNotPositiveValue(final int value) {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new CryptoInstancePool<>(value));
+
+        //then + exception
+    }
+
+    @Test
+    void testApplyShouldReuseInstanceWhenCalledWithTheSameKeyAfterSuccessfulAction() throws Exception {
+        //given
+        final CryptoInstancePool<Object> underTest = new CryptoInstancePool<>(MAX_IDLE);
+        final AtomicInteger created = new AtomicInteger();
+        final Object first = underTest.apply(POOL_KEY_1, () -> new Object[]{created.incrementAndGet()}, instance -> instance);
+
+        //when
+        final Object second = underTest.apply(POOL_KEY_1, () -> new Object[]{created.incrementAndGet()}, instance -> instance);
+
+        //then
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, created.get());
+        Assertions.assertEquals(1, underTest.idleCount(POOL_KEY_1));
+    }
+
+    @Test
+    void testApplyShouldNotShareInstancesWhenCalledWithDifferentKeys() throws Exception {
+        //given
+        final CryptoInstancePool<Object> underTest = new CryptoInstancePool<>(MAX_IDLE);
+        final Object first = underTest.apply(POOL_KEY_1, Object::new, instance -> instance);
+
+        //when
+        final Object second = underTest.apply(POOL_KEY_2, Object::new, instance -> instance);
+
+        //then
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals(1, underTest.idleCount(POOL_KEY_1));
+        Assertions.assertEquals(1, underTest.idleCount(POOL_KEY_2));
+    }
+
+    @Test
+    void testApplyShouldDiscardInstanceWhenActionThrowsException() {
+        //given
+        final CryptoInstancePool<Object> underTest = new CryptoInstancePool<>(MAX_IDLE);
+
+        //when
+        Assertions.assertThrows(IllegalStateException.class, () -> underTest.apply(POOL_KEY_1, Object::new, instance -> {
+            throw new IllegalStateException();
+        }));
+
+        //then
+        Assertions.assertEquals(0, underTest.idleCount(POOL_KEY_1));
+    }
+
+    @Test
+    void testApplyShouldDiscardInstanceWhenResultIsNotReusable() throws Exception {
+        //given
+        final CryptoInstancePool<Object> underTest = new CryptoInstancePool<>(MAX_IDLE);
+
+        //when
+        final Boolean actual = underTest.apply(POOL_KEY_1, Object::new, instance -> false, Boolean.TRUE::equals);
+
+        //then
+        Assertions.assertFalse(actual);
+        Assertions.assertEquals(0, underTest.idleCount(POOL_KEY_1));
+    }
+
+    @Test
+    void testApplyShouldKeepAtMostTheMaximumNumberOfIdleInstancesWhenCalledInNestedActions() throws Exception {
+        //given
+        final CryptoInstancePool<Object> underTest = new CryptoInstancePool<>(MAX_IDLE);
+
+        //when
+        underTest.apply(POOL_KEY_1, Object::new, outer ->
+                underTest.apply(POOL_KEY_1, Object::new, middle ->
+                        underTest.apply(POOL_KEY_1, Object::new, inner -> inner)));
+
+        //then
+        Assertions.assertEquals(MAX_IDLE, underTest.idleCount(POOL_KEY_1));
+    }
+
+    @Test
+    void testInvalidateShouldDropIdleAndBorrowedInstancesWhenCalled() throws Exception {
+        //given
+        final CryptoInstancePool<Object> underTest = new CryptoInstancePool<>(MAX_IDLE);
+        underTest.apply(POOL_KEY_2, Object::new, instance -> instance);
+
+        //when
+        underTest.apply(POOL_KEY_1, Object::new, instance -> {
+            underTest.invalidate();
+            return instance;
+        });
+
+        //then
+        Assertions.assertEquals(0, underTest.idleCount(POOL_KEY_1));
+        Assertions.assertEquals(0, underTest.idleCount(POOL_KEY_2));
+    }
+}
@@ -13,9 +13,11 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullSource;
 
+import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.security.PublicKey;
 import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
@@ -300,6 +302,33 @@ class EcKeyVaultKeyEntityTest {
         Assertions.assertEquals(keyCurveName, value.getKeyParameter());
     }
 
+    @Test
+    void testKeyComponentGettersShouldReturnIndependentCopiesOfTheNormalizedValuesWhenCalledRepeatedly() {
+        //given
+        final VaultFake vaultFake = new VaultFakeImpl(HTTPS_LOWKEY_VAULT);
+        final KeyCurveName keyCurveName = KeyCurveName.P_521;
+        final EcKeyVaultKeyEntity underTest = new EcKeyVaultKeyEntity(
+                VERSIONED_KEY_ENTITY_ID_1_VERSION_1, vaultFake, keyCurveName, false);
+        final ECPublicKey publicKey = (ECPublicKey) underTest.getKey().getPublic();
+
+        //when
+        final byte[] x = underTest.getX();
+        final byte[] y = underTest.getY();
+        final byte[] d = underTest.getD();
+        Arrays.fill(underTest.getX(), (byte) 0);
+        Arrays.fill(underTest.getD(), (byte) 0);
+
+        //then
+        Assertions.assertTrue(keyCurveName.getByteLength() >= x.length);
+        Assertions.assertTrue(keyCurveName.getByteLength() >= y.length);
+        Assertions.assertEquals(publicKey.getW().getAffineX(), new BigInteger(1, x));
+        Assertions.assertEquals(publicKey.getW().getAffineY(), new BigInteger(1, y));
+        Assertions.assertNotSame(x, underTest.getX());
+        Assertions.assertArrayEquals(x, underTest.getX());
+        Assertions.assertArrayEquals(y, underTest.getY());
+        Assertions.assertArrayEquals(d, underTest.getD());
+    }
+
     private boolean checkSignature(
             final PublicKey publicKey, final byte[] signatureToCheck,
             final byte[] originalDigest, final String algName) throws Exception {
@@ -25,9 +25,12 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.security.KeyPair;
 import java.time.OffsetDateTime;
 import java.time.Period;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -44,6 +47,8 @@ class KeyVaultFakeImplTest {
 
     private static final int DAYS = 42;
     private static final int COUNT = 10;
+    private static final int THREADS = 8;
+    private static final int TIMEOUT_SECONDS = 30;
     private static final EcKeyCreationInput EC_KEY_CREATION_INPUT = new EcKeyCreationInput(KeyType.EC, KeyCurveName.P_256);
     private static final KeyCreateDetailedInput DETAILED_EC_KEY_CREATION_INPUT = KeyCreateDetailedInput.builder()
             .key(EC_KEY_CREATION_INPUT)
@@ -135,7 +140,7 @@ class KeyVaultFakeImplTest {
         final KeyEntityId keyEntityId = new KeyEntityId(HTTPS_LOCALHOST, KEY_NAME_1, null);
 
         //when
-        final Deque<String> actual = underTest.getEntities().getVersions(keyEntityId);
+        final List<String> actual = underTest.getEntities().getVersions(keyEntityId);
 
         //then
         Assertions.assertIterableEquals(expected, actual);
@@ -602,6 +607,23 @@ class KeyVaultFakeImplTest {
         Assertions.assertEquals(COUNT, underTest.getDeletedEntities().getVersions(UNVERSIONED_KEY_ENTITY_ID_1).size());
     }
 
+    @Test
+    void testDeleteShouldNotifyReleaseListenersOfEveryVersionWhenCalledWithExistingKey() {
+        //given
+        final KeyVaultFake underTest = createUnderTest();
+        insertMultipleVersionsOfSameKey(underTest, KEY_NAME_1);
+        final AtomicInteger notified = new AtomicInteger();
+        underTest.getEntities().getVersions(UNVERSIONED_KEY_ENTITY_ID_1).forEach(version -> underTest.getEntities()
+                .getReadOnlyEntity(new VersionedKeyEntityId(UNVERSIONED_KEY_ENTITY_ID_1.vault(), KEY_NAME_1, version))
+                .addReleaseListener(this, notified::incrementAndGet));
+
+        //when
+        underTest.delete(UNVERSIONED_KEY_ENTITY_ID_1);
+
+        //then
+        Assertions.assertEquals(COUNT, notified.get());
+    }
+
     @Test
     void testDeleteShouldThrowExceptionWhenCalledWithNullKey() {
         //given
@@ -942,6 +964,90 @@ class KeyVaultFakeImplTest {
         //then + exception
     }
 
+    @Test
+    void testRotateManagedKeyShouldPublishConfiguredVersionsUsingKeyPairsWhenCalledWithGeneratedKeyPairs() {
+        //given
+        final KeyCurveName keyParameter = KeyCurveName.P_384;
+        final Map<String, String> tags = Map.of(KEY_1, VALUE_1);
+        final List<KeyOperation> operations = List.of(KeyOperation.SIGN);
+        final OffsetDateTime firstStart = NOW.minusMonths(2);
+        final List<OffsetDateTime> validityStarts = List.of(firstStart, firstStart.plusMonths(1));
+
+        final KeyVaultFake underTest = createUnderTest();
+        final VersionedKeyEntityId keyEntityId = underTest
+                .createEcKeyVersion(KEY_NAME_1, new EcKeyCreationInput(KeyType.EC, keyParameter));
+        underTest.setKeyOperations(keyEntityId, operations);
+        underTest.addTags(keyEntityId, tags);
+        final List<KeyPair> keyPairs = underTest.generateRotationKeyPairs(keyEntityId, validityStarts.size());
+
+        //when
+        final List<VersionedKeyEntityId> actual = underTest.rotateManagedKey(keyEntityId, keyPairs, validityStarts, s -> s.plusMonths(1));
+
+        //then
+        Assertions.assertEquals(validityStarts.size(), actual.size());
+        Assertions.assertEquals(actual.get(1), underTest.getEntities().getLatestVersionOfEntity(keyEntityId));
+        for (int i = 0; i < actual.size(); i++) {
+            final EcKeyVaultKeyEntity entity = underTest.getEntities().getEntity(actual.get(i), EcKeyVaultKeyEntity.class);
+            Assertions.assertSame(keyPairs.get(i), entity.getKey());
+            Assertions.assertEquals(keyParameter, entity.keyCreationInput().getKeyParameter());
+            Assertions.assertTrue(entity.isEnabled());
+            Assertions.assertTrue(entity.isManaged());
+            Assertions.assertEquals(validityStarts.get(i), entity.getNotBefore().orElseThrow());
+            Assertions.assertEquals(validityStarts.get(i).plusMonths(1), entity.getExpiry().orElseThrow());
+            Assertions.assertEquals(validityStarts.get(i), entity.getCreated());
+            Assertions.assertEquals(validityStarts.get(i), entity.getUpdated());
+            Assertions.assertIterableEquals(operations, entity.getOperations());
+            Assertions.assertIterableEquals(tags.entrySet(), entity.getTags().entrySet());
+        }
+    }
+
+    @Test
+    void testRotateManagedKeyShouldThrowExceptionWhenCalledWithMismatchingNumberOfKeyPairs() {
+        //given
+        final KeyVaultFake underTest = createUnderTest();
+        final VersionedKeyEntityId keyEntityId = underTest
+                .createEcKeyVersion(KEY_NAME_1, new EcKeyCreationInput(KeyType.EC, KeyCurveName.P_256));
+        final List<KeyPair> keyPairs = underTest.generateRotationKeyPairs(keyEntityId, 1);
+        final List<OffsetDateTime> validityStarts = List.of(NOW, NOW.plusMonths(1));
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> underTest.rotateManagedKey(keyEntityId, keyPairs, validityStarts, s -> s.plusMonths(1)));
+
+        //then + exception
+        Assertions.assertEquals(keyEntityId, underTest.getEntities().getLatestVersionOfEntity(keyEntityId));
+    }
+
+    @Test
+    void testGenerateRotationKeyPairsShouldReturnDistinctKeyPairsMatchingLatestVersionWhenCalledWithRsaKey() {
+        //given
+        final int count = 3;
+        final KeyVaultFake underTest = createUnderTest();
+        final VersionedKeyEntityId keyEntityId = underTest
+                .createRsaKeyVersion(KEY_NAME_1, new RsaKeyCreationInput(KeyType.RSA, null, null));
+
+        //when
+        final List<KeyPair> actual = underTest.generateRotationKeyPairs(keyEntityId, count);
+
+        //then
+        Assertions.assertEquals(count, actual.size());
+        Assertions.assertEquals(count, actual.stream().map(KeyPair::getPublic).distinct().count());
+        actual.forEach(keyPair -> Assertions.assertEquals(KeyType.RSA.getAlgorithmName(), keyPair.getPublic().getAlgorithm()));
+    }
+
+    @Test
+    void testGenerateRotationKeyPairsShouldThrowExceptionWhenCalledWithNegativeCount() {
+        //given
+        final KeyVaultFake underTest = createUnderTest();
+        final VersionedKeyEntityId keyEntityId = underTest
+                .createEcKeyVersion(KEY_NAME_1, new EcKeyCreationInput(KeyType.EC, KeyCurveName.P_256));
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.generateRotationKeyPairs(keyEntityId, -1));
+
+        //then + exception
+    }
+
     @Test
     void testCreateKeyVersionForCertificateShouldSetFieldsAndManagedFlagWhenCalledWithValidRsaParameter() {
         //given
@@ -997,6 +1103,104 @@ class KeyVaultFakeImplTest {
         //then + exception
     }
 
+    @Test
+    void testAddTagsShouldKeepEveryTagWhenCalledConcurrentlyOnTheSameKey() throws Exception {
+        //given
+        final KeyVaultFake underTest = createUnderTest();
+        final VersionedKeyEntityId keyEntityId = underTest.createKeyVersion(KEY_NAME_1, KeyCreateDetailedInput.builder()
+                .key(new OctKeyCreationInput(KeyType.OCT_HSM, null))
+                .build());
+        final List<Callable<Object>> tasks = IntStream.range(0, THREADS * COUNT)
+                .mapToObj(i -> Executors.callable(() -> underTest.addTags(keyEntityId, Map.of("tag-" + i, "value-" + i))))
+                .collect(Collectors.toList());
+
+        //when
+        invokeAllConcurrently(tasks);
+
+        //then
+        final ReadOnlyKeyVaultKeyEntity actual = underTest.getEntities().getReadOnlyEntity(keyEntityId);
+        Assertions.assertEquals(THREADS * COUNT, actual.getTags().size());
+    }
+
+    @Test
+    void testCreateKeyVersionShouldCompleteEveryStepOfEachVersionWhenCalledConcurrently() throws Exception {
+        //given
+        final KeyVaultFake underTest = createUnderTest();
+        final List<String> names = List.of(KEY_NAME_1, KEY_NAME_2, KEY_NAME_3);
+        final KeyCreateDetailedInput input = KeyCreateDetailedInput.builder()
+                .key(new OctKeyCreationInput(KeyType.OCT_HSM, null))
+                .keyOperations(List.of(KeyOperation.ENCRYPT, KeyOperation.DECRYPT))
+                .enabled(false)
+                .tags(TAGS_TWO_KEYS)
+                .build();
+        final List<Callable<Object>> tasks = names.stream()
+                .flatMap(name -> IntStream.range(0, COUNT)
+                        .mapToObj(i -> (Callable<Object>) () -> underTest.createKeyVersion(name, input)))
+                .collect(Collectors.toList());
+
+        //when
+        invokeAllConcurrently(tasks);
+
+        //then
+        names.forEach(name -> {
+            final KeyEntityId keyEntityId = new KeyEntityId(HTTPS_LOCALHOST, name);
+            final List<String> versions = underTest.getEntities().getVersions(keyEntityId);
+            Assertions.assertEquals(COUNT, versions.size());
+            versions.stream()
+                    .map(version -> underTest.getEntities().getReadOnlyEntity(new VersionedKeyEntityId(HTTPS_LOCALHOST, name, version)))
+                    .forEach(entity -> {
+                        Assertions.assertFalse(entity.isEnabled());
+                        Assertions.assertEquals(TAGS_TWO_KEYS, entity.getTags());
+                        Assertions.assertIterableEquals(List.of(KeyOperation.ENCRYPT, KeyOperation.DECRYPT), entity.getOperations());
+                    });
+        });
+    }
+
+    @Test
+    void testGetReadOnlyEntityShouldNeverReturnPartiallyBuiltVersionWhenCalledDuringConcurrentCreations() throws Exception {
+        //given
+        final KeyVaultFake underTest = createUnderTest();
+        final KeyEntityId keyEntityId = new KeyEntityId(HTTPS_LOCALHOST, KEY_NAME_1);
+        final List<KeyOperation> operations = List.of(KeyOperation.ENCRYPT, KeyOperation.DECRYPT);
+        final KeyCreateDetailedInput input = KeyCreateDetailedInput.builder()
+                .key(new OctKeyCreationInput(KeyType.OCT_HSM, null))
+                .keyOperations(operations)
+                .enabled(false)
+                .tags(TAGS_TWO_KEYS)
+                .build();
+        underTest.createKeyVersion(KEY_NAME_1, input);
+        final int readers = 2;
+        final AtomicInteger remainingWriters = new AtomicInteger(THREADS * COUNT);
+        final AtomicInteger checked = new AtomicInteger();
+        final List<String> violations = new CopyOnWriteArrayList<>();
+        final List<Callable<Object>> tasks = new ArrayList<>();
+        IntStream.range(0, readers).forEach(i -> tasks.add(Executors.callable(() -> {
+            while (remainingWriters.get() > 0) {
+                final VersionedKeyEntityId latest = underTest.getEntities().getLatestVersionOfEntity(keyEntityId);
+                final ReadOnlyKeyVaultKeyEntity entity = underTest.getEntities().getReadOnlyEntity(latest);
+                if (entity.isEnabled() || !TAGS_TWO_KEYS.equals(entity.getTags()) || !operations.equals(entity.getOperations())) {
+                    violations.add(latest.version());
+                }
+                checked.incrementAndGet();
+            }
+        })));
+        IntStream.range(0, THREADS * COUNT).forEach(i -> tasks.add(Executors.callable(() -> {
+            try {
+                underTest.createKeyVersion(KEY_NAME_1, input);
+            } finally {
+                remainingWriters.decrementAndGet();
+            }
+        })));
+
+        //when
+        invokeAllConcurrently(tasks);
+
+        //then
+        Assertions.assertTrue(checked.get() > 0);
+        Assertions.assertEquals(Collections.emptyList(), violations);
+        Assertions.assertEquals(THREADS * COUNT + 1, underTest.getEntities().getVersions(keyEntityId).size());
+    }
+
     private KeyVaultFake createUnderTest() {
         final KeyVaultFake underTest = new VaultFakeImpl(HTTPS_LOCALHOST,
                 RecoveryLevel.RECOVERABLE_AND_PURGEABLE,
@@ -1010,4 +1214,15 @@ class KeyVaultFakeImplTest {
                 .mapToObj(i -> underTest.createEcKeyVersion(keyName, EC_KEY_CREATION_INPUT))
                 .collect(Collectors.toList());
     }
+
+    private void invokeAllConcurrently(final List<Callable<Object>> tasks) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (final Future<Object> future : executor.invokeAll(tasks)) {
+                future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -3,6 +3,8 @@ package com.github.nagyesta.lowkeyvault.service.key.impl;
 import com.github.nagyesta.lowkeyvault.TestConstantsKeys;
 import com.github.nagyesta.lowkeyvault.TestConstantsUri;
 import com.github.nagyesta.lowkeyvault.model.v7_2.common.constants.RecoveryLevel;
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyOperation;
+import com.github.nagyesta.lowkeyvault.service.common.EntityAttributes;
 import com.github.nagyesta.lowkeyvault.service.exception.AlreadyExistsException;
 import com.github.nagyesta.lowkeyvault.service.exception.CryptoException;
 import com.github.nagyesta.lowkeyvault.service.vault.impl.VaultFakeImpl;
@@ -16,10 +18,11 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import java.math.BigInteger;
 import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
-import static com.github.nagyesta.lowkeyvault.TestConstants.TIME_10_MINUTES_AGO;
-import static com.github.nagyesta.lowkeyvault.TestConstants.TIME_IN_10_MINUTES;
+import static com.github.nagyesta.lowkeyvault.TestConstants.*;
 
 @Slf4j
 @SuppressWarnings("checkstyle:MagicNumber")
@@ -130,4 +133,116 @@ class KeyVaultKeyEntityTest {
 
         //then + exception
     }
+
+    @Test
+    void testGetAttributesShouldReturnUnchangedSnapshotWhenEntityIsUpdatedAfterwards() {
+        //given
+        final RsaKeyVaultKeyEntity underTest = new RsaKeyVaultKeyEntity(TestConstantsKeys.VERSIONED_KEY_ENTITY_ID_1_VERSION_1,
+                new VaultFakeImpl(TestConstantsUri.HTTPS_LOCALHOST_8443),
+                2048, BigInteger.valueOf(3), false);
+        final EntityAttributes before = underTest.getAttributes();
+
+        //when
+        underTest.setEnabled(false);
+        underTest.setTags(TAGS_TWO_KEYS);
+        underTest.setExpiry(TIME_IN_10_MINUTES);
+        underTest.setManaged(true);
+
+        //then
+        Assertions.assertTrue(before.enabled());
+        Assertions.assertEquals(Map.of(), before.tags());
+        Assertions.assertTrue(before.expiry().isEmpty());
+        Assertions.assertFalse(before.managed());
+        final EntityAttributes after = underTest.getAttributes();
+        Assertions.assertFalse(after.enabled());
+        Assertions.assertEquals(TAGS_TWO_KEYS, after.tags());
+        Assertions.assertEquals(TIME_IN_10_MINUTES, after.expiry().orElseThrow());
+        Assertions.assertTrue(after.managed());
+    }
+
+    @Test
+    void testTimeShiftShouldShiftEveryTimestampOfTheSnapshotWhenCalledWithPositiveValue() {
+        //given
+        final RsaKeyVaultKeyEntity underTest = new RsaKeyVaultKeyEntity(TestConstantsKeys.VERSIONED_KEY_ENTITY_ID_1_VERSION_1,
+                new VaultFakeImpl(TestConstantsUri.HTTPS_LOCALHOST_8443),
+                2048, BigInteger.valueOf(3), false);
+        underTest.setNotBefore(TIME_10_MINUTES_AGO);
+        underTest.setExpiry(TIME_IN_10_MINUTES);
+        underTest.setDeletedDate(TIME_10_MINUTES_AGO);
+        underTest.setScheduledPurgeDate(TIME_IN_10_MINUTES);
+        final EntityAttributes before = underTest.getAttributes();
+
+        //when
+        underTest.timeShift(60);
+
+        //then
+        final EntityAttributes actual = underTest.getAttributes();
+        Assertions.assertEquals(before.created().minusSeconds(60), actual.created());
+        Assertions.assertEquals(before.updated().minusSeconds(60), actual.updated());
+        Assertions.assertEquals(TIME_10_MINUTES_AGO.minusSeconds(60), actual.notBefore().orElseThrow());
+        Assertions.assertEquals(TIME_IN_10_MINUTES.minusSeconds(60), actual.expiry().orElseThrow());
+        Assertions.assertEquals(TIME_10_MINUTES_AGO.minusSeconds(60), actual.deletedDate().orElseThrow());
+        Assertions.assertEquals(TIME_IN_10_MINUTES.minusSeconds(60), actual.scheduledPurgeDate().orElseThrow());
+    }
+
+    @Test
+    void testGetRevisionShouldIncreaseWhenAttributesOrOperationsAreUpdated() {
+        //given
+        final RsaKeyVaultKeyEntity underTest = new RsaKeyVaultKeyEntity(TestConstantsKeys.VERSIONED_KEY_ENTITY_ID_1_VERSION_1,
+                new VaultFakeImpl(TestConstantsUri.HTTPS_LOCALHOST_8443),
+                2048, BigInteger.valueOf(3), false);
+        final long initial = underTest.getRevision();
+
+        //when
+        underTest.setEnabled(false);
+        final long afterEnabled = underTest.getRevision();
+        underTest.setTags(TAGS_TWO_KEYS);
+        final long afterTags = underTest.getRevision();
+        underTest.setExpiry(TIME_IN_10_MINUTES);
+        final long afterExpiry = underTest.getRevision();
+        underTest.setOperations(List.of(KeyOperation.SIGN));
+        final long afterOperations = underTest.getRevision();
+
+        //then
+        Assertions.assertTrue(initial < afterEnabled);
+        Assertions.assertTrue(afterEnabled < afterTags);
+        Assertions.assertTrue(afterTags < afterExpiry);
+        Assertions.assertTrue(afterExpiry < afterOperations);
+        Assertions.assertEquals(afterOperations, underTest.getRevision());
+    }
+
+    @Test
+    void testSetOperationsShouldKeepOrderAndReplaceLookupWhenCalled() {
+        //given
+        final RsaKeyVaultKeyEntity underTest = new RsaKeyVaultKeyEntity(TestConstantsKeys.VERSIONED_KEY_ENTITY_ID_1_VERSION_1,
+                new VaultFakeImpl(TestConstantsUri.HTTPS_LOCALHOST_8443),
+                2048, BigInteger.valueOf(3), false);
+        underTest.setOperations(List.of(KeyOperation.SIGN, KeyOperation.ENCRYPT));
+        final List<KeyOperation> expected = List.of(KeyOperation.VERIFY, KeyOperation.DECRYPT, KeyOperation.VERIFY);
+
+        //when
+        underTest.setOperations(expected);
+
+        //then
+        Assertions.assertIterableEquals(expected, underTest.getOperations());
+        Assertions.assertTrue(underTest.hasOperation(KeyOperation.VERIFY));
+        Assertions.assertTrue(underTest.hasOperation(KeyOperation.DECRYPT));
+        Assertions.assertFalse(underTest.hasOperation(KeyOperation.SIGN));
+        Assertions.assertFalse(underTest.hasOperation(KeyOperation.ENCRYPT));
+        Assertions.assertFalse(underTest.hasOperation(null));
+    }
+
+    @Test
+    void testSetOperationsShouldThrowExceptionWhenCalledWithDisallowedOperation() {
+        //given
+        final AesKeyVaultKeyEntity underTest = new AesKeyVaultKeyEntity(TestConstantsKeys.VERSIONED_KEY_ENTITY_ID_1_VERSION_1,
+                new VaultFakeImpl(TestConstantsUri.HTTPS_LOCALHOST_8443), 256, true);
+        final List<KeyOperation> operations = List.of(KeyOperation.ENCRYPT, KeyOperation.SIGN);
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.setOperations(operations));
+
+        //then + exception
+        Assertions.assertIterableEquals(List.of(), underTest.getOperations());
+    }
 }
@@ -16,6 +16,8 @@ import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.security.PublicKey;
 import java.security.Signature;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.interfaces.RSAPublicKey;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
@@ -109,6 +111,33 @@ class RsaKeyVaultKeyEntityTest {
         Assertions.assertEquals(clear, actual);
     }
 
+    @Test
+    void testEncryptThenDecryptShouldReturnOriginalTextWhenCalledRepeatedlyAndCacheIsInvalidatedInBetween() {
+        //given
+        final VaultFake vaultFake = new VaultFakeImpl(HTTPS_LOWKEY_VAULT);
+        final RsaKeyVaultKeyEntity underTest = new RsaKeyVaultKeyEntity(
+                VERSIONED_KEY_ENTITY_ID_1_VERSION_1, vaultFake, MIN_RSA_KEY_SIZE, null, false);
+        underTest.setOperations(List.of(KeyOperation.ENCRYPT, KeyOperation.WRAP_KEY, KeyOperation.DECRYPT, KeyOperation.UNWRAP_KEY,
+                KeyOperation.SIGN, KeyOperation.VERIFY));
+        final byte[] digest = HashUtil.hash(DEFAULT_VAULT.getBytes(StandardCharsets.UTF_8), HashAlgorithm.SHA256);
+        final byte[] firstEncrypted = underTest.encrypt(DEFAULT_VAULT, EncryptionAlgorithm.RSA_OAEP_256, null);
+        final byte[] firstSignature = underTest.signBytes(digest, SignatureAlgorithm.PS256);
+
+        //when
+        underTest.invalidateCryptoCache();
+        final byte[] secondEncrypted = underTest.encrypt(LOCALHOST, EncryptionAlgorithm.RSA_OAEP_256, null);
+        final byte[] secondSignature = underTest.signBytes(digest, SignatureAlgorithm.PS256);
+
+        //then
+        Assertions.assertEquals(DEFAULT_VAULT, underTest.decrypt(firstEncrypted, EncryptionAlgorithm.RSA_OAEP_256, null));
+        Assertions.assertEquals(LOCALHOST, underTest.decrypt(secondEncrypted, EncryptionAlgorithm.RSA_OAEP_256, null));
+        Assertions.assertEquals(LOCALHOST, underTest.decrypt(secondEncrypted, EncryptionAlgorithm.RSA_OAEP_256, null));
+        Assertions.assertTrue(underTest.verifySignedBytes(digest, SignatureAlgorithm.PS256, firstSignature));
+        Assertions.assertTrue(underTest.verifySignedBytes(digest, SignatureAlgorithm.PS256, secondSignature));
+        Assertions.assertFalse(underTest.verifySignedBytes(digest, SignatureAlgorithm.PS256, new byte[firstSignature.length]));
+        Assertions.assertTrue(underTest.verifySignedBytes(digest, SignatureAlgorithm.PS256, firstSignature));
+    }
+
     @Test
     void testEncryptShouldThrowExceptionWhenOperationIsNotAllowed() {
         //given
@@ -307,6 +336,35 @@ class RsaKeyVaultKeyEntityTest {
         Assertions.assertEquals(publicExponent, value.getPublicExponent());
     }
 
+    @Test
+    void testKeyComponentGettersShouldReturnIndependentCopiesOfTheEncodedValuesWhenCalledRepeatedly() {
+        //given
+        final VaultFake vaultFake = new VaultFakeImpl(HTTPS_LOWKEY_VAULT);
+        final RsaKeyVaultKeyEntity underTest = new RsaKeyVaultKeyEntity(
+                VERSIONED_KEY_ENTITY_ID_1_VERSION_1, vaultFake, MIN_RSA_KEY_SIZE, null, false);
+        final RSAPublicKey publicKey = (RSAPublicKey) underTest.getKey().getPublic();
+        final RSAPrivateCrtKey privateKey = (RSAPrivateCrtKey) underTest.getKey().getPrivate();
+
+        //when
+        final byte[] n = underTest.getN();
+        final byte[] d = underTest.getD();
+        Arrays.fill(underTest.getN(), (byte) 0);
+        Arrays.fill(underTest.getD(), (byte) 0);
+
+        //then
+        Assertions.assertArrayEquals(publicKey.getModulus().toByteArray(), n);
+        Assertions.assertArrayEquals(publicKey.getPublicExponent().toByteArray(), underTest.getE());
+        Assertions.assertArrayEquals(privateKey.getPrivateExponent().toByteArray(), d);
+        Assertions.assertArrayEquals(privateKey.getPrimeExponentP().toByteArray(), underTest.getDp());
+        Assertions.assertArrayEquals(privateKey.getPrimeExponentQ().toByteArray(), underTest.getDq());
+        Assertions.assertArrayEquals(privateKey.getPrimeP().toByteArray(), underTest.getP());
+        Assertions.assertArrayEquals(privateKey.getPrimeQ().toByteArray(), underTest.getQ());
+        Assertions.assertArrayEquals(privateKey.getCrtCoefficient().toByteArray(), underTest.getQi());
+        Assertions.assertNotSame(n, underTest.getN());
+        Assertions.assertArrayEquals(n, underTest.getN());
+        Assertions.assertArrayEquals(d, underTest.getD());
+    }
+
     private boolean checkSignature(
             final PublicKey publicKey, final byte[] signatureToCheck,
             final byte[] originalDigest, final String algName) throws Exception {
@@ -0,0 +1,171 @@
+package com.github.nagyesta.lowkeyvault.service.key.util;
+
+import com.github.nagyesta.lowkeyvault.service.exception.NotFoundException;
+import com.github.nagyesta.lowkeyvault.service.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+class CryptoExecutorTest {
+
+    private static final int PARALLELISM = 1;
+    private static final int MAX_PENDING = 1;
+    private static final long TIMEOUT_MILLIS = 10L;
+    private static final long WAIT_SECONDS = 10L;
+    private static final String RESULT = "result";
+    private static final int BATCH_PARALLELISM = 2;
+    private static final int BATCH_SIZE = 10;
+
+    public static Stream<Arguments> invalidProvider() {
+        return Stream.<Arguments>builder()
+                .add(Arguments.of(0, MAX_PENDING, TIMEOUT_MILLIS))
+                .add(Arguments.of(2, MAX_PENDING, TIMEOUT_MILLIS))
+                .add(Arguments.of(PARALLELISM, MAX_PENDING, -1L))
+                .build();
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidProvider")
+    void testConstructorShouldThrowExceptionWhenCalledWithInvalidValues(
+            final int parallelism, final int maxPending, final long timeout) {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new CryptoExecutor(parallelism, maxPending, timeout));
+
+        //then + exception
+    }
+
+    @Test
+    void testSubmitShouldReturnResultFromPoolThreadWhenCalled() {
+        //given
+        try (CryptoExecutor underTest = new CryptoExecutor(PARALLELISM, MAX_PENDING, TIMEOUT_MILLIS)) {
+
+            //when
+            final String actual = underTest.submit(() -> Thread.currentThread().getName()).join();
+
+            //then
+            Assertions.assertTrue(actual.startsWith("crypto-"));
+            final CryptoExecutorStatistics statistics = underTest.statistics();
+            Assertions.assertEquals(1L, statistics.completed());
+            Assertions.assertEquals(0L, statistics.failed());
+            Assertions.assertEquals(0, statistics.pending());
+            Assertions.assertEquals(0L, statistics.rejected());
+        }
+    }
+
+    @Test
+    void testSubmitShouldCompleteExceptionallyAndCountFailureWhenOperationFails() {
+        //given
+        try (CryptoExecutor underTest = new CryptoExecutor(PARALLELISM, MAX_PENDING, TIMEOUT_MILLIS)) {
+            final CompletableFuture<String> future = underTest.submit(() -> {
+                throw new NotFoundException(RESULT);
+            });
+
+            //when
+            final CompletionException actual = Assertions.assertThrows(CompletionException.class, future::join);
+
+            //then
+            Assertions.assertInstanceOf(NotFoundException.class, actual.getCause());
+            final CryptoExecutorStatistics statistics = underTest.statistics();
+            Assertions.assertEquals(0L, statistics.completed());
+            Assertions.assertEquals(1L, statistics.failed());
+            Assertions.assertEquals(0, statistics.pending());
+        }
+    }
+
+    @Test
+    void testSubmitShouldRejectOperationWhenTooManyOperationsArePending() throws InterruptedException {
+        //given
+        try (CryptoExecutor underTest = new CryptoExecutor(PARALLELISM, MAX_PENDING, TIMEOUT_MILLIS)) {
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+            final CompletableFuture<String> blocking = underTest.submit(() -> {
+                started.countDown();
+                awaitQuietly(release);
+                return RESULT;
+            });
+            Assertions.assertTrue(started.await(WAIT_SECONDS, TimeUnit.SECONDS));
+
+            //when
+            Assertions.assertThrows(TooManyRequestsException.class, () -> underTest.submit(() -> RESULT));
+
+            //then + exception
+            Assertions.assertEquals(1L, underTest.statistics().rejected());
+            Assertions.assertEquals(1, underTest.statistics().pending());
+            release.countDown();
+            Assertions.assertEquals(RESULT, blocking.join());
+        }
+    }
+
+    @Test
+    void testSubmitAllShouldReturnResultsInOrderAndUseFallbackWhenSomeOperationsFail() {
+        //given
+        try (CryptoExecutor underTest = new CryptoExecutor(BATCH_PARALLELISM, BATCH_PARALLELISM, TIMEOUT_MILLIS)) {
+            final List<Supplier<String>> operations = IntStream.range(0, BATCH_SIZE)
+                    .<Supplier<String>>mapToObj(i -> () -> {
+                        if (i % 2 == 0) {
+                            throw new NotFoundException(String.valueOf(i));
+                        }
+                        return String.valueOf(i);
+                    })
+                    .toList();
+
+            //when
+            final List<String> actual = underTest.submitAll(operations, RuntimeException::getMessage).join();
+
+            //then
+            final List<String> expected = IntStream.range(0, BATCH_SIZE).mapToObj(String::valueOf).toList();
+            Assertions.assertEquals(expected, actual);
+            final CryptoExecutorStatistics statistics = underTest.statistics();
+            Assertions.assertEquals(BATCH_SIZE / 2, statistics.completed());
+            Assertions.assertEquals(BATCH_SIZE / 2, statistics.failed());
+            Assertions.assertEquals(0, statistics.pending());
+        }
+    }
+
+    @Test
+    void testSubmitAllShouldRejectTheWholeBatchWhenNotEnoughPermitsAreAvailable() throws InterruptedException {
+        //given
+        try (CryptoExecutor underTest = new CryptoExecutor(BATCH_PARALLELISM, BATCH_PARALLELISM, TIMEOUT_MILLIS)) {
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch release = new CountDownLatch(1);
+            final CompletableFuture<String> blocking = underTest.submit(() -> {
+                started.countDown();
+                awaitQuietly(release);
+                return RESULT;
+            });
+            Assertions.assertTrue(started.await(WAIT_SECONDS, TimeUnit.SECONDS));
+            final List<Supplier<String>> operations = Collections.nCopies(BATCH_SIZE, () -> RESULT);
+
+            //when
+            Assertions.assertThrows(TooManyRequestsException.class, () -> underTest.submitAll(operations, RuntimeException::getMessage));
+
+            //then + exception
+            Assertions.assertEquals(1L, underTest.statistics().rejected());
+            Assertions.assertEquals(1, underTest.statistics().pending());
+            release.countDown();
+            Assertions.assertEquals(RESULT, blocking.join());
+        }
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.github.nagyesta.lowkeyvault.service.key.util;
+
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyCurveName;
+import org.bouncycastle.asn1.ASN1Integer;
+import org.bouncycastle.asn1.ASN1Sequence;
+import org.bouncycastle.asn1.DERSequence;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+class EcdsaSignatureCodecTest {
+
+    private static final int SAMPLES_PER_CURVE = 500;
+    private static final long SEED = 20_241_017L;
+    private static final int P_256_LENGTH = KeyCurveName.P_256.getByteLength();
+
+    public static Stream<Arguments> rawSignatureProvider() {
+        final Random random = new Random(SEED);
+        return Arrays.stream(KeyCurveName.values())
+                .flatMap(curve -> Stream.concat(
+                        edgeCases(curve.getByteLength()),
+                        IntStream.range(0, SAMPLES_PER_CURVE).mapToObj(i -> randomSignature(random, curve.getByteLength()))))
+                .map(Arguments::of);
+    }
+
+    @SuppressWarnings("checkstyle:MagicNumber")
+    public static Stream<Arguments> invalidDerProvider() {
+        return Stream.<Arguments>builder()
+                .add(Arguments.of((Object) new byte[]{}))
+                .add(Arguments.of((Object) new byte[]{0x30, 0x00}))
+                .add(Arguments.of((Object) new byte[]{0x31, 0x06, 0x02, 0x01, 0x01, 0x02, 0x01, 0x01}))
+                .add(Arguments.of((Object) new byte[]{0x30, 0x07, 0x02, 0x01, 0x01, 0x02, 0x01, 0x01}))
+                .add(Arguments.of((Object) new byte[]{0x30, 0x06, 0x04, 0x01, 0x01, 0x02, 0x01, 0x01}))
+                .add(Arguments.of((Object) new byte[]{0x30, 0x06, 0x02, 0x00, 0x02, 0x02, 0x01, 0x01}))
+                .add(Arguments.of((Object) new byte[]{0x30, 0x06, 0x02, 0x05, 0x01, 0x02, 0x01, 0x01}))
+                .add(Arguments.of((Object) new byte[]{0x30, 0x08, 0x02, 0x01, 0x01, 0x02, 0x01, 0x01, 0x05, 0x00}))
+                .build();
+    }
+
+    @Test
+    void testConstructorShouldThrowExceptionWhenCalled() throws NoSuchMethodException {
+        //given
+        final Constructor<EcdsaSignatureCodec> constructor = EcdsaSignatureCodec.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+
+        //when
+        Assertions.assertThrows(InvocationTargetException.class, constructor::newInstance);
+
+        //then + exception
+    }
+
+    @ParameterizedTest
+    @MethodSource("rawSignatureProvider")
+    void testRawToDerShouldProduceTheSameEncodingAsBouncyCastleWhenCalledWithValidSignature(final byte[] raw) throws IOException {
+        //given
+        final byte[] expected = bouncyCastleRawToDer(raw);
+
+        //when
+        final byte[] actual = EcdsaSignatureCodec.rawToDer(raw);
+
+        //then
+        Assertions.assertArrayEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @MethodSource("rawSignatureProvider")
+    void testDerToRawShouldReturnTheIntegersParsedByBouncyCastleWhenCalledWithValidSignature(final byte[] raw) throws IOException {
+        //given
+        final byte[] der = bouncyCastleRawToDer(raw);
+        final int paramLength = raw.length / 2;
+        final ASN1Sequence sequence = ASN1Sequence.getInstance(der);
+
+        //when
+        final byte[] actual = EcdsaSignatureCodec.derToRaw(der, paramLength);
+
+        //then
+        Assertions.assertArrayEquals(raw, actual);
+        Assertions.assertEquals(((ASN1Integer) sequence.getObjectAt(0)).getValue(), new BigInteger(1, actual, 0, paramLength));
+        Assertions.assertEquals(((ASN1Integer) sequence.getObjectAt(1)).getValue(), new BigInteger(1, actual, paramLength, paramLength));
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidDerProvider")
+    void testDerToRawShouldThrowExceptionWhenCalledWithInvalidEncoding(final byte[] der) {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> EcdsaSignatureCodec.derToRaw(der, P_256_LENGTH));
+
+        //then + exception
+    }
+
+    @Test
+    void testDerToRawShouldThrowExceptionWhenIntegerIsLongerThanTheParameterLength() throws IOException {
+        //given
+        final byte[] der = bouncyCastleRawToDer(randomSignature(new Random(SEED), KeyCurveName.P_384.getByteLength()));
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> EcdsaSignatureCodec.derToRaw(der, P_256_LENGTH));
+
+        //then + exception
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testRawToDerShouldThrowExceptionWhenCalledWithNull() {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> EcdsaSignatureCodec.rawToDer(null));
+
+        //then + exception
+    }
+
+    @Test
+    void testRawToDerShouldThrowExceptionWhenCalledWithOddLength() {
+        //given
+        final byte[] raw = new byte[P_256_LENGTH * 2 - 1];
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> EcdsaSignatureCodec.rawToDer(raw));
+
+        //then + exception
+    }
+
+    private static byte[] bouncyCastleRawToDer(final byte[] raw) throws IOException {
+        final int paramLength = raw.length / 2;
+        return new DERSequence(new ASN1Integer[]{
+                new ASN1Integer(new BigInteger(1, raw, 0, paramLength)),
+                new ASN1Integer(new BigInteger(1, raw, paramLength, paramLength))
+        }).getEncoded();
+    }
+
+    private static Stream<byte[]> edgeCases(final int paramLength) {
+        final byte[] highBits = new byte[paramLength * 2];
+        Arrays.fill(highBits, (byte) -1);
+        final byte[] leadingZeros = new byte[paramLength * 2];
+        leadingZeros[paramLength - 1] = 1;
+        leadingZeros[paramLength * 2 - 1] = Byte.MIN_VALUE;
+        final byte[] zeros = new byte[paramLength * 2];
+        return Stream.of(highBits, leadingZeros, zeros);
+    }
+
+    private static byte[] randomSignature(final Random random, final int paramLength) {
+        final byte[] raw = new byte[paramLength * 2];
+        random.nextBytes(raw);
+        //produce a mix of values with leading zero bytes and values with the highest bit set
+        final int zeros = random.nextInt(2 + 1);
+        for (int i = 0; i < zeros; i++) {
+            raw[i] = 0;
+            raw[paramLength + i] = 0;
+        }
+        return raw;
+    }
+}
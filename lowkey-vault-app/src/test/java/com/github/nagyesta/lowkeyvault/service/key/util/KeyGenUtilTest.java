@@ -14,6 +14,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.math.BigInteger;
 import java.security.KeyPair;
+import java.security.SecureRandom;
 import java.security.interfaces.ECPrivateKey;
 import java.security.interfaces.ECPublicKey;
 import java.security.interfaces.RSAPrivateKey;
@@ -137,12 +138,14 @@ class KeyGenUtilTest {
     }
 
     @Test
-    void testGenerateRandomBytesShouldThrowExceptionWhenCalledWithUnknownAlgorithm() {
+    void testSecureRandomShouldReturnTheSameInstanceWhenCalledFromTheSameThread() {
         //given
+        final SecureRandom first = KeyGenUtil.secureRandom();
 
         //when
-        Assertions.assertThrows(CryptoException.class, () -> KeyGenUtil.generateRandomBytes(1, "unknown"));
+        final SecureRandom actual = KeyGenUtil.secureRandom();
 
-        //then + exception
+        //then
+        Assertions.assertSame(first, actual);
     }
 }
@@ -0,0 +1,110 @@
+package com.github.nagyesta.lowkeyvault.service.key.util;
+
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyCurveName;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.security.KeyPair;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+class KeyPairPoolTest {
+
+    private static final int WATERMARK = 2;
+    private static final long TIMEOUT_MILLIS = 10_000L;
+    private static final long SLEEP_MILLIS = 10L;
+    private static final KeyPairSpec EC_256 = KeyPairSpec.ec(KeyCurveName.P_256);
+    private static final KeyPairSpec EC_384 = KeyPairSpec.ec(KeyCurveName.P_384);
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void testConstructorShouldThrowExceptionWhenCalledWithNotPositiveWatermark(final int value) {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new KeyPairPool(List.of(EC_256), value));
+
+        //then + exception
+    }
+
+    @Test
+    void testTakeShouldReturnPreGeneratedKeyPairAndRefillWhenCalledWithConfiguredSpec() throws InterruptedException {
+        //given
+        try (KeyPairPool underTest = new KeyPairPool(List.of(EC_256), WATERMARK)) {
+            awaitIdleCount(underTest, EC_256, WATERMARK);
+
+            //when
+            final Optional<KeyPair> actual = underTest.take(EC_256);
+
+            //then
+            Assertions.assertTrue(actual.isPresent());
+            awaitIdleCount(underTest, EC_256, WATERMARK);
+            final KeyPairPoolStatistics statistics = underTest.statistics().get(EC_256.toString());
+            Assertions.assertEquals(1L, statistics.hits());
+            Assertions.assertEquals(0L, statistics.misses());
+            Assertions.assertEquals(WATERMARK, statistics.watermark());
+            Assertions.assertEquals(1.0D, statistics.hitRate());
+        }
+    }
+
+    @Test
+    void testTakeShouldAlwaysRefillUpToWatermarkWhenCalledRepeatedlyWhileRefilling() throws InterruptedException {
+        //given
+        try (KeyPairPool underTest = new KeyPairPool(List.of(EC_256), WATERMARK)) {
+            awaitIdleCount(underTest, EC_256, WATERMARK);
+
+            //when
+            for (int i = 0; i < WATERMARK * WATERMARK; i++) {
+                underTest.take(EC_256);
+            }
+
+            //then
+            awaitIdleCount(underTest, EC_256, WATERMARK);
+            Assertions.assertEquals(WATERMARK, underTest.idleCount(EC_256));
+        }
+    }
+
+    @Test
+    void testTakeShouldReturnEmptyAndCountMissWhenCalledWithSpecNotConfigured() {
+        //given
+        try (KeyPairPool underTest = new KeyPairPool(List.of(EC_256), WATERMARK)) {
+
+            //when
+            final Optional<KeyPair> actual = underTest.take(EC_384);
+
+            //then
+            Assertions.assertTrue(actual.isEmpty());
+            final Map<String, KeyPairPoolStatistics> statistics = underTest.statistics();
+            Assertions.assertEquals(0L, statistics.get(EC_384.toString()).hits());
+            Assertions.assertEquals(1L, statistics.get(EC_384.toString()).misses());
+            Assertions.assertEquals(0, statistics.get(EC_384.toString()).idle());
+            Assertions.assertEquals(0.0D, statistics.get(EC_384.toString()).hitRate());
+            Assertions.assertTrue(statistics.containsKey(EC_256.toString()));
+        }
+    }
+
+    @Test
+    void testTakeShouldReturnEmptyWhenCalledAfterCloseAndThePoolIsEmpty() {
+        //given
+        final KeyPairPool underTest = new KeyPairPool(List.of(), WATERMARK);
+
+        //when
+        underTest.close();
+        final Optional<KeyPair> actual = underTest.take(EC_256);
+
+        //then
+        Assertions.assertTrue(actual.isEmpty());
+    }
+
+    private static void awaitIdleCount(final KeyPairPool pool, final KeyPairSpec spec, final int expected)
+            throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (pool.idleCount(spec) < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(SLEEP_MILLIS);
+        }
+        Assertions.assertEquals(expected, pool.idleCount(spec));
+    }
+}
@@ -0,0 +1,85 @@
+package com.github.nagyesta.lowkeyvault.service.key.util;
+
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyCurveName;
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.interfaces.ECPublicKey;
+import java.util.stream.Stream;
+
+class KeyPairSpecTest {
+
+    private static final int RSA_2048 = 2048;
+    private static final int RSA_4096 = 4096;
+    private static final BigInteger EXPONENT_3 = BigInteger.valueOf(3);
+
+    public static Stream<Arguments> validProvider() {
+        return Stream.<Arguments>builder()
+                .add(Arguments.of("RSA", KeyPairSpec.rsa(RSA_2048, KeyPairSpec.DEFAULT_PUBLIC_EXPONENT)))
+                .add(Arguments.of("RSA:4096", KeyPairSpec.rsa(RSA_4096, null)))
+                .add(Arguments.of(" RSA:2048:3 ", KeyPairSpec.rsa(RSA_2048, EXPONENT_3)))
+                .add(Arguments.of("EC:P-256", KeyPairSpec.ec(KeyCurveName.P_256)))
+                .add(Arguments.of("EC:P-521", KeyPairSpec.ec(KeyCurveName.P_521)))
+                .build();
+    }
+
+    @ParameterizedTest
+    @MethodSource("validProvider")
+    void testParseShouldReturnExpectedSpecWhenCalledWithValidInput(final String input, final KeyPairSpec expected) {
+        //given
+
+        //when
+        final KeyPairSpec actual = KeyPairSpec.parse(input);
+
+        //then
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "OCT", "EC", "EC:P-999", "EC:P-256:1", "RSA:2048:3:1", "RSA:1"})
+    void testParseShouldThrowExceptionWhenCalledWithInvalidInput(final String input) {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> KeyPairSpec.parse(input));
+
+        //then + exception
+    }
+
+    @Test
+    void testToStringShouldReturnParsableValueWhenCalled() {
+        //given
+        final KeyPairSpec rsa = KeyPairSpec.rsa(RSA_4096, EXPONENT_3);
+        final KeyPairSpec ec = KeyPairSpec.ec(KeyCurveName.P_384);
+
+        //when
+        final String actualRsa = rsa.toString();
+        final String actualEc = ec.toString();
+
+        //then
+        Assertions.assertEquals("RSA:4096:3", actualRsa);
+        Assertions.assertEquals("EC:P-384", actualEc);
+        Assertions.assertEquals(rsa, KeyPairSpec.parse(actualRsa));
+        Assertions.assertEquals(ec, KeyPairSpec.parse(actualEc));
+    }
+
+    @Test
+    void testGenerateShouldReturnKeyPairMatchingTheSpecWhenCalled() {
+        //given
+        final KeyPairSpec underTest = KeyPairSpec.ec(KeyCurveName.P_256);
+
+        //when
+        final KeyPair actual = underTest.generate();
+
+        //then
+        Assertions.assertInstanceOf(ECPublicKey.class, actual.getPublic());
+        Assertions.assertEquals(KeyType.EC.getAlgorithmName(), actual.getPublic().getAlgorithm());
+    }
+}
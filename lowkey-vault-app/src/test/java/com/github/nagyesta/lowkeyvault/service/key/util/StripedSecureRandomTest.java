@@ -0,0 +1,121 @@
+package com.github.nagyesta.lowkeyvault.service.key.util;
+
+import com.github.nagyesta.lowkeyvault.service.exception.CryptoException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class StripedSecureRandomTest {
+
+    private static final String SHA1PRNG = "SHA1PRNG";
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testConstructorShouldThrowExceptionWhenCalledWithNull() {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new StripedSecureRandom(null));
+
+        //then + exception
+    }
+
+    @Test
+    void testConstructorShouldThrowExceptionWhenCalledWithUnknownAlgorithm() {
+        //given
+
+        //when
+        Assertions.assertThrows(CryptoException.class, () -> new StripedSecureRandom("unknown"));
+
+        //then + exception
+    }
+
+    @Test
+    void testCurrentShouldReturnTheSameInstanceWhenCalledFromTheSameThread() {
+        //given
+        final StripedSecureRandom underTest = new StripedSecureRandom(SHA1PRNG);
+        final SecureRandom first = underTest.current();
+
+        //when
+        final SecureRandom actual = underTest.current();
+
+        //then
+        Assertions.assertSame(first, actual);
+        Assertions.assertEquals(SHA1PRNG, actual.getAlgorithm());
+        Assertions.assertEquals(SHA1PRNG, underTest.getAlgorithm());
+    }
+
+    @SuppressWarnings("checkstyle:MagicNumber")
+    @Test
+    void testCurrentShouldReturnOnlyTheInstancesOfTheStripesWhenCalledFromManyThreads() {
+        //given
+        final StripedSecureRandom underTest = new StripedSecureRandom(StripedSecureRandom.DEFAULT_ALGORITHM, 2);
+
+        //when
+        final Set<SecureRandom> actual = IntStream.range(0, 100)
+                .mapToObj(i -> CompletableFuture.supplyAsync(underTest::current, r -> new Thread(r).start()))
+                .map(CompletableFuture::join)
+                .collect(Collectors.toCollection(() -> Collections.newSetFromMap(new IdentityHashMap<>())));
+
+        //then
+        Assertions.assertEquals(2, underTest.stripeCount());
+        Assertions.assertTrue(actual.size() <= 2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void testConstructorShouldThrowExceptionWhenCalledWithNotPositiveStripeCount(final int count) {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new StripedSecureRandom(StripedSecureRandom.DEFAULT_ALGORITHM, count));
+
+        //then + exception
+    }
+
+    @Test
+    void testConstructorShouldUseOneStripePerProcessorWhenCalledWithoutStripeCount() {
+        //given
+
+        //when
+        final StripedSecureRandom underTest = new StripedSecureRandom(StripedSecureRandom.DEFAULT_ALGORITHM);
+
+        //then
+        Assertions.assertEquals(Runtime.getRuntime().availableProcessors(), underTest.stripeCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void testNextBytesShouldThrowExceptionWhenCalledWithNotPositiveCount(final int count) {
+        //given
+        final StripedSecureRandom underTest = new StripedSecureRandom(StripedSecureRandom.DEFAULT_ALGORITHM);
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.nextBytes(count));
+
+        //then + exception
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 64, 4096})
+    void testNextBytesShouldReturnTheRequestedNumberOfBytesWhenCalledWithPositiveCount(final int count) {
+        //given
+        final StripedSecureRandom underTest = new StripedSecureRandom(StripedSecureRandom.DEFAULT_ALGORITHM);
+
+        //when
+        final byte[] actual = underTest.nextBytes(count);
+
+        //then
+        Assertions.assertEquals(count, actual.length);
+    }
+}
@@ -8,6 +8,7 @@ import com.github.nagyesta.lowkeyvault.service.certificate.CertificateVaultFake;
 import com.github.nagyesta.lowkeyvault.service.certificate.ReadOnlyKeyVaultCertificateEntity;
 import com.github.nagyesta.lowkeyvault.service.certificate.id.VersionedCertificateEntityId;
 import com.github.nagyesta.lowkeyvault.service.certificate.impl.*;
+import com.github.nagyesta.lowkeyvault.service.key.id.KeyEntityId;
 import com.github.nagyesta.lowkeyvault.service.secret.impl.KeyVaultSecretEntity;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -16,7 +17,6 @@ import java.time.Instant;
 import java.time.Month;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
-import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -38,6 +38,38 @@ class VaultFakeImplIntegrationTest {
     private static final int SECONDS_IN_MORE_THAN_TWO_YEARS = INT_MORE_THAN_TWO_YEARS_IN_DAYS * SECONDS_IN_1_DAY;
     public static final int EXPECTED_VERSIONS_AFTER_RENEWAL = 3;
 
+    @Test
+    void testTimeShiftShouldLeaveDueRenewalsToTheRenewalTasksWhenCalledWithoutRenewals() {
+        //given
+        final VaultFakeImpl underTest = new VaultFakeImpl(HTTPS_LOCALHOST);
+        final CertificateVaultFake certificateVaultFake = underTest.certificateVaultFake();
+        final VersionedCertificateEntityId originalCertId = certificateVaultFake
+                .createCertificateVersion(CERT_NAME_1, CertificateCreationInput.builder()
+                        .contentType(CertContentType.PEM)
+                        .name(CERT_NAME_1)
+                        .keyType(KeyType.EC)
+                        .validityStart(OffsetDateTime.now(ZoneOffset.UTC).plusMinutes(1))
+                        .validityMonths(DEFAULT_VALIDITY_MONTHS)
+                        .keyCurveName(KeyCurveName.P_256)
+                        .subject("CN=localhost")
+                        .build());
+        certificateVaultFake.setLifetimeActionPolicy(new CertificateLifetimeActionPolicy(
+                originalCertId, Map.of(AUTO_RENEW, new CertificateLifetimeActionTrigger(DAYS_BEFORE_EXPIRY, 1))
+        ));
+        underTest.timeShift(SECONDS_IN_MORE_THAN_TWO_YEARS, false, false);
+        Assertions.assertEquals(1, certificateVaultFake.getEntities().getVersions(originalCertId).size());
+        final List<Runnable> tasks = certificateVaultFake.certificateRenewalTasks();
+
+        //when
+        tasks.forEach(Runnable::run);
+
+        //then
+        Assertions.assertEquals(1, tasks.size());
+        Assertions.assertEquals(EXPECTED_VERSIONS_AFTER_RENEWAL, certificateVaultFake.getEntities().getVersions(originalCertId).size());
+        Assertions.assertEquals(EXPECTED_VERSIONS_AFTER_RENEWAL, underTest.keyVaultFake().getEntities()
+                .getVersions(new KeyEntityId(HTTPS_LOCALHOST, CERT_NAME_1)).size());
+    }
+
     @Test
     void testTimeShiftShouldCreateNewVersionsWhenAutoRotateIsTriggeredWithActiveCertificates() {
         //given
@@ -64,7 +96,7 @@ class VaultFakeImplIntegrationTest {
         underTest.timeShift(SECONDS_IN_MORE_THAN_TWO_YEARS, true);
 
         //then
-        final Deque<String> versions = underTest.certificateVaultFake().getEntities().getVersions(originalCertId);
+        final List<String> versions = underTest.certificateVaultFake().getEntities().getVersions(originalCertId);
         final List<ReadOnlyKeyVaultCertificateEntity> entities = versions.stream()
                 .map(v -> new VersionedCertificateEntityId(originalCertId.vault(), originalCertId.id(), v))
                 .map(certificateVaultFake.getEntities()::getReadOnlyEntity)
@@ -112,7 +144,7 @@ class VaultFakeImplIntegrationTest {
         underTest.timeShift(SECONDS_IN_MORE_THAN_TWO_YEARS, true);
 
         //then
-        final Deque<String> versions = underTest.certificateVaultFake().getEntities().getVersions(originalCertId);
+        final List<String> versions = underTest.certificateVaultFake().getEntities().getVersions(originalCertId);
         final List<ReadOnlyKeyVaultCertificateEntity> entities = versions.stream()
                 .map(v -> new VersionedCertificateEntityId(originalCertId.vault(), originalCertId.id(), v))
                 .map(certificateVaultFake.getEntities()::getReadOnlyEntity)
@@ -149,7 +181,7 @@ class VaultFakeImplIntegrationTest {
         underTest.timeShift(SECONDS_IN_MORE_THAN_TWO_YEARS, true);
 
         //then
-        final Deque<String> versions = underTest.certificateVaultFake().getEntities().getVersions(originalCertId);
+        final List<String> versions = underTest.certificateVaultFake().getEntities().getVersions(originalCertId);
         final List<ReadOnlyKeyVaultCertificateEntity> entities = versions.stream()
                 .map(v -> new VersionedCertificateEntityId(originalCertId.vault(), originalCertId.id(), v))
                 .map(certificateVaultFake.getEntities()::getReadOnlyEntity)
@@ -227,7 +259,7 @@ class VaultFakeImplIntegrationTest {
         underTest.timeShift(SECONDS_IN_1_DAY, true);
 
         //then
-        final Deque<String> versions = underTest.certificateVaultFake().getDeletedEntities().getVersions(originalCertId);
+        final List<String> versions = underTest.certificateVaultFake().getDeletedEntities().getVersions(originalCertId);
         Assertions.assertIterableEquals(Set.of(originalCertId.version()), versions);
     }
 
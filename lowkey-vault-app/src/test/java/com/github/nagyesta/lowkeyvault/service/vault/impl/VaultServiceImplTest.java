@@ -2,10 +2,13 @@ package com.github.nagyesta.lowkeyvault.service.vault.impl;
 
 import com.github.nagyesta.lowkeyvault.TestConstants;
 import com.github.nagyesta.lowkeyvault.model.v7_2.common.constants.RecoveryLevel;
+import com.github.nagyesta.lowkeyvault.service.certificate.util.CertificateRegenerationPipeline;
 import com.github.nagyesta.lowkeyvault.service.exception.AlreadyExistsException;
 import com.github.nagyesta.lowkeyvault.service.exception.NotFoundException;
 import com.github.nagyesta.lowkeyvault.service.vault.VaultFake;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -18,10 +21,22 @@ import java.util.*;
 import java.util.stream.Stream;
 
 import static com.github.nagyesta.lowkeyvault.TestConstantsUri.*;
+import static org.mockito.Mockito.*;
 
 class VaultServiceImplTest {
 
     private static final int WAIT_MILLIS = 2;
+    private CertificateRegenerationPipeline regenerationPipeline;
+
+    @BeforeEach
+    void setUp() {
+        regenerationPipeline = new CertificateRegenerationPipeline(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        regenerationPipeline.close();
+    }
 
     public static Stream<Arguments> valueProvider() {
         return Stream.<Arguments>builder()
@@ -87,7 +102,7 @@ class VaultServiceImplTest {
     @MethodSource("valueProvider")
     void testCreateShouldThrowExceptionWhenAlreadyExists(final List<URI> vaults, final URI duplicate) {
         //given
-        final VaultServiceImpl underTest = new VaultServiceImpl();
+        final VaultServiceImpl underTest = new VaultServiceImpl(regenerationPipeline);
         vaults.forEach(underTest::create);
 
         //when
@@ -100,7 +115,7 @@ class VaultServiceImplTest {
     @MethodSource("aliasValueProvider")
     void testCreateShouldThrowExceptionWhenAlreadyExists(final List<URI> vaults, final URI baseUri, final Set<URI> duplicate) {
         //given
-        final VaultServiceImpl underTest = new VaultServiceImpl();
+        final VaultServiceImpl underTest = new VaultServiceImpl(regenerationPipeline);
         vaults.forEach(underTest::create);
 
         //when
@@ -113,7 +128,7 @@ class VaultServiceImplTest {
     @Test
     void testCreateShouldThrowExceptionWhenBaseUriMatchesAlias() {
         //given
-        final VaultServiceImpl underTest = new VaultServiceImpl();
+        final VaultServiceImpl underTest = new VaultServiceImpl(regenerationPipeline);
 
         //when
         Assertions.assertThrows(IllegalArgumentException.class,
@@ -126,7 +141,7 @@ class VaultServiceImplTest {
     @MethodSource("valueProvider")
     void testDeleteShouldReturnFalseWhenAlreadyDeleted(final List<URI> vaults, final URI delete) {
         //given
-        final VaultServiceImpl underTest = new VaultServiceImpl();
+        final VaultServiceImpl underTest = new VaultServiceImpl(regenerationPipeline);
         vaults.forEach(underTest::create);
 
         //when
@@ -142,7 +157,7 @@ class VaultServiceImplTest {
     @MethodSource("valueProvider")
     void testRecoverShouldThrowExceptionWhenNotDeleted(final List<URI> vaults, final URI duplicate) {
         //given
-        final VaultServiceImpl underTest = new VaultServiceImpl();
+        final VaultServiceImpl underTest = new VaultServiceImpl(regenerationPipeline);
         vaults.forEach(underTest::create);
 
         //when
@@ -155,7 +170,7 @@ class VaultServiceImplTest {
     @MethodSource("valueProvider")
     void testPurgeShouldThrowExceptionWhenNotDeleted(final List<URI> vaults, final URI duplicate) {
         //given
-        final VaultServiceImpl underTest = new VaultServiceImpl();
+        final VaultServiceImpl underTest = new VaultServiceImpl(regenerationPipeline);
         vaults.forEach(underTest::create);
 
         //when
@@ -168,7 +183,7 @@ class VaultServiceImplTest {
     @MethodSource("valueProvider")
     void testFindByUriIncludeDeletedShouldReturnValueWhenItMatchesFully(final List<URI> vaults, final URI lookup) {
         //given
-        final VaultServiceImpl underTest = new VaultServiceImpl();
+        final VaultServiceImpl underTest = new VaultServiceImpl(regenerationPipeline);
         vaults.forEach(underTest::create);
         vaults.stream().limit(2).forEach(underTest::delete);
 
@@ -184,7 +199,7 @@ class VaultServiceImplTest {
     @MethodSource("missingValueProvider")
     void testFindByUriIncludeDeletedShouldThrowExceptionWhenItemDoesNotMatchFully(final List<URI> vaults, final URI lookup) {
         //given
-        final VaultServiceImpl underTest = new VaultServiceImpl();
+        final VaultServiceImpl underTest = new VaultServiceImpl(regenerationPipeline);
         vaults.forEach(underTest::create);
         vaults.stream().limit(2).forEach(underTest::delete);
 
@@ -198,7 +213,7 @@ class VaultServiceImplTest {
     @MethodSource("valueProvider")
     void testFindByUriShouldReturnValueWhenItMatchesFully(final List<URI> vaults, final URI lookup) {
         //given
-        final VaultServiceImpl underTest = new VaultServiceImpl();
+        final VaultServiceImpl underTest = new VaultServiceImpl(regenerationPipeline);
         vaults.forEach(underTest::create);
 
         //when
@@ -213,7 +228,7 @@ class VaultServiceImplTest {
     @MethodSource("valueProvider")
     void testFindByUriShouldReturnValueWhenItMatchesFullyAfterRecovery(final List<URI> vaults, final URI lookup) {
         //given
-        final VaultServiceImpl underTest = new VaultServiceImpl();
+        final VaultServiceImpl underTest = new VaultServiceImpl(regenerationPipeline);
         vaults.forEach(uri -> underTest.create(uri, RecoveryLevel.RECOVERABLE, RecoveryLevel.MAX_RECOVERABLE_DAYS_INCLUSIVE, null));
         vaults.forEach(underTest::delete);
         vaults.forEach(underTest::recover);
@@ -230,7 +245,7 @@ class VaultServiceImplTest {
     @MethodSource("valueProvider")
     void testFindByUriShouldNotReturnValueWhenItWasPurged(final List<URI> vaults, final URI lookup) {
         //given
-        final VaultServiceImpl underTest = new VaultServiceImpl();
+        final VaultServiceImpl underTest = new VaultServiceImpl(regenerationPipeline);
         vaults.forEach(uri -> underTest.create(uri, RecoveryLevel.RECOVERABLE, RecoveryLevel.MAX_RECOVERABLE_DAYS_INCLUSIVE, null));
         vaults.forEach(underTest::delete);
         vaults.forEach(underTest::purge);
@@ -245,7 +260,7 @@ class VaultServiceImplTest {
     @MethodSource("missingValueProvider")
     void testFindByUriShouldThrowExceptionWhenItemDoesNotMatchFully(final List<URI> vaults, final URI lookup) {
         //given
-        final VaultServiceImpl underTest = new VaultServiceImpl();
+        final VaultServiceImpl underTest = new VaultServiceImpl(regenerationPipeline);
         vaults.forEach(underTest::create);
 
         //when
@@ -258,7 +273,7 @@ class VaultServiceImplTest {
     @MethodSource("valueProvider")
     void testFindByUriShouldThrowExceptionWhenItemIsDeleted(final List<URI> vaults, final URI lookup) {
         //given
-        final VaultServiceImpl underTest = new VaultServiceImpl();
+        final VaultServiceImpl underTest = new VaultServiceImpl(regenerationPipeline);
         vaults.forEach(uri -> underTest
                 .create(uri, RecoveryLevel.CUSTOMIZED_RECOVERABLE, RecoveryLevel.MIN_RECOVERABLE_DAYS_INCLUSIVE, null));
         vaults.forEach(underTest::delete);
@@ -274,7 +289,7 @@ class VaultServiceImplTest {
     @MethodSource("valueMapProvider")
     void testListAndListDeletedShouldFilterBasedOnDeletedStatusWhenCalled(final Map<URI, Boolean> vaults) {
         //given
-        final VaultServiceImpl underTest = new VaultServiceImpl();
+        final VaultServiceImpl underTest = new VaultServiceImpl(regenerationPipeline);
         vaults.forEach((k, v) -> {
             underTest.create(k, RecoveryLevel.CUSTOMIZED_RECOVERABLE, RecoveryLevel.MIN_RECOVERABLE_DAYS_INCLUSIVE, null);
             if (v) {
@@ -302,7 +317,7 @@ class VaultServiceImplTest {
     @MethodSource("valueMapProvider")
     void testListDeletedShouldNotReturnPurgedItemsWhenCalled(final Map<URI, Boolean> vaults) {
         //given
-        final VaultServiceImpl underTest = new VaultServiceImpl();
+        final VaultServiceImpl underTest = new VaultServiceImpl(regenerationPipeline);
         vaults.forEach((k, v) -> {
             if (v) {
                 underTest.create(k, RecoveryLevel.PURGEABLE, null, null);
@@ -330,7 +345,7 @@ class VaultServiceImplTest {
     @ValueSource(ints = {-42, -10, -5, -3, -2, -1, 0})
     void testTimeShiftShouldThrowExceptionWhenCalledWithNegativeOrZero(final int value) {
         //given
-        final VaultServiceImpl underTest = new VaultServiceImpl();
+        final VaultServiceImpl underTest = new VaultServiceImpl(regenerationPipeline);
 
         //when
         Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.timeShift(value, false));
@@ -341,7 +356,7 @@ class VaultServiceImplTest {
     @Test
     void testTimeShiftShouldBeForwardedToEachVaultWhenCalledWithPositive() {
         //given
-        final VaultServiceImpl underTest = new VaultServiceImpl();
+        final VaultServiceImpl underTest = new VaultServiceImpl(regenerationPipeline);
         final VaultFake vaultFake = underTest.create(HTTPS_LOWKEY_VAULT_8443);
         final OffsetDateTime createdOriginal = vaultFake.getCreatedOn();
 
@@ -352,12 +367,47 @@ class VaultServiceImplTest {
         Assertions.assertEquals(createdOriginal.minusSeconds(TestConstants.NUMBER_OF_SECONDS_IN_10_MINUTES), vaultFake.getCreatedOn());
     }
 
+    @Test
+    void testTimeShiftShouldRegenerateCertificatesOfAllVaultsUsingThePipelineWhenRequested() {
+        //given
+        final CertificateRegenerationPipeline pipeline = mock(CertificateRegenerationPipeline.class);
+        final VaultServiceImpl underTest = new VaultServiceImpl(pipeline);
+        final VaultFake vaultFake = underTest.create(HTTPS_LOWKEY_VAULT_8443);
+        final VaultFake other = underTest.create(HTTPS_LOCALHOST_8443);
+
+        //when
+        underTest.timeShift(TestConstants.NUMBER_OF_SECONDS_IN_10_MINUTES, true);
+
+        //then
+        verify(pipeline).regenerate(argThat(list -> list.size() == 2
+                && list.contains(vaultFake.certificateVaultFake())
+                && list.contains(other.certificateVaultFake())));
+    }
+
+    @Test
+    void testTimeShiftShouldRenewCertificatesOfAllVaultsUsingThePipelineWhenCalled() {
+        //given
+        final CertificateRegenerationPipeline pipeline = mock(CertificateRegenerationPipeline.class);
+        final VaultServiceImpl underTest = new VaultServiceImpl(pipeline);
+        final VaultFake vaultFake = underTest.create(HTTPS_LOWKEY_VAULT_8443);
+        final VaultFake other = underTest.create(HTTPS_LOCALHOST_8443);
+
+        //when
+        underTest.timeShift(TestConstants.NUMBER_OF_SECONDS_IN_10_MINUTES, false);
+
+        //then
+        verify(pipeline).renew(argThat(list -> list.size() == 2
+                && list.contains(vaultFake.certificateVaultFake())
+                && list.contains(other.certificateVaultFake())));
+        verify(pipeline, never()).regenerate(any());
+    }
+
     @ParameterizedTest
     @MethodSource("invalidAliasProvider")
     void testUpdateAliasShouldThrowExceptionWhenCalledWithInvalidInput(
             final URI baseUri, final Set<URI> aliases, final URI add, final URI remove, final Class<Exception> expectedException) {
         //given
-        final VaultServiceImpl underTest = new VaultServiceImpl();
+        final VaultServiceImpl underTest = new VaultServiceImpl(regenerationPipeline);
         final VaultFake vaultFake = underTest.create(
                 baseUri, RecoveryLevel.CUSTOMIZED_RECOVERABLE, RecoveryLevel.MAX_RECOVERABLE_DAYS_INCLUSIVE, aliases);
 
@@ -372,7 +422,7 @@ class VaultServiceImplTest {
     void testUpdateAliasShouldAddAndRemoveAliasesWhenCalledWithValidInput(
             final URI baseUri, final Set<URI> aliases, final URI add, final URI remove, final Set<URI> expected) {
         //given
-        final VaultServiceImpl underTest = new VaultServiceImpl();
+        final VaultServiceImpl underTest = new VaultServiceImpl(regenerationPipeline);
         underTest.create(baseUri, RecoveryLevel.CUSTOMIZED_RECOVERABLE, RecoveryLevel.MAX_RECOVERABLE_DAYS_INCLUSIVE, aliases);
 
         //when
@@ -385,7 +435,7 @@ class VaultServiceImplTest {
     @Test
     void testUpdateAliasShouldThrowExceptionWhenVaultNotFound() {
         //given
-        final VaultServiceImpl underTest = new VaultServiceImpl();
+        final VaultServiceImpl underTest = new VaultServiceImpl(regenerationPipeline);
         final VaultFake vaultFake = underTest.create(HTTPS_DEFAULT_LOWKEY_VAULT_8443);
 
         //when
@@ -393,4 +443,38 @@ class VaultServiceImplTest {
 
         //then + exception
     }
+
+    @Test
+    void testFindByUriShouldFollowAliasChangesWhenUpdateAliasIsCalled() {
+        //given
+        final VaultServiceImpl underTest = new VaultServiceImpl(regenerationPipeline);
+        final VaultFake vaultFake = underTest.create(HTTPS_LOWKEY_VAULT_8443,
+                RecoveryLevel.CUSTOMIZED_RECOVERABLE, RecoveryLevel.MAX_RECOVERABLE_DAYS_INCLUSIVE, Set.of(HTTPS_LOCALHOST));
+
+        //when
+        underTest.updateAlias(HTTPS_LOWKEY_VAULT_8443, HTTPS_LOCALHOST_80, HTTPS_LOCALHOST);
+
+        //then
+        Assertions.assertSame(vaultFake, underTest.findByUri(HTTPS_LOWKEY_VAULT_8443));
+        Assertions.assertSame(vaultFake, underTest.findByUri(HTTPS_LOCALHOST_80));
+        Assertions.assertThrows(NotFoundException.class, () -> underTest.findByUri(HTTPS_LOCALHOST));
+        Assertions.assertDoesNotThrow(() -> underTest.create(HTTPS_LOCALHOST));
+    }
+
+    @Test
+    void testFindByUriIncludeDeletedShouldNotFindAliasesWhenVaultWasPurged() {
+        //given
+        final VaultServiceImpl underTest = new VaultServiceImpl(regenerationPipeline);
+        underTest.create(HTTPS_LOWKEY_VAULT_8443,
+                RecoveryLevel.CUSTOMIZED_RECOVERABLE, RecoveryLevel.MAX_RECOVERABLE_DAYS_INCLUSIVE, Set.of(HTTPS_LOCALHOST));
+        underTest.delete(HTTPS_LOCALHOST);
+
+        //when
+        underTest.purge(HTTPS_LOWKEY_VAULT_8443);
+
+        //then
+        Assertions.assertThrows(NotFoundException.class, () -> underTest.findByUriIncludeDeleted(HTTPS_LOWKEY_VAULT_8443));
+        Assertions.assertThrows(NotFoundException.class, () -> underTest.findByUriIncludeDeleted(HTTPS_LOCALHOST));
+        Assertions.assertDoesNotThrow(() -> underTest.create(HTTPS_LOCALHOST));
+    }
 }
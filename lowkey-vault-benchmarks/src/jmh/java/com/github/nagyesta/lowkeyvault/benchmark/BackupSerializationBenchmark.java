@@ -0,0 +1,86 @@
+package com.github.nagyesta.lowkeyvault.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.nagyesta.lowkeyvault.mapper.v7_3.key.RsaPrivateKeyToJsonWebKeyImportRequestConverter;
+import com.github.nagyesta.lowkeyvault.model.common.backup.KeyBackupList;
+import com.github.nagyesta.lowkeyvault.model.common.backup.KeyBackupListItem;
+import com.github.nagyesta.lowkeyvault.model.common.backup.KeyBackupModel;
+import com.github.nagyesta.lowkeyvault.model.v7_2.common.constants.RecoveryLevel;
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.KeyPropertiesModel;
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.request.JsonWebKeyImportRequest;
+import com.github.nagyesta.lowkeyvault.service.key.util.KeyGenUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URI;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the zipped and base64 encoded backup serialization of keys with a growing number of versions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BackupSerializationBenchmark {
+
+    private static final URI VAULT_URI = URI.create("https://benchmark.localhost:8443");
+    private static final String NAME = "benchmark-key";
+    private static final int RSA_KEY_SIZE = 2048;
+
+    @Param({"1", "10", "100"})
+    private int versionCount;
+
+    private ObjectMapper objectMapper;
+    private KeyBackupModel model;
+    private String json;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        final JsonWebKeyImportRequest keyMaterial = new RsaPrivateKeyToJsonWebKeyImportRequestConverter()
+                .convert((RSAPrivateCrtKey) KeyGenUtil.generateRsa(RSA_KEY_SIZE, null).getPrivate());
+        final OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        final List<KeyBackupListItem> items = new ArrayList<>();
+        for (int i = 0; i < versionCount; i++) {
+            final KeyPropertiesModel properties = new KeyPropertiesModel();
+            properties.setEnabled(true);
+            properties.setCreatedOn(now);
+            properties.setUpdatedOn(now);
+            properties.setRecoveryLevel(RecoveryLevel.RECOVERABLE_AND_PURGEABLE);
+            properties.setRecoverableDays(RecoveryLevel.MAX_RECOVERABLE_DAYS_INCLUSIVE);
+            final KeyBackupListItem item = new KeyBackupListItem();
+            item.setVaultBaseUri(VAULT_URI);
+            item.setId(NAME);
+            item.setVersion(UUID.randomUUID().toString().replace("-", ""));
+            item.setAttributes(properties);
+            item.setTags(Map.of("version", String.valueOf(i)));
+            item.setKeyMaterial(keyMaterial);
+            items.add(item);
+        }
+        final KeyBackupList list = new KeyBackupList();
+        list.setVersions(items);
+        model = new KeyBackupModel();
+        model.setValue(list);
+        json = serialize();
+    }
+
+    @Benchmark
+    public String serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(model);
+    }
+
+    @Benchmark
+    public KeyBackupModel deserialize() throws JsonProcessingException {
+        return objectMapper.readValue(json, KeyBackupModel.class);
+    }
+}
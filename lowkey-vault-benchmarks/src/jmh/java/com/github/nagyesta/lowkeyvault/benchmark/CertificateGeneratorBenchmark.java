@@ -0,0 +1,83 @@
+package com.github.nagyesta.lowkeyvault.benchmark;
+
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyCurveName;
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyType;
+import com.github.nagyesta.lowkeyvault.service.certificate.impl.CertContentType;
+import com.github.nagyesta.lowkeyvault.service.certificate.impl.CertificateCreationInput;
+import com.github.nagyesta.lowkeyvault.service.certificate.impl.CertificateGenerator;
+import com.github.nagyesta.lowkeyvault.service.exception.CryptoException;
+import com.github.nagyesta.lowkeyvault.service.key.KeyVaultFake;
+import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
+import com.github.nagyesta.lowkeyvault.service.key.impl.EcKeyCreationInput;
+import com.github.nagyesta.lowkeyvault.service.key.impl.RsaKeyCreationInput;
+import com.github.nagyesta.lowkeyvault.service.vault.VaultFake;
+import com.github.nagyesta.lowkeyvault.service.vault.impl.VaultFakeImpl;
+import org.bouncycastle.pkcs.PKCS10CertificationRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URI;
+import java.security.cert.X509Certificate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the generation of self-signed certificates and their CSRs using RSA and EC keys.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CertificateGeneratorBenchmark {
+
+    private static final URI VAULT_URI = URI.create("https://benchmark.localhost:8443");
+    private static final String NAME = "benchmark-certificate";
+    private static final String SUBJECT = "CN=benchmark.localhost";
+    private static final int RSA_KEY_SIZE = 2048;
+
+    @Param({"RSA", "EC"})
+    private KeyType keyType;
+
+    private CertificateGenerator generator;
+    private CertificateCreationInput input;
+    private X509Certificate certificate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final VaultFake vault = new VaultFakeImpl(VAULT_URI);
+        final KeyVaultFake keyVaultFake = vault.keyVaultFake();
+        final CertificateCreationInput.CertificateCreationInputBuilder builder = CertificateCreationInput.builder()
+                .name(NAME)
+                .subject(SUBJECT)
+                .dnsNames(Set.of("benchmark.localhost"))
+                .validityStart(OffsetDateTime.now(ZoneOffset.UTC))
+                .validityMonths(CertificateCreationInput.DEFAULT_VALIDITY_MONTHS)
+                .contentType(CertContentType.PKCS12)
+                .keyUsage(CertificateCreationInput.DEFAULT_KEY_USAGES)
+                .extendedKeyUsage(CertificateCreationInput.DEFAULT_EXT_KEY_USAGES)
+                .keyType(keyType);
+        final VersionedKeyEntityId kid;
+        if (keyType == KeyType.EC) {
+            kid = keyVaultFake.createEcKeyVersion(NAME, new EcKeyCreationInput(KeyType.EC, KeyCurveName.P_256));
+            input = builder.keyCurveName(KeyCurveName.P_256).build();
+        } else {
+            kid = keyVaultFake.createRsaKeyVersion(NAME, new RsaKeyCreationInput(KeyType.RSA, RSA_KEY_SIZE, null));
+            input = builder.keySize(RSA_KEY_SIZE).build();
+        }
+        generator = new CertificateGenerator(vault, kid);
+        certificate = generator.generateCertificate(input);
+    }
+
+    @Benchmark
+    public X509Certificate generateCertificate() throws CryptoException {
+        return generator.generateCertificate(input);
+    }
+
+    @Benchmark
+    public PKCS10CertificationRequest generateCertificateSigningRequest() throws CryptoException {
+        return generator.generateCertificateSigningRequest(NAME, certificate);
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.nagyesta.lowkeyvault.benchmark;
+
+import com.github.nagyesta.lowkeyvault.controller.common.util.CertificateRequestMapperUtil;
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyCurveName;
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyType;
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.request.JsonWebKeyImportRequest;
+import com.github.nagyesta.lowkeyvault.model.v7_3.certificate.CertificatePolicyModel;
+import com.github.nagyesta.lowkeyvault.service.certificate.impl.CertContentType;
+import com.github.nagyesta.lowkeyvault.service.certificate.impl.CertificateCreationInput;
+import com.github.nagyesta.lowkeyvault.service.certificate.impl.CertificateGenerator;
+import com.github.nagyesta.lowkeyvault.service.certificate.impl.CertificateImportInput;
+import com.github.nagyesta.lowkeyvault.service.certificate.impl.ParsedCertificateContent;
+import com.github.nagyesta.lowkeyvault.service.exception.CryptoException;
+import com.github.nagyesta.lowkeyvault.service.key.KeyVaultFake;
+import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyAsymmetricKeyVaultKeyEntity;
+import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
+import com.github.nagyesta.lowkeyvault.service.key.impl.EcKeyCreationInput;
+import com.github.nagyesta.lowkeyvault.service.key.impl.RsaKeyCreationInput;
+import com.github.nagyesta.lowkeyvault.service.vault.VaultFake;
+import com.github.nagyesta.lowkeyvault.service.vault.impl.VaultFakeImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.net.URI;
+import java.security.KeyPair;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the parsing of imported and restored certificate stores, comparing the separate parsing of the certificate
+ * chain and the key with the parse-once approach used by the import.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CertificateImportBenchmark {
+
+    private static final URI VAULT_URI = URI.create("https://benchmark.localhost:8443");
+    private static final String NAME = "benchmark-certificate";
+    private static final String SUBJECT = "CN=benchmark.localhost";
+    private static final int RSA_KEY_SIZE = 2048;
+
+    @Param({"PKCS12", "PEM"})
+    private CertContentType contentType;
+
+    @Param({"RSA", "EC"})
+    private KeyType keyType;
+
+    private String importContent;
+    private String restoreContent;
+
+    @Setup(Level.Trial)
+    public void setUp() throws CryptoException {
+        final VaultFake vault = new VaultFakeImpl(VAULT_URI);
+        final KeyVaultFake keyVaultFake = vault.keyVaultFake();
+        final CertificateCreationInput.CertificateCreationInputBuilder builder = CertificateCreationInput.builder()
+                .name(NAME)
+                .subject(SUBJECT)
+                .dnsNames(Set.of("benchmark.localhost"))
+                .validityStart(OffsetDateTime.now(ZoneOffset.UTC))
+                .validityMonths(CertificateCreationInput.DEFAULT_VALIDITY_MONTHS)
+                .contentType(contentType)
+                .keyUsage(CertificateCreationInput.DEFAULT_KEY_USAGES)
+                .extendedKeyUsage(CertificateCreationInput.DEFAULT_EXT_KEY_USAGES)
+                .keyType(keyType);
+        final VersionedKeyEntityId kid;
+        final CertificateCreationInput input;
+        if (keyType == KeyType.EC) {
+            kid = keyVaultFake.createEcKeyVersion(NAME, new EcKeyCreationInput(KeyType.EC, KeyCurveName.P_256));
+            input = builder.keyCurveName(KeyCurveName.P_256).build();
+        } else {
+            kid = keyVaultFake.createRsaKeyVersion(NAME, new RsaKeyCreationInput(KeyType.RSA, RSA_KEY_SIZE, null));
+            input = builder.keySize(RSA_KEY_SIZE).build();
+        }
+        final X509Certificate certificate = new CertificateGenerator(vault, kid).generateCertificate(input);
+        final KeyPair keyPair = keyVaultFake.getEntities().getEntity(kid, ReadOnlyAsymmetricKeyVaultKeyEntity.class).getKey();
+        importContent = contentType.asBase64CertificatePackage(certificate, keyPair);
+        restoreContent = CertificateRequestMapperUtil
+                .getCertificateAsString(contentType.certificatePackageForBackup(certificate, keyPair));
+    }
+
+    @Benchmark
+    public void parseImportSeparately(final Blackhole blackhole) {
+        final Certificate certificate = contentType.getCertificateChain(importContent, CertContentType.DEFAULT_PASSWORD).get(0);
+        final JsonWebKeyImportRequest key = contentType.getKey(importContent, CertContentType.DEFAULT_PASSWORD);
+        blackhole.consume(certificate);
+        blackhole.consume(key);
+    }
+
+    @Benchmark
+    public ParsedCertificateContent parseImportOnce() {
+        return contentType.parse(importContent, CertContentType.DEFAULT_PASSWORD);
+    }
+
+    @Benchmark
+    public CertificateImportInput importInput() {
+        return new CertificateImportInput(NAME, importContent, CertContentType.DEFAULT_PASSWORD, contentType,
+                new CertificatePolicyModel());
+    }
+
+    @Benchmark
+    public ParsedCertificateContent parseRestoreOnce() {
+        return contentType.parse(restoreContent, CertContentType.BACKUP_PASSWORD);
+    }
+
+    @Benchmark
+    public CertificateImportInput restoreInput() {
+        return new CertificateImportInput(NAME, restoreContent, CertContentType.BACKUP_PASSWORD, contentType,
+                new CertificatePolicyModel());
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.nagyesta.lowkeyvault.benchmark;
+
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyCurveName;
+import com.github.nagyesta.lowkeyvault.service.key.util.EcdsaSignatureCodec;
+import org.bouncycastle.asn1.ASN1Integer;
+import org.bouncycastle.asn1.ASN1Sequence;
+import org.bouncycastle.asn1.DERSequence;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the byte array based ECDSA signature codec with the conversion using the ASN.1 objects of BouncyCastle. The end-to-end
+ * ES256 sign and verify throughput is measured by {@link KeyCryptoBenchmark#ecSign()} and
+ * {@link KeyCryptoBenchmark#ecVerify()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EcdsaSignatureCodecBenchmark {
+
+    @Param({"P_256", "P_521"})
+    private KeyCurveName curve;
+
+    private byte[] raw;
+    private byte[] der;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        raw = new byte[curve.getByteLength() * 2];
+        new Random(curve.ordinal()).nextBytes(raw);
+        der = asn1RawToDer();
+    }
+
+    @Benchmark
+    public byte[] asn1DerToRaw() {
+        final int paramLength = curve.getByteLength();
+        final ASN1Sequence sequence = ASN1Sequence.getInstance(der);
+        final byte[] result = new byte[paramLength * 2];
+        copyUnsigned(((ASN1Integer) sequence.getObjectAt(0)).getValue(), result, 0, paramLength);
+        copyUnsigned(((ASN1Integer) sequence.getObjectAt(1)).getValue(), result, paramLength, paramLength);
+        return result;
+    }
+
+    @Benchmark
+    public byte[] codecDerToRaw() {
+        return EcdsaSignatureCodec.derToRaw(der, curve.getByteLength());
+    }
+
+    @Benchmark
+    public byte[] asn1RawToDer() throws IOException {
+        final int paramLength = raw.length / 2;
+        return new DERSequence(new ASN1Integer[]{
+                new ASN1Integer(new BigInteger(1, raw, 0, paramLength)),
+                new ASN1Integer(new BigInteger(1, raw, paramLength, paramLength))
+        }).getEncoded();
+    }
+
+    @Benchmark
+    public byte[] codecRawToDer() {
+        return EcdsaSignatureCodec.rawToDer(raw);
+    }
+
+    private static void copyUnsigned(final BigInteger value, final byte[] destination, final int offset, final int paramLength) {
+        final byte[] bytes = value.toByteArray();
+        final int copyLength = Math.min(paramLength, bytes.length);
+        System.arraycopy(bytes, bytes.length - copyLength, destination, offset + paramLength - copyLength, copyLength);
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.nagyesta.lowkeyvault.benchmark;
+
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.EncryptionAlgorithm;
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyCurveName;
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyOperation;
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.SignatureAlgorithm;
+import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
+import com.github.nagyesta.lowkeyvault.service.key.impl.EcKeyVaultKeyEntity;
+import com.github.nagyesta.lowkeyvault.service.key.impl.RsaKeyVaultKeyEntity;
+import com.github.nagyesta.lowkeyvault.service.vault.VaultFake;
+import com.github.nagyesta.lowkeyvault.service.vault.impl.VaultFakeImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the sign, verify and encrypt operations of the asymmetric key entities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class KeyCryptoBenchmark {
+
+    private static final URI VAULT_URI = URI.create("https://benchmark.localhost:8443");
+    private static final byte[] CLEAR_TEXT = "The quick brown fox jumps over the lazy dog.".getBytes(StandardCharsets.UTF_8);
+    private static final List<KeyOperation> OPERATIONS = List.of(
+            KeyOperation.SIGN, KeyOperation.VERIFY, KeyOperation.ENCRYPT, KeyOperation.DECRYPT,
+            KeyOperation.WRAP_KEY, KeyOperation.UNWRAP_KEY);
+
+    @Param({"2048", "4096"})
+    private int rsaKeySize;
+
+    private RsaKeyVaultKeyEntity rsaKey;
+    private EcKeyVaultKeyEntity ecKey;
+    private byte[] digest;
+    private byte[] rsaSignature;
+    private byte[] ecSignature;
+    private byte[] rsaCipherText;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchAlgorithmException {
+        final VaultFake vault = new VaultFakeImpl(VAULT_URI);
+        rsaKey = new RsaKeyVaultKeyEntity(new VersionedKeyEntityId(VAULT_URI, "rsa"), vault, rsaKeySize, null, false);
+        rsaKey.setOperations(OPERATIONS);
+        ecKey = new EcKeyVaultKeyEntity(new VersionedKeyEntityId(VAULT_URI, "ec"), vault, KeyCurveName.P_256, false);
+        ecKey.setOperations(OPERATIONS);
+        digest = MessageDigest.getInstance("SHA-256").digest(CLEAR_TEXT);
+        rsaSignature = rsaKey.signBytes(digest, SignatureAlgorithm.PS256);
+        ecSignature = ecKey.signBytes(digest, SignatureAlgorithm.ES256);
+        rsaCipherText = rsaKey.encryptBytes(CLEAR_TEXT, EncryptionAlgorithm.RSA_OAEP_256, null);
+    }
+
+    @Benchmark
+    public byte[] rsaSign() {
+        return rsaKey.signBytes(digest, SignatureAlgorithm.PS256);
+    }
+
+    @Benchmark
+    public boolean rsaVerify() {
+        return rsaKey.verifySignedBytes(digest, SignatureAlgorithm.PS256, rsaSignature);
+    }
+
+    @Benchmark
+    public byte[] rsaEncrypt() {
+        return rsaKey.encryptBytes(CLEAR_TEXT, EncryptionAlgorithm.RSA_OAEP_256, null);
+    }
+
+    @Benchmark
+    public byte[] rsaDecrypt() {
+        return rsaKey.decryptToBytes(rsaCipherText, EncryptionAlgorithm.RSA_OAEP_256, null);
+    }
+
+    @Benchmark
+    public byte[] ecSign() {
+        return ecKey.signBytes(digest, SignatureAlgorithm.ES256);
+    }
+
+    @Benchmark
+    public boolean ecVerify() {
+        return ecKey.verifySignedBytes(digest, SignatureAlgorithm.ES256, ecSignature);
+    }
+}
@@ -0,0 +1,122 @@
+package com.github.nagyesta.lowkeyvault.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.nagyesta.lowkeyvault.LowkeyVaultApp;
+import com.github.nagyesta.lowkeyvault.service.vault.VaultService;
+import jakarta.servlet.Filter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Measures full request processing (filters, controllers, converters and JSON serialization) using MockMvc.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MockMvcRoundTripBenchmark {
+
+    private static final String VAULT_URI = "https://benchmark.localhost:8443";
+    private static final String API_VERSION = "api-version";
+    private static final String V_7_4 = "7.4";
+    private static final String KEY_NAME = "benchmark-key";
+    private static final String CREATE_EC_KEY = "{\"kty\":\"EC\",\"crv\":\"P-256\",\"key_ops\":[\"sign\",\"verify\"]}";
+    private static final String SIGN_REQUEST = "{\"alg\":\"ES256\",\"value\":\"%s\"}";
+    private static final String FAKE_TOKEN = "Bearer benchmark";
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private String keyVersion;
+    private String signRequest;
+    private final AtomicInteger createCounter = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(LowkeyVaultApp.class)
+                .run("--server.port=0", "--app.token.port=0", "--server.ssl.enabled=false",
+                        "--logging.level.root=WARN", "--springdoc.swagger-ui.enabled=false");
+        context.getBean(VaultService.class).create(URI.create(VAULT_URI));
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context)
+                .addFilters(context.getBeansOfType(Filter.class).values().toArray(new Filter[0]))
+                .build();
+        final MvcResult created = mockMvc.perform(request(post(VAULT_URI + "/keys/" + KEY_NAME + "/create"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(CREATE_EC_KEY))
+                .andExpect(status().isOk())
+                .andReturn();
+        final String kid = new ObjectMapper().readTree(created.getResponse().getContentAsString()).path("key").path("kid").asText();
+        keyVersion = kid.substring(kid.lastIndexOf('/') + 1);
+        final byte[] digest = MessageDigest.getInstance("SHA-256").digest(KEY_NAME.getBytes(StandardCharsets.UTF_8));
+        signRequest = String.format(SIGN_REQUEST, Base64.getUrlEncoder().withoutPadding().encodeToString(digest));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult createKey() throws Exception {
+        return mockMvc.perform(request(post(VAULT_URI + "/keys/created-" + createCounter.getAndIncrement() + "/create"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(CREATE_EC_KEY))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getKey() throws Exception {
+        return mockMvc.perform(request(get(VAULT_URI + "/keys/" + KEY_NAME + "/" + keyVersion)))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    @Benchmark
+    public MvcResult listKeys() throws Exception {
+        return mockMvc.perform(request(get(VAULT_URI + "/keys")))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    @Benchmark
+    public MvcResult sign() throws Exception {
+        return mockMvc.perform(request(post(VAULT_URI + "/keys/" + KEY_NAME + "/" + keyVersion + "/sign"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(signRequest))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    @Benchmark
+    public MvcResult backupKey() throws Exception {
+        return mockMvc.perform(request(post(VAULT_URI + "/keys/" + KEY_NAME + "/backup")))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    private static MockHttpServletRequestBuilder request(final MockHttpServletRequestBuilder builder) {
+        return builder.param(API_VERSION, V_7_4)
+                .header(HttpHeaders.AUTHORIZATION, FAKE_TOKEN);
+    }
+}
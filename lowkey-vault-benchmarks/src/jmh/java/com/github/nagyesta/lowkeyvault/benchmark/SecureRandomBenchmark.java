@@ -0,0 +1,37 @@
+package com.github.nagyesta.lowkeyvault.benchmark;
+
+import com.github.nagyesta.lowkeyvault.service.key.util.KeyGenUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the thread-local random source with looking up a new NativePRNG instance on every call
+ * (the behaviour of the /rng endpoint before the thread-local source) using 64 concurrent callers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(64)
+public class SecureRandomBenchmark {
+
+    @Param({"32", "4096"})
+    private int count;
+
+    @Benchmark
+    public byte[] perCallNativePrng() throws NoSuchAlgorithmException {
+        final byte[] bytes = new byte[count];
+        SecureRandom.getInstance("NativePRNG").nextBytes(bytes);
+        return bytes;
+    }
+
+    @Benchmark
+    public byte[] threadLocal() {
+        return KeyGenUtil.generateRandomBytes(count);
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.nagyesta.lowkeyvault.benchmark;
+
+import com.github.nagyesta.lowkeyvault.model.v7_2.common.constants.RecoveryLevel;
+import com.github.nagyesta.lowkeyvault.model.v7_2.key.constants.KeyCurveName;
+import com.github.nagyesta.lowkeyvault.service.common.VersionedEntityMultiMap;
+import com.github.nagyesta.lowkeyvault.service.common.impl.ConcurrentVersionedEntityMultiMap;
+import com.github.nagyesta.lowkeyvault.service.common.impl.CopyOnWriteVersionedEntityMultiMap;
+import com.github.nagyesta.lowkeyvault.service.key.ReadOnlyKeyVaultKeyEntity;
+import com.github.nagyesta.lowkeyvault.service.key.id.KeyEntityId;
+import com.github.nagyesta.lowkeyvault.service.key.id.VersionedKeyEntityId;
+import com.github.nagyesta.lowkeyvault.service.key.impl.EcKeyVaultKeyEntity;
+import com.github.nagyesta.lowkeyvault.service.key.impl.KeyVaultKeyEntity;
+import com.github.nagyesta.lowkeyvault.service.key.util.KeyGenUtil;
+import com.github.nagyesta.lowkeyvault.service.vault.VaultFake;
+import com.github.nagyesta.lowkeyvault.service.vault.impl.VaultFakeImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URI;
+import java.security.KeyPair;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Measures the put, get and list operations of the versioned entity stores using a growing number of entities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class VersionedEntityMultiMapBenchmark {
+
+    private static final URI VAULT_URI = URI.create("https://benchmark.localhost:8443");
+    private static final String NAME_PREFIX = "key-";
+    private static final int PAGE_SIZE = 25;
+
+    @Param({"1000", "100000", "1000000"})
+    private int entityCount;
+    @Param({"copy-on-write", "concurrent"})
+    private String implementation;
+
+    private VersionedEntityMultiMap<KeyEntityId, VersionedKeyEntityId, ReadOnlyKeyVaultKeyEntity, KeyVaultKeyEntity<?, ?>> map;
+    private VaultFake vault;
+    private KeyPair keyPair;
+    private VersionedKeyEntityId[] ids;
+    private final AtomicInteger putCounter = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        vault = new VaultFakeImpl(VAULT_URI);
+        keyPair = KeyGenUtil.generateEc(KeyCurveName.P_256);
+        map = createMap(implementation);
+        ids = new VersionedKeyEntityId[entityCount];
+        for (int i = 0; i < entityCount; i++) {
+            final VersionedKeyEntityId id = new VersionedKeyEntityId(VAULT_URI, NAME_PREFIX + i);
+            ids[i] = id;
+            map.put(id, entity(id));
+        }
+    }
+
+    @Benchmark
+    public void put() {
+        final VersionedKeyEntityId id = new VersionedKeyEntityId(VAULT_URI, NAME_PREFIX + putCounter.getAndIncrement());
+        map.put(id, entity(id));
+    }
+
+    @Benchmark
+    public ReadOnlyKeyVaultKeyEntity get() {
+        return map.getReadOnlyEntity(ids[ThreadLocalRandom.current().nextInt(entityCount)]);
+    }
+
+    @Benchmark
+    public List<ReadOnlyKeyVaultKeyEntity> listFirstPage() {
+        return map.listLatestEntities(0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<ReadOnlyKeyVaultKeyEntity> listPageAfterRandomName() {
+        return map.listLatestEntitiesAfter(ids[ThreadLocalRandom.current().nextInt(entityCount)].id(), PAGE_SIZE);
+    }
+
+    private EcKeyVaultKeyEntity entity(final VersionedKeyEntityId id) {
+        return new EcKeyVaultKeyEntity(id, vault, keyPair, KeyCurveName.P_256, false);
+    }
+
+    private static VersionedEntityMultiMap<KeyEntityId, VersionedKeyEntityId, ReadOnlyKeyVaultKeyEntity, KeyVaultKeyEntity<?, ?>>
+    createMap(final String implementation) {
+        final BiFunction<String, String, VersionedKeyEntityId> versionCreateFunction =
+                (name, version) -> new VersionedKeyEntityId(VAULT_URI, name, version);
+        if ("concurrent".equals(implementation)) {
+            return new ConcurrentVersionedEntityMultiMap<>(RecoveryLevel.PURGEABLE, null, versionCreateFunction, false);
+        }
+        return new CopyOnWriteVersionedEntityMultiMap<>(RecoveryLevel.PURGEABLE, null, versionCreateFunction, false);
+    }
+}
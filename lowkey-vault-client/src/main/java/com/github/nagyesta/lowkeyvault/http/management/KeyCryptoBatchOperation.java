@@ -0,0 +1,72 @@
+package com.github.nagyesta.lowkeyvault.http.management;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import java.net.URI;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * A single operation of a key crypto batch. The key version is optional, the latest version is used when it is null.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class KeyCryptoBatchOperation {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final String ENCRYPT = "encrypt";
+    private static final String DECRYPT = "decrypt";
+    private static final String SIGN = "sign";
+    private static final String VERIFY = "verify";
+
+    @JsonProperty("baseUri")
+    private URI baseUri;
+    @JsonProperty("keyName")
+    private String keyName;
+    @JsonProperty("keyVersion")
+    private String keyVersion;
+    @JsonProperty("op")
+    private String operation;
+    @JsonProperty("alg")
+    private String algorithm;
+    @JsonProperty("value")
+    private String value;
+    @JsonProperty("digest")
+    private String digest;
+    @JsonProperty("iv")
+    private String initializationVector;
+
+    public static KeyCryptoBatchOperation encrypt(@NonNull final URI baseUri, @NonNull final String keyName, final String keyVersion,
+                                                  @NonNull final String algorithm, @NonNull final byte[] clear, final byte[] iv) {
+        return new KeyCryptoBatchOperation(baseUri, keyName, keyVersion, ENCRYPT, algorithm, encode(clear), null, encode(iv));
+    }
+
+    public static KeyCryptoBatchOperation decrypt(@NonNull final URI baseUri, @NonNull final String keyName, final String keyVersion,
+                                                  @NonNull final String algorithm, @NonNull final byte[] encrypted, final byte[] iv) {
+        return new KeyCryptoBatchOperation(baseUri, keyName, keyVersion, DECRYPT, algorithm, encode(encrypted), null, encode(iv));
+    }
+
+    public static KeyCryptoBatchOperation sign(@NonNull final URI baseUri, @NonNull final String keyName, final String keyVersion,
+                                               @NonNull final String algorithm, @NonNull final byte[] digest) {
+        return new KeyCryptoBatchOperation(baseUri, keyName, keyVersion, SIGN, algorithm, encode(digest), null, null);
+    }
+
+    public static KeyCryptoBatchOperation verify(@NonNull final URI baseUri, @NonNull final String keyName, final String keyVersion,
+                                                 @NonNull final String algorithm, @NonNull final byte[] digest,
+                                                 @NonNull final byte[] signature) {
+        return new KeyCryptoBatchOperation(baseUri, keyName, keyVersion, VERIFY, algorithm, encode(signature), encode(digest), null);
+    }
+
+    private static String encode(final byte[] bytes) {
+        return Optional.ofNullable(bytes)
+                .map(ENCODER::encodeToString)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.nagyesta.lowkeyvault.http.management;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.net.URI;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * The result of a single operation of a key crypto batch. Either the value (or verification result) or the error is set.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class KeyCryptoBatchResult {
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    @JsonProperty("kid")
+    private URI keyId;
+    @JsonProperty("value")
+    private String value;
+    @JsonProperty("verified")
+    private Boolean verified;
+    @JsonProperty("error")
+    private Error error;
+
+    @JsonIgnore
+    public boolean isSuccessful() {
+        return error == null;
+    }
+
+    @JsonIgnore
+    public byte[] getValueAsBytes() {
+        return Optional.ofNullable(value)
+                .map(DECODER::decode)
+                .orElse(null);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Error {
+        @JsonProperty("code")
+        private String code;
+        @JsonProperty("message")
+        private String message;
+    }
+}
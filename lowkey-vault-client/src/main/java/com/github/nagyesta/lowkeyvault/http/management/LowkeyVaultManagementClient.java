@@ -34,6 +34,8 @@ public interface LowkeyVaultManagementClient {
 
     String exportActive();
 
+    List<KeyCryptoBatchResult> executeKeyCryptoBatch(@NonNull List<KeyCryptoBatchOperation> operations);
+
     String unpackBackup(byte[] backup) throws IOException;
 
     byte[] compressBackup(String backup) throws IOException;
@@ -22,6 +22,7 @@ import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
 import static com.azure.core.http.ContentType.APPLICATION_JSON;
+import static com.github.nagyesta.lowkeyvault.http.management.impl.ResponseEntity.KEY_CRYPTO_BATCH_RESULT_LIST_TYPE_REF;
 import static com.github.nagyesta.lowkeyvault.http.management.impl.ResponseEntity.VAULT_MODEL_LIST_TYPE_REF;
 
 @Slf4j
@@ -36,6 +37,8 @@ public final class LowkeyVaultManagementClientImpl implements LowkeyVaultManagem
     private static final String MANAGEMENT_VAULT_TIME_PATH = MANAGEMENT_VAULT_PATH + "/time";
     private static final String MANAGEMENT_VAULT_TIME_ALL_PATH = MANAGEMENT_VAULT_TIME_PATH + "/all";
     private static final String MANAGEMENT_VAULT_EXPORT_ACTIVE_PATH = MANAGEMENT_VAULT_PATH + "/export";
+    private static final String MANAGEMENT_KEY_CRYPTO_BATCH_PATH = "/management/key-crypto/batch";
+    private static final String OPERATIONS_PROPERTY = "operations";
     private static final String BASE_URI_QUERY_PARAM = "baseUri";
     private static final String ALIAS_URI_ADD_QUERY_PARAM = "add";
     private static final String ALIAS_URI_REMOVE_QUERY_PARAM = "remove";
@@ -156,6 +159,16 @@ public final class LowkeyVaultManagementClientImpl implements LowkeyVaultManagem
         return sendRaw(request).getResponseBodyAsString();
     }
 
+    @Override
+    public List<KeyCryptoBatchResult> executeKeyCryptoBatch(@NonNull final List<KeyCryptoBatchOperation> operations) {
+        final String body = batchRequestAsString(operations);
+        final URI uri = UriUtil.uriBuilderForPath(vaultUrl, MANAGEMENT_KEY_CRYPTO_BATCH_PATH);
+        final HttpRequest request = new HttpRequest(HttpMethod.POST, uri.toString())
+                .setBody(body)
+                .setHeader(HttpHeaderName.CONTENT_TYPE, APPLICATION_JSON);
+        return sendAndProcess(request, r -> r.getResponseObject(KEY_CRYPTO_BATCH_RESULT_LIST_TYPE_REF));
+    }
+
     @Override
     public String unpackBackup(final byte[] backup) throws IOException {
         final byte[] nonNullBackup = Optional.ofNullable(backup)
@@ -195,6 +208,14 @@ public final class LowkeyVaultManagementClientImpl implements LowkeyVaultManagem
         }
     }
 
+    String batchRequestAsString(final List<KeyCryptoBatchOperation> operations) {
+        try {
+            return objectWriter.writeValueAsString(Map.of(OPERATIONS_PROPERTY, operations));
+        } catch (final JsonProcessingException e) {
+            throw new LowkeyVaultException("Cannot serialize model:", e);
+        }
+    }
+
     <T> T sendAndProcess(final HttpRequest request, final Function<ResponseEntity, T> conversionFunction) {
         final ResponseEntity responseEntity = sendRaw(request);
         return conversionFunction.apply(responseEntity);
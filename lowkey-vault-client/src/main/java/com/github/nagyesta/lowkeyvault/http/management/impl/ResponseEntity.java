@@ -4,6 +4,7 @@ import com.azure.core.http.HttpResponse;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.nagyesta.lowkeyvault.http.management.KeyCryptoBatchResult;
 import com.github.nagyesta.lowkeyvault.http.management.LowkeyVaultException;
 import com.github.nagyesta.lowkeyvault.http.management.VaultModel;
 import lombok.NonNull;
@@ -14,6 +15,8 @@ import java.util.List;
 
 final class ResponseEntity {
     public static final ListTypeReference VAULT_MODEL_LIST_TYPE_REF = new ListTypeReference();
+    public static final KeyCryptoBatchResultListTypeReference KEY_CRYPTO_BATCH_RESULT_LIST_TYPE_REF =
+            new KeyCryptoBatchResultListTypeReference();
     private final int responseCode;
     private final String responseBody;
     private final ObjectReader reader;
@@ -56,4 +59,8 @@ final class ResponseEntity {
     public static class ListTypeReference extends TypeReference<List<VaultModel>> {
 
     }
+
+    public static class KeyCryptoBatchResultListTypeReference extends TypeReference<List<KeyCryptoBatchResult>> {
+
+    }
 }
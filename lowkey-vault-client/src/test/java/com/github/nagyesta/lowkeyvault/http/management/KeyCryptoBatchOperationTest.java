@@ -0,0 +1,59 @@
+package com.github.nagyesta.lowkeyvault.http.management;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+
+class KeyCryptoBatchOperationTest {
+
+    private static final URI BASE_URI = URI.create("https://localhost");
+    private static final String KEY_NAME = "key";
+    private static final String KEY_VERSION = "version";
+    private static final byte[] DIGEST = {1, 2};
+    private static final byte[] SIGNATURE = {-1, -1};
+
+    @Test
+    void testVerifyShouldEncodeDigestAndSignatureWhenCalled() {
+        //given
+
+        //when
+        final KeyCryptoBatchOperation actual = KeyCryptoBatchOperation.verify(BASE_URI, KEY_NAME, KEY_VERSION, "ES256", DIGEST, SIGNATURE);
+
+        //then
+        Assertions.assertEquals(BASE_URI, actual.getBaseUri());
+        Assertions.assertEquals(KEY_NAME, actual.getKeyName());
+        Assertions.assertEquals(KEY_VERSION, actual.getKeyVersion());
+        Assertions.assertEquals("verify", actual.getOperation());
+        Assertions.assertEquals("AQI", actual.getDigest());
+        Assertions.assertEquals("__8", actual.getValue());
+        Assertions.assertNull(actual.getInitializationVector());
+    }
+
+    @Test
+    void testEncryptShouldSkipInitializationVectorWhenCalledWithoutIt() {
+        //given
+
+        //when
+        final KeyCryptoBatchOperation actual = KeyCryptoBatchOperation.encrypt(BASE_URI, KEY_NAME, null, "RSA-OAEP", DIGEST, null);
+
+        //then
+        Assertions.assertEquals("encrypt", actual.getOperation());
+        Assertions.assertEquals("AQI", actual.getValue());
+        Assertions.assertNull(actual.getKeyVersion());
+        Assertions.assertNull(actual.getInitializationVector());
+        Assertions.assertNull(actual.getDigest());
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    @Test
+    void testSignShouldThrowExceptionWhenCalledWithNullDigest() {
+        //given
+
+        //when
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> KeyCryptoBatchOperation.sign(BASE_URI, KEY_NAME, null, "ES256", null));
+
+        //then + exception
+    }
+}
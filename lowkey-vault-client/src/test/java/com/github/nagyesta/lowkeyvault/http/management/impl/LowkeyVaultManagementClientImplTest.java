@@ -6,6 +6,8 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.nagyesta.lowkeyvault.http.management.KeyCryptoBatchOperation;
+import com.github.nagyesta.lowkeyvault.http.management.KeyCryptoBatchResult;
 import com.github.nagyesta.lowkeyvault.http.management.LowkeyVaultException;
 import com.github.nagyesta.lowkeyvault.http.management.RecoveryLevel;
 import com.github.nagyesta.lowkeyvault.http.management.TimeShiftContext;
@@ -25,11 +27,13 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static com.azure.core.http.ContentType.APPLICATION_JSON;
+import static com.github.nagyesta.lowkeyvault.http.management.impl.ResponseEntity.KEY_CRYPTO_BATCH_RESULT_LIST_TYPE_REF;
 import static com.github.nagyesta.lowkeyvault.http.management.impl.ResponseEntity.VAULT_MODEL_LIST_TYPE_REF;
 import static org.mockito.Mockito.*;
 
@@ -41,6 +45,8 @@ class LowkeyVaultManagementClientImplTest {
     private static final String HTTPS_ALIAS_LOCALHOST = "https://alias.localhost";
     private static final String JSON = "{}";
     private static final int RECOVERABLE_DAYS = 90;
+    private static final String KEY_NAME = "key";
+    private static final String SIGNATURE_ALGORITHM = "ES256";
 
     public static Stream<Arguments> nullCreateProvider() {
         return Stream.<Arguments>builder()
@@ -491,6 +497,58 @@ class LowkeyVaultManagementClientImplTest {
             verifyNoInteractions(httpClient);
         }
 
+        @Test
+        void testExecuteKeyCryptoBatchShouldReturnResultsWhenCalled() throws JsonProcessingException {
+            //given
+            final HttpResponse response = mock(HttpResponse.class);
+            final List<KeyCryptoBatchOperation> operations = List.of(KeyCryptoBatchOperation
+                    .sign(URI.create(HTTPS_LOCALHOST), KEY_NAME, null, SIGNATURE_ALGORITHM, new byte[]{1}));
+            final List<KeyCryptoBatchResult> expected = List.of(new KeyCryptoBatchResult());
+            when(httpClient.send(httpRequestArgumentCaptor.capture())).thenReturn(Mono.just(response));
+            when(response.getBodyAsString(eq(StandardCharsets.UTF_8))).thenReturn(Mono.just(JSON));
+            when(response.getStatusCode()).thenReturn(HttpStatus.SC_OK);
+            when(objectWriter.writeValueAsString(any())).thenReturn(JSON);
+            when(objectReader.forType(eq(KEY_CRYPTO_BATCH_RESULT_LIST_TYPE_REF))).thenReturn(objectReader);
+            when(objectReader.readValue(eq(JSON))).thenReturn(expected);
+
+            //when
+            final List<KeyCryptoBatchResult> actual = underTest.executeKeyCryptoBatch(operations);
+
+            //then
+            Assertions.assertSame(expected, actual);
+            verify(httpClient, atMostOnce()).send(any());
+            final HttpRequest request = httpRequestArgumentCaptor.getValue();
+            Assertions.assertEquals("/management/key-crypto/batch", request.getUrl().getPath());
+            Assertions.assertEquals(HttpMethod.POST, request.getHttpMethod());
+            Assertions.assertEquals(APPLICATION_JSON, request.getHeaders().getValue(HttpHeaderName.CONTENT_TYPE));
+            verify(objectWriter).writeValueAsString(eq(Map.of("operations", operations)));
+            verify(objectReader).forType(eq(KEY_CRYPTO_BATCH_RESULT_LIST_TYPE_REF));
+        }
+
+        @SuppressWarnings("ConstantConditions")
+        @Test
+        void testExecuteKeyCryptoBatchShouldThrowExceptionWhenCalledWithNull() {
+            //given
+
+            //when
+            Assertions.assertThrows(IllegalArgumentException.class, () -> underTest.executeKeyCryptoBatch(null));
+
+            //then
+            verifyNoInteractions(httpClient);
+        }
+
+        @Test
+        void testBatchRequestAsStringShouldThrowExceptionWhenSerializationFails() throws JsonProcessingException {
+            //given
+            when(objectWriter.writeValueAsString(any())).thenThrow(JsonProcessingException.class);
+
+            //when
+            Assertions.assertThrows(LowkeyVaultException.class, () -> underTest.batchRequestAsString(List.of()));
+
+            //then + exception
+            verifyNoInteractions(httpClient);
+        }
+
         @Test
         void testVaultModelAsStringShouldThrowExceptionWhenSerializationFails() throws JsonProcessingException {
             //given